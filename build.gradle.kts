@@ -3,6 +3,10 @@ plugins {
     id("org.springframework.boot") version "3.3.3"
     id("io.spring.dependency-management") version "1.1.6"
     id("jacoco")
+    id("me.champeau.jmh") version "0.7.2"
+    // Só com -Pnative (ver "Imagem nativa" abaixo)
+    id("org.graalvm.buildtools.native") version "0.10.2" apply false
+    id("org.hibernate.orm") version "6.5.2.Final" apply false
 }
 
 group = "br.com.delivery"
@@ -22,8 +26,16 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    // Spans das camadas (TracingAspect) exportados por OTLP para o coletor do docker compose
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("io.micrometer:micrometer-tracing-bridge-otel")
+    implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 
-    runtimeOnly("org.postgresql:postgresql")
+    // Compilação também: a importação de clientes usa a API de COPY do driver
+    implementation("org.postgresql:postgresql")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-database-postgresql")
 
@@ -44,6 +56,10 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:postgresql")
+
+    // GroupCommitBenchmark grava em um PostgreSQL de verdade
+    jmh("org.postgresql:postgresql")
+    jmh("org.testcontainers:postgresql")
 }
 
 
@@ -74,6 +90,149 @@ tasks.register("generateOpenApi") {
     dependsOn("bootJar")
 }
 
+// A suíte de planos precisa de Docker e carrega uma massa grande: fica fora do test padrão
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("query-plan")
+    }
+}
+
+// Planos das consultas dos repositórios contra PostgreSQL (Testcontainers): ./gradlew queryPlanTest
+tasks.register<Test>("queryPlanTest") {
+    group = "verification"
+    description = "Verifica os planos de consulta dos repositórios contra uma massa sintética"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("query-plan")
+    }
+}
+
+// Benchmarks JMH (src/jmh): ./gradlew jmh
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // Alocação por operação (gc.alloc.rate.norm)
+    profilers.add("gc")
+}
+
+// Inicialização rápida (ver "Inicialização rápida" no README). Com -Paot o bootJar inclui o
+// processamento AOT do Spring: definições de beans, proxies e o metamodelo do Hibernate resolvidos
+// no build, usados quando a JVM sobe com -Dspring.aot.enabled=true. Perfis e @ConditionalOnProperty
+// ficam fixos no build: -PstartupProfiles=prod (padrão) define os perfis avaliados
+val aot = project.hasProperty("aot")
+val startupProfiles = (findProperty("startupProfiles") as String?) ?: "prod"
+val startupDir = layout.buildDirectory.dir("startup")
+val startupAppDir = startupDir.map { it.dir("app") }
+val bootJarFile = tasks.bootJar.flatMap { it.archiveFile }
+
+if (aot) {
+    apply(plugin = "org.springframework.boot.aot")
+}
+tasks.withType<org.springframework.boot.gradle.tasks.aot.ProcessAot>().configureEach {
+    args("--spring.profiles.active=$startupProfiles")
+}
+
+// O AppCDS não arquiva classes de jars aninhados: o jar extraído deixa as dependências em lib/
+tasks.register<Exec>("extractBootJar") {
+    group = "build"
+    description = "Extrai o bootJar em build/startup/app"
+    dependsOn("bootJar")
+    doFirst { delete(startupAppDir) }
+    commandLine("java", "-Djarmode=tools", "-jar", bootJarFile.get().asFile.absolutePath,
+            "extract", "--destination", startupAppDir.get().asFile.absolutePath)
+}
+
+// Execução de treino até o fim do refresh do contexto (spring.context.exit=onRefresh): as classes
+// carregadas vão para build/startup/app/application.jsa. Precisa do docker compose up, como a
+// aplicação. Rodar com: java -XX:SharedArchiveFile=application.jsa [-Dspring.aot.enabled=true] -jar <jar>
+tasks.register<Exec>("cdsArchive") {
+    group = "build"
+    description = "Gera o arquivo AppCDS do jar extraído com uma execução de treino"
+    dependsOn("extractBootJar")
+    workingDir(startupAppDir)
+    val aotFlag = if (aot) listOf("-Dspring.aot.enabled=true") else listOf()
+    commandLine(listOf("java", "-XX:ArchiveClassesAtExit=application.jsa", "-Dspring.context.exit=onRefresh")
+            + aotFlag + listOf("-jar", bootJarFile.get().asFile.name, "--spring.profiles.active=$startupProfiles"))
+}
+
+// Tempo até readiness UP: jar original, extraído, com AOT (se -Paot) e com AppCDS. ./gradlew -Paot startupBenchmark
+tasks.register<Exec>("startupBenchmark") {
+    group = "verification"
+    description = "Mede o tempo de inicialização até a readiness em cada variante"
+    dependsOn("cdsArchive")
+    val runs = (findProperty("startupRuns") as String?) ?: "5"
+    commandLine("bash", file("scripts/startup-benchmark.sh").absolutePath, bootJarFile.get().asFile.absolutePath,
+            startupAppDir.get().asFile.absolutePath, runs, aot.toString(), startupProfiles)
+}
+
+// Limite adaptativo sob latência injetada no banco (Toxiproxy + k6 via Docker).
+// Executa antes: docker compose --profile loadtest up -d. ./gradlew loadShedding -PloadLatencyMs=100 -PloadRate=20
+tasks.register<Exec>("loadShedding") {
+    group = "verification"
+    description = "Teste de carga do descarte por prioridade com o banco lento"
+    dependsOn(tasks.bootJar)
+    val latencyMs = (findProperty("loadLatencyMs") as String?) ?: "100"
+    val rate = (findProperty("loadRate") as String?) ?: "20"
+    commandLine("bash", file("scripts/load-shedding.sh").absolutePath, bootJarFile.get().asFile.absolutePath,
+            latencyMs, rate)
+}
+
+// Custo do tracing: mesma carga com e sem management.tracing.enabled (k6 via Docker).
+// Executa antes: docker compose up -d. ./gradlew loadTracing -PloadRate=200 -PloadDuration=60s
+tasks.register<Exec>("loadTracing") {
+    group = "verification"
+    description = "Compara latência e CPU por requisição com e sem tracing"
+    dependsOn(tasks.bootJar)
+    val rate = (findProperty("loadRate") as String?) ?: "200"
+    val duration = (findProperty("loadDuration") as String?) ?: "60s"
+    commandLine("bash", file("scripts/load-tracing.sh").absolutePath, bootJarFile.get().asFile.absolutePath,
+            rate, duration)
+}
+
+// Imagem nativa (GraalVM 22.3+ com native-image): ./gradlew -Pnative -PstartupProfiles=h2 nativeCompile.
+// O plugin do Spring Boot aplica o AOT junto; as dicas que o AOT não descobre estão em NativeImageConfig.
+// Sem geração de classes em tempo de execução, os proxies lazy do Hibernate vêm do enhancement no build
+val native = project.hasProperty("native")
+if (native) {
+    apply(plugin = "org.graalvm.buildtools.native")
+    apply(plugin = "org.hibernate.orm")
+
+    configure<org.hibernate.orm.tooling.gradle.HibernateOrmSpec> {
+        enhancement {
+            enableLazyInitialization.set(true)
+        }
+    }
+
+    configure<org.graalvm.buildtools.gradle.dsl.GraalVMExtension> {
+        // Os testes usam Mockito, que não roda na imagem nativa: o binário é verificado pelo nativeSmokeTest
+        testSupport.set(false)
+    }
+
+    val nativeBinary = layout.buildDirectory.file("native/nativeCompile/${rootProject.name}")
+
+    // Sobe o binário com o perfil h2 (gerado com -PstartupProfiles=h2) e percorre cliente, produto e pedido
+    tasks.register<Exec>("nativeSmokeTest") {
+        group = "verification"
+        description = "Smoke test da imagem nativa contra H2"
+        doFirst { check("h2" in startupProfiles.split(",")) { "Gere o binário com -PstartupProfiles=h2" } }
+        dependsOn("nativeCompile")
+        commandLine("bash", file("scripts/native.sh").absolutePath, "smoke", nativeBinary.get().asFile.absolutePath)
+    }
+
+    // Inicialização, RSS e vazão: mesmo jar na JVM x imagem nativa, ambos com o perfil h2
+    tasks.register<Exec>("nativeBenchmark") {
+        group = "verification"
+        description = "Compara inicialização, memória e vazão da imagem nativa com a JVM"
+        doFirst { check("h2" in startupProfiles.split(",")) { "Gere o binário com -PstartupProfiles=h2" } }
+        dependsOn("nativeCompile", "bootJar")
+        val runs = (findProperty("startupRuns") as String?) ?: "5"
+        commandLine("bash", file("scripts/native.sh").absolutePath, "compare", nativeBinary.get().asFile.absolutePath,
+                bootJarFile.get().asFile.absolutePath, runs)
+    }
+}
+
 // Configuração do JaCoCo
 jacoco {
     toolVersion = "0.8.8"
@@ -0,0 +1,99 @@
+#!/bin/bash
+
+# Teste de carga do limite adaptativo: a aplicação fala com o PostgreSQL pelo Toxiproxy e o
+# k6 injeta latência no meio da carga. Ao fim imprime o resumo do k6 e as métricas
+# delivery.concurrency.* lidas do actuator.
+#
+# Executa antes: docker compose --profile loadtest up -d e ./gradlew bootJar
+# Uso: load-shedding.sh <jar> [latência ms] [pedidos/s]
+
+set -u
+
+JAR="$1"
+LATENCY_MS="${2:-100}"
+RATE="${3:-20}"
+PORT="${LOAD_PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+TOXIPROXY="http://localhost:8474"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+RESULTS="$(dirname "$JAR")/../load/shedding.md"
+APP_PID=""
+
+cleanup() {
+    curl -s -X DELETE "$TOXIPROXY/proxies/postgres/toxics/latencia" > /dev/null
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null && wait "$APP_PID" 2>/dev/null
+}
+trap cleanup EXIT
+
+fail() {
+    echo "❌ $*" >&2
+    exit 1
+}
+
+metric() {
+    curl -s "$BASE_URL/actuator/metrics/$1${2:+?tag=$2}" | jq -r '.measurements[0].value'
+}
+
+curl -sf "$TOXIPROXY/version" > /dev/null || fail "Toxiproxy não responde. Execute: docker compose --profile loadtest up -d"
+command -v docker > /dev/null || fail "docker é necessário para rodar o k6"
+
+# Proxy do PostgreSQL (recriado a cada execução, sem toxics)
+curl -s -X DELETE "$TOXIPROXY/proxies/postgres" > /dev/null
+curl -sf -X POST "$TOXIPROXY/proxies" \
+    -d '{"name":"postgres","listen":"0.0.0.0:15432","upstream":"postgres:5432"}' > /dev/null \
+    || fail "não foi possível criar o proxy do PostgreSQL"
+
+# Um único cliente gera toda a carga: o rate limit por cliente ficaria na frente do limite adaptativo
+java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=prod \
+    --spring.datasource.url="jdbc:postgresql://localhost:15432/delivery?reWriteBatchedInserts=true" \
+    --delivery.rate-limit.enabled=false > /tmp/load-shedding-app.log 2>&1 &
+APP_PID=$!
+for _ in $(seq 120); do
+    curl -sf "$BASE_URL/actuator/health/readiness" 2>/dev/null | grep -q '"UP"' && break
+    kill -0 "$APP_PID" 2>/dev/null || fail "aplicação terminou antes de ficar pronta (log em /tmp/load-shedding-app.log)"
+    sleep 1
+done
+
+TOKEN=$(curl -s -X POST http://localhost:8081/realms/delivery/protocol/openid-connect/token \
+    -H "Content-Type: application/x-www-form-urlencoded" \
+    -d "grant_type=password" \
+    -d "client_id=delivery-api" \
+    -d "client_secret=delivery-api-secret" \
+    -d "username=admin" \
+    -d "password=admin123" \
+    -d "scope=customers:read customers:write products:read products:write orders:read orders:write" | jq -r '.access_token')
+[ -n "$TOKEN" ] && [ "$TOKEN" != "null" ] || fail "falha ao obter token no Keycloak"
+
+SUFFIX=$(date +%s)
+DOCUMENT=$(printf '%011d' "$SUFFIX")
+CUSTOMER_ID=$(curl -s -X POST "$BASE_URL/v1/customers" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+    -d "{\"name\":\"Cliente Carga\",\"email\":\"carga$SUFFIX@email.com\",\"document\":\"$DOCUMENT\"}" | jq -r '.id')
+PRODUCT_ID=$(curl -s -X POST "$BASE_URL/v1/products" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+    -d '{"name":"Produto Carga","price":10.00}' | jq -r '.id')
+[ "$CUSTOMER_ID" != "null" ] && [ "$PRODUCT_ID" != "null" ] || fail "falha ao criar cliente e produto de teste"
+
+mkdir -p "$(dirname "$RESULTS")"
+echo "⏱️  150s de carga; latência de ${LATENCY_MS} ms no banco entre 40s e 100s"
+docker run --rm --network host -v "$SCRIPT_DIR/load:/scripts:ro" \
+    -e BASE_URL="$BASE_URL" -e TOXIPROXY="$TOXIPROXY" -e TOKEN="$TOKEN" -e LATENCY_MS="$LATENCY_MS" -e RATE="$RATE" \
+    -e CUSTOMER_ID="$CUSTOMER_ID" -e PRODUCT_ID="$PRODUCT_ID" \
+    grafana/k6:0.52.0 run --quiet /scripts/shedding.js > "$RESULTS.k6" 2>&1
+
+{
+    echo "Latência injetada: ${LATENCY_MS} ms; ${RATE} pedidos/s, $((RATE * 2)) leituras de cliente/s, $((RATE * 3)) listagens/s"
+    echo
+    echo "| Métrica | Valor |"
+    echo "|---|---|"
+    echo "| Limite ao fim | $(metric delivery.concurrency.limit) |"
+    for priority in critical normal sheddable; do
+        echo "| 503 $priority | $(metric delivery.concurrency.shed "priority:$priority") |"
+    done
+    echo
+    echo '```'
+    cat "$RESULTS.k6"
+    echo '```'
+} > "$RESULTS"
+rm -f "$RESULTS.k6"
+cat "$RESULTS"
+echo
+echo "✅ Resultado gravado em $RESULTS"
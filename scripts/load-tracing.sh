@@ -0,0 +1,135 @@
+#!/bin/bash
+
+# Custo do tracing sob carga: a mesma taxa fixa de requisições contra a aplicação com
+# management.tracing.enabled=false e com o tracing ligado (exportando 100% para o coletor).
+# Compara latência (k6) e CPU do processo por requisição (/proc/<pid>/stat).
+#
+# Executa antes: docker compose up -d (PostgreSQL, Redis, Keycloak e o coletor OTLP) e ./gradlew bootJar
+# Uso: load-tracing.sh <jar> [requisições/s] [duração]
+
+set -u
+
+JAR="$1"
+RATE="${2:-200}"
+DURATION="${3:-60s}"
+PORT="${LOAD_PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+OUT="$(cd "$(dirname "$JAR")/.." && pwd)/load"
+RESULTS="$OUT/tracing.md"
+CLK_TCK=$(getconf CLK_TCK)
+APP_PID=""
+
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null && wait "$APP_PID" 2>/dev/null
+}
+trap cleanup EXIT
+
+fail() {
+    echo "❌ $*" >&2
+    exit 1
+}
+
+# Ticks de CPU (usuário + sistema) consumidos pelo processo até agora
+cpu_ticks() {
+    awk '{ print $14 + $15 }' "/proc/$APP_PID/stat"
+}
+
+# Token novo por variante: a execução inteira passa da validade padrão do Keycloak
+fetch_token() {
+    TOKEN=$(curl -s -X POST http://localhost:8081/realms/delivery/protocol/openid-connect/token \
+        -H "Content-Type: application/x-www-form-urlencoded" \
+        -d "grant_type=password" \
+        -d "client_id=delivery-api" \
+        -d "client_secret=delivery-api-secret" \
+        -d "username=admin" \
+        -d "password=admin123" \
+        -d "scope=customers:read customers:write products:read products:write orders:read orders:write" | jq -r '.access_token')
+    [ -n "$TOKEN" ] && [ "$TOKEN" != "null" ] || fail "falha ao obter token no Keycloak"
+}
+
+k6() {
+    local duration="$1" summary="$2"
+    docker run --rm --network host --user "$(id -u)" -v "$SCRIPT_DIR/load:/scripts:ro" -v "$OUT:/out" \
+        -e BASE_URL="$BASE_URL" -e TOKEN="$TOKEN" -e RATE="$RATE" -e DURATION="$duration" \
+        -e CUSTOMER_ID="$CUSTOMER_ID" -e PRODUCT_ID="$PRODUCT_ID" \
+        grafana/k6:0.52.0 run --quiet --summary-export "/out/$summary" /scripts/tracing.js > /dev/null 2>&1
+}
+
+# Sobe a variante, aquece (JIT, caches) por 20s e mede; imprime uma linha da tabela
+variant() {
+    local name="$1" tracing="$2" before after summary="tracing-$2.json"
+    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=prod \
+        --management.tracing.enabled="$tracing" --delivery.rate-limit.enabled=false \
+        > "/tmp/load-tracing-$tracing.log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 120); do
+        curl -sf "$BASE_URL/actuator/health/readiness" 2>/dev/null | grep -q '"UP"' && break
+        kill -0 "$APP_PID" 2>/dev/null || fail "aplicação terminou antes de ficar pronta (log em /tmp/load-tracing-$tracing.log)"
+        sleep 1
+    done
+
+    local suffix document
+    fetch_token
+    suffix=$(date +%s%N | cut -c1-13)
+    document=$(printf '%011d' "$((suffix % 100000000000))")
+    CUSTOMER_ID=$(curl -s -X POST "$BASE_URL/v1/customers" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+        -d "{\"name\":\"Cliente Carga\",\"email\":\"tracing$suffix@email.com\",\"document\":\"$document\"}" | jq -r '.id')
+    PRODUCT_ID=$(curl -s -X POST "$BASE_URL/v1/products" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+        -d '{"name":"Produto Carga","price":10.00}' | jq -r '.id')
+    [ "$CUSTOMER_ID" != "null" ] && [ "$PRODUCT_ID" != "null" ] || fail "falha ao criar cliente e produto de teste"
+
+    echo "⏱️  $name: aquecimento de 20s e medição de $DURATION" >&2
+    k6 20s warmup.json
+    before=$(cpu_ticks)
+    k6 "$DURATION" "$summary"
+    after=$(cpu_ticks)
+    kill "$APP_PID" 2>/dev/null
+    wait "$APP_PID" 2>/dev/null
+    APP_PID=""
+
+    local requests cpu
+    requests=$(jq -r '.metrics.http_reqs.count' "$OUT/$summary")
+    cpu=$(( (after - before) * 1000000 / CLK_TCK / requests ))
+    echo "$cpu" > "$OUT/tracing-$tracing.cpu"
+    jq -r --arg name "$name" --arg cpu "$cpu" '
+        .metrics as $m
+        | "| \($name) | \($m.http_reqs.count) | \($m.http_req_failed.value * 100 | floor) | "
+          + "\($m.http_req_duration["p(50)"] * 100 | round / 100) | \($m.http_req_duration["p(95)"] * 100 | round / 100) | "
+          + "\($m.http_req_duration["p(99)"] * 100 | round / 100) | \($cpu) |"' "$OUT/$summary"
+}
+
+command -v docker > /dev/null || fail "docker é necessário para rodar o k6"
+command -v jq > /dev/null || fail "jq é necessário para ler o resumo do k6"
+if curl -s -o /dev/null "$BASE_URL/actuator/health"; then
+    fail "porta $PORT já em uso. Pare a aplicação ou defina LOAD_PORT"
+fi
+curl -s -o /dev/null http://localhost:4318/v1/traces || fail "coletor OTLP não responde em localhost:4318. Execute: docker compose up -d"
+
+mkdir -p "$OUT"
+rm -f "$OUT"/tracing-*.cpu
+{
+    echo "$RATE requisições/s por $DURATION (50% GET cliente, 30% GET produto, 20% POST pedido), perfil prod"
+    echo
+    echo "| Variante | Requisições | Falhas (%) | p50 (ms) | p95 (ms) | p99 (ms) | CPU por requisição (µs) |"
+    echo "|---|---|---|---|---|---|---|"
+    variant "Sem tracing" false
+    variant "Tracing (100% exportado)" true
+} | tee "$RESULTS"
+[ -f "$OUT/tracing-true.cpu" ] || fail "medição incompleta"
+
+# Diferença percentual da variante com tracing sobre a sem tracing
+overhead() {
+    awk -v off="$1" -v on="$2" 'BEGIN { printf "%+.1f%%", (on - off) * 100 / off }'
+}
+p95() {
+    jq -r '.metrics.http_req_duration["p(95)"]' "$OUT/tracing-$1.json"
+}
+{
+    echo
+    echo "Custo do tracing: CPU por requisição $(overhead "$(cat "$OUT/tracing-false.cpu")" "$(cat "$OUT/tracing-true.cpu")"), p95 $(overhead "$(p95 false)" "$(p95 true)")"
+} | tee -a "$RESULTS"
+rm -f "$OUT"/tracing-*.cpu "$OUT/warmup.json"
+
+echo
+echo "✅ Resultado gravado em $RESULTS"
@@ -0,0 +1,84 @@
+// Carga mista com latência injetada no PostgreSQL (Toxiproxy) para observar o limite adaptativo.
+// Fases: 0-40s normal, 40-100s banco com +LATENCY_MS por resposta, 100-150s recuperação.
+// Chamado por scripts/load-shedding.sh, que sobe a aplicação apontando para o proxy.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOXIPROXY = __ENV.TOXIPROXY || 'http://localhost:8474';
+const LATENCY_MS = parseInt(__ENV.LATENCY_MS || '100');
+const RATE = parseInt(__ENV.RATE || '20');
+const HEADERS = {
+    headers: {
+        Authorization: `Bearer ${__ENV.TOKEN}`,
+        'Content-Type': 'application/json',
+    },
+};
+
+function rate(name, perSecond, exec) {
+    return {
+        executor: 'constant-arrival-rate',
+        rate: perSecond,
+        timeUnit: '1s',
+        duration: '150s',
+        preAllocatedVUs: perSecond * 2,
+        maxVUs: perSecond * 20,
+        exec,
+        tags: { priority: name },
+    };
+}
+
+export const options = {
+    scenarios: {
+        criar_pedido: rate('critical', RATE, 'createOrder'),
+        buscar_cliente: rate('normal', RATE * 2, 'getCustomer'),
+        listar_pedidos: rate('sheddable', RATE * 3, 'listOrders'),
+        lentidao: { executor: 'per-vu-iterations', vus: 1, iterations: 1, startTime: '40s', exec: 'slowDatabase' },
+    },
+    // Limiares também fazem o resumo mostrar cada prioridade separadamente
+    thresholds: {
+        'http_req_failed{priority:critical}': ['rate<0.01'],
+        'http_req_failed{priority:normal}': ['rate<0.05'],
+        'http_req_failed{priority:sheddable}': ['rate<1'],
+        'http_req_duration{priority:critical}': ['p(95)<2000'],
+        'http_req_duration{priority:normal}': ['p(95)<2000'],
+        'http_req_duration{priority:sheddable}': ['p(95)<5000'],
+        'http_reqs{priority:sheddable,status:503}': ['count>=0'],
+        'http_reqs{priority:normal,status:503}': ['count>=0'],
+        'http_reqs{priority:critical,status:503}': ['count>=0'],
+    },
+};
+
+export function createOrder() {
+    const body = JSON.stringify({
+        customerId: __ENV.CUSTOMER_ID,
+        items: [{ productId: __ENV.PRODUCT_ID, quantity: 1 }],
+    });
+    const response = http.post(`${BASE_URL}/v1/orders`, body, HEADERS);
+    check(response, { 'pedido criado': (r) => r.status === 201 });
+}
+
+export function getCustomer() {
+    const response = http.get(`${BASE_URL}/v1/customers/${__ENV.CUSTOMER_ID}`, HEADERS);
+    check(response, { 'cliente lido': (r) => r.status === 200 });
+}
+
+export function listOrders() {
+    const response = http.get(`${BASE_URL}/v1/orders?page=0&size=50`, HEADERS);
+    check(response, {
+        'listagem atendida ou descartada com Retry-After': (r) =>
+            r.status === 200 || (r.status === 503 && r.headers['Retry-After'] !== undefined),
+    });
+}
+
+export function slowDatabase() {
+    const toxic = JSON.stringify({
+        name: 'latencia',
+        type: 'latency',
+        stream: 'downstream',
+        attributes: { latency: LATENCY_MS, jitter: LATENCY_MS / 5 },
+    });
+    http.post(`${TOXIPROXY}/proxies/postgres/toxics`, toxic);
+    sleep(60);
+    http.del(`${TOXIPROXY}/proxies/postgres/toxics/latencia`);
+}
@@ -0,0 +1,48 @@
+// Carga a taxa constante para comparar a aplicação com e sem tracing: mesma taxa nas duas
+// variantes, então a diferença aparece na latência e na CPU do processo.
+// Chamado por scripts/load-tracing.sh, uma vez por variante.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '200');
+const HEADERS = {
+    headers: {
+        Authorization: `Bearer ${__ENV.TOKEN}`,
+        'Content-Type': 'application/json',
+    },
+};
+
+export const options = {
+    scenarios: {
+        mix: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: Math.max(10, RATE / 4),
+            maxVUs: RATE * 2,
+            exec: 'mix',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// 50% leitura de cliente (cache), 30% leitura de produto (catálogo em memória), 20% criação de pedido
+export function mix() {
+    const slot = __ITER % 10;
+    if (slot < 5) {
+        const response = http.get(`${BASE_URL}/v1/customers/${__ENV.CUSTOMER_ID}`, HEADERS);
+        check(response, { 'cliente lido': (r) => r.status === 200 });
+    } else if (slot < 8) {
+        const response = http.get(`${BASE_URL}/v1/products/${__ENV.PRODUCT_ID}`, HEADERS);
+        check(response, { 'produto lido': (r) => r.status === 200 });
+    } else {
+        const body = JSON.stringify({
+            customerId: __ENV.CUSTOMER_ID,
+            items: [{ productId: __ENV.PRODUCT_ID, quantity: 1 }],
+        });
+        const response = http.post(`${BASE_URL}/v1/orders`, body, HEADERS);
+        check(response, { 'pedido criado': (r) => r.status === 201 });
+    }
+}
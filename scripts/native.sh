@@ -0,0 +1,197 @@
+#!/bin/bash
+
+# Imagem nativa contra H2 (perfil h2), sem PostgreSQL, Redis nem Keycloak: um issuer local serve
+# o JWK set e o script assina os próprios tokens.
+#
+#   native.sh smoke <binário>                    cria cliente, produto e pedido e lê de volta
+#   native.sh compare <binário> <jar> <execuções> inicialização, RSS e vazão: JVM x nativo
+#
+# Chamado por ./gradlew -Pnative -PstartupProfiles=h2 nativeSmokeTest / nativeBenchmark
+
+set -u
+
+MODE="$1"
+BINARY="$2"
+PORT="${NATIVE_PORT:-8080}"
+ISSUER_PORT="${NATIVE_ISSUER_PORT:-8089}"
+ISSUER="http://127.0.0.1:$ISSUER_PORT/realms/delivery"
+TIMEOUT_SECONDS=120
+WORK="$(mktemp -d)"
+ISSUER_PID=""
+APP_PID=""
+READY_MS=0
+
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null && wait "$APP_PID" 2>/dev/null
+    [ -n "$ISSUER_PID" ] && kill "$ISSUER_PID" 2>/dev/null
+    rm -rf "$WORK"
+}
+trap cleanup EXIT
+
+fail() {
+    echo "❌ $*" >&2
+    if [ -f "$WORK/app.log" ]; then
+        echo "--- últimas linhas do log da aplicação ---" >&2
+        tail -40 "$WORK/app.log" >&2
+    fi
+    exit 1
+}
+
+base64url() {
+    base64 -w0 | tr '+/' '-_' | tr -d '='
+}
+
+# Chave RSA de teste, publicada como JWK set no caminho que o SecurityConfig consulta no issuer
+start_issuer() {
+    local certs="$WORK/issuer/realms/delivery/protocol/openid-connect"
+    mkdir -p "$certs"
+    openssl genrsa -out "$WORK/key.pem" 2048 2>/dev/null || fail "openssl genrsa falhou"
+    local modulus
+    modulus=$(openssl rsa -in "$WORK/key.pem" -noout -modulus | cut -d= -f2 | xxd -r -p | base64url)
+    printf '{"keys":[{"kty":"RSA","kid":"native-smoke","use":"sig","alg":"RS256","n":"%s","e":"AQAB"}]}' \
+        "$modulus" > "$certs/certs"
+    python3 -m http.server "$ISSUER_PORT" --bind 127.0.0.1 --directory "$WORK/issuer" > /dev/null 2>&1 &
+    ISSUER_PID=$!
+    for _ in $(seq 50); do
+        curl -sf "$ISSUER/protocol/openid-connect/certs" > /dev/null && return 0
+        sleep 0.1
+    done
+    fail "issuer local não respondeu na porta $ISSUER_PORT"
+}
+
+token() {
+    local now header payload signature
+    now=$(date +%s)
+    header=$(printf '{"alg":"RS256","typ":"JWT","kid":"native-smoke"}' | base64url)
+    payload=$(printf '{"iss":"%s","sub":"native-smoke","iat":%d,"exp":%d,"scope":"%s"}' "$ISSUER" "$now" \
+        $((now + 3600)) "customers:read customers:write products:read products:write orders:read orders:write" \
+        | base64url)
+    signature=$(printf '%s.%s' "$header" "$payload" | openssl dgst -sha256 -sign "$WORK/key.pem" | base64url)
+    printf '%s.%s.%s' "$header" "$payload" "$signature"
+}
+
+# Sobe a aplicação e espera a readiness; READY_MS recebe os milissegundos até ficar pronta.
+# Não chamar em $(...): o PID precisa ficar neste shell para o stop_app
+start_app() {
+    local start
+    start=$(date +%s%N)
+    "$@" --server.port="$PORT" --spring.profiles.active=h2 \
+        --spring.security.oauth2.resourceserver.jwt.issuer-uri="$ISSUER" > "$WORK/app.log" 2>&1 &
+    APP_PID=$!
+    while ! curl -sf "http://localhost:$PORT/actuator/health/readiness" 2>/dev/null | grep -q '"UP"'; do
+        kill -0 "$APP_PID" 2>/dev/null || fail "aplicação terminou antes de ficar pronta: $*"
+        [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge $TIMEOUT_SECONDS ] \
+            && fail "aplicação não ficou pronta em ${TIMEOUT_SECONDS}s: $*"
+        sleep 0.02
+    done
+    READY_MS=$(( ($(date +%s%N) - start) / 1000000 ))
+}
+
+stop_app() {
+    kill "$APP_PID" 2>/dev/null
+    wait "$APP_PID" 2>/dev/null
+    APP_PID=""
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$APP_PID") / 1024 ))
+}
+
+# Corpo da resposta em $WORK/body; falha se o status não for o esperado
+call() {
+    local expected="$1" method="$2" path="$3" body="${4:-}" status
+    status=$(curl -s -o "$WORK/body" -w '%{http_code}' -X "$method" "http://localhost:$PORT$path" \
+        -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' -H 'Accept: application/json' \
+        ${body:+-d "$body"})
+    [ "$status" = "$expected" ] || fail "$method $path respondeu $status (esperado $expected): $(cat "$WORK/body")"
+}
+
+json_field() {
+    python3 -c "import json,sys; print(json.load(open(sys.argv[1]))$1)" "$WORK/body"
+}
+
+# Caminho completo: validação, Jackson, MapStruct, entidades com associação lazy, springdoc
+smoke() {
+    local customer product order
+    start_app "$BINARY"
+    echo "✅ Pronto em ${READY_MS} ms"
+
+    call 201 POST /v1/customers '{"name":"Cliente Nativo","email":"nativo@email.com","document":"12345678901"}'
+    customer=$(json_field "['id']")
+    call 201 POST /v1/products '{"name":"Produto Nativo","price":19.90}'
+    product=$(json_field "['id']")
+    call 201 POST /v1/orders "{\"customerId\":\"$customer\",\"items\":[{\"productId\":\"$product\",\"quantity\":2}]}"
+    order=$(json_field "['id']")
+
+    call 200 GET "/v1/orders/$order"
+    [ "$(json_field "['items'][0]['productId']")" = "$product" ] || fail "itens do pedido não voltaram: $(cat "$WORK/body")"
+    [ "$(json_field "['total']")" = "39.8" ] || fail "total do pedido inesperado: $(cat "$WORK/body")"
+    call 200 GET "/v1/customers/$customer"
+    call 200 GET "/v1/products/$product"
+    call 400 POST /v1/customers '{"name":"X"}'
+    call 200 GET /v3/api-docs
+    echo "✅ Smoke test da imagem nativa concluído"
+}
+
+# Vazão com N requisições em paralelo sobre conexões reaproveitadas (curl --parallel)
+throughput() {
+    local path="$1" requests="$2" start elapsed
+    start=$(date +%s%N)
+    curl -s -o /dev/null --parallel --parallel-max 32 -H "Authorization: Bearer $TOKEN" \
+        "http://localhost:$PORT$path?n=[1-$requests]"
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    echo $(( requests * 1000 / (elapsed > 0 ? elapsed : 1) ))
+}
+
+measure_variant() {
+    local name="$1" runs="$2"
+    shift 2
+    local times=() sorted ready_rss rps loaded_rss product
+    for _ in $(seq "$runs"); do
+        start_app "$@"
+        times+=("$READY_MS")
+        stop_app
+    done
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+
+    start_app "$@"
+    ready_rss=$(rss_mb)
+    call 201 POST /v1/products '{"name":"Produto de Carga","price":10.00}'
+    product=$(json_field "['id']")
+    # Aquecimento (na JVM, JIT) e depois a medição em regime
+    throughput "/v1/products/$product" 20000 > /dev/null
+    rps=$(throughput "/v1/products/$product" 50000)
+    loaded_rss=$(rss_mb)
+    stop_app
+    echo "| $name | ${sorted[$(( ${#sorted[@]} / 2 ))]} | $ready_rss | $loaded_rss | $rps |"
+}
+
+compare() {
+    local jar="$1" runs="$2" results
+    results="$(dirname "$BINARY")/native-benchmark.md"
+    {
+        echo "Perfil h2, $runs inicializações por variante; vazão em GET /v1/products/{id} (50 mil requisições, 32 em paralelo)"
+        echo
+        echo "| Variante | Readiness UP (ms, mediana) | RSS pronto (MB) | RSS após carga (MB) | Requisições/s |"
+        echo "|---|---|---|---|---|"
+        measure_variant "JVM ($(java -version 2>&1 | head -1 | cut -d'"' -f2))" "$runs" java -jar "$jar"
+        measure_variant "Imagem nativa" "$runs" "$BINARY"
+    } > "$results"
+    cat "$results"
+    echo
+    echo "✅ Resultado gravado em $results"
+}
+
+if curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; then
+    fail "porta $PORT já em uso. Pare a aplicação ou defina NATIVE_PORT"
+fi
+[ -x "$BINARY" ] || fail "binário nativo não encontrado: $BINARY"
+
+start_issuer
+TOKEN=$(token)
+
+case "$MODE" in
+    smoke) smoke ;;
+    compare) compare "$3" "${4:-5}" ;;
+    *) fail "modo desconhecido: $MODE (use smoke ou compare)" ;;
+esac
@@ -0,0 +1,86 @@
+#!/bin/bash
+
+# Tempo até a aplicação ficar pronta (readiness UP) em cada forma de inicialização.
+# Chamado por ./gradlew startupBenchmark (ou ./gradlew -Paot startupBenchmark, que inclui o AOT).
+# Executa antes: docker compose up -d (a aplicação precisa do PostgreSQL, do Redis e do Keycloak)
+#
+# Uso: startup-benchmark.sh <jar> <diretório extraído> <execuções> <aot: true|false> [perfis]
+
+set -u
+
+FAT_JAR="$1"
+APP_DIR="$2"
+RUNS="$3"
+AOT="$4"
+PROFILES="${5:-prod}"
+PORT="${STARTUP_BENCHMARK_PORT:-8080}"
+TIMEOUT_SECONDS=120
+APP_JAR="$APP_DIR/$(basename "$FAT_JAR")"
+RESULTS="$(dirname "$APP_DIR")/startup-benchmark.md"
+
+if curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; then
+    echo "❌ Porta $PORT já em uso. Pare a aplicação ou defina STARTUP_BENCHMARK_PORT"
+    exit 1
+fi
+
+# Milissegundos entre o início do processo e a primeira resposta UP da readiness
+measure() {
+    local start end pid
+    start=$(date +%s%N)
+    "$@" --server.port="$PORT" --spring.profiles.active="$PROFILES" > /dev/null 2>&1 &
+    pid=$!
+    while true; do
+        if curl -sf "http://localhost:$PORT/actuator/health/readiness" 2>/dev/null | grep -q '"UP"'; then
+            end=$(date +%s%N)
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "❌ Aplicação terminou antes de ficar pronta: $*" >&2
+            return 1
+        fi
+        if [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge $TIMEOUT_SECONDS ]; then
+            kill "$pid" 2>/dev/null
+            wait "$pid" 2>/dev/null
+            echo "❌ Aplicação não ficou pronta em ${TIMEOUT_SECONDS}s: $*" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    kill "$pid" 2>/dev/null
+    wait "$pid" 2>/dev/null
+    echo $(( (end - start) / 1000000 ))
+}
+
+# Uma execução de aquecimento (disco e Docker) e depois RUNS medições; imprime mediana e mínimo
+variant() {
+    local name="$1"
+    shift
+    local times=() ms sorted
+    echo "⏱️  $name" >&2
+    measure "$@" > /dev/null || return 1
+    for _ in $(seq "$RUNS"); do
+        ms=$(measure "$@") || return 1
+        times+=("$ms")
+    done
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    echo "| $name | ${sorted[$(( ${#sorted[@]} / 2 ))]} | ${sorted[0]} |"
+}
+
+{
+    echo "Tempo até readiness UP (ms), $RUNS execuções por variante, perfis $PROFILES, $(java -version 2>&1 | head -1)"
+    echo
+    echo "| Variante | Mediana | Mínimo |"
+    echo "|---|---|---|"
+    variant "jar (antes)" java -jar "$FAT_JAR"
+    variant "jar extraído" java -jar "$APP_JAR"
+    if [ "$AOT" = "true" ]; then
+        variant "jar extraído + AOT" java -Dspring.aot.enabled=true -jar "$APP_JAR"
+        variant "jar extraído + AOT + AppCDS" java -XX:SharedArchiveFile="$APP_DIR/application.jsa" \
+            -Dspring.aot.enabled=true -jar "$APP_JAR"
+    else
+        variant "jar extraído + AppCDS" java -XX:SharedArchiveFile="$APP_DIR/application.jsa" -jar "$APP_JAR"
+    fi
+} | tee "$RESULTS"
+
+echo
+echo "✅ Resultado gravado em $RESULTS"
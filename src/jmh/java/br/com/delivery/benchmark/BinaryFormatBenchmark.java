@@ -0,0 +1,92 @@
+package br.com.delivery.benchmark;
+
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderItemDto;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.config.JacksonConfig;
+import br.com.delivery.infrastructure.web.dto.PageResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JSON, CBOR e Smile numa página de 20 pedidos, usando os mesmos mappers da aplicação.
+ * O tamanho do payload de cada formato é impresso no setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private PageResponse<OrderDto> page;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        JacksonConfig config = new JacksonConfig();
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> config.cborHttpMessageConverter().getObjectMapper();
+            case "smile" -> config.smileHttpMessageConverter().getObjectMapper();
+            default -> config.objectMapper();
+        };
+
+        TypeReference<PageResponse<OrderDto>> pageType = new TypeReference<>() {};
+        writer = mapper.writerFor(pageType);
+        reader = mapper.readerFor(pageType);
+
+        List<OrderDto> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            content.add(order(i));
+        }
+        page = new PageResponse<>(content, 0, 20, 100, 5, true, false);
+        payload = writer.writeValueAsBytes(page);
+
+        System.out.printf("%nTamanho do payload (%s): %d bytes%n", format, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageResponse<OrderDto> deserializePage() throws Exception {
+        return reader.readValue(payload);
+    }
+
+    private static OrderDto order(int i) {
+        OrderItemDto item = new OrderItemDto();
+        item.setProductId("product-" + i);
+        item.setQuantity(2);
+        item.setUnitPrice(new BigDecimal("29.99"));
+
+        OrderDto dto = new OrderDto();
+        dto.setId("order-" + i);
+        dto.setCustomerId("customer-" + i);
+        dto.setItems(List.of(item, item));
+        dto.setStatus(Order.OrderStatus.CREATED);
+        dto.setCreatedAt(LocalDateTime.of(2025, 1, 27, 10, 30));
+        dto.setTotal(new BigDecimal("119.96"));
+        return dto;
+    }
+}
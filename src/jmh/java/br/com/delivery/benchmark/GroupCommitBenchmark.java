@@ -0,0 +1,127 @@
+package br.com.delivery.benchmark;
+
+import br.com.delivery.infrastructure.persistence.groupcommit.GroupCommitWriter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Inserção de pedidos sob concorrência: um commit por pedido contra o group commit. Cada operação
+ * é uma rodada em que `concurrency` chamadores gravam um pedido cada e esperam a confirmação;
+ * pedidos/s = concurrency / tempo por rodada. Precisa de Docker (PostgreSQL via Testcontainers),
+ * com synchronous_commit ligado para que o fsync de cada commit entre na conta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GroupCommitBenchmark {
+
+    private static final String INSERT =
+            "INSERT INTO bench_orders (id, customer_id, total, created_at) VALUES (?, ?, ?, ?)";
+
+    @Param({"1", "16", "64", "256"})
+    private int concurrency;
+
+    @Param({"direct", "group-commit"})
+    private String writer;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private ExecutorService callers;
+    private BenchWriter groupCommit;
+    private Consumer<Object[]> insert;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        // Pool do tamanho da aplicação: no modo direto os chamadores disputam as conexões
+        dataSource.setMaximumPoolSize(10);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE bench_orders (id VARCHAR(36) PRIMARY KEY, customer_id VARCHAR(36) NOT NULL, "
+                + "total DECIMAL(10,2) NOT NULL, created_at TIMESTAMP NOT NULL)");
+
+        PlatformTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        if ("group-commit".equals(writer)) {
+            groupCommit = new BenchWriter(jdbcTemplate, transactionManager);
+            insert = groupCommit::submit;
+        } else {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            insert = row -> transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT, row));
+        }
+        callers = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (groupCommit != null) {
+            groupCommit.close();
+        }
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public void round() throws Exception {
+        List<Future<?>> pending = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Object[] row = {UUID.randomUUID().toString(), "customer-1", new BigDecimal("75.48"), LocalDateTime.now()};
+            pending.add(callers.submit(() -> insert.accept(row)));
+        }
+        for (Future<?> future : pending) {
+            future.get();
+        }
+    }
+
+    private static class BenchWriter extends GroupCommitWriter<Object[]> {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        BenchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+            super("bench-group-commit", transactionManager, 10_000, 200, Duration.ofMillis(2), Duration.ofSeconds(10));
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        protected void flush(List<Object[]> batch) {
+            jdbcTemplate.batchUpdate(INSERT, batch);
+        }
+
+        @Override
+        protected String idOf(Object[] row) {
+            return (String) row[0];
+        }
+    }
+}
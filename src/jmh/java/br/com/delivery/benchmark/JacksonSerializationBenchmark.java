@@ -0,0 +1,113 @@
+package br.com.delivery.benchmark;
+
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderItemDto;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.config.JacksonConfig;
+import br.com.delivery.infrastructure.web.dto.PageResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o ObjectMapper compartilhado (Blackbird + serializers pré-resolvidos) com o mapper
+ * baseado em reflection usado antes. Rodar com ./gradlew jmh; o profiler gc informa a
+ * alocação por operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JacksonSerializationBenchmark {
+
+    @Param({"shared", "reflection"})
+    private String mapper;
+
+    private ObjectWriter orderWriter;
+    private ObjectReader orderReader;
+    private ObjectWriter pageWriter;
+    private ObjectReader pageReader;
+
+    private OrderDto order;
+    private PageResponse<OrderDto> page;
+    private byte[] orderJson;
+    private byte[] pageJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper;
+        if ("shared".equals(mapper)) {
+            objectMapper = new JacksonConfig().objectMapper();
+        } else {
+            objectMapper = new ObjectMapper();
+            objectMapper.registerModule(new JavaTimeModule());
+        }
+
+        TypeReference<PageResponse<OrderDto>> pageType = new TypeReference<>() {};
+        orderWriter = objectMapper.writerFor(OrderDto.class);
+        orderReader = objectMapper.readerFor(OrderDto.class);
+        pageWriter = objectMapper.writerFor(pageType);
+        pageReader = objectMapper.readerFor(pageType);
+
+        order = order(0);
+        List<OrderDto> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            content.add(order(i));
+        }
+        page = new PageResponse<>(content, 0, 20, 100, 5, true, false);
+
+        orderJson = orderWriter.writeValueAsBytes(order);
+        pageJson = pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws Exception {
+        return orderWriter.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public OrderDto deserializeOrder() throws Exception {
+        return orderReader.readValue(orderJson);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageResponse<OrderDto> deserializePage() throws Exception {
+        return pageReader.readValue(pageJson);
+    }
+
+    private static OrderDto order(int i) {
+        OrderItemDto item = new OrderItemDto();
+        item.setProductId("product-" + i);
+        item.setQuantity(2);
+        item.setUnitPrice(new BigDecimal("29.99"));
+
+        OrderDto dto = new OrderDto();
+        dto.setId("order-" + i);
+        dto.setCustomerId("customer-" + i);
+        dto.setItems(List.of(item, item));
+        dto.setStatus(Order.OrderStatus.CREATED);
+        dto.setCreatedAt(LocalDateTime.of(2025, 1, 27, 10, 30));
+        dto.setTotal(new BigDecimal("119.96"));
+        return dto;
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.delivery.benchmark;
+
+import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.port.ProductRepositoryPort;
+import br.com.delivery.infrastructure.catalog.InMemoryProductCatalog;
+import br.com.delivery.infrastructure.catalog.ProductCatalogPublisher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca por id no catálogo em memória (gc.alloc.rate.norm deve ficar em ~0 B/op) e memória
+ * retida pelo catálogo, impressa no setup em bytes por produto (ids UUID, nomes de ~20 caracteres).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductCatalogBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private InMemoryProductCatalog catalog;
+    private String[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ids = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = UUID.randomUUID().toString();
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedHeap(memory);
+        catalog = new InMemoryProductCatalog(new GeneratedProducts(ids), new NoTransactionManager(),
+                ProductCatalogPublisher.NONE);
+        catalog.refresh();
+        long retained = usedHeap(memory) - before;
+        // Os ids já estavam no heap antes da carga: soma a parte deles (String de 36 caracteres)
+        long idBytes = 80L * size;
+        System.out.printf("%nCatálogo com %d produtos: %.1f MB retidos, %d bytes/produto (%.0f MB por milhão)%n",
+                size, (retained + idBytes) / 1e6, (retained + idBytes) / size, (retained + idBytes) / (size / 1e6) / 1e6);
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        String id = ids[next];
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return catalog.findById(id);
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static class GeneratedProducts implements ProductRepositoryPort {
+
+        private final String[] ids;
+
+        GeneratedProducts(String[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public List<Product> findAll() {
+            List<Product> products = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                products.add(new Product(ids[i], "Produto de teste " + i, BigDecimal.valueOf(1000 + i % 9000, 2)));
+            }
+            return products;
+        }
+
+        @Override
+        public Product save(Product product) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Product> findById(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void deleteById(String id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsById(String id) {
+            return false;
+        }
+
+        @Override
+        public List<Product> findByNameContaining(String name) {
+            return List.of();
+        }
+    }
+
+    private static class NoTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
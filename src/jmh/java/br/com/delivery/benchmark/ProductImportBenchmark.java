@@ -0,0 +1,122 @@
+package br.com.delivery.benchmark;
+
+import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.readmodel.ProductImportSummary;
+import br.com.delivery.domain.valueobject.ProductImportLine;
+import br.com.delivery.infrastructure.persistence.adapter.ProductImportRepositoryAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga de produtos pelo ProductImportRepositoryAdapter.load(): COPY para a tabela temporária,
+ * upsert em products e relatório por linha em product_import_row. Cada operação carrega `size`
+ * linhas geradas em fluxo, como o arquivo lido pelo caso de uso; a meta é 1 milhão de linhas
+ * bem abaixo de um minuto. "created" parte de products vazia; "updated" muda o preço de todos
+ * os produtos a cada carga. Precisa de Docker (PostgreSQL via Testcontainers, schema pelas
+ * migrations do Flyway).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ProductImportBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"created", "updated"})
+    private String outcome;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ProductImportRepositoryAdapter adapter;
+    private String[] ids;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // load() é @Transactional na aplicação: a tabela temporária e o COPY dependem da mesma conexão
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        adapter = new ProductImportRepositoryAdapter(jdbcTemplate);
+        ids = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = UUID.randomUUID().toString();
+        }
+        if ("updated".equals(outcome)) {
+            load();
+        }
+    }
+
+    // Fora da medição: o relatório das cargas anteriores não deixa product_import_row crescer entre as rodadas
+    @Setup(Level.Invocation)
+    public void reset() {
+        jdbcTemplate.execute("TRUNCATE product_import CASCADE");
+        if ("created".equals(outcome)) {
+            jdbcTemplate.execute("TRUNCATE products CASCADE");
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE products");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public ProductImportSummary load() {
+        BigDecimal price = BigDecimal.valueOf(1000 + ++round, 2);
+        return transactionTemplate.execute(status -> adapter.load(UUID.randomUUID().toString(), lines(price)));
+    }
+
+    private Iterator<ProductImportLine> lines(BigDecimal price) {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public ProductImportLine next() {
+                int line = ++next;
+                return ProductImportLine.accepted(line, new Product(ids[line - 1], "Produto " + line, price));
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.delivery.application.diagnostics;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Trace de diagnóstico da requisição corrente: eventos detalhados (por entidade) guardados em
+ * buffer limitado em vez de ir para o log. Fica ativo só na thread da requisição marcada pelo
+ * filtro de diagnóstico; fora dele {@link #current()} devolve null e o caminho quente paga
+ * apenas a leitura do ThreadLocal, sem formatar mensagem nem alocar argumentos.
+ *
+ * <pre>
+ * DiagnosticTrace trace = DiagnosticTrace.current();
+ * if (trace != null) {
+ *     trace.record("Pedido {} convertido", order.getId());
+ * }
+ * </pre>
+ *
+ * Trabalho feito em outras threads (executores, @Async) não entra no trace.
+ */
+public final class DiagnosticTrace {
+
+    private static final ThreadLocal<DiagnosticTrace> CURRENT = new ThreadLocal<>();
+
+    private final String id;
+    private final int capacity;
+    private final int maxEventLength;
+    private final long startNanos = System.nanoTime();
+    private final List<String> events = new ArrayList<>();
+    private int dropped;
+
+    private DiagnosticTrace(String id, int capacity, int maxEventLength) {
+        this.id = id;
+        this.capacity = capacity;
+        this.maxEventLength = maxEventLength;
+    }
+
+    public static DiagnosticTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Ativa um trace na thread corrente; quem chama deve encerrar com {@link #end()} num finally.
+     */
+    public static DiagnosticTrace begin(String id, int capacity, int maxEventLength) {
+        if (capacity <= 0 || maxEventLength <= 0) {
+            throw new IllegalArgumentException("Capacidade e tamanho máximo do evento devem ser positivos");
+        }
+        DiagnosticTrace trace = new DiagnosticTrace(id, capacity, maxEventLength);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Registra um evento com placeholders {} como no SLF4J. Com o buffer cheio, o evento é só contado.
+     */
+    public void record(String format, Object... args) {
+        if (events.size() >= capacity) {
+            dropped++;
+            return;
+        }
+        String message = MessageFormatter.arrayFormat(format, args).getMessage();
+        if (message.length() > maxEventLength) {
+            message = message.substring(0, maxEventLength) + "…";
+        }
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1_000;
+        events.add("+" + elapsedMicros + "µs " + message);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<String> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    public int getDropped() {
+        return dropped;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.delivery.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Resultado de uma importação em massa de clientes")
+@Data
+public class CustomerImportDto {
+    @Schema(description = "ID da importação", example = "5f0c1a2b-3c4d-4e5f-8a6b-7c8d9e0f1a2b")
+    private String importId;
+
+    @Schema(description = "Linhas recebidas (sem contar cabeçalho e linhas em branco)", example = "250000")
+    private int received;
+
+    @Schema(description = "Clientes criados", example = "249812")
+    private int imported;
+
+    @Schema(description = "Linhas rejeitadas", example = "188")
+    private int rejected;
+
+    @Schema(description = "Relatório CSV das linhas rejeitadas (quando houver)",
+            example = "/v1/customers/imports/5f0c1a2b-3c4d-4e5f-8a6b-7c8d9e0f1a2b/rejects", nullable = true)
+    private String rejectsReport;
+
+    @Schema(description = "Momento da importação", example = "2025-01-27T10:30:00")
+    private LocalDateTime createdAt;
+
+    public CustomerImportDto() {}
+
+}
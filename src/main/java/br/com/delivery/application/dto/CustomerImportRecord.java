@@ -0,0 +1,34 @@
+package br.com.delivery.application.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Linha lida do arquivo de importação de clientes, antes da validação. Linhas que nem
+ * puderam ser lidas (JSON inválido, colunas faltando) trazem só o erro.
+ */
+@Getter
+@ToString
+public class CustomerImportRecord {
+    private final int lineNumber;
+    private final String name;
+    private final String email;
+    private final String document;
+    private final String error;
+
+    private CustomerImportRecord(int lineNumber, String name, String email, String document, String error) {
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.email = email;
+        this.document = document;
+        this.error = error;
+    }
+
+    public static CustomerImportRecord of(int lineNumber, String name, String email, String document) {
+        return new CustomerImportRecord(lineNumber, name, email, document, null);
+    }
+
+    public static CustomerImportRecord unreadable(int lineNumber, String error) {
+        return new CustomerImportRecord(lineNumber, null, null, null, error);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.delivery.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Página do histórico de pedidos de um cliente")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryPage {
+    @Schema(description = "Pedidos da página, mais recentes primeiro")
+    private List<OrderDto> orders;
+
+    @Schema(description = "Indica se existem pedidos mais antigos", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,34 @@
+package br.com.delivery.application.dto;
+
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Andamento de um pedido recebido de forma assíncrona")
+@Data
+public class OrderIntakeDto {
+    @Schema(description = "Ticket de acompanhamento", example = "9b2f7c1e-3d4a-4e5f-8a6b-7c8d9e0f1a2b")
+    private String ticket;
+
+    @Schema(description = "PENDING e PROCESSING: na fila; COMPLETED: pedido criado; FAILED: rejeitado",
+            implementation = OrderIntakeTicket.Status.class)
+    private OrderIntakeTicket.Status status;
+
+    @Schema(description = "ID do pedido criado (quando COMPLETED)", example = "123e4567-e89b-12d3-a456-426614174000",
+            nullable = true)
+    private String orderId;
+
+    @Schema(description = "Motivo da rejeição (quando FAILED)", example = "Produto não encontrado: 789", nullable = true)
+    private String error;
+
+    @Schema(description = "Recebimento do pedido", example = "2025-01-27T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Última mudança de status", example = "2025-01-27T10:30:01")
+    private LocalDateTime updatedAt;
+
+    public OrderIntakeDto() {}
+
+}
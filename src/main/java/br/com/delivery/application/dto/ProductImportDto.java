@@ -0,0 +1,38 @@
+package br.com.delivery.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Resultado de uma carga em massa de produtos")
+@Data
+public class ProductImportDto {
+    @Schema(description = "ID da carga", example = "9a8b7c6d-5e4f-4a3b-8c2d-1e0f9a8b7c6d")
+    private String importId;
+
+    @Schema(description = "Linhas recebidas (sem contar cabeçalho e linhas em branco)", example = "1000000")
+    private int received;
+
+    @Schema(description = "Produtos criados", example = "1250")
+    private int created;
+
+    @Schema(description = "Produtos alterados", example = "38412")
+    private int updated;
+
+    @Schema(description = "Produtos já idênticos ao cadastro", example = "960300")
+    private int unchanged;
+
+    @Schema(description = "Linhas rejeitadas", example = "38")
+    private int rejected;
+
+    @Schema(description = "Relatório CSV com o resultado de cada linha (aceita ?outcome=rejected etc.)",
+            example = "/v1/products/imports/9a8b7c6d-5e4f-4a3b-8c2d-1e0f9a8b7c6d/rows")
+    private String rowsReport;
+
+    @Schema(description = "Momento da carga", example = "2025-01-27T02:00:00")
+    private LocalDateTime createdAt;
+
+    public ProductImportDto() {}
+
+}
@@ -0,0 +1,34 @@
+package br.com.delivery.application.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Linha lida do arquivo de carga de produtos, antes da validação. O preço vem como texto;
+ * linhas que nem puderam ser lidas (JSON inválido, colunas faltando) trazem só o erro.
+ */
+@Getter
+@ToString
+public class ProductImportRecord {
+    private final int lineNumber;
+    private final String id;
+    private final String name;
+    private final String price;
+    private final String error;
+
+    private ProductImportRecord(int lineNumber, String id, String name, String price, String error) {
+        this.lineNumber = lineNumber;
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.error = error;
+    }
+
+    public static ProductImportRecord of(int lineNumber, String id, String name, String price) {
+        return new ProductImportRecord(lineNumber, id, name, price, null);
+    }
+
+    public static ProductImportRecord unreadable(int lineNumber, String error) {
+        return new ProductImportRecord(lineNumber, null, null, null, error);
+    }
+}
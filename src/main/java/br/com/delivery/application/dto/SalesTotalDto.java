@@ -0,0 +1,25 @@
+package br.com.delivery.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Total de vendas de um grupo no período consultado")
+@Data
+public class SalesTotalDto {
+    @Schema(description = "Grupo: data (yyyy-MM-dd), status ou ID do produto, conforme o groupBy", example = "2025-01-27")
+    private String group;
+
+    @Schema(description = "Quantidade de pedidos", example = "128")
+    private long orderCount;
+
+    @Schema(description = "Unidades vendidas (apenas no agrupamento por produto)", example = "342", nullable = true)
+    private Long units;
+
+    @Schema(description = "Receita", example = "15432.90")
+    private BigDecimal revenue;
+
+    public SalesTotalDto() {}
+
+}
@@ -0,0 +1,20 @@
+package br.com.delivery.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Schema(description = "Posição de um produto no ranking de mais vendidos")
+@Data
+public class TopProductDto {
+    @Schema(description = "ID do produto", example = "123e4567-e89b-12d3-a456-426614174000")
+    private String productId;
+
+    @Schema(description = "Unidades vendidas na janela (estimativa pelo limite superior)", example = "342")
+    private long quantity;
+
+    @Schema(description = "Erro máximo da estimativa: o valor real fica entre quantity - error e quantity", example = "0")
+    private long error;
+
+    public TopProductDto() {}
+
+}
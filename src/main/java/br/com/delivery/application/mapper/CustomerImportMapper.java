@@ -0,0 +1,13 @@
+package br.com.delivery.application.mapper;
+
+import br.com.delivery.application.dto.CustomerImportDto;
+import br.com.delivery.domain.readmodel.CustomerImportSummary;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface CustomerImportMapper {
+
+    @Mapping(target = "rejectsReport", ignore = true)
+    CustomerImportDto toDto(CustomerImportSummary customerImportSummary);
+}
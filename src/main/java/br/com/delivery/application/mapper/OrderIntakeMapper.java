@@ -0,0 +1,11 @@
+package br.com.delivery.application.mapper;
+
+import br.com.delivery.application.dto.OrderIntakeDto;
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface OrderIntakeMapper {
+
+    OrderIntakeDto toDto(OrderIntakeTicket orderIntakeTicket);
+}
@@ -0,0 +1,11 @@
+package br.com.delivery.application.mapper;
+
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.domain.readmodel.OrderView;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", uses = OrderItemMapper.class)
+public interface OrderViewMapper {
+
+    OrderDto toDto(OrderView orderView);
+}
@@ -0,0 +1,13 @@
+package br.com.delivery.application.mapper;
+
+import br.com.delivery.application.dto.ProductImportDto;
+import br.com.delivery.domain.readmodel.ProductImportSummary;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ProductImportMapper {
+
+    @Mapping(target = "rowsReport", ignore = true)
+    ProductImportDto toDto(ProductImportSummary productImportSummary);
+}
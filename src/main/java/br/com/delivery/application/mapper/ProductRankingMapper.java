@@ -0,0 +1,11 @@
+package br.com.delivery.application.mapper;
+
+import br.com.delivery.application.dto.TopProductDto;
+import br.com.delivery.domain.readmodel.ProductRanking;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ProductRankingMapper {
+
+    TopProductDto toDto(ProductRanking productRanking);
+}
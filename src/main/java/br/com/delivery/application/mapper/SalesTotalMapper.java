@@ -0,0 +1,11 @@
+package br.com.delivery.application.mapper;
+
+import br.com.delivery.application.dto.SalesTotalDto;
+import br.com.delivery.domain.readmodel.SalesTotal;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface SalesTotalMapper {
+
+    SalesTotalDto toDto(SalesTotal salesTotal);
+}
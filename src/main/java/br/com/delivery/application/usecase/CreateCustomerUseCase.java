@@ -4,6 +4,7 @@ import br.com.delivery.application.dto.CreateCustomerRequest;
 import br.com.delivery.application.dto.CustomerDto;
 import br.com.delivery.application.mapper.CustomerMapper;
 import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.port.CustomerMembershipPort;
 import br.com.delivery.domain.port.CustomerRepositoryPort;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
@@ -16,36 +17,44 @@ import java.util.UUID;
 public class CreateCustomerUseCase {
     
     private final CustomerRepositoryPort customerRepository;
+    private final CustomerMembershipPort customerMembership;
     private final CustomerMapper customerMapper;
     
-    public CreateCustomerUseCase(CustomerRepositoryPort customerRepository, CustomerMapper customerMapper) {
+    public CreateCustomerUseCase(CustomerRepositoryPort customerRepository,
+                                 CustomerMembershipPort customerMembership,
+                                 CustomerMapper customerMapper) {
         this.customerRepository = customerRepository;
+        this.customerMembership = customerMembership;
         this.customerMapper = customerMapper;
     }
     
     @Transactional
     @Caching(evict = {
         @CacheEvict(value = "customers", allEntries = true),
-        @CacheEvict(value = "customer", allEntries = true)
+        @CacheEvict(value = "customer", allEntries = true),
+        @CacheEvict(value = "versions", key = "'customers'")
     })
     public CustomerDto execute(CreateCustomerRequest request) {
-        // Verificar se já existe cliente com o mesmo email
-        if (customerRepository.findByEmail(request.getEmail()).isPresent()) {
+        // Gerar ID único para o cliente
+        String customerId = UUID.randomUUID().toString();
+        
+        Customer customer = customerMapper.toEntity(customerId, request);
+        
+        // Consultar o banco só se o filtro de Bloom indicar um possível duplicado; as constraints
+        // únicas continuam decidindo (a violação vira a mesma mensagem no repositório)
+        if (customerMembership.mayContainEmail(customer.getEmail())
+                && customerRepository.findByEmail(customer.getEmail()).isPresent()) {
             throw new IllegalArgumentException("Já existe um cliente cadastrado com este email");
         }
         
-        // Verificar se já existe cliente com o mesmo documento
-        if (customerRepository.findByDocument(request.getDocument()).isPresent()) {
+        if (customerMembership.mayContainDocument(customer.getDocument())
+                && customerRepository.findByDocument(customer.getDocument()).isPresent()) {
             throw new IllegalArgumentException("Já existe um cliente cadastrado com este documento");
         }
         
-        // Gerar ID único para o cliente
-        String customerId = UUID.randomUUID().toString();
-        
-        Customer customer = customerMapper.toEntity(customerId, request);
-        
         // Salvar no repositório
         Customer savedCustomer = customerRepository.save(customer);
+        customerMembership.add(savedCustomer);
         
         // Converter para DTO de resposta
         return customerMapper.toDto(savedCustomer);
@@ -6,14 +6,15 @@ import br.com.delivery.application.mapper.OrderMapper;
 import br.com.delivery.domain.entity.Customer;
 import br.com.delivery.domain.entity.Order;
 import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.port.CustomerMembershipPort;
 import br.com.delivery.domain.port.CustomerRepositoryPort;
 import br.com.delivery.domain.port.OrderRepositoryPort;
-import br.com.delivery.domain.port.ProductRepositoryPort;
+import br.com.delivery.domain.port.ProductCatalogPort;
+import br.com.delivery.domain.port.ProductLeaderboardPort;
 import br.com.delivery.domain.valueobject.OrderItem;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,34 +25,48 @@ public class CreateOrderUseCase {
     
     private final OrderRepositoryPort orderRepository;
     private final CustomerRepositoryPort customerRepository;
-    private final ProductRepositoryPort productRepository;
+    private final CustomerMembershipPort customerMembership;
+    private final ProductCatalogPort productCatalog;
+    private final ProductLeaderboardPort productLeaderboard;
     private final OrderMapper orderMapper;
     
     public CreateOrderUseCase(OrderRepositoryPort orderRepository, 
                              CustomerRepositoryPort customerRepository,
-                             ProductRepositoryPort productRepository,
+                             CustomerMembershipPort customerMembership,
+                             ProductCatalogPort productCatalog,
+                             ProductLeaderboardPort productLeaderboard,
                              OrderMapper orderMapper) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
-        this.productRepository = productRepository;
+        this.customerMembership = customerMembership;
+        this.productCatalog = productCatalog;
+        this.productLeaderboard = productLeaderboard;
         this.orderMapper = orderMapper;
     }
     
-    @Transactional
+    // Sem transação própria: esperar o group commit não pode segurar uma conexão. Chamado dentro
+    // de uma transação (fila de entrada), o pedido é gravado nela.
     @Caching(evict = {
         @CacheEvict(value = "orders", allEntries = true),
-        @CacheEvict(value = "order", allEntries = true)
+        @CacheEvict(value = "order", allEntries = true),
+        @CacheEvict(value = "versions", key = "'orders'"),
+        @CacheEvict(value = "versions", key = "'customer-orders:' + #request.customerId")
     })
     public OrderDto execute(CreateOrderRequest request) {
-        // Validar se o cliente existe
-        Customer customer = customerRepository.findById(request.getCustomerId())
-                .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado"));
+        // Validar se o cliente existe: com o id no filtro de Bloom, a chave estrangeira confirma
+        // no insert; fora dele (cliente de outro nó ainda não carregado), consulta o banco
+        String customerId = request.getCustomerId();
+        if (!customerMembership.mayContainId(customerId)) {
+            Customer customer = customerRepository.findById(customerId)
+                    .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado"));
+            customerMembership.add(customer);
+        }
         
-        // Validar produtos e montar itens do pedido com preços atuais
+        // Validar produtos e montar itens do pedido com preços atuais (catálogo em memória)
         List<OrderItem> orderItems = new ArrayList<>();
         
         for (var itemRequest : request.getItems()) {
-            Product product = productRepository.findById(itemRequest.getProductId())
+            Product product = productCatalog.findById(itemRequest.getProductId())
                     .orElseThrow(() -> new IllegalArgumentException("Produto não encontrado: " + itemRequest.getProductId()));
             
             // Usar o preço atual do produto
@@ -67,10 +82,13 @@ public class CreateOrderUseCase {
         // Gerar ID único para o pedido
         String orderId = UUID.randomUUID().toString();
         
-        Order order = new Order(orderId, customer.getId(), orderItems);
+        Order order = new Order(orderId, customerId, orderItems);
         
         // Salvar no repositório
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderRepository.create(order);
+        
+        // Alimentar o ranking de produtos mais vendidos (aplicado após o commit)
+        productLeaderboard.record(savedOrder.getItems());
         
         // Converter para DTO de resposta
         return orderMapper.toDto(savedOrder);
@@ -4,9 +4,9 @@ import br.com.delivery.application.dto.CreateProductRequest;
 import br.com.delivery.application.dto.ProductDto;
 import br.com.delivery.application.mapper.ProductMapper;
 import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.port.ProductCatalogPort;
 import br.com.delivery.domain.port.ProductRepositoryPort;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,18 +16,18 @@ import java.util.UUID;
 public class CreateProductUseCase {
     
     private final ProductRepositoryPort productRepository;
+    private final ProductCatalogPort productCatalog;
     private final ProductMapper productMapper;
     
-    public CreateProductUseCase(ProductRepositoryPort productRepository, ProductMapper productMapper) {
+    public CreateProductUseCase(ProductRepositoryPort productRepository, ProductCatalogPort productCatalog,
+                                ProductMapper productMapper) {
         this.productRepository = productRepository;
+        this.productCatalog = productCatalog;
         this.productMapper = productMapper;
     }
     
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "products", allEntries = true),
-        @CacheEvict(value = "product", allEntries = true)
-    })
+    @CacheEvict(value = "versions", key = "'products'")
     public ProductDto execute(CreateProductRequest request) {
         // Gerar ID único para o produto
         String productId = UUID.randomUUID().toString();
@@ -37,6 +37,9 @@ public class CreateProductUseCase {
         // Salvar no repositório
         Product savedProduct = productRepository.save(product);
         
+        // Nova versão do catálogo em memória, publicada após o commit
+        productCatalog.put(savedProduct);
+        
         // Converter para DTO de resposta
         return productMapper.toDto(savedProduct);
     }
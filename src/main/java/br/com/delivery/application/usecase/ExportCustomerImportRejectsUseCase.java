@@ -0,0 +1,32 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.domain.port.CustomerImportPort;
+import br.com.delivery.domain.readmodel.CustomerImportReject;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportCustomerImportRejectsUseCase {
+    
+    private final CustomerImportPort customerImport;
+    
+    public ExportCustomerImportRejectsUseCase(CustomerImportPort customerImport) {
+        this.customerImport = customerImport;
+    }
+    
+    /**
+     * Entrega as linhas rejeitadas uma a uma, na ordem do arquivo; false se a importação não existe.
+     */
+    public boolean execute(String importId, Consumer<CustomerImportReject> action) {
+        if (importId == null || importId.trim().isEmpty()) {
+            throw new IllegalArgumentException("ID da importação é obrigatório");
+        }
+        
+        if (customerImport.findById(importId.trim()).isEmpty()) {
+            return false;
+        }
+        customerImport.forEachReject(importId.trim(), action);
+        return true;
+    }
+}
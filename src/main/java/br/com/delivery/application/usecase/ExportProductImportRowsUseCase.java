@@ -0,0 +1,34 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.domain.port.ProductImportPort;
+import br.com.delivery.domain.readmodel.ProductImportOutcome;
+import br.com.delivery.domain.readmodel.ProductImportRow;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportProductImportRowsUseCase {
+    
+    private final ProductImportPort productImport;
+    
+    public ExportProductImportRowsUseCase(ProductImportPort productImport) {
+        this.productImport = productImport;
+    }
+    
+    /**
+     * Entrega o resultado de cada linha, na ordem do arquivo, opcionalmente só de um tipo
+     * (outcome nulo é todas); false se a carga não existe.
+     */
+    public boolean execute(String importId, ProductImportOutcome outcome, Consumer<ProductImportRow> action) {
+        if (importId == null || importId.trim().isEmpty()) {
+            throw new IllegalArgumentException("ID da carga é obrigatório");
+        }
+        
+        if (productImport.findById(importId.trim()).isEmpty()) {
+            return false;
+        }
+        productImport.forEachRow(importId.trim(), outcome, action);
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.OrderIntakeDto;
+import br.com.delivery.application.mapper.OrderIntakeMapper;
+import br.com.delivery.domain.port.OrderIntakePort;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class GetOrderIntakeUseCase {
+    
+    private final OrderIntakePort orderIntake;
+    private final OrderIntakeMapper orderIntakeMapper;
+    
+    public GetOrderIntakeUseCase(OrderIntakePort orderIntake, OrderIntakeMapper orderIntakeMapper) {
+        this.orderIntake = orderIntake;
+        this.orderIntakeMapper = orderIntakeMapper;
+    }
+    
+    public Optional<OrderIntakeDto> execute(String ticket) {
+        if (ticket == null || ticket.trim().isEmpty()) {
+            throw new IllegalArgumentException("Ticket é obrigatório");
+        }
+        
+        return orderIntake.findByTicket(ticket.trim()).map(orderIntakeMapper::toDto);
+    }
+}
@@ -3,8 +3,7 @@ package br.com.delivery.application.usecase;
 import br.com.delivery.application.dto.ProductDto;
 import br.com.delivery.application.mapper.ProductMapper;
 import br.com.delivery.domain.entity.Product;
-import br.com.delivery.domain.port.ProductRepositoryPort;
-import org.springframework.cache.annotation.Cacheable;
+import br.com.delivery.domain.port.ProductCatalogPort;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -12,21 +11,21 @@ import java.util.Optional;
 @Service
 public class GetProductUseCase {
     
-    private final ProductRepositoryPort productRepository;
+    private final ProductCatalogPort productCatalog;
     private final ProductMapper productMapper;
     
-    public GetProductUseCase(ProductRepositoryPort productRepository, ProductMapper productMapper) {
-        this.productRepository = productRepository;
+    public GetProductUseCase(ProductCatalogPort productCatalog, ProductMapper productMapper) {
+        this.productCatalog = productCatalog;
         this.productMapper = productMapper;
     }
     
-    @Cacheable(value = "product", key = "#productId")
+    // Catálogo em memória: sem Redis nem banco na leitura
     public Optional<ProductDto> execute(String productId) {
         if (productId == null || productId.trim().isEmpty()) {
             throw new IllegalArgumentException("ID do produto é obrigatório");
         }
         
-        Optional<Product> product = productRepository.findById(productId.trim());
+        Optional<Product> product = productCatalog.findById(productId.trim());
         return product.map(productMapper::toDto);
     }
 }
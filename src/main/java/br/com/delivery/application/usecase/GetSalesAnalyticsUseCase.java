@@ -0,0 +1,47 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.SalesTotalDto;
+import br.com.delivery.application.mapper.SalesTotalMapper;
+import br.com.delivery.domain.port.SalesRollupRepositoryPort;
+import br.com.delivery.domain.readmodel.SalesGrouping;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class GetSalesAnalyticsUseCase {
+    
+    public static final int MAX_RANGE_DAYS = 366;
+    
+    private final SalesRollupRepositoryPort salesRollupRepository;
+    private final SalesTotalMapper salesTotalMapper;
+    
+    public GetSalesAnalyticsUseCase(SalesRollupRepositoryPort salesRollupRepository,
+                                    SalesTotalMapper salesTotalMapper) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.salesTotalMapper = salesTotalMapper;
+    }
+    
+    /**
+     * Totais de vendas entre from e to (inclusive), lidos apenas da consolidação diária.
+     * DAY e PRODUCT desconsideram pedidos cancelados; STATUS mostra todos os status.
+     */
+    public List<SalesTotalDto> execute(LocalDate from, LocalDate to, SalesGrouping grouping) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Período é obrigatório (from e to)");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Data final deve ser igual ou posterior à inicial");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Período deve ter no máximo " + MAX_RANGE_DAYS + " dias");
+        }
+        
+        return salesRollupRepository.findTotals(grouping != null ? grouping : SalesGrouping.DAY, from, to).stream()
+                .map(salesTotalMapper::toDto)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.TopProductDto;
+import br.com.delivery.application.mapper.ProductRankingMapper;
+import br.com.delivery.domain.port.ProductLeaderboardPort;
+import br.com.delivery.domain.readmodel.LeaderboardWindow;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class GetTopProductsUseCase {
+    
+    public static final int MAX_LIMIT = 100;
+    
+    private final ProductLeaderboardPort productLeaderboard;
+    private final ProductRankingMapper productRankingMapper;
+    
+    public GetTopProductsUseCase(ProductLeaderboardPort productLeaderboard,
+                                 ProductRankingMapper productRankingMapper) {
+        this.productLeaderboard = productLeaderboard;
+        this.productRankingMapper = productRankingMapper;
+    }
+    
+    /**
+     * Produtos mais vendidos (em unidades) na janela, do ranking em memória: não consulta pedidos.
+     */
+    public List<TopProductDto> execute(LeaderboardWindow window, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + MAX_LIMIT);
+        }
+        
+        return productLeaderboard.top(window != null ? window : LeaderboardWindow.LAST_HOUR, limit).stream()
+                .map(productRankingMapper::toDto)
+                .collect(Collectors.toList());
+    }
+}
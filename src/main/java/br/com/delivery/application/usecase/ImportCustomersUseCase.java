@@ -0,0 +1,73 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.CustomerImportDto;
+import br.com.delivery.application.dto.CustomerImportRecord;
+import br.com.delivery.application.mapper.CustomerImportMapper;
+import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.port.CustomerImportPort;
+import br.com.delivery.domain.port.CustomerMembershipPort;
+import br.com.delivery.domain.valueobject.CustomerImportLine;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.UUID;
+
+@Service
+public class ImportCustomersUseCase {
+    
+    private final CustomerImportPort customerImport;
+    private final CustomerMembershipPort customerMembership;
+    private final CustomerImportMapper customerImportMapper;
+    
+    public ImportCustomersUseCase(CustomerImportPort customerImport,
+                                  CustomerMembershipPort customerMembership,
+                                  CustomerImportMapper customerImportMapper) {
+        this.customerImport = customerImport;
+        this.customerMembership = customerMembership;
+        this.customerImportMapper = customerImportMapper;
+    }
+    
+    /**
+     * Valida cada linha com as regras do {@link Customer} à medida que é lida: nada do arquivo
+     * fica em memória. Duplicidade de email e documento é resolvida no banco, em conjunto, e
+     * os caches de clientes são invalidados uma vez por importação.
+     */
+    @Caching(evict = {
+        @CacheEvict(value = "customers", allEntries = true),
+        @CacheEvict(value = "customer", allEntries = true),
+        @CacheEvict(value = "versions", key = "'customers'")
+    })
+    public CustomerImportDto execute(Iterator<CustomerImportRecord> records) {
+        Iterator<CustomerImportLine> lines = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+            
+            @Override
+            public CustomerImportLine next() {
+                return validate(records.next());
+            }
+        };
+        
+        String importId = UUID.randomUUID().toString();
+        return customerImportMapper.toDto(customerImport.load(importId, lines, customerMembership::add));
+    }
+    
+    private static CustomerImportLine validate(CustomerImportRecord record) {
+        if (record.getError() != null) {
+            return CustomerImportLine.rejected(record.getLineNumber(), record.getName(), record.getEmail(),
+                    record.getDocument(), record.getError());
+        }
+        try {
+            Customer customer = new Customer(UUID.randomUUID().toString(), record.getName(), record.getEmail(),
+                    record.getDocument());
+            return CustomerImportLine.accepted(record.getLineNumber(), customer);
+        } catch (IllegalArgumentException e) {
+            return CustomerImportLine.rejected(record.getLineNumber(), record.getName(), record.getEmail(),
+                    record.getDocument(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.ProductImportDto;
+import br.com.delivery.application.dto.ProductImportRecord;
+import br.com.delivery.application.mapper.ProductImportMapper;
+import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.port.ProductCatalogPort;
+import br.com.delivery.domain.port.ProductImportPort;
+import br.com.delivery.domain.valueobject.ProductImportLine;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.UUID;
+
+@Service
+public class ImportProductsUseCase {
+    
+    // Limites das colunas de products: id VARCHAR(36), name VARCHAR(100), price DECIMAL(10,2)
+    private static final int MAX_ID_LENGTH = 36;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_PRICE_SCALE = 2;
+    private static final int MAX_PRICE_INTEGER_DIGITS = 8;
+    
+    private final ProductImportPort productImport;
+    private final ProductCatalogPort productCatalog;
+    private final ProductImportMapper productImportMapper;
+    
+    public ImportProductsUseCase(ProductImportPort productImport,
+                                 ProductCatalogPort productCatalog,
+                                 ProductImportMapper productImportMapper) {
+        this.productImport = productImport;
+        this.productCatalog = productCatalog;
+        this.productImportMapper = productImportMapper;
+    }
+    
+    /**
+     * Valida cada linha com as regras do {@link Product} à medida que é lida: nada do arquivo
+     * fica em memória. A gravação é um upsert por id em conjunto, no banco; depois do commit o
+     * catálogo em memória é relido uma vez e as versões (ETags) são invalidadas uma vez por carga.
+     * As versões vão todas de uma vez: cada produto alterado tem a sua, e removê-las uma a uma
+     * custaria um comando no cache por linha.
+     */
+    @CacheEvict(value = "versions", allEntries = true)
+    public ProductImportDto execute(Iterator<ProductImportRecord> records) {
+        Iterator<ProductImportLine> lines = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+            
+            @Override
+            public ProductImportLine next() {
+                return validate(records.next());
+            }
+        };
+        
+        String importId = UUID.randomUUID().toString();
+        ProductImportDto result = productImportMapper.toDto(productImport.load(importId, lines));
+        
+        if (result.getCreated() > 0 || result.getUpdated() > 0) {
+            productCatalog.reloadAll();
+        }
+        return result;
+    }
+    
+    static ProductImportLine validate(ProductImportRecord record) {
+        if (record.getError() != null) {
+            return ProductImportLine.rejected(record.getLineNumber(), record.getId(), record.getError());
+        }
+        try {
+            Product product = new Product(record.getId(), record.getName(), parsePrice(record.getPrice()));
+            if (product.getId().length() > MAX_ID_LENGTH) {
+                throw new IllegalArgumentException("ID excede " + MAX_ID_LENGTH + " caracteres");
+            }
+            if (product.getName().length() > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("Nome excede " + MAX_NAME_LENGTH + " caracteres");
+            }
+            return ProductImportLine.accepted(record.getLineNumber(), product);
+        } catch (IllegalArgumentException e) {
+            return ProductImportLine.rejected(record.getLineNumber(), record.getId(), e.getMessage());
+        }
+    }
+    
+    private static BigDecimal parsePrice(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        BigDecimal price;
+        try {
+            price = new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Preço inválido: " + value);
+        }
+        if (price.scale() > MAX_PRICE_SCALE) {
+            throw new IllegalArgumentException("Preço com mais de " + MAX_PRICE_SCALE + " casas decimais");
+        }
+        if (price.precision() - price.scale() > MAX_PRICE_INTEGER_DIGITS) {
+            throw new IllegalArgumentException("Preço excede o máximo de 99999999.99");
+        }
+        return price;
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderHistoryPage;
+import br.com.delivery.application.mapper.OrderViewMapper;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.port.CustomerRepositoryPort;
+import br.com.delivery.domain.port.OrderViewRepositoryPort;
+import br.com.delivery.domain.readmodel.OrderView;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class ListCustomerOrdersUseCase {
+    
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private final CustomerRepositoryPort customerRepository;
+    private final OrderViewRepositoryPort orderViewRepository;
+    private final OrderViewMapper orderViewMapper;
+    
+    public ListCustomerOrdersUseCase(CustomerRepositoryPort customerRepository,
+                                     OrderViewRepositoryPort orderViewRepository,
+                                     OrderViewMapper orderViewMapper) {
+        this.customerRepository = customerRepository;
+        this.orderViewRepository = orderViewRepository;
+        this.orderViewMapper = orderViewMapper;
+    }
+    
+    /**
+     * Histórico de pedidos do cliente, mais recentes primeiro. A página seguinte começa
+     * depois de (beforeCreatedAt, beforeOrderId), o último pedido da página anterior;
+     * ambos nulos retornam a primeira página. Vazio quando o cliente não existe.
+     */
+    public Optional<OrderHistoryPage> execute(String customerId, Order.OrderStatus status,
+                                              LocalDateTime beforeCreatedAt, String beforeOrderId, int size) {
+        if (customerId == null || customerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("ID do cliente é obrigatório");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        if ((beforeCreatedAt == null) != (beforeOrderId == null)) {
+            throw new IllegalArgumentException("Cursor de paginação incompleto");
+        }
+        
+        String id = customerId.trim();
+        if (!customerRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        
+        // Um registro a mais indica se existe página seguinte, sem COUNT
+        List<OrderView> rows = orderViewRepository.findCustomerPage(id, status, beforeCreatedAt, beforeOrderId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<OrderDto> orders = rows.stream()
+                .limit(size)
+                .map(orderViewMapper::toDto)
+                .collect(Collectors.toList());
+        
+        return Optional.of(new OrderHistoryPage(orders, hasNext));
+    }
+}
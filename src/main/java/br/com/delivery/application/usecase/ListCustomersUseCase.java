@@ -1,5 +1,6 @@
 package br.com.delivery.application.usecase;
 
+import br.com.delivery.application.diagnostics.DiagnosticTrace;
 import br.com.delivery.application.dto.CustomerDto;
 import br.com.delivery.application.mapper.CustomerMapper;
 import br.com.delivery.domain.entity.Customer;
@@ -27,22 +28,22 @@ public class ListCustomersUseCase {
     @Cacheable(value = "customers")
     public List<CustomerDto> execute() {
         try {
-            logger.info("Iniciando busca de clientes");
             List<Customer> customers = customerRepository.findAll();
-            logger.info("Encontrados {} clientes no repositório", customers.size());
+            // Detalhe por cliente só no trace de diagnóstico: no log, uma linha por listagem
+            DiagnosticTrace trace = DiagnosticTrace.current();
             
             List<CustomerDto> customerDtos = customers.stream()
                     .map(customer -> {
                         CustomerDto dto = customerMapper.toDto(customer);
-                        logger.info("Mapeando Customer para DTO: id={}, name={}, email={}, document={}", 
-                            customer.getId(), customer.getName(), customer.getEmail(), customer.getDocument());
-                        logger.info("DTO resultante: id={}, name={}, email={}, document={}", 
-                            dto.getId(), dto.getName(), dto.getEmail(), dto.getDocument());
+                        if (trace != null) {
+                            trace.record("Customer mapeado para DTO: id={}, name={}, email={}, document={}",
+                                dto.getId(), dto.getName(), dto.getEmail(), dto.getDocument());
+                        }
                         return dto;
                     })
                     .collect(Collectors.toList());
             
-            logger.info("Retornando {} CustomerDtos", customerDtos.size());
+            logger.debug("Retornando {} clientes", customerDtos.size());
             return customerDtos;
         } catch (Exception e) {
             logger.error("Erro ao listar clientes", e);
@@ -1,9 +1,10 @@
 package br.com.delivery.application.usecase;
 
 import br.com.delivery.application.dto.OrderDto;
-import br.com.delivery.application.mapper.OrderMapper;
+import br.com.delivery.application.mapper.OrderViewMapper;
 import br.com.delivery.domain.entity.Order;
-import br.com.delivery.domain.port.OrderRepositoryPort;
+import br.com.delivery.domain.port.OrderViewRepositoryPort;
+import br.com.delivery.domain.readmodel.OrderView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
@@ -16,12 +17,12 @@ import java.util.stream.Collectors;
 public class ListOrdersUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(ListOrdersUseCase.class);
-    private final OrderRepositoryPort orderRepository;
-    private final OrderMapper orderMapper;
+    private final OrderViewRepositoryPort orderViewRepository;
+    private final OrderViewMapper orderViewMapper;
     
-    public ListOrdersUseCase(OrderRepositoryPort orderRepository, OrderMapper orderMapper) {
-        this.orderRepository = orderRepository;
-        this.orderMapper = orderMapper;
+    public ListOrdersUseCase(OrderViewRepositoryPort orderViewRepository, OrderViewMapper orderViewMapper) {
+        this.orderViewRepository = orderViewRepository;
+        this.orderViewMapper = orderViewMapper;
     }
     
     @Cacheable(value = "orders", key = "#status != null ? #status.name() : 'ALL'")
@@ -29,24 +30,10 @@ public class ListOrdersUseCase {
         try {
             logger.debug("Executando ListOrdersUseCase - status: {}", status);
             
-            List<Order> orders;
+            List<OrderView> orders = orderViewRepository.findAll(status);
+            logger.debug("Encontrados {} pedidos na projeção de leitura", orders.size());
             
-            if (status != null) {
-                logger.debug("Buscando pedidos por status: {}", status);
-                orders = orderRepository.findByStatus(status);
-            } else {
-                logger.debug("Buscando todos os pedidos");
-                orders = orderRepository.findAll();
-            }
-            
-            logger.debug("Encontrados {} pedidos no domínio", orders.size());
-            
-            List<OrderDto> dtos = orders.stream()
-                    .map(orderMapper::toDto)
-                    .collect(Collectors.toList());
-            
-            logger.debug("Convertidos {} pedidos para DTOs", dtos.size());
-            return dtos;
+            return toDtos(orders);
             
         } catch (Exception e) {
             logger.error("Erro no ListOrdersUseCase - status: {}", status, e);
@@ -58,4 +45,27 @@ public class ListOrdersUseCase {
     public List<OrderDto> execute() {
         return execute(null);
     }
+    
+    @Cacheable(value = "orders", key = "(#status != null ? #status.name() : 'ALL') + ':' + #page + ':' + #size")
+    public List<OrderDto> execute(Order.OrderStatus status, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Número da página não pode ser negativo");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Tamanho da página deve ser pelo menos 1");
+        }
+        
+        logger.debug("Executando ListOrdersUseCase - status: {}, page: {}, size: {}", status, page, size);
+        return toDtos(orderViewRepository.findPage(status, page, size));
+    }
+    
+    public long count(Order.OrderStatus status) {
+        return orderViewRepository.count(status);
+    }
+    
+    private List<OrderDto> toDtos(List<OrderView> orders) {
+        return orders.stream()
+                .map(orderViewMapper::toDto)
+                .collect(Collectors.toList());
+    }
 }
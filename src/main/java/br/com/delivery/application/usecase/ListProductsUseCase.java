@@ -3,8 +3,7 @@ package br.com.delivery.application.usecase;
 import br.com.delivery.application.dto.ProductDto;
 import br.com.delivery.application.mapper.ProductMapper;
 import br.com.delivery.domain.entity.Product;
-import br.com.delivery.domain.port.ProductRepositoryPort;
-import org.springframework.cache.annotation.Cacheable;
+import br.com.delivery.domain.port.ProductCatalogPort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,17 +12,17 @@ import java.util.stream.Collectors;
 @Service
 public class ListProductsUseCase {
     
-    private final ProductRepositoryPort productRepository;
+    private final ProductCatalogPort productCatalog;
     private final ProductMapper productMapper;
     
-    public ListProductsUseCase(ProductRepositoryPort productRepository, ProductMapper productMapper) {
-        this.productRepository = productRepository;
+    public ListProductsUseCase(ProductCatalogPort productCatalog, ProductMapper productMapper) {
+        this.productCatalog = productCatalog;
         this.productMapper = productMapper;
     }
     
-    @Cacheable(value = "products")
+    // Catálogo em memória: sem Redis nem banco na leitura
     public List<ProductDto> execute() {
-        List<Product> products = productRepository.findAll();
+        List<Product> products = productCatalog.findAll();
         return products.stream()
                 .map(productMapper::toDto)
                 .collect(Collectors.toList());
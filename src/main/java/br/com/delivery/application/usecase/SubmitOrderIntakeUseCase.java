@@ -0,0 +1,37 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.CreateOrderRequest;
+import br.com.delivery.application.dto.OrderIntakeDto;
+import br.com.delivery.application.mapper.OrderIntakeMapper;
+import br.com.delivery.domain.port.OrderIntakePort;
+import br.com.delivery.domain.valueobject.OrderIntakeItem;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class SubmitOrderIntakeUseCase {
+    
+    private final OrderIntakePort orderIntake;
+    private final OrderIntakeMapper orderIntakeMapper;
+    
+    public SubmitOrderIntakeUseCase(OrderIntakePort orderIntake, OrderIntakeMapper orderIntakeMapper) {
+        this.orderIntake = orderIntake;
+        this.orderIntakeMapper = orderIntakeMapper;
+    }
+    
+    /**
+     * Enfileira o pedido sem consultar cliente nem produtos: a validação contra o cadastro
+     * e os preços ficam para o worker, que usa o CreateOrderUseCase.
+     */
+    public OrderIntakeDto execute(CreateOrderRequest request) {
+        List<OrderIntakeItem> items = request.getItems().stream()
+                .map(item -> new OrderIntakeItem(item.getProductId().trim(), item.getQuantity()))
+                .collect(Collectors.toList());
+        
+        String ticket = UUID.randomUUID().toString();
+        return orderIntakeMapper.toDto(orderIntake.append(ticket, request.getCustomerId().trim(), items));
+    }
+}
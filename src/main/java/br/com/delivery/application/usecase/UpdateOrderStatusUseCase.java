@@ -26,7 +26,11 @@ public class UpdateOrderStatusUseCase {
     @Transactional
     @Caching(evict = {
         @CacheEvict(value = "orders", allEntries = true),
-        @CacheEvict(value = "order", key = "#orderId")
+        @CacheEvict(value = "order", key = "#orderId"),
+        @CacheEvict(value = "versions", key = "'orders'"),
+        @CacheEvict(value = "versions", key = "'order:' + #orderId"),
+        // #result é o OrderDto já desembrulhado do Optional; vazio quando o pedido não existe
+        @CacheEvict(value = "versions", key = "'customer-orders:' + #result.customerId", condition = "#result != null")
     })
     public Optional<OrderDto> execute(String orderId, UpdateOrderStatusRequest request) {
         if (orderId == null || orderId.trim().isEmpty()) {
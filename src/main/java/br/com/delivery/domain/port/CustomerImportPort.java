@@ -0,0 +1,16 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.readmodel.CustomerImportReject;
+import br.com.delivery.domain.readmodel.CustomerImportSummary;
+import br.com.delivery.domain.valueobject.CustomerImportLine;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface CustomerImportPort {
+    // Consome as linhas sem acumulá-las; duplicados (no arquivo ou no cadastro) viram rejeições
+    CustomerImportSummary load(String importId, Iterator<CustomerImportLine> lines, Consumer<Customer> imported);
+    Optional<CustomerImportSummary> findById(String importId);
+    void forEachReject(String importId, Consumer<CustomerImportReject> action);
+}
@@ -0,0 +1,11 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.entity.Customer;
+
+// Filtro aproximado: false = nunca visto neste nó (a consulta ou a constraint decide); true = provável
+public interface CustomerMembershipPort {
+    boolean mayContainId(String id);
+    boolean mayContainEmail(String email);
+    boolean mayContainDocument(String document);
+    void add(Customer customer);
+}
@@ -0,0 +1,12 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import br.com.delivery.domain.valueobject.OrderIntakeItem;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderIntakePort {
+    // Retorna só depois que a gravação na fila foi confirmada no banco
+    OrderIntakeTicket append(String ticket, String customerId, List<OrderIntakeItem> items);
+    Optional<OrderIntakeTicket> findByTicket(String ticket);
+}
@@ -6,6 +6,8 @@ import java.util.Optional;
 
 public interface OrderRepositoryPort {
     Order save(Order order);
+    // Pedido novo: pode ser gravado junto com outros em um único commit
+    Order create(Order order);
     Optional<Order> findById(String id);
     List<Order> findAll();
     void deleteById(String id);
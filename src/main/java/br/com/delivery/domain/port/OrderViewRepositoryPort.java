@@ -0,0 +1,14 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.readmodel.OrderView;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderViewRepositoryPort {
+    List<OrderView> findAll(Order.OrderStatus status);
+    List<OrderView> findPage(Order.OrderStatus status, int page, int size);
+    long count(Order.OrderStatus status);
+    List<OrderView> findCustomerPage(String customerId, Order.OrderStatus status,
+                                     LocalDateTime beforeCreatedAt, String beforeOrderId, int limit);
+}
@@ -0,0 +1,14 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.entity.Product;
+import java.util.List;
+import java.util.Optional;
+
+// Leitura de produtos em memória; put publica um produto gravado (aplicado após o commit)
+public interface ProductCatalogPort {
+    Optional<Product> findById(String id);
+    List<Product> findAll();
+    void put(Product product);
+    // Relê o catálogo inteiro do banco em todos os nós, depois de uma carga em massa já confirmada
+    void reloadAll();
+}
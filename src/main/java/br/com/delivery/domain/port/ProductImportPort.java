@@ -0,0 +1,16 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.readmodel.ProductImportOutcome;
+import br.com.delivery.domain.readmodel.ProductImportRow;
+import br.com.delivery.domain.readmodel.ProductImportSummary;
+import br.com.delivery.domain.valueobject.ProductImportLine;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface ProductImportPort {
+    // Consome as linhas sem acumulá-las; cria ou atualiza por id e registra o resultado de cada linha
+    ProductImportSummary load(String importId, Iterator<ProductImportLine> lines);
+    Optional<ProductImportSummary> findById(String importId);
+    void forEachRow(String importId, ProductImportOutcome outcome, Consumer<ProductImportRow> action);
+}
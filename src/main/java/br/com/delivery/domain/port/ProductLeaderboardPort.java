@@ -0,0 +1,11 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.readmodel.LeaderboardWindow;
+import br.com.delivery.domain.readmodel.ProductRanking;
+import br.com.delivery.domain.valueobject.OrderItem;
+import java.util.List;
+
+public interface ProductLeaderboardPort {
+    void record(List<OrderItem> items);
+    List<ProductRanking> top(LeaderboardWindow window, int limit);
+}
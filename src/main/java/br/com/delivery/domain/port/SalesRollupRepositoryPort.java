@@ -0,0 +1,10 @@
+package br.com.delivery.domain.port;
+
+import br.com.delivery.domain.readmodel.SalesGrouping;
+import br.com.delivery.domain.readmodel.SalesTotal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesRollupRepositoryPort {
+    List<SalesTotal> findTotals(SalesGrouping grouping, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,25 @@
+package br.com.delivery.domain.readmodel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Linha rejeitada em uma importação de clientes, com os campos como foram recebidos.
+ */
+@Getter
+@ToString
+public class CustomerImportReject {
+    private final int lineNumber;
+    private final String name;
+    private final String email;
+    private final String document;
+    private final String reason;
+
+    public CustomerImportReject(int lineNumber, String name, String email, String document, String reason) {
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.email = email;
+        this.document = document;
+        this.reason = reason;
+    }
+}
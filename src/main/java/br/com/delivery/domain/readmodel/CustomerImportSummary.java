@@ -0,0 +1,27 @@
+package br.com.delivery.domain.readmodel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de uma importação em massa de clientes.
+ */
+@Getter
+@ToString
+public class CustomerImportSummary {
+    private final String importId;
+    private final int received;
+    private final int imported;
+    private final int rejected;
+    private final LocalDateTime createdAt;
+
+    public CustomerImportSummary(String importId, int received, int imported, int rejected, LocalDateTime createdAt) {
+        this.importId = importId;
+        this.received = received;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.createdAt = createdAt;
+    }
+}
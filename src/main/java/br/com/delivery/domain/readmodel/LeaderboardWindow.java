@@ -0,0 +1,20 @@
+package br.com.delivery.domain.readmodel;
+
+/**
+ * Janelas do ranking de produtos mais vendidos.
+ */
+public enum LeaderboardWindow {
+    LAST_HOUR,
+    TODAY;
+
+    public static LeaderboardWindow from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return LAST_HOUR;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "hour", "last_hour" -> LAST_HOUR;
+            case "today", "day" -> TODAY;
+            default -> throw new IllegalArgumentException("Janela inválida: " + value + " (use hour ou today)");
+        };
+    }
+}
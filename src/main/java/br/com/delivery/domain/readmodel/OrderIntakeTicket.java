@@ -0,0 +1,38 @@
+package br.com.delivery.domain.readmodel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Andamento de um pedido recebido de forma assíncrona.
+ */
+@Getter
+@ToString
+public class OrderIntakeTicket {
+
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String ticket;
+    private final Status status;
+    private final String orderId;
+    private final String error;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public OrderIntakeTicket(String ticket, Status status, String orderId, String error,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.ticket = ticket;
+        this.status = status;
+        this.orderId = orderId;
+        this.error = error;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.delivery.domain.readmodel;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.valueobject.OrderItem;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Projeção de leitura desnormalizada de um pedido (uma linha por pedido).
+ * Não aplica regras de negócio: é apenas o resultado já consolidado do modelo de escrita.
+ */
+@Getter
+@ToString
+public class OrderView {
+    private final String id;
+    private final String customerId;
+    private final Order.OrderStatus status;
+    private final BigDecimal total;
+    private final int itemCount;
+    private final List<OrderItem> items;
+    private final LocalDateTime createdAt;
+
+    public OrderView(String id, String customerId, Order.OrderStatus status, BigDecimal total,
+                     int itemCount, List<OrderItem> items, LocalDateTime createdAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.status = status;
+        this.total = total;
+        this.itemCount = itemCount;
+        this.items = items != null ? Collections.unmodifiableList(items) : Collections.emptyList();
+        this.createdAt = createdAt;
+    }
+}
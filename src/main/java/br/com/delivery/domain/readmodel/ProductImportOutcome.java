@@ -0,0 +1,25 @@
+package br.com.delivery.domain.readmodel;
+
+/**
+ * Resultado de cada linha de uma carga de produtos.
+ */
+public enum ProductImportOutcome {
+    CREATED,
+    UPDATED,
+    UNCHANGED,
+    REJECTED;
+
+    // Filtro opcional do relatório: vazio é todas as linhas
+    public static ProductImportOutcome fromFilter(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        for (ProductImportOutcome outcome : values()) {
+            if (outcome.name().equalsIgnoreCase(value.trim())) {
+                return outcome;
+            }
+        }
+        throw new IllegalArgumentException("Resultado inválido: " + value
+                + " (use created, updated, unchanged ou rejected)");
+    }
+}
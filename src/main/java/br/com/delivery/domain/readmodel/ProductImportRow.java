@@ -0,0 +1,23 @@
+package br.com.delivery.domain.readmodel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado de uma linha em uma carga de produtos; o motivo só existe nas rejeitadas.
+ */
+@Getter
+@ToString
+public class ProductImportRow {
+    private final int lineNumber;
+    private final String productId;
+    private final ProductImportOutcome outcome;
+    private final String reason;
+
+    public ProductImportRow(int lineNumber, String productId, ProductImportOutcome outcome, String reason) {
+        this.lineNumber = lineNumber;
+        this.productId = productId;
+        this.outcome = outcome;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.delivery.domain.readmodel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de uma carga em massa de produtos.
+ */
+@Getter
+@ToString
+public class ProductImportSummary {
+    private final String importId;
+    private final int received;
+    private final int created;
+    private final int updated;
+    private final int unchanged;
+    private final int rejected;
+    private final LocalDateTime createdAt;
+
+    public ProductImportSummary(String importId, int received, int created, int updated, int unchanged,
+                                int rejected, LocalDateTime createdAt) {
+        this.importId = importId;
+        this.received = received;
+        this.created = created;
+        this.updated = updated;
+        this.unchanged = unchanged;
+        this.rejected = rejected;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.delivery.domain.readmodel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Posição de um produto no ranking de mais vendidos. A quantidade é uma estimativa por cima:
+ * a quantidade real fica entre quantity - error e quantity.
+ */
+@Getter
+@ToString
+public class ProductRanking {
+    private final String productId;
+    private final long quantity;
+    private final long error;
+
+    public ProductRanking(String productId, long quantity, long error) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.error = error;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.delivery.domain.readmodel;
+
+/**
+ * Agrupamentos disponíveis para os totais de vendas consolidados.
+ */
+public enum SalesGrouping {
+    DAY,
+    STATUS,
+    PRODUCT;
+
+    public static SalesGrouping from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return DAY;
+        }
+        for (SalesGrouping grouping : values()) {
+            if (grouping.name().equalsIgnoreCase(value.trim())) {
+                return grouping;
+            }
+        }
+        throw new IllegalArgumentException("Agrupamento inválido: " + value + " (use day, status ou product)");
+    }
+}
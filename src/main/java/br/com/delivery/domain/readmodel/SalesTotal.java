@@ -0,0 +1,26 @@
+package br.com.delivery.domain.readmodel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * Total de vendas de um grupo (dia, status ou produto) no período consultado, lido das
+ * tabelas de consolidação. Unidades só existem no agrupamento por produto.
+ */
+@Getter
+@ToString
+public class SalesTotal {
+    private final String group;
+    private final long orderCount;
+    private final Long units;
+    private final BigDecimal revenue;
+
+    public SalesTotal(String group, long orderCount, Long units, BigDecimal revenue) {
+        this.group = group;
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenue = revenue;
+    }
+}
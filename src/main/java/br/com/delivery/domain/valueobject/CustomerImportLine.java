@@ -0,0 +1,44 @@
+package br.com.delivery.domain.valueobject;
+
+import br.com.delivery.domain.entity.Customer;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Linha de uma importação de clientes: o cliente já validado ou os campos como recebidos e o
+ * motivo da rejeição.
+ */
+@Getter
+@ToString
+public class CustomerImportLine {
+    private final int lineNumber;
+    private final Customer customer;
+    private final String name;
+    private final String email;
+    private final String document;
+    private final String reason;
+
+    private CustomerImportLine(int lineNumber, Customer customer, String name, String email, String document,
+                               String reason) {
+        this.lineNumber = lineNumber;
+        this.customer = customer;
+        this.name = name;
+        this.email = email;
+        this.document = document;
+        this.reason = reason;
+    }
+
+    public static CustomerImportLine accepted(int lineNumber, Customer customer) {
+        return new CustomerImportLine(lineNumber, customer, customer.getName(), customer.getEmail(),
+                customer.getDocument(), null);
+    }
+
+    public static CustomerImportLine rejected(int lineNumber, String name, String email, String document,
+                                              String reason) {
+        return new CustomerImportLine(lineNumber, null, name, email, document, reason);
+    }
+
+    public boolean isAccepted() {
+        return customer != null;
+    }
+}
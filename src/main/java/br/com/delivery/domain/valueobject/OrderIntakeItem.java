@@ -0,0 +1,22 @@
+package br.com.delivery.domain.valueobject;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Item de um pedido recebido de forma assíncrona, ainda sem preço: o preço é o do produto
+ * no momento em que o pedido é efetivamente criado.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class OrderIntakeItem {
+    private final String productId;
+    private final int quantity;
+
+    public OrderIntakeItem(String productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
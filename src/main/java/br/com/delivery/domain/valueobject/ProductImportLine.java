@@ -0,0 +1,37 @@
+package br.com.delivery.domain.valueobject;
+
+import br.com.delivery.domain.entity.Product;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Linha de uma carga de produtos: o produto já validado ou o id como recebido e o motivo da
+ * rejeição.
+ */
+@Getter
+@ToString
+public class ProductImportLine {
+    private final int lineNumber;
+    private final Product product;
+    private final String productId;
+    private final String reason;
+
+    private ProductImportLine(int lineNumber, Product product, String productId, String reason) {
+        this.lineNumber = lineNumber;
+        this.product = product;
+        this.productId = productId;
+        this.reason = reason;
+    }
+
+    public static ProductImportLine accepted(int lineNumber, Product product) {
+        return new ProductImportLine(lineNumber, product, product.getId(), null);
+    }
+
+    public static ProductImportLine rejected(int lineNumber, String productId, String reason) {
+        return new ProductImportLine(lineNumber, null, productId, reason);
+    }
+
+    public boolean isAccepted() {
+        return product != null;
+    }
+}
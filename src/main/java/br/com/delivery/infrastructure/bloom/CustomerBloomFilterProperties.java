@@ -0,0 +1,42 @@
+package br.com.delivery.infrastructure.bloom;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "delivery.customers.bloom-filter")
+public class CustomerBloomFilterProperties {
+
+    // Mínimo de clientes por filtro; a reconstrução usa o dobro do total no banco, se maior
+    private long expectedInsertions = 1_000_000;
+
+    // Com 1%, cada filtro ocupa ~1,2 MB por milhão de clientes
+    private double falsePositiveRate = 0.01;
+
+    // Reconstrução a partir do banco: acompanha o crescimento e as exclusões
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    public void setRebuildInterval(Duration rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.delivery.infrastructure.bloom;
+
+import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.port.CustomerMembershipPort;
+import br.com.delivery.infrastructure.persistence.repository.CustomerJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Filtros de Bloom sobre ids, emails e documentos de clientes. Um "não" é definitivo para o
+ * que este nó conhece e dispensa a consulta ao banco; um "talvez" mantém a consulta (ou deixa
+ * a constraint decidir).
+ *
+ * Clientes criados por outros nós só entram na próxima reconstrução; até lá, o "não" deste nó
+ * leva à consulta (verificação de existência) ou à constraint única (duplicidade), então nunca
+ * produz resultado errado. Antes da primeira carga, toda pergunta responde "talvez".
+ */
+public class CustomerBloomFilters implements CustomerMembershipPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerBloomFilters.class);
+
+    private final CustomerJpaRepository customerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CustomerBloomFilterProperties properties;
+    private final Object writeLock = new Object();
+
+    private volatile Filters filters;
+    // Clientes adicionados durante uma reconstrução, reaplicados nos filtros novos
+    private List<Customer> addedDuringRebuild;
+
+    public CustomerBloomFilters(CustomerJpaRepository customerRepository,
+                                PlatformTransactionManager transactionManager,
+                                CustomerBloomFilterProperties properties) {
+        this.customerRepository = customerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean mayContainId(String id) {
+        Filters current = filters;
+        return current == null || current.ids.mightContain(id);
+    }
+
+    @Override
+    public boolean mayContainEmail(String email) {
+        Filters current = filters;
+        return current == null || current.emails.mightContain(email);
+    }
+
+    @Override
+    public boolean mayContainDocument(String document) {
+        Filters current = filters;
+        return current == null || current.documents.mightContain(document);
+    }
+
+    /**
+     * Entra na hora, sem esperar o commit: se a transação for revertida, sobra só um falso
+     * positivo, que custa uma consulta.
+     */
+    @Override
+    public void add(Customer customer) {
+        synchronized (writeLock) {
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(customer);
+            }
+        }
+        Filters current = filters;
+        if (current != null) {
+            current.put(customer.getId(), customer.getEmail(), customer.getDocument());
+        }
+    }
+
+    public boolean isLoaded() {
+        return filters != null;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.customers.bloom-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${delivery.customers.bloom-filter.rebuild-interval:PT6H}")
+    public void rebuild() {
+        try {
+            long start = System.nanoTime();
+            int loaded = reload();
+            Filters current = filters;
+            logger.info("Filtros de Bloom de clientes carregados: {} cliente(s), {} KB por filtro, {} hash(es), em {} ms",
+                    loaded, current.ids.bitSize() / 8 / 1024, current.ids.hashCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Continua com os filtros anteriores (ou respondendo "talvez", antes da primeira carga)
+            logger.warn("Falha ao carregar os filtros de Bloom de clientes: {}", e.getMessage());
+        }
+    }
+
+    private synchronized int reload() {
+        synchronized (writeLock) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            // Transação de escrita: a leitura vai ao primário, sem atraso de réplica
+            Filters next = transactionTemplate.execute(status -> {
+                long capacity = Math.max(properties.getExpectedInsertions(), 2 * customerRepository.count());
+                Filters built = new Filters(capacity, properties.getFalsePositiveRate());
+                try (Stream<Object[]> keys = customerRepository.streamKeys()) {
+                    keys.forEach(key -> built.load((String) key[0], (String) key[1], (String) key[2]));
+                }
+                return built;
+            });
+            synchronized (writeLock) {
+                addedDuringRebuild.forEach(customer ->
+                        next.put(customer.getId(), customer.getEmail(), customer.getDocument()));
+                filters = next;
+            }
+            return next.loaded;
+        } finally {
+            synchronized (writeLock) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+
+    private static class Filters {
+        private final BloomFilter ids;
+        private final BloomFilter emails;
+        private final BloomFilter documents;
+        // Clientes lidos na reconstrução (só a thread que reconstrói escreve)
+        private int loaded;
+
+        Filters(long capacity, double falsePositiveRate) {
+            this.ids = new BloomFilter(capacity, falsePositiveRate);
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+            this.documents = new BloomFilter(capacity, falsePositiveRate);
+        }
+
+        void put(String id, String email, String document) {
+            ids.put(id);
+            emails.put(email);
+            documents.put(document);
+        }
+
+        void load(String id, String email, String document) {
+            put(id, email, document);
+            loaded++;
+        }
+    }
+}
@@ -2,8 +2,7 @@ package br.com.delivery.infrastructure.cache;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
@@ -18,7 +17,6 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -28,7 +26,8 @@ import java.util.Map;
 
 @Configuration
 @EnableCaching
-@ConditionalOnProperty(prefix = "spring.data.redis", name = "host")
+// Só com cache no Redis: com spring.cache.type=simple (testes, perfil h2) vale o SimpleCacheConfig
+@ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
 public class RedisConfig {
 
     @Value("${spring.data.redis.host}")
@@ -46,28 +45,34 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(connectionFactory);
-
-        // Configurar serializadores
-        StringRedisSerializer stringSerializer = new StringRedisSerializer();
-        
-        // Configurar ObjectMapper para tipos seguros
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.activateDefaultTyping(
-            LaissezFaireSubTypeValidator.instance,
+    public GenericJackson2JsonRedisSerializer redisValueSerializer(ObjectMapper objectMapper) {
+        // Cópia do ObjectMapper da aplicação (mesmos módulos) com tipagem para reconstruir os DTOs
+        ObjectMapper cacheObjectMapper = objectMapper.copy();
+        cacheObjectMapper.activateDefaultTyping(
+            BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("br.com.delivery.")
+                .allowIfSubType("java.util.")
+                .allowIfSubType("java.math.")
+                .allowIfSubType("java.time.")
+                .build(),
             ObjectMapper.DefaultTyping.NON_FINAL,
             JsonTypeInfo.As.PROPERTY
         );
-        Jackson2JsonRedisSerializer<Object> jsonSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+        return new GenericJackson2JsonRedisSerializer(cacheObjectMapper);
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       GenericJackson2JsonRedisSerializer redisValueSerializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
 
         // Configurar serializadores
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+        template.setValueSerializer(redisValueSerializer);
+        template.setHashValueSerializer(redisValueSerializer);
 
         template.afterPropertiesSet();
         return template;
@@ -75,11 +80,8 @@ public class RedisConfig {
 
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // Configurar ObjectMapper para cache com suporte a LocalDateTime
-        ObjectMapper cacheObjectMapper = new ObjectMapper();
-        cacheObjectMapper.registerModule(new JavaTimeModule());
-        
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     GenericJackson2JsonRedisSerializer redisValueSerializer) {
         // Configuração padrão
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(10))
@@ -87,7 +89,7 @@ public class RedisConfig {
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
             )
             .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(cacheObjectMapper))
+                RedisSerializationContext.SerializationPair.fromSerializer(redisValueSerializer)
             );
 
         // Configurações específicas por cache
@@ -99,21 +101,25 @@ public class RedisConfig {
         // Cache de lista de clientes: 5 minutos
         cacheConfigurations.put("customers", defaultConfig.entryTtl(Duration.ofMinutes(5)));
         
-        // Cache de produto individual: 10 minutos
-        cacheConfigurations.put("product", defaultConfig);
-        
-        // Cache de lista de produtos: 5 minutos
-        cacheConfigurations.put("products", defaultConfig.entryTtl(Duration.ofMinutes(5)));
-        
         // Cache de pedido individual: 10 minutos
         cacheConfigurations.put("order", defaultConfig);
         
         // Cache de lista de pedidos: 5 minutos
         cacheConfigurations.put("orders", defaultConfig.entryTtl(Duration.ofMinutes(5)));
 
+        // Versões usadas como ETag: 30 minutos (removidas a cada escrita)
+        cacheConfigurations.put("versions", defaultConfig.entryTtl(Duration.ofMinutes(30)));
+
+        // Corpos de resposta já serializados: bytes gravados sem passar pelo Jackson, 10 minutos
+        cacheConfigurations.put("responses", defaultConfig
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.byteArray()));
+
+        // Remoções e gravações feitas numa transação só valem depois do commit: do contrário um GET
+        // concorrente gera uma versão nova e guarda sob ela o corpo anterior à escrita
         return RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(defaultConfig)
             .withInitialCacheConfigurations(cacheConfigurations)
+            .transactionAware()
             .build();
     }
 }
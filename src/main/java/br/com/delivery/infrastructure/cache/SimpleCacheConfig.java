@@ -4,6 +4,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,12 +13,13 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "simple")
 public class SimpleCacheConfig {
 
+    // Como no Redis: remoções e gravações feitas numa transação só valem depois do commit
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
+        return new TransactionAwareCacheManagerProxy(new ConcurrentMapCacheManager(
                 "customers", "customer",
-                "products", "product", 
-                "orders", "order"
-        );
+                "orders", "order",
+                "versions", "responses"
+        ));
     }
 }
@@ -0,0 +1,166 @@
+package br.com.delivery.infrastructure.catalog;
+
+import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.port.ProductCatalogPort;
+import br.com.delivery.domain.port.ProductRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Catálogo de produtos em memória, copy-on-write: cada escrita monta um novo
+ * {@link ProductCatalogSnapshot} e o publica em um campo volatile. Leituras não travam nem
+ * alocam; escritas (raras) copiam o índice e são serializadas entre si.
+ *
+ * Carregado do banco no start e recarregado periodicamente. Produtos gravados neste nó entram
+ * após o commit e são enviados aos outros nós pelo {@link ProductCatalogPublisher}. Um id fora
+ * do catálogo ainda é procurado no repositório: cobre a primeira carga, a notificação de outro
+ * nó ainda em trânsito e o produto gravado na própria transação do chamador, ainda sem commit.
+ */
+public class InMemoryProductCatalog implements ProductCatalogPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryProductCatalog.class);
+
+    private final ProductRepositoryPort productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCatalogPublisher publisher;
+    private final Object writeLock = new Object();
+
+    private volatile ProductCatalogSnapshot snapshot;
+    // Escritas aplicadas durante uma recarga, reaplicadas sobre o que foi lido do banco
+    private List<Product> changedDuringReload;
+
+    public InMemoryProductCatalog(ProductRepositoryPort productRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ProductCatalogPublisher publisher) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        ProductCatalogSnapshot current = snapshot;
+        Optional<Product> product = current != null ? current.find(id) : Optional.empty();
+        return product.isPresent() ? product : productRepository.findById(id);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        ProductCatalogSnapshot current = snapshot;
+        return current != null ? current.products() : productRepository.findAll();
+    }
+
+    /**
+     * Aplica e notifica os outros nós só depois do commit: um produto revertido não aparece.
+     */
+    @Override
+    public void put(Product product) {
+        List<Product> changed = List.of(product);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAndPublish(changed);
+                }
+            });
+        } else {
+            applyAndPublish(changed);
+        }
+    }
+
+    /**
+     * Para cargas em massa: uma releitura custa menos que aplicar milhares de produtos, cada
+     * aplicação copiando o índice. Chamado depois do commit da carga.
+     */
+    @Override
+    public void reloadAll() {
+        refresh();
+        try {
+            publisher.publishReload();
+        } catch (RuntimeException e) {
+            // Os outros nós recebem os produtos na próxima recarga
+            logger.warn("Falha ao notificar recarga do catálogo de produtos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Aplica produtos já gravados no banco: deste nó (após o commit) ou recebidos de outro nó.
+     */
+    public void apply(List<Product> products) {
+        synchronized (writeLock) {
+            if (changedDuringReload != null) {
+                changedDuringReload.addAll(products);
+            }
+            // Antes da primeira carga não há o que atualizar: a carga lê o banco
+            if (snapshot != null) {
+                snapshot = snapshot.with(products);
+            }
+        }
+    }
+
+    public int size() {
+        ProductCatalogSnapshot current = snapshot;
+        return current != null ? current.size() : 0;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.catalog.refresh-interval:PT5M}",
+            initialDelayString = "${delivery.catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            long start = System.nanoTime();
+            reload();
+            logger.info("Catálogo de produtos carregado: {} produto(s) em {} ms",
+                    size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Continua servindo a versão anterior (ou o repositório, antes da primeira carga)
+            logger.warn("Falha ao carregar o catálogo de produtos: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void reload() {
+        synchronized (writeLock) {
+            changedDuringReload = new ArrayList<>();
+        }
+        try {
+            // Transação de escrita: a leitura vai ao primário, sem atraso de réplica
+            List<Product> loaded = transactionTemplate.execute(status -> productRepository.findAll());
+            synchronized (writeLock) {
+                ProductCatalogSnapshot next = ProductCatalogSnapshot.of(loaded);
+                if (!changedDuringReload.isEmpty()) {
+                    next = next.with(changedDuringReload);
+                }
+                snapshot = next;
+            }
+        } finally {
+            synchronized (writeLock) {
+                changedDuringReload = null;
+            }
+        }
+    }
+
+    private void applyAndPublish(List<Product> products) {
+        apply(products);
+        try {
+            publisher.publish(products);
+        } catch (RuntimeException e) {
+            // Os outros nós recebem o produto na próxima recarga
+            logger.warn("Falha ao notificar alteração no catálogo de produtos: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.delivery.infrastructure.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "delivery.catalog")
+public class ProductCatalogProperties {
+
+    // Recarga completa do banco: cobre notificações perdidas (o pub/sub do Redis não guarda mensagens)
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    // Produtos gravados em um nó são enviados aos demais pelo Redis
+    private boolean notificationsEnabled = true;
+
+    private String channel = "delivery:catalog";
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public boolean isNotificationsEnabled() {
+        return notificationsEnabled;
+    }
+
+    public void setNotificationsEnabled(boolean notificationsEnabled) {
+        this.notificationsEnabled = notificationsEnabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+}
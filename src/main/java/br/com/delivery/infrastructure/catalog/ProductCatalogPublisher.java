@@ -0,0 +1,20 @@
+package br.com.delivery.infrastructure.catalog;
+
+import br.com.delivery.domain.entity.Product;
+
+import java.util.List;
+
+/**
+ * Envia aos outros nós os produtos gravados neste nó.
+ */
+@FunctionalInterface
+public interface ProductCatalogPublisher {
+
+    ProductCatalogPublisher NONE = products -> { };
+
+    void publish(List<Product> products);
+
+    // Pede aos outros nós que releiam o catálogo do banco (alterações grandes demais para a mensagem)
+    default void publishReload() {
+    }
+}
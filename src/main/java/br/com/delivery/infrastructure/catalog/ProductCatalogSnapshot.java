@@ -0,0 +1,71 @@
+package br.com.delivery.infrastructure.catalog;
+
+import br.com.delivery.domain.entity.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Versão imutável do catálogo. Os valores do índice já são Optional, então a busca por id não
+ * aloca nada; Map.copyOf usa endereçamento aberto em um único array, sem um nó por entrada.
+ */
+final class ProductCatalogSnapshot {
+
+    static final ProductCatalogSnapshot EMPTY = new ProductCatalogSnapshot(Map.of(), List.of());
+
+    private final Map<String, Optional<Product>> byId;
+    private final List<Product> products;
+
+    private ProductCatalogSnapshot(Map<String, Optional<Product>> byId, List<Product> products) {
+        this.byId = byId;
+        this.products = products;
+    }
+
+    static ProductCatalogSnapshot of(Collection<Product> products) {
+        return EMPTY.with(products);
+    }
+
+    Optional<Product> find(String id) {
+        return byId.getOrDefault(id, Optional.empty());
+    }
+
+    List<Product> products() {
+        return products;
+    }
+
+    int size() {
+        return products.size();
+    }
+
+    /**
+     * Cópia com os produtos incluídos ou substituídos; a listagem mantém a posição dos existentes
+     * e acrescenta os novos no fim. Os Optional das entradas inalteradas são reaproveitados.
+     */
+    ProductCatalogSnapshot with(Collection<Product> changed) {
+        Map<String, Product> updates = new LinkedHashMap<>();
+        for (Product product : changed) {
+            updates.put(product.getId(), product);
+        }
+
+        Map<String, Optional<Product>> index = new HashMap<>(byId.size() + updates.size(), 1.0f);
+        index.putAll(byId);
+        List<Product> list = new ArrayList<>(products.size() + updates.size());
+        for (Product product : products) {
+            Product updated = updates.remove(product.getId());
+            list.add(updated != null ? updated : product);
+            if (updated != null) {
+                index.put(updated.getId(), Optional.of(updated));
+            }
+        }
+        for (Product added : updates.values()) {
+            list.add(added);
+            index.put(added.getId(), Optional.of(added));
+        }
+        return new ProductCatalogSnapshot(Map.copyOf(index), List.copyOf(list));
+    }
+}
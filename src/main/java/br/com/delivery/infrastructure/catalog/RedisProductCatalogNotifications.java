@@ -0,0 +1,90 @@
+package br.com.delivery.infrastructure.catalog;
+
+import br.com.delivery.domain.entity.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Notificações de alteração do catálogo entre nós, por pub/sub do Redis. A mensagem leva os
+ * próprios produtos: quem recebe atualiza o catálogo sem consultar o banco (nem uma réplica
+ * atrasada), exceto após cargas em massa, quando só pede a releitura. Mensagens do próprio nó
+ * são ignoradas.
+ */
+public class RedisProductCatalogNotifications implements ProductCatalogPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisProductCatalogNotifications.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String origin = UUID.randomUUID().toString();
+
+    public RedisProductCatalogNotifications(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                            String channel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(List<Product> products) {
+        List<CatalogEntry> entries = products.stream()
+                .map(product -> new CatalogEntry(product.getId(), product.getName(), product.getPrice()))
+                .collect(Collectors.toList());
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(new CatalogChange(origin, entries, false)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar alteração do catálogo", e);
+        }
+    }
+
+    @Override
+    public void publishReload() {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(new CatalogChange(origin, List.of(), true)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar alteração do catálogo", e);
+        }
+    }
+
+    public MessageListener listener(InMemoryProductCatalog catalog) {
+        return (message, pattern) -> {
+            try {
+                CatalogChange change = objectMapper.readValue(message.getBody(), CatalogChange.class);
+                if (origin.equals(change.origin())) {
+                    return;
+                }
+                if (change.reload()) {
+                    catalog.refresh();
+                    return;
+                }
+                catalog.apply(change.products().stream()
+                        .map(entry -> new Product(entry.id(), entry.name(), entry.price()))
+                        .collect(Collectors.toList()));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Notificação do catálogo ignorada: {}", e.getMessage());
+            }
+        };
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // reload ausente (mensagem de versão anterior) é lido como false
+    record CatalogChange(String origin, List<CatalogEntry> products, boolean reload) {
+    }
+
+    record CatalogEntry(String id, String name, BigDecimal price) {
+    }
+}
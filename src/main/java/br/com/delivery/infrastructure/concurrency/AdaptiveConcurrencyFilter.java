@@ -0,0 +1,110 @@
+package br.com.delivery.infrastructure.concurrency;
+
+import br.com.delivery.infrastructure.web.dto.ProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Aplica o {@link AdaptiveConcurrencyLimiter} na cadeia de filtros, antes da autenticação:
+ * requisição rejeitada não chega a verificar o JWT nem a ocupar o DispatcherServlet. A
+ * prioridade vem das rotas configuradas em delivery.concurrency (critical e sheddable);
+ * as demais são NORMAL. Sem vaga, responde 503 com Retry-After.
+ */
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final List<Route> critical;
+    private final List<Route> sheddable;
+    private final String retryAfterSeconds;
+
+    public AdaptiveConcurrencyFilter(AdaptiveConcurrencyLimiter limiter, AdaptiveConcurrencyProperties properties,
+                                     ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.critical = properties.getCritical().stream().map(Route::parse).toList();
+        this.sheddable = properties.getSheddable().stream().map(Route::parse).toList();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestPriority priority = classify(request);
+        if (!limiter.tryAcquire(priority)) {
+            reject(request, response, priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Relatórios e cargas em massa demoram por natureza: ocupam vaga, mas não entram na amostra de latência
+            limiter.release(System.nanoTime() - start, priority != RequestPriority.SHEDDABLE);
+        }
+    }
+
+    RequestPriority classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = PATH_HELPER.getPathWithinApplication(request);
+        if (matches(critical, method, path)) {
+            return RequestPriority.CRITICAL;
+        }
+        if (matches(sheddable, method, path)) {
+            return RequestPriority.SHEDDABLE;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RequestPriority priority)
+            throws IOException {
+        ProblemDetail problem = new ProblemDetail(
+                "https://delivery-api.com/problems/service-unavailable",
+                "Service Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Servidor sobrecarregado: requisição de prioridade " + priority.name().toLowerCase()
+                        + " rejeitada, tente novamente",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private static boolean matches(List<Route> routes, String method, String path) {
+        for (Route route : routes) {
+            if (route.method().equalsIgnoreCase(method) && PATH_MATCHER.match(route.pattern(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Route(String method, String pattern) {
+
+        static Route parse(String route) {
+            String[] parts = route.trim().split("\\s+", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Rota inválida em delivery.concurrency (use \"MÉTODO /caminho\"): " + route);
+            }
+            return new Route(parts[0], parts[1]);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.delivery.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência observada (gradiente, como o
+ * Gradient2 do concurrency-limits da Netflix).
+ *
+ * A cada janela, a latência média recente é comparada com a de referência, uma média móvel
+ * lenta das janelas anteriores. Se a recente passa de rtt-tolerance vezes a de referência,
+ * o gradiente (referência / recente, entre 0,5 e 1) reduz o limite; caso contrário o limite
+ * cresce em raiz(limite), a fila tolerada. Assim, quando o banco fica lento, o limite cai
+ * antes de as threads do Tomcat se esgotarem, e volta a subir quando a latência se estabiliza.
+ * O limite só cresce se a janela chegou a usar metade dele: carga baixa não infla o limite.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AdaptiveConcurrencyProperties properties;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+    private final long windowNanos;
+
+    private volatile double limit;
+
+    // Estado da janela corrente, protegido por this
+    private long windowStart;
+    private long windowLatencySum;
+    private int windowSamples;
+    private int windowMaxInflight;
+    // Lidas sem lock pelos gauges
+    private volatile double baselineNanos;
+    private volatile double recentNanos;
+
+    public AdaptiveConcurrencyLimiter(AdaptiveConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(AdaptiveConcurrencyProperties properties, MeterRegistry meterRegistry,
+                               LongSupplier nanoTime) {
+        if (properties.getMinLimit() < 1 || properties.getMaxLimit() < properties.getMinLimit()) {
+            throw new IllegalArgumentException("delivery.concurrency: min-limit e max-limit inválidos");
+        }
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.limit = clamp(properties.getInitialLimit());
+        this.windowStart = nanoTime.getAsLong();
+
+        Gauge.builder("delivery.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Limite adaptativo de requisições simultâneas")
+                .register(meterRegistry);
+        Gauge.builder("delivery.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requisições em andamento sob o limite adaptativo")
+                .register(meterRegistry);
+        Gauge.builder("delivery.concurrency.latency", this, limiter -> limiter.recentNanos / 1e6)
+                .tag("window", "recent")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("delivery.concurrency.latency", this, limiter -> limiter.baselineNanos / 1e6)
+                .tag("window", "baseline")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("delivery.concurrency.priority.limit", this, limiter -> limiter.admissionLimit(priority))
+                    .tag("priority", tag)
+                    .description("Requisições em andamento até as quais a prioridade ainda entra")
+                    .register(meterRegistry);
+            shed.put(priority, Counter.builder("delivery.concurrency.shed")
+                    .tag("priority", tag)
+                    .description("Requisições rejeitadas com 503 pelo limite adaptativo")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Reserva uma vaga se as requisições em andamento estão abaixo da fração do limite da prioridade.
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = admissionLimit(priority);
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                shed.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga. A latência só entra na amostra quando sampled: requisições longas por
+     * natureza (relatórios, cargas em massa) distorceriam a comparação.
+     */
+    public void release(long latencyNanos, boolean sampled) {
+        int current = inflight.getAndDecrement();
+        if (sampled) {
+            onSample(latencyNanos, current);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    int admissionLimit(RequestPriority priority) {
+        double share = switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> properties.getNormalShare();
+            case SHEDDABLE -> properties.getSheddableShare();
+        };
+        return Math.max(1, (int) Math.ceil(limit * share));
+    }
+
+    private synchronized void onSample(long latencyNanos, int inflightAtRelease) {
+        windowLatencySum += latencyNanos;
+        windowSamples++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtRelease);
+
+        long now = nanoTime.getAsLong();
+        if (now - windowStart < windowNanos || windowSamples < properties.getMinWindowSamples()) {
+            return;
+        }
+
+        recentNanos = (double) windowLatencySum / windowSamples;
+        baselineNanos = baselineNanos == 0
+                ? recentNanos
+                : baselineNanos * (1 - properties.getBaselineSmoothing()) + recentNanos * properties.getBaselineSmoothing();
+        // Latência caiu bem abaixo da referência (ex.: fim de uma lentidão longa): a referência desce mais rápido
+        if (baselineNanos / recentNanos > 2) {
+            baselineNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (windowMaxInflight >= current / 2) {
+            double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * baselineNanos / recentNanos));
+            double target = current * gradient + Math.sqrt(current);
+            limit = clamp(current * (1 - properties.getLimitSmoothing()) + target * properties.getLimitSmoothing());
+        }
+
+        windowStart = now;
+        windowLatencySum = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), value));
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.delivery.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "delivery.concurrency")
+public class AdaptiveConcurrencyProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 40;
+
+    private int minLimit = 10;
+
+    // Abaixo das threads do Tomcat (200): sobra thread para o actuator e para responder 503
+    private int maxLimit = 180;
+
+    // Janela de amostras de latência entre dois ajustes do limite
+    private Duration window = Duration.ofMillis(500);
+
+    private int minWindowSamples = 10;
+
+    // Quanto a latência recente pode passar da de referência antes de o limite cair
+    private double rttTolerance = 1.5;
+
+    // Peso de cada janela na latência de referência (média móvel exponencial)
+    private double baselineSmoothing = 0.05;
+
+    // Peso do novo valor a cada ajuste do limite
+    private double limitSmoothing = 0.2;
+
+    // Fração do limite disponível para cada prioridade; CRITICAL usa o limite inteiro
+    private double normalShare = 0.9;
+
+    private double sheddableShare = 0.5;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // "MÉTODO padrão", com * e ** como no AntPathMatcher
+    private List<String> critical = new ArrayList<>();
+
+    private List<String> sheddable = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMinWindowSamples() {
+        return minWindowSamples;
+    }
+
+    public void setMinWindowSamples(int minWindowSamples) {
+        this.minWindowSamples = minWindowSamples;
+    }
+
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    public void setRttTolerance(double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+    }
+
+    public double getBaselineSmoothing() {
+        return baselineSmoothing;
+    }
+
+    public void setBaselineSmoothing(double baselineSmoothing) {
+        this.baselineSmoothing = baselineSmoothing;
+    }
+
+    public double getLimitSmoothing() {
+        return limitSmoothing;
+    }
+
+    public void setLimitSmoothing(double limitSmoothing) {
+        this.limitSmoothing = limitSmoothing;
+    }
+
+    public double getNormalShare() {
+        return normalShare;
+    }
+
+    public void setNormalShare(double normalShare) {
+        this.normalShare = normalShare;
+    }
+
+    public double getSheddableShare() {
+        return sheddableShare;
+    }
+
+    public void setSheddableShare(double sheddableShare) {
+        this.sheddableShare = sheddableShare;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public List<String> getCritical() {
+        return critical;
+    }
+
+    public void setCritical(List<String> critical) {
+        this.critical = critical;
+    }
+
+    public List<String> getSheddable() {
+        return sheddable;
+    }
+
+    public void setSheddable(List<String> sheddable) {
+        this.sheddable = sheddable;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.delivery.infrastructure.concurrency;
+
+/**
+ * Prioridade de uma requisição no limite adaptativo: cada classe só entra enquanto as
+ * requisições em andamento estão abaixo da sua fração do limite, então as SHEDDABLE são
+ * rejeitadas primeiro e as CRITICAL por último.
+ */
+public enum RequestPriority {
+    // Criação de pedidos e mudança de status
+    CRITICAL,
+    NORMAL,
+    // Listagens, relatórios e cargas em massa
+    SHEDDABLE
+}
@@ -0,0 +1,39 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.concurrency.AdaptiveConcurrencyFilter;
+import br.com.delivery.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import br.com.delivery.infrastructure.concurrency.AdaptiveConcurrencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limite adaptativo de requisições simultâneas com descarte por prioridade.
+ */
+@Configuration
+@EnableConfigurationProperties(AdaptiveConcurrencyProperties.class)
+@ConditionalOnProperty(prefix = "delivery.concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(AdaptiveConcurrencyProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyFilter> adaptiveConcurrencyFilter(
+            AdaptiveConcurrencyLimiter limiter, AdaptiveConcurrencyProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registration =
+                new FilterRegistrationBean<>(new AdaptiveConcurrencyFilter(limiter, properties, objectMapper));
+        registration.addUrlPatterns("/v1/*");
+        // Antes do Spring Security: rejeitar não deve custar a verificação do token
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.application.usecase.GetCustomerUseCase;
+import br.com.delivery.application.usecase.GetOrderUseCase;
+import br.com.delivery.infrastructure.persistence.repository.HotKeyListJpaRepository;
+import br.com.delivery.infrastructure.warmup.CacheWarmer;
+import br.com.delivery.infrastructure.warmup.CacheWarmupProperties;
+import br.com.delivery.infrastructure.warmup.HotKeyTracker;
+import br.com.delivery.infrastructure.warmup.HotKeyTrackingCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
+
+/**
+ * Aquecimento dos caches no start com as chaves mais lidas, contadas e gravadas por cada nó.
+ * Produtos não entram: o catálogo em memória já é carregado inteiro antes da readiness.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CacheWarmupProperties.class)
+@ConditionalOnProperty(prefix = "delivery.cache.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmupConfig {
+
+    @Bean
+    public HotKeyTracker hotKeyTracker(HotKeyListJpaRepository hotKeyListRepository, CacheWarmupProperties properties) {
+        return new HotKeyTracker(hotKeyListRepository, properties, LeaderboardConfig.resolveNodeId(properties.getNodeId()));
+    }
+
+    @Bean
+    public CacheWarmer cacheWarmer(HotKeyTracker hotKeyTracker, CacheWarmupProperties properties,
+                                   GetCustomerUseCase getCustomerUseCase, GetOrderUseCase getOrderUseCase,
+                                   MeterRegistry meterRegistry) {
+        return new CacheWarmer(hotKeyTracker,
+                Map.of("customer", getCustomerUseCase::execute, "order", getOrderUseCase::execute),
+                properties, meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor hotKeyTrackingCacheManagerPostProcessor(ObjectProvider<HotKeyTracker> hotKeyTracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("cacheManager".equals(beanName) && bean instanceof CacheManager cacheManager) {
+                    return new HotKeyTrackingCacheManager(cacheManager, hotKeyTracker::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.bloom.CustomerBloomFilterProperties;
+import br.com.delivery.infrastructure.bloom.CustomerBloomFilters;
+import br.com.delivery.infrastructure.persistence.repository.CustomerJpaRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Filtros de Bloom de clientes, reconstruídos do banco no start e periodicamente.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CustomerBloomFilterProperties.class)
+public class CustomerBloomFilterConfig {
+
+    @Bean
+    public CustomerBloomFilters customerBloomFilters(CustomerJpaRepository customerRepository,
+                                                     PlatformTransactionManager transactionManager,
+                                                     CustomerBloomFilterProperties properties) {
+        return new CustomerBloomFilters(customerRepository, transactionManager, properties);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.persistence.routing.DataSourceRoutingProperties;
+import br.com.delivery.infrastructure.persistence.routing.ReadYourWritesFilter;
+import br.com.delivery.infrastructure.persistence.routing.ReadYourWritesTracker;
+import br.com.delivery.infrastructure.persistence.routing.ReplicaDataSources;
+import br.com.delivery.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roteamento de leituras para réplicas. Ativado com delivery.datasource.routing.enabled=true;
+ * sem ele a aplicação usa o DataSource único do Spring Boot.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "delivery.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Modelo dos pools das réplicas (propriedades do HikariCP em delivery.datasource.replica-pool).
+     * O timeout de conexão padrão é curto: com a réplica fora do ar, a leitura desiste logo e
+     * cai no primário em vez de esperar os 30s padrão do Hikari.
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "delivery.datasource.replica-pool")
+    public HikariConfig replicaPoolConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setConnectionTimeout(500);
+        return config;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceProperties dataSourceProperties,
+                                                 DataSourceRoutingProperties routingProperties,
+                                                 HikariConfig replicaPoolConfig) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> configured = routingProperties.getReplicas();
+
+        for (int i = 0; i < configured.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            replicaPoolConfig.copyStateTo(dataSource);
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword());
+            dataSource.setReadOnly(true);
+            // Não bloquear a inicialização se a réplica estiver fora do ar
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.put("replica-" + i, dataSource);
+        }
+
+        return new ReplicaDataSources(replicas,
+                routingProperties.getValidationTimeout(),
+                routingProperties.getMaxReplicationLag());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesTracker(routingProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaDataSources replicaDataSources,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSources, readYourWritesTracker));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesFilter(readYourWritesTracker);
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.diagnostics.DiagnosticTraceFilter;
+import br.com.delivery.infrastructure.diagnostics.DiagnosticsProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Trace de diagnóstico por requisição, sob demanda (header privilegiado) ou por amostragem.
+ */
+@Configuration
+@EnableConfigurationProperties(DiagnosticsProperties.class)
+@ConditionalOnProperty(prefix = "delivery.diagnostics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsConfig {
+
+    @Bean
+    public FilterRegistrationBean<DiagnosticTraceFilter> diagnosticTraceFilter(
+            DiagnosticsProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<DiagnosticTraceFilter> registration =
+                new FilterRegistrationBean<>(new DiagnosticTraceFilter(properties, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/v1/*");
+        // Depois do Spring Security: o header só vale para quem tem a autoridade configurada
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+        return registration;
+    }
+}
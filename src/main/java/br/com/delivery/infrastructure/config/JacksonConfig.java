@@ -1,19 +1,89 @@
 package br.com.delivery.infrastructure.config;
 
+import br.com.delivery.application.dto.CustomerDto;
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.ProductDto;
+import br.com.delivery.infrastructure.web.dto.PageResponse;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
+import java.util.List;
+
+/**
+ * ObjectMapper único da aplicação: usado pelo conversor HTTP, pelo cache de respostas,
+ * pelas colunas JSON do Hibernate e, como cópia com tipagem, pelo Redis (ver RedisConfig).
+ * Os mappers CBOR e Smile recebem a mesma configuração.
+ */
 @Configuration
 public class JacksonConfig {
 
+    // DTOs mais trafegados; os serializers são resolvidos na criação do mapper e não na primeira requisição
+    private static final List<Class<?>> PRE_RESOLVED_TYPES = List.of(
+            OrderDto.class, ProductDto.class, CustomerDto.class
+    );
+
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
+        return build(JsonMapper.builder());
+    }
+
+    // Formatos binários para consumidores internos, negociados pelo Accept/Content-Type
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(build(CBORMapper.builder()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(build(SmileMapper.builder()));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jsonFormatMapperCustomizer(ObjectMapper objectMapper) {
+        return properties -> properties.put(AvailableSettings.JSON_FORMAT_MAPPER,
+                new JacksonJsonFormatMapper(objectMapper));
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M build(B builder) {
+        builder.addModule(new JavaTimeModule());
+        // Acesso às propriedades por lambdas geradas em vez de reflection. A imagem nativa não
+        // define classes em tempo de execução: lá o acesso fica por reflection (ver NativeImageConfig)
+        if (!NativeDetector.inNativeImage()) {
+            builder.addModule(new BlackbirdModule());
+        }
+        M mapper = builder.build();
+        preResolve(mapper);
         return mapper;
     }
+
+    private static void preResolve(ObjectMapper mapper) {
+        TypeFactory typeFactory = mapper.getTypeFactory();
+        for (Class<?> type : PRE_RESOLVED_TYPES) {
+            JavaType single = typeFactory.constructType(type);
+            JavaType list = typeFactory.constructCollectionType(List.class, type);
+            JavaType page = typeFactory.constructParametricType(PageResponse.class, type);
+            for (JavaType javaType : List.of(single, list, page)) {
+                // writerFor/readerFor buscam os (de)serializers raiz e os deixam no cache do mapper
+                mapper.writerFor(javaType);
+                mapper.readerFor(javaType);
+            }
+        }
+    }
 }
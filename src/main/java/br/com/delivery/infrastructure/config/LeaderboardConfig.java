@@ -0,0 +1,35 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.leaderboard.LeaderboardProperties;
+import br.com.delivery.infrastructure.leaderboard.ProductLeaderboard;
+import br.com.delivery.infrastructure.persistence.repository.LeaderboardCheckpointJpaRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.UUID;
+
+/**
+ * Ranking de produtos mais vendidos mantido em memória, com checkpoint periódico no banco.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(LeaderboardProperties.class)
+public class LeaderboardConfig {
+
+    @Bean
+    public ProductLeaderboard productLeaderboard(LeaderboardProperties properties,
+                                                 LeaderboardCheckpointJpaRepository checkpointRepository) {
+        return new ProductLeaderboard(checkpointRepository, properties, resolveNodeId(properties.getNodeId()));
+    }
+
+    // Também identifica as linhas de cache_hot_keys (CacheWarmupConfig)
+    static String resolveNodeId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        String hostname = System.getenv("HOSTNAME");
+        return hostname != null && !hostname.isBlank() ? hostname : UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.application.dto.CreateCustomerRequest;
+import br.com.delivery.application.dto.CreateOrderItemRequest;
+import br.com.delivery.application.dto.CreateOrderRequest;
+import br.com.delivery.application.dto.CreateProductRequest;
+import br.com.delivery.application.dto.CustomerDto;
+import br.com.delivery.application.dto.CustomerImportDto;
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderHistoryPage;
+import br.com.delivery.application.dto.OrderIntakeDto;
+import br.com.delivery.application.dto.OrderItemDto;
+import br.com.delivery.application.dto.ProductDto;
+import br.com.delivery.application.dto.ProductImportDto;
+import br.com.delivery.application.dto.SalesTotalDto;
+import br.com.delivery.application.dto.TopProductDto;
+import br.com.delivery.application.dto.UpdateOrderStatusRequest;
+import br.com.delivery.infrastructure.persistence.entity.CustomerEntity;
+import br.com.delivery.infrastructure.persistence.entity.HotKeyCounter;
+import br.com.delivery.infrastructure.persistence.entity.HotKeyListEntity;
+import br.com.delivery.infrastructure.persistence.entity.LeaderboardCheckpointEntity;
+import br.com.delivery.infrastructure.persistence.entity.LeaderboardCounter;
+import br.com.delivery.infrastructure.persistence.entity.OrderEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeLine;
+import br.com.delivery.infrastructure.persistence.entity.OrderItemEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewItem;
+import br.com.delivery.infrastructure.persistence.entity.ProductEntity;
+import br.com.delivery.infrastructure.persistence.entity.SalesDailyProductEntity;
+import br.com.delivery.infrastructure.persistence.entity.SalesDailyStatusEntity;
+import br.com.delivery.infrastructure.web.dto.CursorPageResponse;
+import br.com.delivery.infrastructure.web.dto.OrderCursor;
+import br.com.delivery.infrastructure.web.dto.PageResponse;
+import br.com.delivery.infrastructure.web.dto.ProblemDetail;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dicas para a imagem nativa (./gradlew -Pnative nativeCompile) do que o AOT do Spring não
+ * descobre sozinho. Beans (use cases, adapters, mappers do MapStruct, que são @Component
+ * gerados) são instanciados pelo código AOT, sem reflection; as classes do Lombok são código
+ * comum depois da compilação. Ficam de fora do AOT:
+ * - DTOs serializados fora dos controllers (cache Redis com tipagem, cache de respostas);
+ * - colunas JSON do Hibernate e mensagens do catálogo entre nós;
+ * - entidades: o AOT do JPA já as registra, aqui ficam explícitas com todos os membros,
+ *   porque o Hibernate também lê os campos e instancia por construtor padrão;
+ * - migrações do Flyway, que são recursos lidos por varredura do classpath.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.DeliveryRuntimeHints.class)
+public class NativeImageConfig {
+
+    static class DeliveryRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final List<Class<?>> JSON_TYPES = List.of(
+                CreateCustomerRequest.class, CreateOrderItemRequest.class, CreateOrderRequest.class,
+                CreateProductRequest.class, CustomerDto.class, CustomerImportDto.class, OrderDto.class,
+                OrderHistoryPage.class, OrderIntakeDto.class, OrderItemDto.class, ProductDto.class,
+                ProductImportDto.class, SalesTotalDto.class, TopProductDto.class, UpdateOrderStatusRequest.class,
+                CursorPageResponse.class, OrderCursor.class, PageResponse.class, ProblemDetail.class,
+                OrderViewItem.class, OrderIntakeLine.class, LeaderboardCounter.class, HotKeyCounter.class,
+                // Listas guardadas no Redis com o tipo no JSON
+                ArrayList.class
+        );
+
+        private static final List<Class<?>> ENTITIES = List.of(
+                CustomerEntity.class, ProductEntity.class, OrderEntity.class, OrderItemEntity.class,
+                OrderViewEntity.class, OrderIntakeEntity.class, LeaderboardCheckpointEntity.class,
+                SalesDailyProductEntity.class, SalesDailyProductEntity.Key.class,
+                SalesDailyStatusEntity.class, SalesDailyStatusEntity.Key.class,
+                HotKeyListEntity.class, HotKeyListEntity.Key.class
+        );
+
+        // Records package-private serializados em JSON: mensagens do catálogo e envelope do trace de diagnóstico
+        private static final List<String> PACKAGE_PRIVATE_JSON_TYPES = List.of(
+                "br.com.delivery.infrastructure.catalog.RedisProductCatalogNotifications$CatalogChange",
+                "br.com.delivery.infrastructure.catalog.RedisProductCatalogNotifications$CatalogEntry",
+                "br.com.delivery.infrastructure.diagnostics.DiagnosticTraceFilter$TracedResponse",
+                "br.com.delivery.infrastructure.diagnostics.DiagnosticTraceFilter$TraceDump"
+        );
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+            bindings.registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity, MemberCategory.values());
+            }
+            for (String type : PACKAGE_PRIVATE_JSON_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.values());
+            }
+
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
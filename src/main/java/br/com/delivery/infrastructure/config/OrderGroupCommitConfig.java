@@ -0,0 +1,30 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.persistence.adapter.SalesRollupRepositoryAdapter;
+import br.com.delivery.infrastructure.persistence.groupcommit.OrderGroupCommitProperties;
+import br.com.delivery.infrastructure.persistence.groupcommit.OrderGroupCommitWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Pedidos criados concorrentemente dividem um commit (ver OrderRepositoryAdapter.create).
+ */
+@Configuration
+@EnableConfigurationProperties(OrderGroupCommitProperties.class)
+public class OrderGroupCommitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.orders.group-commit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OrderGroupCommitWriter orderGroupCommitWriter(JdbcTemplate jdbcTemplate,
+                                                         SalesRollupRepositoryAdapter salesRollup,
+                                                         ObjectMapper objectMapper,
+                                                         PlatformTransactionManager transactionManager,
+                                                         OrderGroupCommitProperties properties) {
+        return new OrderGroupCommitWriter(jdbcTemplate, salesRollup, objectMapper, transactionManager, properties);
+    }
+}
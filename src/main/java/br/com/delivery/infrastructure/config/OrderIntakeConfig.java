@@ -0,0 +1,38 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.application.usecase.CreateOrderUseCase;
+import br.com.delivery.infrastructure.intake.OrderIntakeAppender;
+import br.com.delivery.infrastructure.intake.OrderIntakeProperties;
+import br.com.delivery.infrastructure.intake.OrderIntakeWorker;
+import br.com.delivery.infrastructure.persistence.repository.OrderIntakeJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Criação assíncrona de pedidos: fila durável no banco, gravada em lote, e workers que a consomem.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OrderIntakeProperties.class)
+public class OrderIntakeConfig {
+
+    @Bean
+    public OrderIntakeAppender orderIntakeAppender(OrderIntakeJpaRepository repository,
+                                                   PlatformTransactionManager transactionManager,
+                                                   OrderIntakeProperties properties) {
+        return new OrderIntakeAppender(repository, transactionManager, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.orders.intake", name = "worker-enabled", havingValue = "true", matchIfMissing = true)
+    public OrderIntakeWorker orderIntakeWorker(OrderIntakeJpaRepository repository,
+                                               CreateOrderUseCase createOrderUseCase,
+                                               PlatformTransactionManager transactionManager,
+                                               OrderIntakeProperties properties) {
+        return new OrderIntakeWorker(repository, createOrderUseCase, transactionManager, properties);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.domain.port.ProductRepositoryPort;
+import br.com.delivery.infrastructure.catalog.InMemoryProductCatalog;
+import br.com.delivery.infrastructure.catalog.ProductCatalogProperties;
+import br.com.delivery.infrastructure.catalog.ProductCatalogPublisher;
+import br.com.delivery.infrastructure.catalog.RedisProductCatalogNotifications;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Catálogo de produtos em memória, sincronizado entre os nós pelo Redis.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ProductCatalogProperties.class)
+public class ProductCatalogConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.catalog", name = "notifications-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisProductCatalogNotifications productCatalogNotifications(StringRedisTemplate redisTemplate,
+                                                                        ObjectMapper objectMapper,
+                                                                        ProductCatalogProperties properties) {
+        return new RedisProductCatalogNotifications(redisTemplate, objectMapper, properties.getChannel());
+    }
+
+    @Bean
+    public InMemoryProductCatalog productCatalog(ProductRepositoryPort productRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 ObjectProvider<RedisProductCatalogNotifications> notifications) {
+        ProductCatalogPublisher publisher = notifications.getIfAvailable();
+        return new InMemoryProductCatalog(productRepository, transactionManager,
+                publisher != null ? publisher : ProductCatalogPublisher.NONE);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.catalog", name = "notifications-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer productCatalogListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         RedisProductCatalogNotifications notifications,
+                                                                         InMemoryProductCatalog productCatalog) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(notifications.listener(productCatalog), new ChannelTopic(notifications.getChannel()));
+        return container;
+    }
+}
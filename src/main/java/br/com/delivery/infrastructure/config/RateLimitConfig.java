@@ -0,0 +1,61 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.ratelimit.LocalTokenBuckets;
+import br.com.delivery.infrastructure.ratelimit.RateLimitInterceptor;
+import br.com.delivery.infrastructure.ratelimit.RateLimitProperties;
+import br.com.delivery.infrastructure.ratelimit.RateLimiter;
+import br.com.delivery.infrastructure.ratelimit.RedisTokenBuckets;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Rate limit por cliente e endpoint: baldes locais (um nó) ou no Redis (cluster).
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "delivery.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public LocalTokenBuckets localTokenBuckets() {
+        return new LocalTokenBuckets();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.rate-limit", name = "mode", havingValue = "redis")
+    public RedisTokenBuckets redisTokenBuckets(StringRedisTemplate redisTemplate, LocalTokenBuckets localTokenBuckets,
+                                               RateLimitProperties properties) {
+        // Os baldes locais ficam como reserva para quando o Redis não responde
+        return new RedisTokenBuckets(redisTemplate, localTokenBuckets, properties);
+    }
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(ObjectProvider<RedisTokenBuckets> redisTokenBuckets,
+                                                     LocalTokenBuckets localTokenBuckets,
+                                                     RateLimitProperties properties, MeterRegistry meterRegistry) {
+        RateLimiter rateLimiter = redisTokenBuckets.getIfAvailable();
+        return new RateLimitInterceptor(rateLimiter != null ? rateLimiter : localTokenBuckets, properties, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer rateLimitWebMvcConfigurer(RateLimitInterceptor rateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                // Antes do WorkloadInterceptor (ordem 0): rejeitar não deve ocupar vaga no bulkhead
+                registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/v1/**")
+                        .order(Ordered.HIGHEST_PRECEDENCE);
+            }
+        };
+    }
+}
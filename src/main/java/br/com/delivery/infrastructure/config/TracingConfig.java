@@ -0,0 +1,40 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.observability.TracingAspect;
+import br.com.delivery.infrastructure.observability.TracingCacheManager;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spans das camadas da aplicação, abaixo do span da requisição HTTP criado pelo Spring MVC.
+ * A exportação OTLP e a amostragem vêm de management.tracing e management.otlp; com
+ * management.tracing.enabled=false nem o aspecto nem o cache instrumentado são criados.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "management.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public TracingAspect tracingAspect(ObservationRegistry observationRegistry) {
+        return new TracingAspect(observationRegistry);
+    }
+
+    // Estático como o do CacheWarmupConfig: BeanPostProcessor não deve antecipar outros beans
+    @Bean
+    public static BeanPostProcessor tracingCacheManagerPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("cacheManager".equals(beanName) && bean instanceof CacheManager cacheManager) {
+                    return new TracingCacheManager(cacheManager, observationRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
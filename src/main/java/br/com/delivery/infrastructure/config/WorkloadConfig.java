@@ -0,0 +1,66 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.infrastructure.workload.WorkloadAwareDataSource;
+import br.com.delivery.infrastructure.workload.WorkloadBulkheads;
+import br.com.delivery.infrastructure.workload.WorkloadInterceptor;
+import br.com.delivery.infrastructure.workload.WorkloadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Bulkheads por classe de carga (escrita interativa, leitura interativa e bulk/export).
+ */
+@Configuration
+@EnableConfigurationProperties(WorkloadProperties.class)
+@ConditionalOnProperty(prefix = "delivery.workload", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WorkloadConfig {
+
+    @Bean
+    public WorkloadBulkheads workloadBulkheads(WorkloadProperties properties, MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        properties.checkPoolSize(maximumPoolSize);
+        return new WorkloadBulkheads(properties, meterRegistry);
+    }
+
+    @Bean
+    public WorkloadInterceptor workloadInterceptor(WorkloadBulkheads workloadBulkheads) {
+        return new WorkloadInterceptor(workloadBulkheads);
+    }
+
+    @Bean
+    public WebMvcConfigurer workloadWebMvcConfigurer(WorkloadInterceptor workloadInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(workloadInterceptor).addPathPatterns("/v1/**");
+            }
+        };
+    }
+
+    /**
+     * Envolve o DataSource principal. Os bulkheads são resolvidos sob demanda para não
+     * antecipar a criação do MeterRegistry durante o pós-processamento dos beans.
+     */
+    @Bean
+    public static BeanPostProcessor workloadDataSourcePostProcessor(ObjectProvider<WorkloadBulkheads> workloadBulkheads) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new WorkloadAwareDataSource(dataSource, workloadBulkheads::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,271 @@
+package br.com.delivery.infrastructure.diagnostics;
+
+import br.com.delivery.application.diagnostics.DiagnosticTrace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Liga o {@link DiagnosticTrace} na requisição marcada pelo header de diagnóstico (só para quem
+ * tem a autoridade configurada) ou sorteada pela taxa de amostragem. Roda depois do Spring
+ * Security, quando a autenticação já está resolvida.
+ *
+ * Com "X-Debug-Trace: response" o corpo vira {status, body, trace}, e a requisição segue
+ * pedindo JSON sem compressão (ver {@link IdentityJsonRequest}); com "file", e nas
+ * requisições amostradas, o trace vai para um arquivo em delivery.diagnostics.dump-directory.
+ * Nos dois casos o id do trace volta no header X-Debug-Trace-Id. Requisições sem trace passam
+ * direto, sem buffer nem alocação.
+ */
+public class DiagnosticTraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Debug-Trace-Id";
+
+    private static final Logger logger = LoggerFactory.getLogger(DiagnosticTraceFilter.class);
+
+    enum Output { RESPONSE, FILE }
+
+    private final DiagnosticsProperties properties;
+    private final ObjectMapper objectMapper;
+    private final DoubleSupplier random;
+    private final Map<Output, Counter> traces = new EnumMap<>(Output.class);
+
+    public DiagnosticTraceFilter(DiagnosticsProperties properties, ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this(properties, objectMapper, meterRegistry, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    DiagnosticTraceFilter(DiagnosticsProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                          DoubleSupplier random) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.random = random;
+        for (Output output : Output.values()) {
+            traces.put(output, Counter.builder("delivery.diagnostics.traces")
+                    .description("Requisições com trace de diagnóstico")
+                    .tag("output", output.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Output output = resolveOutput(request);
+        if (output == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        traces.get(output).increment();
+        DiagnosticTrace trace = DiagnosticTrace.begin(UUID.randomUUID().toString(),
+                properties.getMaxEvents(), properties.getMaxEventLength());
+        response.setHeader(TRACE_ID_HEADER, trace.getId());
+        ContentCachingResponseWrapper buffered = output == Output.RESPONSE ? new EnvelopeResponse(response) : null;
+        boolean completed = false;
+        try {
+            if (buffered != null) {
+                filterChain.doFilter(new IdentityJsonRequest(request), buffered);
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            completed = true;
+        } finally {
+            DiagnosticTrace.end();
+            if (buffered == null) {
+                dump(request, response, trace);
+            } else if (completed && !request.isAsyncStarted()) {
+                writeEnvelope(buffered, response, trace);
+            } else {
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    Output resolveOutput(HttpServletRequest request) {
+        String requested = request.getHeader(properties.getHeader());
+        if (requested != null && isPrivileged()) {
+            return "file".equalsIgnoreCase(requested.trim()) ? Output.FILE : Output.RESPONSE;
+        }
+        double sampleRate = properties.getSampleRate();
+        if (sampleRate > 0 && random.getAsDouble() < sampleRate) {
+            return Output.FILE;
+        }
+        return null;
+    }
+
+    private boolean isPrivileged() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (properties.getRequiredAuthority().equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        logger.debug("Header {} ignorado: {} sem a autoridade {}", properties.getHeader(), authentication.getName(),
+                properties.getRequiredAuthority());
+        return false;
+    }
+
+    private void writeEnvelope(ContentCachingResponseWrapper buffered, HttpServletResponse response,
+                               DiagnosticTrace trace) throws IOException {
+        byte[] content = buffered.getContentAsByteArray();
+        Object body = null;
+        if (content.length > 0) {
+            body = isJson(buffered.getContentType()) ? objectMapper.readTree(content)
+                    : new String(content, StandardCharsets.UTF_8);
+        }
+        byte[] envelope = objectMapper.writeValueAsBytes(new TracedResponse(buffered.getStatus(), body, dumpOf(trace)));
+
+        // O tamanho calculado para o corpo original não vale para o envelope
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(envelope.length);
+        response.getOutputStream().write(envelope);
+        response.flushBuffer();
+    }
+
+    private void dump(HttpServletRequest request, HttpServletResponse response, DiagnosticTrace trace) {
+        List<String> lines = new ArrayList<>(trace.getEvents().size() + 2);
+        lines.add(request.getMethod() + " " + request.getRequestURI() + " -> " + response.getStatus()
+                + " em " + trace.getElapsedMillis() + " ms");
+        lines.addAll(trace.getEvents());
+        if (trace.getDropped() > 0) {
+            lines.add("(" + trace.getDropped() + " eventos descartados: buffer cheio)");
+        }
+        try {
+            Files.createDirectories(properties.getDumpDirectory());
+            Path file = properties.getDumpDirectory().resolve(trace.getId() + ".log");
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            logger.info("Trace de diagnóstico {} gravado em {}", trace.getId(), file);
+        } catch (IOException e) {
+            logger.warn("Falha ao gravar o trace de diagnóstico {}: {}", trace.getId(), e.getMessage());
+        }
+    }
+
+    // application/json e application/problem+json
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.parseMediaType(contentType).getSubtype().endsWith("json");
+    }
+
+    private static TraceDump dumpOf(DiagnosticTrace trace) {
+        return new TraceDump(trace.getId(), trace.getElapsedMillis(), trace.getEvents(), trace.getDropped());
+    }
+
+    /**
+     * Esconde Accept-Encoding e If-None-Match e prefere JSON no Accept: o corpo chega ao envelope
+     * inteiro e legível, em vez dos bytes prontos do ResponseBodyCache em gzip, CBOR ou Smile,
+     * ou de um 304 sem corpo. Endpoints que só produzem outro formato (CSV) continuam aceitos.
+     */
+    static class IdentityJsonRequest extends HttpServletRequestWrapper {
+
+        private static final String ACCEPT = "application/json, */*;q=0.1";
+        private static final Set<String> HIDDEN = Set.of(HttpHeaders.ACCEPT_ENCODING.toLowerCase(Locale.ROOT),
+                HttpHeaders.IF_NONE_MATCH.toLowerCase(Locale.ROOT));
+
+        IdentityJsonRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+                return ACCEPT;
+            }
+            return isHidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+                return Collections.enumeration(List.of(ACCEPT));
+            }
+            return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = new ArrayList<>();
+            names.add(HttpHeaders.ACCEPT);
+            for (String name : Collections.list(super.getHeaderNames())) {
+                if (!isHidden(name) && !HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+                    names.add(name);
+                }
+            }
+            return Collections.enumeration(names);
+        }
+
+        private static boolean isHidden(String name) {
+            return name != null && HIDDEN.contains(name.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Descarta o ETag, a codificação e o Vary definidos para o corpo original: nenhum deles
+     * descreve o envelope, e o servlet não permite remover um header já definido.
+     */
+    static class EnvelopeResponse extends ContentCachingResponseWrapper {
+
+        private static final Set<String> DROPPED = Set.of(HttpHeaders.ETAG.toLowerCase(Locale.ROOT),
+                HttpHeaders.CONTENT_ENCODING.toLowerCase(Locale.ROOT), HttpHeaders.VARY.toLowerCase(Locale.ROOT));
+
+        EnvelopeResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!isDropped(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!isDropped(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        private static boolean isDropped(String name) {
+            return name != null && DROPPED.contains(name.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    record TracedResponse(int status, Object body, TraceDump trace) {
+    }
+
+    record TraceDump(String id, long elapsedMs, List<String> events, int dropped) {
+    }
+}
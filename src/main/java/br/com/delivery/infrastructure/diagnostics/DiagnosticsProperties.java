@@ -0,0 +1,83 @@
+package br.com.delivery.infrastructure.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "delivery.diagnostics")
+public class DiagnosticsProperties {
+
+    private boolean enabled = true;
+
+    // "response" devolve o trace no corpo da resposta; "file" grava em dump-directory
+    private String header = "X-Debug-Trace";
+
+    // Autoridade exigida para o header valer; sem ela o header é ignorado
+    private String requiredAuthority = "SCOPE_diagnostics:trace";
+
+    // Fração das requisições rastreadas sem header, sempre gravadas em arquivo (0 desliga)
+    private double sampleRate = 0.0;
+
+    // Eventos guardados por requisição; os excedentes são só contados
+    private int maxEvents = 500;
+
+    private int maxEventLength = 300;
+
+    private Path dumpDirectory = Path.of(System.getProperty("java.io.tmpdir"), "delivery-traces");
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public void setHeader(String header) {
+        this.header = header;
+    }
+
+    public String getRequiredAuthority() {
+        return requiredAuthority;
+    }
+
+    public void setRequiredAuthority(String requiredAuthority) {
+        this.requiredAuthority = requiredAuthority;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    public void setMaxEvents(int maxEvents) {
+        this.maxEvents = maxEvents;
+    }
+
+    public int getMaxEventLength() {
+        return maxEventLength;
+    }
+
+    public void setMaxEventLength(int maxEventLength) {
+        this.maxEventLength = maxEventLength;
+    }
+
+    public Path getDumpDirectory() {
+        return dumpDirectory;
+    }
+
+    public void setDumpDirectory(Path dumpDirectory) {
+        this.dumpDirectory = dumpDirectory;
+    }
+}
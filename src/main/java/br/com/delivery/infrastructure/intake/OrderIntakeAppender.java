@@ -0,0 +1,35 @@
+package br.com.delivery.infrastructure.intake;
+
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeEntity;
+import br.com.delivery.infrastructure.persistence.groupcommit.GroupCommitWriter;
+import br.com.delivery.infrastructure.persistence.repository.OrderIntakeJpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Gravação em lote da fila de entrada: as requisições que chegam enquanto um lote é gravado
+ * vão juntas no próximo INSERT em lote, sem espera adicional.
+ */
+public class OrderIntakeAppender extends GroupCommitWriter<OrderIntakeEntity> {
+
+    private final OrderIntakeJpaRepository repository;
+
+    public OrderIntakeAppender(OrderIntakeJpaRepository repository, PlatformTransactionManager transactionManager,
+                               OrderIntakeProperties properties) {
+        super("order-intake-writer", transactionManager, properties.getQueueCapacity(),
+                properties.getAppendBatchSize(), Duration.ZERO, properties.getAppendTimeout());
+        this.repository = repository;
+    }
+
+    @Override
+    protected void flush(List<OrderIntakeEntity> batch) {
+        repository.saveAll(batch);
+    }
+
+    @Override
+    protected String idOf(OrderIntakeEntity entity) {
+        return entity.getTicket();
+    }
+}
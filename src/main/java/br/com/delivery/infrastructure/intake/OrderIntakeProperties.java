@@ -0,0 +1,150 @@
+package br.com.delivery.infrastructure.intake;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "delivery.orders.intake")
+public class OrderIntakeProperties {
+
+    // Pedidos aguardando gravação em memória; cheio, o POST responde 503
+    private int queueCapacity = 10000;
+
+    // Máximo de pedidos por INSERT em lote
+    private int appendBatchSize = 500;
+
+    // Espera máxima do POST pela confirmação da gravação
+    private Duration appendTimeout = Duration.ofSeconds(2);
+
+    // Nós só de API podem desligar o consumo e deixar a fila para outros nós
+    private boolean workerEnabled = true;
+
+    // Threads que criam os pedidos da fila (cada uma usa uma conexão)
+    private int workers = 4;
+
+    // Linhas reservadas por ciclo do worker
+    private int claimBatchSize = 50;
+
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    // Reserva sem conclusão por mais que isso volta para a fila (nó caiu no meio do lote)
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    // Falhas transitórias (banco, timeout) antes de marcar o pedido como FAILED
+    private int maxAttempts = 3;
+
+    // Espera antes da segunda tentativa; dobra a cada nova falha
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    // Teto da espera entre tentativas
+    private Duration maxRetryBackoff = Duration.ofMinutes(1);
+
+    // Tempo que tickets COMPLETED e FAILED ficam disponíveis para consulta antes da limpeza
+    private Duration retention = Duration.ofDays(7);
+
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getAppendBatchSize() {
+        return appendBatchSize;
+    }
+
+    public void setAppendBatchSize(int appendBatchSize) {
+        this.appendBatchSize = appendBatchSize;
+    }
+
+    public Duration getAppendTimeout() {
+        return appendTimeout;
+    }
+
+    public void setAppendTimeout(Duration appendTimeout) {
+        this.appendTimeout = appendTimeout;
+    }
+
+    public boolean isWorkerEnabled() {
+        return workerEnabled;
+    }
+
+    public void setWorkerEnabled(boolean workerEnabled) {
+        this.workerEnabled = workerEnabled;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getClaimBatchSize() {
+        return claimBatchSize;
+    }
+
+    public void setClaimBatchSize(int claimBatchSize) {
+        this.claimBatchSize = claimBatchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public Duration getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+}
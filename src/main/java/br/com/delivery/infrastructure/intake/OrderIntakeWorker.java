@@ -0,0 +1,193 @@
+package br.com.delivery.infrastructure.intake;
+
+import br.com.delivery.application.dto.CreateOrderItemRequest;
+import br.com.delivery.application.dto.CreateOrderRequest;
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.usecase.CreateOrderUseCase;
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeEntity;
+import br.com.delivery.infrastructure.persistence.repository.OrderIntakeJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Cria os pedidos da fila de entrada. Cada ciclo reserva um lote (FOR UPDATE SKIP LOCKED, então
+ * vários nós dividem a fila) e o distribui entre as threads do pool. O pedido e a conclusão do
+ * ticket são gravados na mesma transação, e a conclusão só vale para a reserva em vigor: se a
+ * reserva expirou e outro worker retomou o ticket, a transação é desfeita junto com o pedido.
+ * Falhas transitórias voltam para a fila com espera exponencial; tickets encerrados são
+ * apagados depois do prazo de retenção.
+ */
+public class OrderIntakeWorker implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIntakeWorker.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final OrderIntakeJpaRepository repository;
+    private final CreateOrderUseCase createOrderUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIntakeProperties properties;
+    private final Clock clock;
+    private final ExecutorService pool;
+
+    public OrderIntakeWorker(OrderIntakeJpaRepository repository, CreateOrderUseCase createOrderUseCase,
+                             PlatformTransactionManager transactionManager, OrderIntakeProperties properties) {
+        this(repository, createOrderUseCase, transactionManager, properties, Clock.systemDefaultZone());
+    }
+
+    OrderIntakeWorker(OrderIntakeJpaRepository repository, CreateOrderUseCase createOrderUseCase,
+                      PlatformTransactionManager transactionManager, OrderIntakeProperties properties, Clock clock) {
+        this.repository = repository;
+        this.createOrderUseCase = createOrderUseCase;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+        AtomicInteger threads = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(properties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Processa lotes enquanto a fila devolver lotes cheios; com a fila vazia, só a consulta
+     * ao índice parcial de linhas em aberto.
+     */
+    @Scheduled(fixedDelayString = "${delivery.orders.intake.poll-interval:PT0.2S}")
+    public void poll() {
+        try {
+            List<OrderIntakeEntity> claimed;
+            do {
+                claimed = claim();
+                process(claimed);
+            } while (claimed.size() == properties.getClaimBatchSize());
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao consumir a fila de entrada de pedidos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apaga em blocos os tickets COMPLETED e FAILED mais antigos que a retenção; o cliente só
+     * consulta o ticket logo depois do 202.
+     */
+    @Scheduled(fixedDelayString = "${delivery.orders.intake.purge-interval:PT1H}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(properties.getRetention());
+        try {
+            long total = 0;
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status ->
+                        repository.deleteFinishedBefore(before, PURGE_BATCH_SIZE));
+                total += deleted;
+            } while (deleted == PURGE_BATCH_SIZE);
+            if (total > 0) {
+                logger.info("{} ticket(s) encerrado(s) antes de {} removido(s) da fila de entrada", total, before);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao limpar a fila de entrada de pedidos: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private List<OrderIntakeEntity> claim() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime staleBefore = now.minus(properties.getClaimTimeout());
+        return transactionTemplate.execute(status -> {
+            List<OrderIntakeEntity> next = repository.lockNext(now, staleBefore, properties.getClaimBatchSize());
+            // Entidades gerenciadas: a reserva é gravada no commit
+            next.forEach(entity -> entity.claim(now));
+            return next;
+        });
+    }
+
+    private void process(List<OrderIntakeEntity> claimed) {
+        List<Future<?>> running = new ArrayList<>(claimed.size());
+        for (OrderIntakeEntity entity : claimed) {
+            running.add(pool.submit(() -> processOne(entity)));
+        }
+        for (Future<?> future : running) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                logger.error("Erro inesperado processando a fila de entrada: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void processOne(OrderIntakeEntity entity) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                OrderDto order = createOrderUseCase.execute(toRequest(entity));
+                int updated = repository.updateOutcome(entity.getTicket(), entity.getAttempts(),
+                        OrderIntakeTicket.Status.COMPLETED, order.getId(), null, null, LocalDateTime.now(clock));
+                if (updated == 0) {
+                    // Outro worker retomou o ticket depois que a reserva expirou; o pedido é dele
+                    logger.warn("Reserva do ticket {} (tentativa {}) perdida; pedido desfeito",
+                            entity.getTicket(), entity.getAttempts());
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            // Cliente ou produto inexistente: tentar de novo não muda o resultado
+            finish(entity, OrderIntakeTicket.Status.FAILED, e.getMessage(), null);
+        } catch (RuntimeException e) {
+            boolean exhausted = entity.getAttempts() >= properties.getMaxAttempts();
+            logger.warn("Falha ao criar pedido do ticket {} (tentativa {}): {}",
+                    entity.getTicket(), entity.getAttempts(), e.getMessage());
+            if (exhausted) {
+                finish(entity, OrderIntakeTicket.Status.FAILED,
+                        "Falha ao criar o pedido após " + entity.getAttempts() + " tentativa(s)", null);
+            } else {
+                finish(entity, OrderIntakeTicket.Status.PENDING, null,
+                        LocalDateTime.now(clock).plus(retryDelay(entity.getAttempts())));
+            }
+        }
+    }
+
+    // Reserva perdida para outro worker não atualiza nada: o resultado que vale é o dele
+    private void finish(OrderIntakeEntity entity, OrderIntakeTicket.Status status, String error,
+                        LocalDateTime nextAttemptAt) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.executeWithoutResult(tx ->
+                repository.updateOutcome(entity.getTicket(), entity.getAttempts(), status, null, message,
+                        nextAttemptAt, LocalDateTime.now(clock)));
+    }
+
+    // retry-backoff dobrando a cada tentativa, até max-retry-backoff
+    private Duration retryDelay(int attempts) {
+        Duration delay = properties.getRetryBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : delay;
+    }
+
+    private static CreateOrderRequest toRequest(OrderIntakeEntity entity) {
+        List<CreateOrderItemRequest> items = entity.getItems().stream()
+                .map(line -> new CreateOrderItemRequest(line.getProductId(), line.getQuantity()))
+                .collect(Collectors.toList());
+        return new CreateOrderRequest(entity.getCustomerId(), items);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.delivery.infrastructure.leaderboard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "delivery.leaderboard")
+public class LeaderboardProperties {
+
+    // Contadores por resumo: produtos fora dos capacity maiores viram erro estimado
+    private int capacity = 1000;
+
+    // Granularidade da janela da última hora
+    private Duration sliceDuration = Duration.ofMinutes(5);
+
+    private Duration checkpointInterval = Duration.ofMinutes(1);
+
+    // Identifica as linhas deste nó nos checkpoints; vazio usa HOSTNAME
+    private String nodeId;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public Duration getSliceDuration() {
+        return sliceDuration;
+    }
+
+    public void setSliceDuration(Duration sliceDuration) {
+        this.sliceDuration = sliceDuration;
+    }
+
+    public Duration getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(Duration checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+}
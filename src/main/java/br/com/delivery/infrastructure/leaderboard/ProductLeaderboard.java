@@ -0,0 +1,235 @@
+package br.com.delivery.infrastructure.leaderboard;
+
+import br.com.delivery.domain.port.ProductLeaderboardPort;
+import br.com.delivery.domain.readmodel.LeaderboardWindow;
+import br.com.delivery.domain.readmodel.ProductRanking;
+import br.com.delivery.domain.valueobject.OrderItem;
+import br.com.delivery.infrastructure.persistence.entity.LeaderboardCheckpointEntity;
+import br.com.delivery.infrastructure.persistence.entity.LeaderboardCounter;
+import br.com.delivery.infrastructure.persistence.repository.LeaderboardCheckpointJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Ranking de produtos mais vendidos (quantidade) mantido em memória, sem consultar order_items.
+ *
+ * Cada pedido confirmado soma suas quantidades em dois resumos {@link SpaceSavingSketch}: a fatia
+ * de tempo corrente (a última hora é a soma das fatias recentes) e o dia corrente. Periodicamente
+ * os resumos deste nó vão para product_leaderboard_checkpoint, e os checkpoints dos outros nós
+ * são lidos de volta e somados na consulta, formando o ranking global. Na primeira execução o
+ * nó recupera os próprios checkpoints, preservando as contagens após um restart.
+ */
+public class ProductLeaderboard implements ProductLeaderboardPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductLeaderboard.class);
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    private final LeaderboardCheckpointJpaRepository checkpoints;
+    private final String nodeId;
+    private final int capacity;
+    private final long sliceMillis;
+    private final int slicesPerHour;
+    private final Clock clock;
+
+    // Fatias locais da última hora, pelo início da fatia (epoch millis)
+    private final NavigableMap<Long, SpaceSavingSketch> slices = new TreeMap<>();
+    private LocalDate day;
+    private SpaceSavingSketch daySketch;
+
+    // Último checkpoint lido dos outros nós
+    private volatile List<LeaderboardCheckpointEntity> peers = List.of();
+    private boolean restored;
+
+    public ProductLeaderboard(LeaderboardCheckpointJpaRepository checkpoints, LeaderboardProperties properties,
+                              String nodeId) {
+        this(checkpoints, properties, nodeId, Clock.systemDefaultZone());
+    }
+
+    ProductLeaderboard(LeaderboardCheckpointJpaRepository checkpoints, LeaderboardProperties properties,
+                       String nodeId, Clock clock) {
+        long sliceMillis = properties.getSliceDuration().toMillis();
+        if (sliceMillis <= 0 || HOUR_MILLIS % sliceMillis != 0) {
+            throw new IllegalArgumentException("delivery.leaderboard.slice-duration deve dividir uma hora");
+        }
+        this.checkpoints = checkpoints;
+        this.nodeId = nodeId;
+        this.capacity = properties.getCapacity();
+        this.sliceMillis = sliceMillis;
+        this.slicesPerHour = (int) (HOUR_MILLIS / sliceMillis);
+        this.clock = clock;
+    }
+
+    /**
+     * Conta os itens só depois do commit: um pedido revertido não entra no ranking.
+     */
+    @Override
+    public void record(List<OrderItem> items) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(items);
+                }
+            });
+        } else {
+            add(items);
+        }
+    }
+
+    @Override
+    public synchronized List<ProductRanking> top(LeaderboardWindow window, int limit) {
+        long now = clock.millis();
+        expire(now);
+
+        SpaceSavingSketch merged = new SpaceSavingSketch(capacity);
+        if (window == LeaderboardWindow.TODAY) {
+            merged.merge(daySketch(now));
+        } else {
+            slices.tailMap(windowStart(now), true).values().forEach(merged::merge);
+        }
+
+        LocalDateTime from = window == LeaderboardWindow.TODAY
+                ? day.atStartOfDay()
+                : toDateTime(windowStart(now));
+        LeaderboardCheckpointEntity.Kind kind = window == LeaderboardWindow.TODAY
+                ? LeaderboardCheckpointEntity.Kind.DAY
+                : LeaderboardCheckpointEntity.Kind.SLICE;
+        for (LeaderboardCheckpointEntity peer : peers) {
+            if (peer.getKind() == kind && !peer.getBucketStart().isBefore(from)) {
+                merged.merge(SpaceSavingSketch.of(capacity, toRankings(peer.getCounters())));
+            }
+        }
+        return merged.top(limit);
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.leaderboard.checkpoint-interval:PT1M}",
+            initialDelayString = "${delivery.leaderboard.checkpoint-interval:PT1M}")
+    public void checkpoint() {
+        try {
+            long now = clock.millis();
+            LocalDateTime since = oldestNeeded(now);
+            if (!restored) {
+                restore(checkpoints.findByNodeIdAndBucketStartGreaterThanEqual(nodeId, since));
+                restored = true;
+            }
+
+            checkpoints.saveAll(snapshot(now));
+            checkpoints.deleteOlderThan(since);
+            peers = List.copyOf(checkpoints.findByNodeIdNotAndBucketStartGreaterThanEqual(nodeId, since));
+        } catch (RuntimeException e) {
+            // O ranking local continua valendo; o próximo checkpoint tenta de novo
+            logger.warn("Falha no checkpoint do ranking de produtos: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void add(List<OrderItem> items) {
+        long now = clock.millis();
+        expire(now);
+        SpaceSavingSketch slice = slices.computeIfAbsent(sliceStart(now), start -> new SpaceSavingSketch(capacity));
+        SpaceSavingSketch today = daySketch(now);
+        for (OrderItem item : items) {
+            slice.add(item.getProductId(), item.getQuantity());
+            today.add(item.getProductId(), item.getQuantity());
+        }
+    }
+
+    private synchronized void restore(List<LeaderboardCheckpointEntity> own) {
+        long now = clock.millis();
+        for (LeaderboardCheckpointEntity checkpoint : own) {
+            SpaceSavingSketch saved = SpaceSavingSketch.of(capacity, toRankings(checkpoint.getCounters()));
+            if (checkpoint.getKind() == LeaderboardCheckpointEntity.Kind.DAY) {
+                if (checkpoint.getBucketStart().toLocalDate().equals(currentDay(now))) {
+                    daySketch(now).merge(saved);
+                }
+            } else {
+                long start = toMillis(checkpoint.getBucketStart());
+                if (start >= windowStart(now)) {
+                    slices.computeIfAbsent(start, s -> new SpaceSavingSketch(capacity)).merge(saved);
+                }
+            }
+        }
+        logger.info("Ranking de produtos recuperado de {} checkpoint(s) do nó {}", own.size(), nodeId);
+    }
+
+    private synchronized List<LeaderboardCheckpointEntity> snapshot(long now) {
+        expire(now);
+        LocalDateTime updatedAt = toDateTime(now);
+        List<LeaderboardCheckpointEntity> snapshot = new ArrayList<>();
+        for (Map.Entry<Long, SpaceSavingSketch> slice : slices.entrySet()) {
+            snapshot.add(new LeaderboardCheckpointEntity(nodeId, LeaderboardCheckpointEntity.Kind.SLICE,
+                    toDateTime(slice.getKey()), toCounters(slice.getValue()), updatedAt));
+        }
+        SpaceSavingSketch today = daySketch(now);
+        if (!today.isEmpty()) {
+            snapshot.add(new LeaderboardCheckpointEntity(nodeId, LeaderboardCheckpointEntity.Kind.DAY,
+                    day.atStartOfDay(), toCounters(today), updatedAt));
+        }
+        return snapshot;
+    }
+
+    private void expire(long now) {
+        slices.headMap(windowStart(now), false).clear();
+    }
+
+    private SpaceSavingSketch daySketch(long now) {
+        LocalDate today = currentDay(now);
+        if (!today.equals(day)) {
+            day = today;
+            daySketch = new SpaceSavingSketch(capacity);
+        }
+        return daySketch;
+    }
+
+    private long sliceStart(long millis) {
+        return millis - Math.floorMod(millis, sliceMillis);
+    }
+
+    // A última hora são as slicesPerHour fatias mais recentes, incluindo a corrente
+    private long windowStart(long now) {
+        return sliceStart(now) - (slicesPerHour - 1) * sliceMillis;
+    }
+
+    private LocalDateTime oldestNeeded(long now) {
+        LocalDateTime windowStart = toDateTime(windowStart(now));
+        LocalDateTime midnight = currentDay(now).atStartOfDay();
+        return windowStart.isBefore(midnight) ? windowStart : midnight;
+    }
+
+    private LocalDate currentDay(long millis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(millis), clock.getZone());
+    }
+
+    private LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone());
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static List<LeaderboardCounter> toCounters(SpaceSavingSketch sketch) {
+        return sketch.counters().stream()
+                .map(ranking -> new LeaderboardCounter(ranking.getProductId(), ranking.getQuantity(), ranking.getError()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<ProductRanking> toRankings(List<LeaderboardCounter> counters) {
+        return counters.stream()
+                .map(counter -> new ProductRanking(counter.getProductId(), counter.getCount(), counter.getError()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.delivery.infrastructure.leaderboard;
+
+import br.com.delivery.domain.readmodel.ProductRanking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Resumo Space-Saving (Metwally, Agrawal e El Abbadi) com pesos: guarda no máximo capacity
+ * contadores. Um produto novo com o resumo cheio assume o contador do menor, e a contagem
+ * herdada vira o seu erro; para todo produto, count - error <= real <= count.
+ * Resumos podem ser somados (merge) sem perder essa garantia.
+ *
+ * Não é thread-safe: o {@link ProductLeaderboard} serializa o acesso.
+ */
+class SpaceSavingSketch {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator
+            .comparingLong((Counter counter) -> counter.count)
+            .thenComparing(counter -> counter.key);
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final NavigableSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+
+    SpaceSavingSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacidade do resumo deve ser positiva");
+        }
+        this.capacity = capacity;
+    }
+
+    void add(String key, long weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            // O TreeSet ordena pela contagem: remover antes de alterar
+            byCount.remove(counter);
+            counter.count += weight;
+            byCount.add(counter);
+            return;
+        }
+        if (counters.size() < capacity) {
+            insert(new Counter(key, weight, 0));
+            return;
+        }
+        Counter min = byCount.pollFirst();
+        counters.remove(min.key);
+        insert(new Counter(key, min.count + weight, min.count));
+    }
+
+    /**
+     * Soma outro resumo a este. Um produto ausente de um dos lados pode ter ali até o menor
+     * contador daquele resumo (se cheio), que entra na contagem e no erro.
+     */
+    void merge(SpaceSavingSketch other) {
+        long ownFloor = floor();
+        long otherFloor = other.floor();
+        List<Counter> merged = new ArrayList<>(counters.size() + other.counters.size());
+        for (Counter own : counters.values()) {
+            Counter theirs = other.counters.get(own.key);
+            merged.add(theirs != null
+                    ? new Counter(own.key, own.count + theirs.count, own.error + theirs.error)
+                    : new Counter(own.key, own.count + otherFloor, own.error + otherFloor));
+        }
+        for (Counter theirs : other.counters.values()) {
+            if (!counters.containsKey(theirs.key)) {
+                merged.add(new Counter(theirs.key, theirs.count + ownFloor, theirs.error + ownFloor));
+            }
+        }
+
+        counters.clear();
+        byCount.clear();
+        merged.sort(BY_COUNT.reversed());
+        for (int i = 0; i < merged.size() && i < capacity; i++) {
+            insert(merged.get(i));
+        }
+    }
+
+    List<ProductRanking> top(int limit) {
+        List<ProductRanking> top = new ArrayList<>(Math.min(limit, counters.size()));
+        for (Counter counter : byCount.descendingSet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(new ProductRanking(counter.key, counter.count, counter.error));
+        }
+        return top;
+    }
+
+    /**
+     * Todos os contadores, para checkpoint; {@link #of} reconstrói o resumo a partir deles.
+     */
+    List<ProductRanking> counters() {
+        return top(counters.size());
+    }
+
+    static SpaceSavingSketch of(int capacity, List<ProductRanking> snapshot) {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        List<ProductRanking> largestFirst = new ArrayList<>(snapshot);
+        largestFirst.sort(Comparator.comparingLong(ProductRanking::getQuantity).reversed());
+        for (ProductRanking ranking : largestFirst) {
+            if (sketch.counters.size() == capacity) {
+                break;
+            }
+            if (!sketch.counters.containsKey(ranking.getProductId())) {
+                sketch.insert(new Counter(ranking.getProductId(), ranking.getQuantity(), ranking.getError()));
+            }
+        }
+        return sketch;
+    }
+
+    boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    private long floor() {
+        return counters.size() < capacity ? 0 : byCount.first().count;
+    }
+
+    private void insert(Counter counter) {
+        counters.put(counter.key, counter);
+        byCount.add(counter);
+    }
+
+    private static class Counter {
+        private final String key;
+        private long count;
+        private final long error;
+
+        Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.delivery.infrastructure.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+
+/**
+ * Um span por chamada de controller, de caso de uso (*UseCase.execute) e de adapter de
+ * persistência, com a classe e o método como tags. Fica por fora dos demais proxies
+ * (transação, cache, @PreAuthorize): o span do adapter inclui o flush e o commit do Hibernate,
+ * e o do caso de uso inclui a consulta ao cache.
+ */
+@Aspect
+public class TracingAspect implements Ordered {
+
+    private final ObservationRegistry observationRegistry;
+
+    public TracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("within(br.com.delivery.infrastructure.web.controller..*) && execution(public * *(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("delivery.controller", joinPoint);
+    }
+
+    @Around("execution(public * br.com.delivery.application.usecase.*UseCase.execute(..))")
+    public Object traceUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("delivery.usecase", joinPoint);
+    }
+
+    @Around("within(br.com.delivery.infrastructure.persistence.adapter..*) && execution(public * *(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("delivery.repository", joinPoint);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private Object observe(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(type + "." + method)
+                .lowCardinalityKeyValue("class", type)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
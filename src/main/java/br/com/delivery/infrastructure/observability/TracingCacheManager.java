@@ -0,0 +1,164 @@
+package br.com.delivery.infrastructure.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Envolve o CacheManager para abrir um span em cada get, put e evict, com o nome do cache, a
+ * operação e, nas leituras, se foi acerto ou falta. A chave não vai para o span.
+ */
+public class TracingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final ObservationRegistry observationRegistry;
+    private final Map<String, Cache> tracedCaches = new ConcurrentHashMap<>();
+
+    public TracingCacheManager(CacheManager delegate, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        return tracedCaches.computeIfAbsent(name, n -> new TracingCache(cache, observationRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private static class TracingCache implements Cache {
+
+        private final Cache delegate;
+        private final ObservationRegistry observationRegistry;
+
+        TracingCache(Cache delegate, ObservationRegistry observationRegistry) {
+            this.delegate = delegate;
+            this.observationRegistry = observationRegistry;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return observeRead("get", () -> delegate.get(key));
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return observeRead("get", () -> delegate.get(key, type));
+        }
+
+        // O span inclui o carregamento quando a chave falta
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return observe("get", () -> delegate.get(key, valueLoader));
+        }
+
+        // Só o disparo da leitura assíncrona; a espera fica no span de quem chama
+        @Override
+        public CompletableFuture<?> retrieve(Object key) {
+            return observe("retrieve", () -> delegate.retrieve(key));
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            return observe("retrieve", () -> delegate.retrieve(key, valueLoader));
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            observe("put", () -> {
+                delegate.put(key, value);
+                return null;
+            });
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return observe("put", () -> delegate.putIfAbsent(key, value));
+        }
+
+        @Override
+        public void evict(Object key) {
+            observe("evict", () -> {
+                delegate.evict(key);
+                return null;
+            });
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return observe("evict", () -> delegate.evictIfPresent(key));
+        }
+
+        @Override
+        public void clear() {
+            observe("clear", () -> {
+                delegate.clear();
+                return null;
+            });
+        }
+
+        @Override
+        public boolean invalidate() {
+            return observe("clear", delegate::invalidate);
+        }
+
+        private <T> T observeRead(String operation, Supplier<T> read) {
+            Observation observation = start(operation);
+            try (Observation.Scope scope = observation.openScope()) {
+                T value = read.get();
+                observation.lowCardinalityKeyValue("result", value != null ? "hit" : "miss");
+                return value;
+            } catch (RuntimeException e) {
+                observation.error(e);
+                throw e;
+            } finally {
+                observation.stop();
+            }
+        }
+
+        private <T> T observe(String operation, Supplier<T> call) {
+            Observation observation = start(operation);
+            try (Observation.Scope scope = observation.openScope()) {
+                return call.get();
+            } catch (RuntimeException e) {
+                observation.error(e);
+                throw e;
+            } finally {
+                observation.stop();
+            }
+        }
+
+        private Observation start(String operation) {
+            return Observation.createNotStarted("delivery.cache", observationRegistry)
+                    .contextualName("cache " + operation + " " + getName())
+                    .lowCardinalityKeyValue("cache", getName())
+                    .lowCardinalityKeyValue("operation", operation)
+                    .start();
+        }
+    }
+}
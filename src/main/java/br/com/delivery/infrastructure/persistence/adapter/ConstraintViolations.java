@@ -0,0 +1,27 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Identifica a coluna de uma violação de constraint pela mensagem do driver: nome padrão da
+ * constraint no PostgreSQL ({@code customers_email_key}, {@code orders_customer_id_fkey}) ou
+ * a descrição do índice no H2 ({@code CUSTOMERS(EMAIL ...)}, {@code ORDERS FOREIGN KEY(CUSTOMER_ID)}).
+ */
+final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    static boolean involves(DataIntegrityViolationException e, String table, String column) {
+        String message = e.getMostSpecificCause().getMessage();
+        if (message == null) {
+            return false;
+        }
+        String normalized = message.toLowerCase(Locale.ROOT);
+        return normalized.contains(table + "_" + column + "_")
+                || normalized.contains(table + "(" + column)
+                || normalized.contains(table + " foreign key(" + column);
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.port.CustomerImportPort;
+import br.com.delivery.domain.readmodel.CustomerImportReject;
+import br.com.delivery.domain.readmodel.CustomerImportSummary;
+import br.com.delivery.domain.valueobject.CustomerImportLine;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Importação em massa de clientes no PostgreSQL. As linhas vão por COPY para uma tabela
+ * temporária da transação, sem passar pelo Hibernate nem acumular em memória; a deduplicação
+ * (tamanho das colunas, repetidos no arquivo, já cadastrados) é feita em poucos comandos sobre
+ * o conjunto, e os válidos entram em customers com um único INSERT ... SELECT.
+ *
+ * Tudo em uma transação: se o envio for interrompido, nada é importado.
+ */
+@Component
+public class CustomerImportRepositoryAdapter implements CustomerImportPort {
+
+    static final String CREATE_STAGING =
+            "CREATE TEMP TABLE customer_import_staging (line_number INTEGER NOT NULL, id VARCHAR(36), "
+                    + "name TEXT, email TEXT, document TEXT, reason VARCHAR(200)) ON COMMIT DROP";
+    static final String COPY_STAGING =
+            "COPY customer_import_staging (line_number, id, name, email, document, reason) FROM STDIN WITH (FORMAT csv)";
+    static final String REJECT_OVERSIZED =
+            "UPDATE customer_import_staging SET reason = CASE "
+                    + "WHEN length(name) > 100 THEN 'Nome excede 100 caracteres' "
+                    + "WHEN length(email) > 255 THEN 'Email excede 255 caracteres' "
+                    + "ELSE 'Documento excede 14 caracteres' END "
+                    + "WHERE reason IS NULL AND (length(name) > 100 OR length(email) > 255 OR length(document) > 14)";
+    // Mantém a primeira ocorrência de cada valor no arquivo
+    static final String REJECT_REPEATED =
+            "UPDATE customer_import_staging s SET reason = ? FROM ("
+                    + "SELECT line_number, row_number() OVER (PARTITION BY %1$s ORDER BY line_number) AS occurrence "
+                    + "FROM customer_import_staging WHERE reason IS NULL) d "
+                    + "WHERE s.line_number = d.line_number AND d.occurrence > 1";
+    static final String REJECT_EXISTING =
+            "UPDATE customer_import_staging s SET reason = ? "
+                    + "WHERE s.reason IS NULL AND EXISTS (SELECT 1 FROM customers c WHERE c.%1$s = s.%1$s)";
+    // Sem alvo no ON CONFLICT: cobre email e documento cadastrados por outra transação depois da verificação
+    static final String INSERT_CUSTOMERS =
+            "INSERT INTO customers (id, name, email, document, created_at, updated_at) "
+                    + "SELECT id, name, email, document, ?, ? FROM customer_import_staging WHERE reason IS NULL "
+                    + "ORDER BY line_number ON CONFLICT DO NOTHING";
+    static final String REJECT_CONFLICTING =
+            "UPDATE customer_import_staging s SET reason = 'Email ou documento cadastrado durante a importação' "
+                    + "WHERE s.reason IS NULL AND NOT EXISTS (SELECT 1 FROM customers c WHERE c.id = s.id)";
+    static final String INSERT_IMPORT =
+            "INSERT INTO customer_import (id, received, imported, rejected, created_at) "
+                    + "SELECT ?, count(*), count(*) - count(reason), count(reason), ? FROM customer_import_staging";
+    static final String INSERT_REJECTS =
+            "INSERT INTO customer_import_reject (import_id, line_number, name, email, document, reason) "
+                    + "SELECT ?, line_number, name, email, document, reason FROM customer_import_staging "
+                    + "WHERE reason IS NOT NULL";
+    static final String SELECT_IMPORTED =
+            "SELECT id, name, email, document FROM customer_import_staging WHERE reason IS NULL";
+    static final String SELECT_IMPORT =
+            "SELECT id, received, imported, rejected, created_at FROM customer_import WHERE id = ?";
+    static final String SELECT_REJECTS =
+            "SELECT line_number, name, email, document, reason FROM customer_import_reject "
+                    + "WHERE import_id = ? ORDER BY line_number";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerImportRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public CustomerImportSummary load(String importId, Iterator<CustomerImportLine> lines, Consumer<Customer> imported) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PostgresBulk.copy(connection, COPY_STAGING, lines, CustomerImportRepositoryAdapter::writeRow);
+            return null;
+        });
+        // Estatísticas da tabela recém-carregada: sem elas o planejador supõe poucas linhas
+        jdbcTemplate.execute("ANALYZE customer_import_staging");
+
+        jdbcTemplate.update(REJECT_OVERSIZED);
+        jdbcTemplate.update(String.format(REJECT_REPEATED, "email"), "Email repetido no arquivo");
+        jdbcTemplate.update(String.format(REJECT_REPEATED, "document"), "Documento repetido no arquivo");
+        jdbcTemplate.update(String.format(REJECT_EXISTING, "email"), "Já existe um cliente cadastrado com este email");
+        jdbcTemplate.update(String.format(REJECT_EXISTING, "document"),
+                "Já existe um cliente cadastrado com este documento");
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_CUSTOMERS, now, now);
+        jdbcTemplate.update(REJECT_CONFLICTING);
+        jdbcTemplate.update(INSERT_IMPORT, importId, now);
+        jdbcTemplate.update(INSERT_REJECTS, importId);
+
+        jdbcTemplate.query(connection -> PostgresBulk.streaming(connection, SELECT_IMPORTED), rs -> {
+            imported.accept(new Customer(rs.getString("id"), rs.getString("name"), rs.getString("email"),
+                    rs.getString("document")));
+        });
+        return findById(importId).orElseThrow();
+    }
+
+    @Override
+    @Transactional
+    public Optional<CustomerImportSummary> findById(String importId) {
+        List<CustomerImportSummary> found = jdbcTemplate.query(SELECT_IMPORT, (rs, rowNum) -> new CustomerImportSummary(
+                rs.getString("id"), rs.getInt("received"), rs.getInt("imported"), rs.getInt("rejected"),
+                rs.getTimestamp("created_at").toLocalDateTime()), importId);
+        return found.stream().findFirst();
+    }
+
+    // Sem readOnly: o relatório costuma ser baixado logo após a importação, antes de chegar às réplicas
+    @Override
+    @Transactional
+    public void forEachReject(String importId, Consumer<CustomerImportReject> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = PostgresBulk.streaming(connection, SELECT_REJECTS);
+            statement.setString(1, importId);
+            return statement;
+        }, rs -> {
+            action.accept(new CustomerImportReject(rs.getInt("line_number"), rs.getString("name"),
+                    rs.getString("email"), rs.getString("document"), rs.getString("reason")));
+        });
+    }
+
+    static void writeRow(Writer writer, CustomerImportLine line) throws IOException {
+        writer.write(Integer.toString(line.getLineNumber()));
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.isAccepted() ? line.getCustomer().getId() : null);
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.getName());
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.getEmail());
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.getDocument());
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.getReason());
+        writer.write('\n');
+    }
+}
@@ -1,11 +1,13 @@
 package br.com.delivery.infrastructure.persistence.adapter;
 
+import br.com.delivery.application.diagnostics.DiagnosticTrace;
 import br.com.delivery.domain.entity.Customer;
 import br.com.delivery.domain.port.CustomerRepositoryPort;
 import br.com.delivery.infrastructure.persistence.entity.CustomerEntity;
 import br.com.delivery.infrastructure.persistence.repository.CustomerJpaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,41 +25,48 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
         this.jpaRepository = jpaRepository;
     }
     
+    /**
+     * As constraints únicas de email e documento decidem a duplicidade: a violação vira a mesma
+     * mensagem da verificação prévia do caso de uso.
+     */
     @Override
     @Transactional
     public Customer save(Customer customer) {
         CustomerEntity entity = toEntity(customer);
-        CustomerEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        try {
+            CustomerEntity savedEntity = jpaRepository.saveAndFlush(entity);
+            return toDomain(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<Customer> findById(String id) {
         return jpaRepository.findById(id)
                 .map(this::toDomain);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Customer> findAll() {
         try {
             List<CustomerEntity> entities = jpaRepository.findAll();
-            logger.info("Encontradas {} entidades CustomerEntity no banco", entities.size());
-            
-            for (CustomerEntity entity : entities) {
-                logger.info("CustomerEntity: id={}, name={}, email={}, document={}", 
-                    entity.getId(), entity.getName(), entity.getEmail(), entity.getDocument());
-            }
+            DiagnosticTrace trace = DiagnosticTrace.current();
             
             List<Customer> customers = entities.stream()
-                    .map(this::toDomain)
+                    .map(entity -> {
+                        Customer customer = toDomain(entity);
+                        if (trace != null) {
+                            trace.record("CustomerEntity convertida: id={}, name={}, email={}, document={}",
+                                entity.getId(), entity.getName(), entity.getEmail(), entity.getDocument());
+                        }
+                        return customer;
+                    })
                     .collect(Collectors.toList());
             
-            logger.info("Convertidas {} entidades para Customer domain", customers.size());
-            for (Customer customer : customers) {
-                logger.info("Customer domain: id={}, name={}, email={}, document={}", 
-                    customer.getId(), customer.getName(), customer.getEmail(), customer.getDocument());
-            }
-            
+            logger.debug("Encontrados {} clientes no banco", customers.size());
             return customers;
         } catch (Exception e) {
             logger.error("Erro ao buscar clientes", e);
@@ -72,22 +81,35 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(String id) {
         return jpaRepository.existsById(id);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<Customer> findByEmail(String email) {
         return jpaRepository.findByEmail(email)
                 .map(this::toDomain);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<Customer> findByDocument(String document) {
         return jpaRepository.findByDocument(document)
                 .map(this::toDomain);
     }
     
+    private static IllegalArgumentException translate(DataIntegrityViolationException e) {
+        if (ConstraintViolations.involves(e, "customers", "email")) {
+            return new IllegalArgumentException("Já existe um cliente cadastrado com este email", e);
+        }
+        if (ConstraintViolations.involves(e, "customers", "document")) {
+            return new IllegalArgumentException("Já existe um cliente cadastrado com este documento", e);
+        }
+        return new IllegalArgumentException("Cliente viola uma restrição de integridade", e);
+    }
+    
     private CustomerEntity toEntity(Customer customer) {
         return new CustomerEntity(
                 customer.getId(),
@@ -0,0 +1,48 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import br.com.delivery.domain.port.OrderIntakePort;
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import br.com.delivery.domain.valueobject.OrderIntakeItem;
+import br.com.delivery.infrastructure.intake.OrderIntakeAppender;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeLine;
+import br.com.delivery.infrastructure.persistence.repository.OrderIntakeJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderIntakeRepositoryAdapter implements OrderIntakePort {
+
+    private final OrderIntakeAppender appender;
+    private final OrderIntakeJpaRepository repository;
+
+    public OrderIntakeRepositoryAdapter(OrderIntakeAppender appender, OrderIntakeJpaRepository repository) {
+        this.appender = appender;
+        this.repository = repository;
+    }
+
+    @Override
+    public OrderIntakeTicket append(String ticket, String customerId, List<OrderIntakeItem> items) {
+        List<OrderIntakeLine> lines = items.stream()
+                .map(item -> new OrderIntakeLine(item.getProductId(), item.getQuantity()))
+                .collect(Collectors.toList());
+        OrderIntakeEntity entity = new OrderIntakeEntity(ticket, customerId, lines, LocalDateTime.now());
+        appender.submit(entity);
+        return toDomain(entity);
+    }
+
+    // Sem readOnly: o andamento muda a todo instante e é lido do primário, não de uma réplica atrasada
+    @Override
+    public Optional<OrderIntakeTicket> findByTicket(String ticket) {
+        return repository.findById(ticket).map(this::toDomain);
+    }
+
+    private OrderIntakeTicket toDomain(OrderIntakeEntity entity) {
+        return new OrderIntakeTicket(entity.getTicket(), entity.getStatus(), entity.getOrderId(), entity.getError(),
+                entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+}
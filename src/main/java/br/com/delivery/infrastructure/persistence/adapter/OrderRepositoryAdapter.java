@@ -1,16 +1,28 @@
 package br.com.delivery.infrastructure.persistence.adapter;
 
+import br.com.delivery.application.diagnostics.DiagnosticTrace;
 import br.com.delivery.domain.entity.Order;
 import br.com.delivery.domain.port.OrderRepositoryPort;
 import br.com.delivery.domain.valueobject.OrderItem;
 import br.com.delivery.infrastructure.persistence.entity.OrderEntity;
 import br.com.delivery.infrastructure.persistence.entity.OrderItemEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewItem;
+import br.com.delivery.infrastructure.persistence.groupcommit.OrderGroupCommitWriter;
 import br.com.delivery.infrastructure.persistence.repository.OrderJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.OrderViewJpaRepository;
+import br.com.delivery.infrastructure.persistence.routing.ReadYourWritesTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -20,19 +32,94 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     
     private static final Logger logger = LoggerFactory.getLogger(OrderRepositoryAdapter.class);
     private final OrderJpaRepository jpaRepository;
+    private final OrderViewJpaRepository viewRepository;
+    private final SalesRollupRepositoryAdapter salesRollup;
+    private final ObjectProvider<OrderGroupCommitWriter> groupCommitWriter;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+    private final TransactionTemplate transactionTemplate;
     
-    public OrderRepositoryAdapter(OrderJpaRepository jpaRepository) {
+    public OrderRepositoryAdapter(OrderJpaRepository jpaRepository, OrderViewJpaRepository viewRepository,
+                                  SalesRollupRepositoryAdapter salesRollup,
+                                  ObjectProvider<OrderGroupCommitWriter> groupCommitWriter,
+                                  ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                                  PlatformTransactionManager transactionManager) {
         this.jpaRepository = jpaRepository;
+        this.viewRepository = viewRepository;
+        this.salesRollup = salesRollup;
+        this.groupCommitWriter = groupCommitWriter;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     @Override
     @Transactional
     public Order save(Order order) {
+        // Status e data de criação anteriores, lidos da projeção antes de sobrescrevê-la; a linha
+        // fica travada até o commit para outra transição não partir do mesmo status
+        Optional<OrderViewEntity> previous = viewRepository.findForUpdate(order.getId());
+        Order.OrderStatus previousStatus = previous.map(OrderViewEntity::getStatus).orElse(null);
+        LocalDateTime createdAt = previous.map(OrderViewEntity::getCreatedAt).orElse(null);
+        
         OrderEntity entity = toEntity(order);
         OrderEntity savedEntity = jpaRepository.save(entity);
+        
+        // Manter a projeção de leitura e a consolidação de vendas na mesma transação do modelo de escrita
+        viewRepository.save(toView(savedEntity));
+        if (previous.isEmpty()) {
+            salesRollup.recordCreated(savedEntity);
+        } else {
+            salesRollup.recordStatusChange(savedEntity, createdAt, previousStatus);
+        }
+        
         return toDomain(savedEntity);
     }
     
+    /**
+     * Fora de uma transação, o pedido vai para o group commit e divide o commit com os pedidos
+     * concorrentes; a chamada só retorna depois de confirmado. Como o commit acontece na thread
+     * gravadora, a escrita é registrada aqui, na thread do cliente, para as leituras seguintes
+     * dele irem ao primário. Dentro de uma transação do chamador, ou com o group commit
+     * desligado, é gravado na transação corrente.
+     *
+     * A existência do cliente é garantida pela chave estrangeira: a violação vira a mesma
+     * mensagem da verificação do caso de uso.
+     */
+    @Override
+    public Order create(Order order) {
+        OrderEntity entity = toEntity(order);
+        OrderGroupCommitWriter writer = groupCommitWriter.getIfAvailable();
+        if (writer != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                writer.submit(entity);
+            } catch (DataIntegrityViolationException e) {
+                if (isUnknownCustomer(e)) {
+                    throw new IllegalArgumentException("Cliente não encontrado", e);
+                }
+                throw e;
+            }
+            readYourWritesTracker.ifAvailable(ReadYourWritesTracker::recordWrite);
+            return toDomain(entity);
+        }
+        
+        try {
+            return transactionTemplate.execute(status -> {
+                OrderEntity savedEntity = jpaRepository.saveAndFlush(entity);
+                viewRepository.save(toView(savedEntity));
+                salesRollup.recordCreated(savedEntity);
+                return toDomain(savedEntity);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isUnknownCustomer(e)) {
+                throw new IllegalArgumentException("Cliente não encontrado", e);
+            }
+            throw e;
+        }
+    }
+    
+    private static boolean isUnknownCustomer(DataIntegrityViolationException e) {
+        return ConstraintViolations.involves(e, "orders", "customer_id");
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<Order> findById(String id) {
@@ -64,6 +151,7 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(String id) {
         return jpaRepository.existsById(id);
     }
@@ -115,11 +203,24 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         return entity;
     }
     
+    private OrderViewEntity toView(OrderEntity entity) {
+        List<OrderViewItem> items = entity.getItems().stream()
+                .map(item -> new OrderViewItem(item.getProductId(), item.getQuantity(), item.getUnitPrice()))
+                .collect(Collectors.toList());
+        
+        return new OrderViewEntity(
+                entity.getId(),
+                entity.getCustomerId(),
+                entity.getStatus(),
+                entity.getTotal(),
+                items,
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+    
     private Order toDomain(OrderEntity entity) {
         try {
-            logger.debug("Convertendo OrderEntity para Order - ID: {}, Status: {}, Items: {}", 
-                    entity.getId(), entity.getStatus(), entity.getItems().size());
-            
             List<OrderItem> items = entity.getItems().stream()
                     .map(this::toDomainItem)
                     .collect(Collectors.toList());
@@ -128,11 +229,15 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
             
             // Aplicar status atual
             if (entity.getStatus() != Order.OrderStatus.CREATED) {
-                logger.debug("Aplicando status {} ao pedido {}", entity.getStatus(), entity.getId());
                 order.advanceTo(entity.getStatus());
             }
             
-            logger.debug("Conversão concluída - Order ID: {}, Status: {}", order.getId(), order.getStatus());
+            // Chamado por pedido nas listagens: detalhe só no trace de diagnóstico
+            DiagnosticTrace trace = DiagnosticTrace.current();
+            if (trace != null) {
+                trace.record("OrderEntity convertida: id={}, status={}, itens={}",
+                        order.getId(), order.getStatus(), items.size());
+            }
             return order;
         } catch (Exception e) {
             logger.error("Erro ao converter OrderEntity para Order - ID: {}, Status: {}, Items: {}", 
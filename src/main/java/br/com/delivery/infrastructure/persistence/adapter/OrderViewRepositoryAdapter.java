@@ -0,0 +1,104 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.port.OrderViewRepositoryPort;
+import br.com.delivery.domain.readmodel.OrderView;
+import br.com.delivery.domain.valueobject.OrderItem;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewItem;
+import br.com.delivery.infrastructure.persistence.repository.OrderViewJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderViewRepositoryAdapter implements OrderViewRepositoryPort {
+    
+    // Mais recentes primeiro; o id desempata pedidos criados no mesmo instante
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("orderId"));
+    
+    private final OrderViewJpaRepository jpaRepository;
+    
+    public OrderViewRepositoryAdapter(OrderViewJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderView> findAll(Order.OrderStatus status) {
+        List<OrderViewEntity> entities = status != null
+                ? jpaRepository.findByStatus(status, NEWEST_FIRST)
+                : jpaRepository.findAll(NEWEST_FIRST);
+        return entities.stream()
+                .map(this::toReadModel)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderView> findPage(Order.OrderStatus status, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, NEWEST_FIRST);
+        List<OrderViewEntity> entities = status != null
+                ? jpaRepository.findByStatus(status, pageRequest)
+                : jpaRepository.findAllBy(pageRequest);
+        return entities.stream()
+                .map(this::toReadModel)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long count(Order.OrderStatus status) {
+        return status != null ? jpaRepository.countByStatus(status) : jpaRepository.count();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderView> findCustomerPage(String customerId, Order.OrderStatus status,
+                                            LocalDateTime beforeCreatedAt, String beforeOrderId, int limit) {
+        // Keyset: a página seguinte começa depois do último (created_at, order_id) visto, sem OFFSET
+        PageRequest firstRows = PageRequest.ofSize(limit);
+        List<OrderViewEntity> entities;
+        if (beforeCreatedAt == null) {
+            entities = status != null
+                    ? jpaRepository.findCustomerFirstPage(customerId, status, firstRows)
+                    : jpaRepository.findCustomerFirstPage(customerId, firstRows);
+        } else {
+            entities = status != null
+                    ? jpaRepository.findCustomerPageAfter(customerId, status, beforeCreatedAt, beforeOrderId, firstRows)
+                    : jpaRepository.findCustomerPageAfter(customerId, beforeCreatedAt, beforeOrderId, firstRows);
+        }
+        return entities.stream()
+                .map(this::toReadModel)
+                .collect(Collectors.toList());
+    }
+    
+    private OrderView toReadModel(OrderViewEntity entity) {
+        List<OrderItem> items = entity.getItems().stream()
+                .map(this::toReadModelItem)
+                .collect(Collectors.toList());
+        
+        return new OrderView(
+                entity.getOrderId(),
+                entity.getCustomerId(),
+                entity.getStatus(),
+                entity.getTotal(),
+                entity.getItemCount(),
+                items,
+                entity.getCreatedAt()
+        );
+    }
+    
+    private OrderItem toReadModelItem(OrderViewItem item) {
+        return new OrderItem(
+                item.getProductId(),
+                item.getQuantity(),
+                item.getUnitPrice()
+        );
+    }
+}
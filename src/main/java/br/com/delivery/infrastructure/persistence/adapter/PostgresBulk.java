@@ -0,0 +1,75 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Apoio às cargas em massa no PostgreSQL: envio de linhas por COPY no formato csv e leitura
+ * de resultados grandes em blocos.
+ */
+final class PostgresBulk {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int FETCH_SIZE = 1000;
+
+    private PostgresBulk() {
+    }
+
+    @FunctionalInterface
+    interface RowWriter<T> {
+        void write(Writer writer, T row) throws IOException;
+    }
+
+    static <T> void copy(Connection connection, String sql, Iterator<T> rows, RowWriter<T> rowWriter)
+            throws SQLException {
+        PGCopyOutputStream stream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, COPY_BUFFER_SIZE);
+        try {
+            Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+            while (rows.hasNext()) {
+                rowWriter.write(writer, rows.next());
+            }
+            writer.flush();
+            stream.endCopy();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao enviar linhas pelo COPY", e);
+        } finally {
+            // Envio interrompido (erro de leitura do arquivo): cancela o COPY e a transação é desfeita
+            if (stream.isActive()) {
+                stream.cancelCopy();
+            }
+        }
+    }
+
+    // Campo no formato csv do COPY: vazio sem aspas é NULL, os demais vão sempre entre aspas
+    static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    // Com autocommit desligado (dentro da transação) o driver lê o resultado em blocos, não de uma vez
+    static PreparedStatement streaming(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setFetchSize(FETCH_SIZE);
+        return statement;
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import br.com.delivery.domain.port.ProductImportPort;
+import br.com.delivery.domain.readmodel.ProductImportOutcome;
+import br.com.delivery.domain.readmodel.ProductImportRow;
+import br.com.delivery.domain.readmodel.ProductImportSummary;
+import br.com.delivery.domain.valueobject.ProductImportLine;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Carga em massa de produtos no PostgreSQL. As linhas vão por COPY para uma tabela temporária
+ * da transação e entram em products com um único INSERT ... ON CONFLICT DO UPDATE; o RETURNING
+ * diz, por id, se a linha foi criada (xmax = 0) ou alterada. Produtos idênticos ao cadastro não
+ * são regravados e ficam como inalterados.
+ *
+ * Tudo em uma transação: se o envio for interrompido, nada é gravado.
+ */
+@Component
+public class ProductImportRepositoryAdapter implements ProductImportPort {
+
+    static final String CREATE_STAGING =
+            "CREATE TEMP TABLE product_import_staging (line_number INTEGER NOT NULL, id TEXT, name TEXT, "
+                    + "price NUMERIC(10,2), outcome VARCHAR(10), reason VARCHAR(200)) ON COMMIT DROP";
+    static final String COPY_STAGING =
+            "COPY product_import_staging (line_number, id, name, price, reason) FROM STDIN WITH (FORMAT csv)";
+    // Vale a última ocorrência de cada id no arquivo, como se as linhas fossem aplicadas em ordem
+    static final String REJECT_REPEATED =
+            "UPDATE product_import_staging s SET reason = 'Produto repetido adiante no arquivo' FROM ("
+                    + "SELECT line_number, row_number() OVER (PARTITION BY id ORDER BY line_number DESC) AS occurrence "
+                    + "FROM product_import_staging WHERE reason IS NULL) d "
+                    + "WHERE s.line_number = d.line_number AND d.occurrence > 1";
+    // Ordenado por id: cargas concorrentes travam as linhas na mesma ordem, sem deadlock
+    static final String UPSERT_PRODUCTS =
+            "WITH upserted AS ("
+                    + "INSERT INTO products (id, name, price, created_at, updated_at) "
+                    + "SELECT id, name, price, ?, ? FROM product_import_staging WHERE reason IS NULL ORDER BY id "
+                    + "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, price = EXCLUDED.price, "
+                    + "updated_at = EXCLUDED.updated_at "
+                    + "WHERE (products.name, products.price) IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.price) "
+                    + "RETURNING id, xmax = 0 AS inserted) "
+                    + "UPDATE product_import_staging s SET outcome = CASE WHEN u.inserted THEN 'CREATED' ELSE 'UPDATED' END "
+                    + "FROM upserted u WHERE s.id = u.id AND s.reason IS NULL";
+    static final String SET_REMAINING_OUTCOMES =
+            "UPDATE product_import_staging SET outcome = CASE WHEN reason IS NULL THEN 'UNCHANGED' ELSE 'REJECTED' END "
+                    + "WHERE outcome IS NULL";
+    static final String INSERT_IMPORT =
+            "INSERT INTO product_import (id, received, created, updated, unchanged, rejected, created_at) "
+                    + "SELECT ?, count(*), count(*) FILTER (WHERE outcome = 'CREATED'), "
+                    + "count(*) FILTER (WHERE outcome = 'UPDATED'), count(*) FILTER (WHERE outcome = 'UNCHANGED'), "
+                    + "count(*) FILTER (WHERE outcome = 'REJECTED'), ? FROM product_import_staging";
+    static final String INSERT_ROWS =
+            "INSERT INTO product_import_row (import_id, line_number, product_id, outcome, reason) "
+                    + "SELECT ?, line_number, id, outcome, reason FROM product_import_staging";
+    static final String SELECT_IMPORT =
+            "SELECT id, received, created, updated, unchanged, rejected, created_at FROM product_import WHERE id = ?";
+    static final String SELECT_ROWS =
+            "SELECT line_number, product_id, outcome, reason FROM product_import_row "
+                    + "WHERE import_id = ? ORDER BY line_number";
+    static final String SELECT_ROWS_BY_OUTCOME =
+            "SELECT line_number, product_id, outcome, reason FROM product_import_row "
+                    + "WHERE import_id = ? AND outcome = ? ORDER BY line_number";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductImportRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public ProductImportSummary load(String importId, Iterator<ProductImportLine> lines) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PostgresBulk.copy(connection, COPY_STAGING, lines, ProductImportRepositoryAdapter::writeRow);
+            return null;
+        });
+        // Estatísticas da tabela recém-carregada: sem elas o planejador supõe poucas linhas
+        jdbcTemplate.execute("ANALYZE product_import_staging");
+
+        jdbcTemplate.update(REJECT_REPEATED);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(UPSERT_PRODUCTS, now, now);
+        jdbcTemplate.update(SET_REMAINING_OUTCOMES);
+        jdbcTemplate.update(INSERT_IMPORT, importId, now);
+        jdbcTemplate.update(INSERT_ROWS, importId);
+        return findById(importId).orElseThrow();
+    }
+
+    @Override
+    @Transactional
+    public Optional<ProductImportSummary> findById(String importId) {
+        List<ProductImportSummary> found = jdbcTemplate.query(SELECT_IMPORT, (rs, rowNum) -> new ProductImportSummary(
+                rs.getString("id"), rs.getInt("received"), rs.getInt("created"), rs.getInt("updated"),
+                rs.getInt("unchanged"), rs.getInt("rejected"), rs.getTimestamp("created_at").toLocalDateTime()),
+                importId);
+        return found.stream().findFirst();
+    }
+
+    // Sem readOnly: o relatório costuma ser baixado logo após a carga, antes de chegar às réplicas
+    @Override
+    @Transactional
+    public void forEachRow(String importId, ProductImportOutcome outcome, Consumer<ProductImportRow> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = PostgresBulk.streaming(connection,
+                    outcome != null ? SELECT_ROWS_BY_OUTCOME : SELECT_ROWS);
+            statement.setString(1, importId);
+            if (outcome != null) {
+                statement.setString(2, outcome.name());
+            }
+            return statement;
+        }, rs -> {
+            action.accept(new ProductImportRow(rs.getInt("line_number"), rs.getString("product_id"),
+                    ProductImportOutcome.valueOf(rs.getString("outcome")), rs.getString("reason")));
+        });
+    }
+
+    static void writeRow(Writer writer, ProductImportLine line) throws IOException {
+        writer.write(Integer.toString(line.getLineNumber()));
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.getProductId());
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.isAccepted() ? line.getProduct().getName() : null);
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.isAccepted() ? line.getProduct().getPrice().toPlainString() : null);
+        writer.write(',');
+        PostgresBulk.writeField(writer, line.getReason());
+        writer.write('\n');
+    }
+}
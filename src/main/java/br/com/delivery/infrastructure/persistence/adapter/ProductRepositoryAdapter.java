@@ -29,12 +29,14 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(String id) {
         return jpaRepository.findById(id)
                 .map(this::toDomain);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findAll() {
         return jpaRepository.findAll().stream()
                 .map(this::toDomain)
@@ -48,11 +50,13 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(String id) {
         return jpaRepository.existsById(id);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findByNameContaining(String name) {
         return jpaRepository.findByNameContaining(name).stream()
                 .map(this::toDomain)
@@ -0,0 +1,148 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.port.SalesRollupRepositoryPort;
+import br.com.delivery.domain.readmodel.SalesGrouping;
+import br.com.delivery.domain.readmodel.SalesTotal;
+import br.com.delivery.infrastructure.persistence.entity.OrderEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderItemEntity;
+import br.com.delivery.infrastructure.persistence.repository.SalesDailyProductJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.SalesDailyStatusJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Consolidação de vendas por dia. As escritas são deltas aplicados pelo OrderRepositoryAdapter
+ * na transação do pedido; as leituras somam apenas os buckets, sem tocar em orders/order_items.
+ */
+@Component
+public class SalesRollupRepositoryAdapter implements SalesRollupRepositoryPort {
+
+    private final SalesDailyStatusJpaRepository statusRepository;
+    private final SalesDailyProductJpaRepository productRepository;
+
+    public SalesRollupRepositoryAdapter(SalesDailyStatusJpaRepository statusRepository,
+                                        SalesDailyProductJpaRepository productRepository) {
+        this.statusRepository = statusRepository;
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SalesTotal> findTotals(SalesGrouping grouping, LocalDate from, LocalDate to) {
+        return switch (grouping) {
+            case DAY -> statusRepository.sumByDay(from, to, Order.OrderStatus.CANCELED).stream()
+                    .map(row -> new SalesTotal(row.getSalesDate().toString(), row.getOrderCount(), null, row.getRevenue()))
+                    .collect(Collectors.toList());
+            case STATUS -> statusRepository.sumByStatus(from, to).stream()
+                    .map(row -> new SalesTotal(row.getStatus().name(), row.getOrderCount(), null, row.getRevenue()))
+                    .collect(Collectors.toList());
+            case PRODUCT -> productRepository.sumByProduct(from, to).stream()
+                    .map(row -> new SalesTotal(row.getProductId(), row.getOrderCount(), row.getUnits(), row.getRevenue()))
+                    .collect(Collectors.toList());
+        };
+    }
+
+    /**
+     * Soma um pedido novo ao bucket do seu status e aos buckets dos seus produtos.
+     */
+    @Transactional
+    public void recordCreated(OrderEntity order) {
+        recordAllCreated(List.of(order));
+    }
+
+    /**
+     * Soma um lote de pedidos novos (group commit): os deltas são agregados por bucket antes,
+     * então cada bucket recebe um único UPDATE por lote. Os buckets são atualizados sempre na
+     * mesma ordem (dia, depois status ou produto), e lotes concorrentes não travam em ciclo.
+     */
+    @Transactional
+    public void recordAllCreated(List<OrderEntity> orders) {
+        Map<LocalDate, Map<Order.OrderStatus, Delta>> statusDeltas = new TreeMap<>();
+        Map<LocalDate, Map<String, Delta>> productDeltas = new TreeMap<>();
+        for (OrderEntity order : orders) {
+            LocalDate day = order.getCreatedAt().toLocalDate();
+            statusDeltas.computeIfAbsent(day, d -> new EnumMap<>(Order.OrderStatus.class))
+                    .computeIfAbsent(order.getStatus(), status -> new Delta())
+                    .addOrder(order.getTotal());
+            if (order.getStatus() != Order.OrderStatus.CANCELED) {
+                addItems(productDeltas.computeIfAbsent(day, d -> new TreeMap<>()), order);
+            }
+        }
+
+        statusDeltas.forEach((day, deltas) -> deltas.forEach((status, delta) ->
+                addToStatus(day, status, delta.orders, delta.revenue)));
+        productDeltas.forEach((day, deltas) -> deltas.forEach((productId, delta) ->
+                addToProduct(day, productId, delta.orders, delta.units, delta.revenue)));
+    }
+
+    /**
+     * Move o pedido do bucket do status anterior para o do novo status, no dia em que foi criado.
+     * O cancelamento também retira o pedido dos buckets por produto.
+     */
+    @Transactional
+    public void recordStatusChange(OrderEntity order, LocalDateTime createdAt, Order.OrderStatus previous) {
+        if (previous == order.getStatus()) {
+            return;
+        }
+        LocalDate day = createdAt.toLocalDate();
+        addToStatus(day, previous, -1, order.getTotal().negate());
+        addToStatus(day, order.getStatus(), 1, order.getTotal());
+        if (order.getStatus() == Order.OrderStatus.CANCELED) {
+            Map<String, Delta> deltas = new TreeMap<>();
+            addItems(deltas, order);
+            deltas.forEach((productId, delta) ->
+                    addToProduct(day, productId, -delta.orders, -delta.units, delta.revenue.negate()));
+        }
+    }
+
+    private void addToStatus(LocalDate day, Order.OrderStatus status, long orders, BigDecimal revenue) {
+        // Caminho comum: o bucket já existe e um único UPDATE basta
+        if (statusRepository.increment(day, status, orders, revenue) == 0) {
+            statusRepository.createIfAbsent(day, status.name());
+            statusRepository.increment(day, status, orders, revenue);
+        }
+    }
+
+    private void addToProduct(LocalDate day, String productId, long orders, long units, BigDecimal revenue) {
+        if (productRepository.increment(day, productId, orders, units, revenue) == 0) {
+            productRepository.createIfAbsent(day, productId);
+            productRepository.increment(day, productId, orders, units, revenue);
+        }
+    }
+
+    // Um pedido com o mesmo produto em mais de um item conta uma vez para o produto
+    private static void addItems(Map<String, Delta> deltas, OrderEntity order) {
+        Set<String> counted = new HashSet<>();
+        for (OrderItemEntity item : order.getItems()) {
+            Delta delta = deltas.computeIfAbsent(item.getProductId(), id -> new Delta());
+            delta.units += item.getQuantity();
+            delta.revenue = delta.revenue.add(item.getTotalPrice());
+            if (counted.add(item.getProductId())) {
+                delta.orders++;
+            }
+        }
+    }
+
+    private static class Delta {
+        private long orders;
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        void addOrder(BigDecimal total) {
+            orders++;
+            revenue = revenue.add(total);
+        }
+    }
+}
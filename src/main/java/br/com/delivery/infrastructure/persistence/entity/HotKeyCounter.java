@@ -0,0 +1,39 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Chave de cache e sua contagem de leituras, no array JSONB de {@link HotKeyListEntity}.
+ * As chaves são abreviadas para manter o documento compacto.
+ */
+public class HotKeyCounter {
+
+    @JsonProperty("k")
+    private String key;
+
+    @JsonProperty("c")
+    private long count;
+
+    public HotKeyCounter() {}
+
+    public HotKeyCounter(String key, long count) {
+        this.key = key;
+        this.count = count;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
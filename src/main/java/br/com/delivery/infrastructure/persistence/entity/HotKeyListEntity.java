@@ -0,0 +1,86 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Chaves mais lidas de um cache num nó, usadas para aquecer o cache no start de outro nó.
+ * Uma linha por nó e cache; cada nó só escreve as próprias linhas.
+ */
+@Entity
+@Table(name = "cache_hot_keys")
+@IdClass(HotKeyListEntity.Key.class)
+public class HotKeyListEntity {
+    
+    @Id
+    @Column(name = "node_id", length = 64, nullable = false)
+    private String nodeId;
+    
+    @Id
+    @Column(name = "cache_name", length = 50, nullable = false)
+    private String cacheName;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "counters", nullable = false)
+    private List<HotKeyCounter> counters = new ArrayList<>();
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    protected HotKeyListEntity() {}
+    
+    public HotKeyListEntity(String nodeId, String cacheName, List<HotKeyCounter> counters, LocalDateTime updatedAt) {
+        this.nodeId = nodeId;
+        this.cacheName = cacheName;
+        this.counters = counters;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public String getCacheName() {
+        return cacheName;
+    }
+    
+    public List<HotKeyCounter> getCounters() {
+        return counters;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public static class Key implements Serializable {
+        private String nodeId;
+        private String cacheName;
+        
+        public Key() {}
+        
+        public Key(String nodeId, String cacheName) {
+            this.nodeId = nodeId;
+            this.cacheName = cacheName;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(nodeId, key.nodeId) && Objects.equals(cacheName, key.cacheName);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeId, cacheName);
+        }
+    }
+}
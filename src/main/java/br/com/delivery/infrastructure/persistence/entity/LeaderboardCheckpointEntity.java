@@ -0,0 +1,105 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Checkpoint de um resumo do ranking de produtos: uma linha por nó, tipo (fatia de tempo
+ * ou dia) e início do intervalo. Cada nó só escreve as próprias linhas.
+ */
+@Entity
+@Table(name = "product_leaderboard_checkpoint")
+@IdClass(LeaderboardCheckpointEntity.Key.class)
+public class LeaderboardCheckpointEntity {
+    
+    public enum Kind {
+        SLICE,
+        DAY
+    }
+    
+    @Id
+    @Column(name = "node_id", length = 64, nullable = false)
+    private String nodeId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 10, nullable = false)
+    private Kind kind;
+    
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "counters", nullable = false)
+    private List<LeaderboardCounter> counters = new ArrayList<>();
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    protected LeaderboardCheckpointEntity() {}
+    
+    public LeaderboardCheckpointEntity(String nodeId, Kind kind, LocalDateTime bucketStart,
+                                       List<LeaderboardCounter> counters, LocalDateTime updatedAt) {
+        this.nodeId = nodeId;
+        this.kind = kind;
+        this.bucketStart = bucketStart;
+        this.counters = counters;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public Kind getKind() {
+        return kind;
+    }
+    
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+    
+    public List<LeaderboardCounter> getCounters() {
+        return counters;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public static class Key implements Serializable {
+        private String nodeId;
+        private Kind kind;
+        private LocalDateTime bucketStart;
+        
+        public Key() {}
+        
+        public Key(String nodeId, Kind kind, LocalDateTime bucketStart) {
+            this.nodeId = nodeId;
+            this.kind = kind;
+            this.bucketStart = bucketStart;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(nodeId, key.nodeId) && kind == key.kind
+                    && Objects.equals(bucketStart, key.bucketStart);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeId, kind, bucketStart);
+        }
+    }
+}
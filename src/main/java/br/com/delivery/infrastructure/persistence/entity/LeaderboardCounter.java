@@ -0,0 +1,51 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Contador do resumo Space-Saving armazenado no array JSONB de {@link LeaderboardCheckpointEntity}.
+ * As chaves são abreviadas para manter o documento compacto.
+ */
+public class LeaderboardCounter {
+
+    @JsonProperty("p")
+    private String productId;
+
+    @JsonProperty("c")
+    private long count;
+
+    @JsonProperty("e")
+    private long error;
+
+    public LeaderboardCounter() {}
+
+    public LeaderboardCounter(String productId, long count, long error) {
+        this.productId = productId;
+        this.count = count;
+        this.error = error;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    public void setError(long error) {
+        this.error = error;
+    }
+}
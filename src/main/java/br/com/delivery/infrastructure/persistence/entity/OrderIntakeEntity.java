@@ -0,0 +1,149 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pedido na fila de entrada assíncrona. Implementa {@link Persistable} para que o saveAll
+ * do lote faça apenas INSERTs: com o ticket já atribuído, o Spring Data consultaria cada
+ * linha antes (merge) para decidir entre INSERT e UPDATE.
+ */
+@Entity
+@Table(name = "order_intake")
+public class OrderIntakeEntity implements Persistable<String> {
+    
+    @Id
+    @Column(name = "ticket", length = 36, nullable = false)
+    private String ticket;
+    
+    @Column(name = "customer_id", length = 36, nullable = false)
+    private String customerId;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "items", nullable = false)
+    private List<OrderIntakeLine> items = new ArrayList<>();
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OrderIntakeTicket.Status status;
+    
+    @Column(name = "order_id", length = 36)
+    private String orderId;
+    
+    @Column(name = "error", length = 500)
+    private String error;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @Transient
+    private boolean isNew;
+    
+    protected OrderIntakeEntity() {}
+    
+    public OrderIntakeEntity(String ticket, String customerId, List<OrderIntakeLine> items, LocalDateTime createdAt) {
+        this.ticket = ticket;
+        this.customerId = customerId;
+        this.items = items;
+        this.status = OrderIntakeTicket.Status.PENDING;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+        this.isNew = true;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+    
+    /**
+     * Reserva a linha para um worker; attempts conta também as reservas após queda de um nó e
+     * identifica a reserva: a conclusão só vale para a reserva com o mesmo número.
+     */
+    public void claim(LocalDateTime now) {
+        this.status = OrderIntakeTicket.Status.PROCESSING;
+        this.attempts++;
+        this.updatedAt = now;
+    }
+    
+    @Override
+    public String getId() {
+        return ticket;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    // Getters
+    public String getTicket() {
+        return ticket;
+    }
+    
+    public String getCustomerId() {
+        return customerId;
+    }
+    
+    public List<OrderIntakeLine> getItems() {
+        return items;
+    }
+    
+    public OrderIntakeTicket.Status getStatus() {
+        return status;
+    }
+    
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public int getAttempts() {
+        return attempts;
+    }
+    
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderIntakeEntity that = (OrderIntakeEntity) o;
+        return Objects.equals(ticket, that.ticket);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(ticket);
+    }
+}
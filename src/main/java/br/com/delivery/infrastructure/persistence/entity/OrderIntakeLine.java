@@ -0,0 +1,39 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Item armazenado no array JSONB de {@link OrderIntakeEntity}.
+ * As chaves são abreviadas para manter o documento compacto.
+ */
+public class OrderIntakeLine {
+
+    @JsonProperty("p")
+    private String productId;
+
+    @JsonProperty("q")
+    private int quantity;
+
+    public OrderIntakeLine() {}
+
+    public OrderIntakeLine(String productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
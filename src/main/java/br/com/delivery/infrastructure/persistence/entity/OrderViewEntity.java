@@ -0,0 +1,153 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import br.com.delivery.domain.entity.Order;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Projeção de leitura de pedidos: uma linha por pedido com os itens em um array JSONB.
+ * Mantida de forma síncrona pelo OrderRepositoryAdapter; o modelo de escrita
+ * (orders/order_items) continua normalizado.
+ */
+@Entity
+@Table(name = "order_view")
+public class OrderViewEntity {
+    
+    @Id
+    @Column(name = "order_id", length = 36, nullable = false)
+    private String orderId;
+    
+    @Column(name = "customer_id", length = 36, nullable = false)
+    private String customerId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Order.OrderStatus status;
+    
+    @Column(name = "total", precision = 10, scale = 2, nullable = false)
+    private BigDecimal total;
+    
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "items", nullable = false)
+    private List<OrderViewItem> items = new ArrayList<>();
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    protected OrderViewEntity() {}
+    
+    public OrderViewEntity(String orderId, String customerId, Order.OrderStatus status, BigDecimal total,
+                           List<OrderViewItem> items, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.status = status;
+        this.total = total;
+        this.items = items;
+        this.itemCount = items.size();
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters and Setters
+    public String getOrderId() {
+        return orderId;
+    }
+    
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+    
+    public String getCustomerId() {
+        return customerId;
+    }
+    
+    public void setCustomerId(String customerId) {
+        this.customerId = customerId;
+    }
+    
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+    
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+    
+    public Integer getItemCount() {
+        return itemCount;
+    }
+    
+    public void setItemCount(Integer itemCount) {
+        this.itemCount = itemCount;
+    }
+    
+    public List<OrderViewItem> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<OrderViewItem> items) {
+        this.items = items;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderViewEntity that = (OrderViewEntity) o;
+        return Objects.equals(orderId, that.orderId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(orderId);
+    }
+    
+    @Override
+    public String toString() {
+        return "OrderViewEntity{" +
+                "orderId='" + orderId + '\'' +
+                ", customerId='" + customerId + '\'' +
+                ", status=" + status +
+                ", total=" + total +
+                ", itemCount=" + itemCount +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
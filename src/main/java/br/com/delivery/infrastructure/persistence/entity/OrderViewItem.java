@@ -0,0 +1,53 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+
+/**
+ * Item do pedido armazenado no array JSONB de {@link OrderViewEntity}.
+ * As chaves são abreviadas para manter o documento compacto.
+ */
+public class OrderViewItem {
+
+    @JsonProperty("p")
+    private String productId;
+
+    @JsonProperty("q")
+    private int quantity;
+
+    @JsonProperty("u")
+    private BigDecimal unitPrice;
+
+    public OrderViewItem() {}
+
+    public OrderViewItem(String productId, int quantity, BigDecimal unitPrice) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Bucket diário de vendas por produto, sem pedidos cancelados.
+ * Só é alterado por incrementos atômicos de {@code SalesDailyProductJpaRepository}.
+ */
+@Entity
+@Table(name = "sales_daily_product")
+@IdClass(SalesDailyProductEntity.Key.class)
+public class SalesDailyProductEntity {
+    
+    @Id
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+    
+    @Id
+    @Column(name = "product_id", length = 36, nullable = false)
+    private String productId;
+    
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+    
+    @Column(name = "units", nullable = false)
+    private long units;
+    
+    @Column(name = "revenue", precision = 14, scale = 2, nullable = false)
+    private BigDecimal revenue;
+    
+    protected SalesDailyProductEntity() {}
+    
+    public SalesDailyProductEntity(LocalDate salesDate, String productId, long orderCount, long units,
+                                   BigDecimal revenue) {
+        this.salesDate = salesDate;
+        this.productId = productId;
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenue = revenue;
+    }
+    
+    // Getters
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+    
+    public String getProductId() {
+        return productId;
+    }
+    
+    public long getOrderCount() {
+        return orderCount;
+    }
+    
+    public long getUnits() {
+        return units;
+    }
+    
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+    
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private String productId;
+        
+        public Key() {}
+        
+        public Key(LocalDate salesDate, String productId) {
+            this.salesDate = salesDate;
+            this.productId = productId;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(salesDate, key.salesDate) && Objects.equals(productId, key.productId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(salesDate, productId);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.delivery.infrastructure.persistence.entity;
+
+import br.com.delivery.domain.entity.Order;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Bucket diário de vendas por status: pedidos criados no dia que estão hoje no status.
+ * Só é alterado por incrementos atômicos de {@code SalesDailyStatusJpaRepository}.
+ */
+@Entity
+@Table(name = "sales_daily_status")
+@IdClass(SalesDailyStatusEntity.Key.class)
+public class SalesDailyStatusEntity {
+    
+    @Id
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Order.OrderStatus status;
+    
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+    
+    @Column(name = "revenue", precision = 14, scale = 2, nullable = false)
+    private BigDecimal revenue;
+    
+    protected SalesDailyStatusEntity() {}
+    
+    public SalesDailyStatusEntity(LocalDate salesDate, Order.OrderStatus status, long orderCount, BigDecimal revenue) {
+        this.salesDate = salesDate;
+        this.status = status;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+    
+    // Getters
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+    
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+    
+    public long getOrderCount() {
+        return orderCount;
+    }
+    
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+    
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private Order.OrderStatus status;
+        
+        public Key() {}
+        
+        public Key(LocalDate salesDate, Order.OrderStatus status) {
+            this.salesDate = salesDate;
+            this.status = status;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(salesDate, key.salesDate) && status == key.status;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(salesDate, status);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.delivery.infrastructure.persistence.groupcommit;
+
+/**
+ * O registro não foi gravado: fila cheia, aplicação encerrando, espera cancelada antes de a
+ * gravadora pegá-lo ou falha transitória do banco. O chamador pode tentar de novo; o handler
+ * HTTP responde 503 com Retry-After.
+ */
+public class GroupCommitRejectedException extends RuntimeException {
+
+    public GroupCommitRejectedException(String message) {
+        super(message);
+    }
+
+    public GroupCommitRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
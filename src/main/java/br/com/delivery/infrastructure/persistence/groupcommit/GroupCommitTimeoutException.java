@@ -0,0 +1,20 @@
+package br.com.delivery.infrastructure.persistence.groupcommit;
+
+/**
+ * A espera acabou depois de a gravadora pegar o registro: o commit pode ter acontecido ou não.
+ * Não é repetível às cegas; o handler HTTP responde 504 com o id, para o cliente consultar o
+ * recurso antes de reenviar.
+ */
+public class GroupCommitTimeoutException extends RuntimeException {
+
+    private final String recordId;
+
+    public GroupCommitTimeoutException(String message, String recordId, Throwable cause) {
+        super(message, cause);
+        this.recordId = recordId;
+    }
+
+    public String getRecordId() {
+        return recordId;
+    }
+}
@@ -0,0 +1,221 @@
+package br.com.delivery.infrastructure.persistence.groupcommit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group commit: as threads chamadoras entregam registros a uma única thread gravadora e esperam
+ * a confirmação. A gravadora junta o que chegou (até batchSize, esperando no máximo maxDelay
+ * por mais registros) e grava o lote inteiro em uma transação. Sob concorrência, centenas de
+ * chamadas dividem um commit (e um fsync) em vez de pagar um cada; para o chamador a gravação
+ * continua síncrona e durável.
+ *
+ * Subclasses definem {@link #flush(List)}, executado dentro da transação do lote, e
+ * {@link #idOf(Object)}, que identifica o registro quando o resultado fica desconhecido.
+ */
+public abstract class GroupCommitWriter<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitWriter.class);
+
+    private final String name;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Pending<T>> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Duration timeout;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    protected GroupCommitWriter(String name, PlatformTransactionManager transactionManager, int queueCapacity,
+                                int batchSize, Duration maxDelay, Duration timeout) {
+        this.name = name;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.timeout = timeout;
+        this.writer = new Thread(this::run, name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Grava os registros do lote; roda na thread gravadora, dentro da transação do lote.
+     */
+    protected abstract void flush(List<T> batch);
+
+    protected abstract String idOf(T record);
+
+    /**
+     * Bloqueia até o lote que contém o registro ser confirmado no banco. Falhas definitivas do
+     * lote (uma chave estrangeira violada, por exemplo) chegam ao chamador como estão.
+     *
+     * @throws GroupCommitRejectedException se o registro não foi gravado e pode ser reenviado
+     * @throws GroupCommitTimeoutException se a espera acabou depois de a gravadora pegar o registro
+     */
+    public void submit(T record) {
+        Pending<T> pending = new Pending<>(record);
+        if (!running || !queue.offer(pending)) {
+            throw new GroupCommitRejectedException("Fila de gravação " + name + " cheia");
+        }
+
+        try {
+            pending.done.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw abandon(pending, "Interrompido aguardando a gravação em " + name, e);
+        } catch (TimeoutException e) {
+            throw abandon(pending, "Gravação em " + name + " não confirmada em " + timeout, e);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    /**
+     * Se a gravadora ainda não pegou o registro, ele é cancelado e o chamador pode reenviar;
+     * se já pegou, o commit pode ter acontecido e reenviar duplicaria a gravação.
+     */
+    private RuntimeException abandon(Pending<T> pending, String message, Exception cause) {
+        if (pending.claim()) {
+            queue.remove(pending);
+            return new GroupCommitRejectedException(message, cause);
+        }
+        return new GroupCommitTimeoutException(message + "; resultado desconhecido", idOf(pending.record), cause);
+    }
+
+    // Só o que garantidamente não gravou nada é repetível; o resto segue sem embrulho
+    private RuntimeException failure(Throwable cause) {
+        if (cause instanceof GroupCommitRejectedException rejected) {
+            return rejected;
+        }
+        if (cause instanceof TransientDataAccessException || cause instanceof RecoverableDataAccessException
+                || cause instanceof CannotCreateTransactionException) {
+            return new GroupCommitRejectedException("Falha transitória na gravação em lote de " + name, cause);
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Falha na gravação em lote de " + name, cause);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(timeout.toMillis());
+    }
+
+    private void run() {
+        List<Pending<T>> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending<T> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        Pending<T> abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.done.completeExceptionally(new GroupCommitRejectedException("Aplicação encerrando"));
+        }
+    }
+
+    private void collect(List<Pending<T>> batch) throws InterruptedException {
+        // Tudo o que chegou durante a gravação anterior entra neste lote
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Pending<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void commit(List<Pending<T>> batch) {
+        // Registros cujo chamador já desistiu ficam de fora; os demais não podem mais ser cancelados
+        batch.removeIf(pending -> !pending.claim());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<T> records = new ArrayList<>(batch.size());
+        for (Pending<T> pending : batch) {
+            records.add(pending.record);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> flush(records));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                logger.error("Falha na gravação em {}: {}", name, e.getMessage());
+                batch.get(0).done.completeExceptionally(e);
+                return;
+            }
+            // Um registro inválido não derruba os demais: o lote é refeito um a um
+            logger.warn("Falha ao gravar lote de {} registro(s) em {}, gravando individualmente: {}",
+                    batch.size(), name, e.getMessage());
+            batch.forEach(this::commitAlone);
+            return;
+        }
+        batch.forEach(pending -> pending.done.complete(null));
+    }
+
+    private void commitAlone(Pending<T> pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> flush(List.of(pending.record)));
+            pending.done.complete(null);
+        } catch (RuntimeException e) {
+            pending.done.completeExceptionally(e);
+        }
+    }
+
+    private static class Pending<T> {
+        private final T record;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        // Disputado entre a gravadora (ao montar o lote) e o chamador (ao desistir)
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Pending(T record) {
+            this.record = record;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
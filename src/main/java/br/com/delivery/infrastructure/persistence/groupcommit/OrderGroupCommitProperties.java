@@ -0,0 +1,64 @@
+package br.com.delivery.infrastructure.persistence.groupcommit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "delivery.orders.group-commit")
+public class OrderGroupCommitProperties {
+
+    // Desligado, cada pedido é gravado na transação da própria requisição
+    private boolean enabled = true;
+
+    // Pedidos aguardando gravação em memória; cheio, o POST responde 503
+    private int queueCapacity = 10000;
+
+    // Máximo de pedidos por commit
+    private int batchSize = 200;
+
+    // Espera por mais pedidos antes de gravar um lote incompleto (latência extra no pior caso)
+    private Duration maxDelay = Duration.ofMillis(2);
+
+    // Espera máxima da requisição pela confirmação do commit
+    private Duration timeout = Duration.ofSeconds(2);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
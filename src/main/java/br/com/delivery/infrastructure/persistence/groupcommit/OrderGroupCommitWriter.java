@@ -0,0 +1,85 @@
+package br.com.delivery.infrastructure.persistence.groupcommit;
+
+import br.com.delivery.infrastructure.persistence.adapter.SalesRollupRepositoryAdapter;
+import br.com.delivery.infrastructure.persistence.entity.OrderEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderItemEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Group commit dos pedidos novos: o lote vira um INSERT em lote por tabela (orders, order_items
+ * e a projeção order_view; com reWriteBatchedInserts o driver envia INSERTs de várias linhas)
+ * e uma atualização agregada das consolidações de vendas, tudo em um commit.
+ *
+ * Grava direto por JDBC: order_items tem chave IDENTITY, e o Hibernate não agrupa esses INSERTs.
+ */
+public class OrderGroupCommitWriter extends GroupCommitWriter<OrderEntity> {
+
+    static final String INSERT_ORDER =
+            "INSERT INTO orders (id, customer_id, status, total, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    static final String INSERT_ITEM =
+            "INSERT INTO order_items (order_id, product_id, quantity, unit_price, total_price, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    static final String INSERT_VIEW =
+            "INSERT INTO order_view (order_id, customer_id, status, total, item_count, items, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, CAST(? AS JSONB), ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SalesRollupRepositoryAdapter salesRollup;
+    private final ObjectMapper objectMapper;
+
+    public OrderGroupCommitWriter(JdbcTemplate jdbcTemplate, SalesRollupRepositoryAdapter salesRollup,
+                                  ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                  OrderGroupCommitProperties properties) {
+        super("order-group-commit", transactionManager, properties.getQueueCapacity(), properties.getBatchSize(),
+                properties.getMaxDelay(), properties.getTimeout());
+        this.jdbcTemplate = jdbcTemplate;
+        this.salesRollup = salesRollup;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void flush(List<OrderEntity> batch) {
+        List<Object[]> orders = new ArrayList<>(batch.size());
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> views = new ArrayList<>(batch.size());
+        for (OrderEntity order : batch) {
+            orders.add(new Object[] {order.getId(), order.getCustomerId(), order.getStatus().name(),
+                    order.getTotal(), order.getCreatedAt(), order.getUpdatedAt()});
+            for (OrderItemEntity item : order.getItems()) {
+                items.add(new Object[] {order.getId(), item.getProductId(), item.getQuantity(), item.getUnitPrice(),
+                        item.getTotalPrice(), order.getCreatedAt(), order.getUpdatedAt()});
+            }
+            views.add(new Object[] {order.getId(), order.getCustomerId(), order.getStatus().name(), order.getTotal(),
+                    order.getItems().size(), toJson(order), order.getCreatedAt(), order.getUpdatedAt()});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orders);
+        jdbcTemplate.batchUpdate(INSERT_ITEM, items);
+        jdbcTemplate.batchUpdate(INSERT_VIEW, views);
+        salesRollup.recordAllCreated(batch);
+    }
+
+    @Override
+    protected String idOf(OrderEntity order) {
+        return order.getId();
+    }
+
+    private String toJson(OrderEntity order) {
+        List<OrderViewItem> items = order.getItems().stream()
+                .map(item -> new OrderViewItem(item.getProductId(), item.getQuantity(), item.getUnitPrice()))
+                .collect(Collectors.toList());
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar itens do pedido " + order.getId(), e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package br.com.delivery.infrastructure.persistence.repository;
 
 import br.com.delivery.infrastructure.persistence.entity.CustomerEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, String> {
@@ -12,4 +17,9 @@ public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, Str
     Optional<CustomerEntity> findByEmail(String email);
     
     Optional<CustomerEntity> findByDocument(String document);
+    
+    // Chaves de todos os clientes (id, email, document) em cursor, para os filtros de Bloom
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id, c.email, c.document FROM CustomerEntity c")
+    Stream<Object[]> streamKeys();
 }
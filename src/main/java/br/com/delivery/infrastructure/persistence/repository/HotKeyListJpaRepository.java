@@ -0,0 +1,23 @@
+package br.com.delivery.infrastructure.persistence.repository;
+
+import br.com.delivery.infrastructure.persistence.entity.HotKeyListEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface HotKeyListJpaRepository extends JpaRepository<HotKeyListEntity, HotKeyListEntity.Key> {
+    
+    List<HotKeyListEntity> findByCacheNameAndUpdatedAtGreaterThanEqual(String cacheName, LocalDateTime since);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM HotKeyListEntity h WHERE h.updatedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
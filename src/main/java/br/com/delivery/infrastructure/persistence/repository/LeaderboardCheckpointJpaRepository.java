@@ -0,0 +1,26 @@
+package br.com.delivery.infrastructure.persistence.repository;
+
+import br.com.delivery.infrastructure.persistence.entity.LeaderboardCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface LeaderboardCheckpointJpaRepository
+        extends JpaRepository<LeaderboardCheckpointEntity, LeaderboardCheckpointEntity.Key> {
+    
+    List<LeaderboardCheckpointEntity> findByNodeIdAndBucketStartGreaterThanEqual(String nodeId, LocalDateTime since);
+    
+    List<LeaderboardCheckpointEntity> findByNodeIdNotAndBucketStartGreaterThanEqual(String nodeId, LocalDateTime since);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM LeaderboardCheckpointEntity c WHERE c.bucketStart < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
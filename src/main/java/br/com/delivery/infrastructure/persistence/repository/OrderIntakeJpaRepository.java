@@ -0,0 +1,45 @@
+package br.com.delivery.infrastructure.persistence.repository;
+
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderIntakeJpaRepository extends JpaRepository<OrderIntakeEntity, String> {
+    
+    // Próximo lote da fila, incluindo reservas abandonadas por um nó que caiu e sem os pedidos
+    // ainda aguardando a próxima tentativa. SKIP LOCKED deixa vários workers (e nós) disputarem
+    // a fila sem esperar uns pelos outros
+    @Query(value = "SELECT * FROM order_intake "
+            + "WHERE (status = 'PENDING' AND (next_attempt_at IS NULL OR next_attempt_at <= :now)) "
+            + "OR (status = 'PROCESSING' AND updated_at < :staleBefore) "
+            + "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderIntakeEntity> lockNext(@Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore,
+                                     @Param("limit") int limit);
+    
+    // Só vale para a reserva ainda em vigor: 0 linhas quer dizer que outro worker retomou o ticket
+    @Modifying
+    @Query("UPDATE OrderIntakeEntity i SET i.status = :status, i.orderId = :orderId, i.error = :error, "
+            + "i.nextAttemptAt = :nextAttemptAt, i.updatedAt = :now "
+            + "WHERE i.ticket = :ticket AND i.status = PROCESSING AND i.attempts = :attempts")
+    int updateOutcome(@Param("ticket") String ticket,
+                      @Param("attempts") int attempts,
+                      @Param("status") OrderIntakeTicket.Status status,
+                      @Param("orderId") String orderId,
+                      @Param("error") String error,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("now") LocalDateTime now);
+    
+    // Em blocos, para não segurar locks de uma limpeza grande de uma vez
+    @Modifying
+    @Query(value = "DELETE FROM order_intake WHERE ticket IN (SELECT ticket FROM order_intake "
+            + "WHERE status IN ('COMPLETED', 'FAILED') AND updated_at < :before LIMIT :limit)", nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,62 @@
+package br.com.delivery.infrastructure.persistence.repository;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderViewJpaRepository extends JpaRepository<OrderViewEntity, String> {
+    
+    List<OrderViewEntity> findByStatus(Order.OrderStatus status, Sort sort);
+    
+    List<OrderViewEntity> findByStatus(Order.OrderStatus status, Pageable pageable);
+    
+    List<OrderViewEntity> findAllBy(Pageable pageable);
+    
+    long countByStatus(Order.OrderStatus status);
+    
+    // SELECT ... FOR UPDATE: transições concorrentes do mesmo pedido leem o status anterior uma
+    // depois da outra, e cada uma tira o pedido do bucket em que ele realmente está
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM OrderViewEntity v WHERE v.orderId = :orderId")
+    Optional<OrderViewEntity> findForUpdate(@Param("orderId") String orderId);
+    
+    // Histórico do cliente por keyset: (created_at, order_id) decrescentes, usando idx_order_view_customer_created_at
+    @Query("SELECT v FROM OrderViewEntity v WHERE v.customerId = :customerId "
+            + "ORDER BY v.createdAt DESC, v.orderId DESC")
+    List<OrderViewEntity> findCustomerFirstPage(@Param("customerId") String customerId, Pageable pageable);
+    
+    @Query("SELECT v FROM OrderViewEntity v WHERE v.customerId = :customerId AND v.status = :status "
+            + "ORDER BY v.createdAt DESC, v.orderId DESC")
+    List<OrderViewEntity> findCustomerFirstPage(@Param("customerId") String customerId,
+                                                @Param("status") Order.OrderStatus status,
+                                                Pageable pageable);
+    
+    @Query("SELECT v FROM OrderViewEntity v WHERE v.customerId = :customerId "
+            + "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.orderId < :orderId)) "
+            + "ORDER BY v.createdAt DESC, v.orderId DESC")
+    List<OrderViewEntity> findCustomerPageAfter(@Param("customerId") String customerId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("orderId") String orderId,
+                                                Pageable pageable);
+    
+    @Query("SELECT v FROM OrderViewEntity v WHERE v.customerId = :customerId AND v.status = :status "
+            + "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.orderId < :orderId)) "
+            + "ORDER BY v.createdAt DESC, v.orderId DESC")
+    List<OrderViewEntity> findCustomerPageAfter(@Param("customerId") String customerId,
+                                                @Param("status") Order.OrderStatus status,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("orderId") String orderId,
+                                                Pageable pageable);
+}
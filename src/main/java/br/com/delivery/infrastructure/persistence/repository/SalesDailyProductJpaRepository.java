@@ -0,0 +1,47 @@
+package br.com.delivery.infrastructure.persistence.repository;
+
+import br.com.delivery.infrastructure.persistence.entity.SalesDailyProductEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyProductJpaRepository extends JpaRepository<SalesDailyProductEntity, SalesDailyProductEntity.Key> {
+    
+    // Incremento atômico no próprio UPDATE: escritas concorrentes no mesmo bucket não se perdem
+    @Modifying
+    @Query("UPDATE SalesDailyProductEntity b SET b.orderCount = b.orderCount + :orders, "
+            + "b.units = b.units + :units, b.revenue = b.revenue + :revenue "
+            + "WHERE b.salesDate = :salesDate AND b.productId = :productId")
+    int increment(@Param("salesDate") LocalDate salesDate,
+                  @Param("productId") String productId,
+                  @Param("orders") long orders,
+                  @Param("units") long units,
+                  @Param("revenue") BigDecimal revenue);
+    
+    // Cria o bucket zerado; se outra transação criou primeiro, não falha
+    @Modifying
+    @Query(value = "INSERT INTO sales_daily_product (sales_date, product_id, order_count, units, revenue) "
+            + "VALUES (:salesDate, :productId, 0, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void createIfAbsent(@Param("salesDate") LocalDate salesDate, @Param("productId") String productId);
+    
+    @Query("SELECT b.productId AS productId, SUM(b.orderCount) AS orderCount, SUM(b.units) AS units, "
+            + "SUM(b.revenue) AS revenue "
+            + "FROM SalesDailyProductEntity b "
+            + "WHERE b.salesDate BETWEEN :from AND :to "
+            + "GROUP BY b.productId ORDER BY SUM(b.revenue) DESC, b.productId")
+    List<ProductTotal> sumByProduct(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    interface ProductTotal {
+        String getProductId();
+        Long getOrderCount();
+        Long getUnits();
+        BigDecimal getRevenue();
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.delivery.infrastructure.persistence.repository;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.persistence.entity.SalesDailyStatusEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyStatusJpaRepository extends JpaRepository<SalesDailyStatusEntity, SalesDailyStatusEntity.Key> {
+    
+    // Incremento atômico no próprio UPDATE: escritas concorrentes no mesmo bucket não se perdem
+    @Modifying
+    @Query("UPDATE SalesDailyStatusEntity b SET b.orderCount = b.orderCount + :orders, b.revenue = b.revenue + :revenue "
+            + "WHERE b.salesDate = :salesDate AND b.status = :status")
+    int increment(@Param("salesDate") LocalDate salesDate,
+                  @Param("status") Order.OrderStatus status,
+                  @Param("orders") long orders,
+                  @Param("revenue") BigDecimal revenue);
+    
+    // Cria o bucket zerado; se outra transação criou primeiro, não falha
+    @Modifying
+    @Query(value = "INSERT INTO sales_daily_status (sales_date, status, order_count, revenue) "
+            + "VALUES (:salesDate, :status, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void createIfAbsent(@Param("salesDate") LocalDate salesDate, @Param("status") String status);
+    
+    @Query("SELECT b.salesDate AS salesDate, SUM(b.orderCount) AS orderCount, SUM(b.revenue) AS revenue "
+            + "FROM SalesDailyStatusEntity b "
+            + "WHERE b.salesDate BETWEEN :from AND :to AND b.status <> :excluded "
+            + "GROUP BY b.salesDate ORDER BY b.salesDate")
+    List<DailyTotal> sumByDay(@Param("from") LocalDate from,
+                              @Param("to") LocalDate to,
+                              @Param("excluded") Order.OrderStatus excluded);
+    
+    @Query("SELECT b.status AS status, SUM(b.orderCount) AS orderCount, SUM(b.revenue) AS revenue "
+            + "FROM SalesDailyStatusEntity b "
+            + "WHERE b.salesDate BETWEEN :from AND :to "
+            + "GROUP BY b.status ORDER BY b.status")
+    List<StatusTotal> sumByStatus(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    interface DailyTotal {
+        LocalDate getSalesDate();
+        Long getOrderCount();
+        BigDecimal getRevenue();
+    }
+    
+    interface StatusTotal {
+        Order.OrderStatus getStatus();
+        Long getOrderCount();
+        BigDecimal getRevenue();
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.delivery.infrastructure.persistence.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registra, por cliente, até quando as leituras devem ir para o primário
+ * depois de uma escrita confirmada, evitando ler dados antigos de uma réplica atrasada.
+ * O estado é local ao nó.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final ThreadLocal<String> currentClient = new ThreadLocal<>();
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void bind(String clientKey) {
+        currentClient.set(clientKey);
+    }
+
+    public void unbind() {
+        currentClient.remove();
+    }
+
+    public void recordWrite() {
+        String client = currentClient.get();
+        if (client == null || window.isZero()) {
+            return;
+        }
+
+        long now = clock.millis();
+        primaryUntil.put(client, now + window.toMillis());
+
+        if (primaryUntil.size() > PURGE_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until <= now);
+        }
+    }
+
+    public boolean mustReadFromPrimary() {
+        String client = currentClient.get();
+        if (client == null) {
+            return false;
+        }
+
+        Long until = primaryUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (until <= clock.millis()) {
+            primaryUntil.remove(client, until);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.delivery.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conjunto de réplicas de leitura com estado de saúde.
+ * Réplicas que falham na validação (ou com atraso acima do limite) deixam de receber
+ * leituras até a próxima verificação bem-sucedida.
+ */
+public class ReplicaDataSources implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSources.class);
+
+    private static final String REPLICATION_LAG_QUERY =
+            "SELECT EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000";
+
+    private final Map<String, DataSource> replicas;
+    private final Set<String> unhealthy = ConcurrentHashMap.newKeySet();
+    private final Duration validationTimeout;
+    private final Duration maxReplicationLag;
+    private volatile List<String> healthyKeys;
+
+    public ReplicaDataSources(Map<String, DataSource> replicas, Duration validationTimeout, Duration maxReplicationLag) {
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+        this.validationTimeout = validationTimeout;
+        this.maxReplicationLag = maxReplicationLag;
+        this.healthyKeys = List.copyOf(this.replicas.keySet());
+    }
+
+    public DataSource get(String key) {
+        return replicas.get(key);
+    }
+
+    public List<String> healthyKeys() {
+        return healthyKeys;
+    }
+
+    public void markUnhealthy(String key, Exception cause) {
+        if (unhealthy.add(key)) {
+            logger.warn("Réplica {} marcada como indisponível, leituras seguem para o primário: {}", key, cause.getMessage());
+            refreshHealthyKeys();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.datasource.routing.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (Map.Entry<String, DataSource> entry : replicas.entrySet()) {
+            String key = entry.getKey();
+            try {
+                validate(entry.getValue());
+                if (unhealthy.remove(key)) {
+                    logger.info("Réplica {} disponível novamente", key);
+                    refreshHealthyKeys();
+                }
+            } catch (SQLException e) {
+                markUnhealthy(key, e);
+            }
+        }
+    }
+
+    private void validate(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid((int) Math.max(1, validationTimeout.toSeconds()))) {
+                throw new SQLException("Conexão inválida");
+            }
+            if (!maxReplicationLag.isZero()) {
+                checkReplicationLag(connection);
+            }
+        }
+    }
+
+    private void checkReplicationLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+            if (resultSet.next()) {
+                double lagMillis = resultSet.getDouble(1);
+                if (!resultSet.wasNull() && lagMillis > maxReplicationLag.toMillis()) {
+                    throw new SQLException("Atraso de replicação de " + (long) lagMillis + " ms");
+                }
+            }
+        }
+    }
+
+    private synchronized void refreshHealthyKeys() {
+        List<String> keys = new ArrayList<>();
+        for (String key : replicas.keySet()) {
+            if (!unhealthy.contains(key)) {
+                keys.add(key);
+            }
+        }
+        healthyKeys = List.copyOf(keys);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
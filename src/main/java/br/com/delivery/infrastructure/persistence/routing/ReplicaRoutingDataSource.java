@@ -0,0 +1,103 @@
+package br.com.delivery.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envia transações somente leitura para as réplicas (round-robin entre as saudáveis)
+ * e todo o resto para o primário.
+ *
+ * Deve ser envolvido por um LazyConnectionDataSourceProxy: a conexão física só é obtida no primeiro
+ * comando SQL, quando o flag readOnly da transação já está disponível.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Object WRITE_MARKER = new Object();
+
+    private final DataSource primary;
+    private final ReplicaDataSources replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaDataSources replicas,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String replicaKey = selectReplica();
+        if (replicaKey == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(replicaKey).getConnection();
+        } catch (SQLException e) {
+            replicas.markUnhealthy(replicaKey, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        String replicaKey = selectReplica();
+        if (replicaKey == null) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replicas.get(replicaKey).getConnection(username, password);
+        } catch (SQLException e) {
+            replicas.markUnhealthy(replicaKey, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Retorna a réplica a ser usada, ou null quando a leitura deve ir para o primário.
+     */
+    private String selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteTransaction();
+            return null;
+        }
+        if (readYourWritesTracker.mustReadFromPrimary()) {
+            return null;
+        }
+
+        List<String> healthy = replicas.healthyKeys();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    private void trackWriteTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+}
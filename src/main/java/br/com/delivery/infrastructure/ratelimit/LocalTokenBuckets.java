@@ -0,0 +1,67 @@
+package br.com.delivery.infrastructure.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Baldes em memória, sem lock. Cada balde é um único AtomicLong no formato GCRA: o instante
+ * teórico (TAT) em que o balde volta a ficar cheio. Uma requisição passa se TAT - agora não
+ * excede a tolerância de rajada, (capacity - 1) intervalos, e empurra o TAT um intervalo
+ * (1 / permitsPerSecond) à frente; equivale a um token bucket de mesma capacidade e taxa.
+ *
+ * Um balde cujo TAT já passou está cheio e pode ser descartado: {@link #evictIdle} os remove.
+ */
+public class LocalTokenBuckets implements RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    public LocalTokenBuckets() {
+        this(System::nanoTime);
+    }
+
+    LocalTokenBuckets(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long interval = intervalNanos(limit);
+        long tolerance = interval * (Math.max(1, limit.getCapacity()) - 1);
+        long now = nanoTime.getAsLong();
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long tat = bucket.get();
+            long base = tat - now > 0 ? tat : now;
+            long ahead = base - now;
+            if (ahead > tolerance) {
+                return Decision.rejected(ahead - tolerance);
+            }
+            if (bucket.compareAndSet(tat, base + interval)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void evictIdle() {
+        long now = nanoTime.getAsLong();
+        // Uma requisição concorrente num balde removido deixa de ser contada: no pior caso, uma a mais passa
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    static long intervalNanos(RateLimitProperties.Limit limit) {
+        if (limit.getPermitsPerSecond() <= 0) {
+            throw new IllegalArgumentException("permits-per-second deve ser positivo");
+        }
+        return Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / limit.getPermitsPerSecond()));
+    }
+}
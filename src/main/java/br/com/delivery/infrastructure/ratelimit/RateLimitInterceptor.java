@@ -0,0 +1,94 @@
+package br.com.delivery.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita as requisições por cliente (claims do JWT, ou IP sem token) e por endpoint (método
+ * e padrão do mapeamento). Acima do limite, a requisição é rejeitada com 429 e Retry-After.
+ *
+ * Roda antes do {@code WorkloadInterceptor}: requisição rejeitada aqui não ocupa vaga no bulkhead.
+ * Contagens por cliente em delivery.ratelimit.requests; só os primeiros max-tracked-clients
+ * clientes têm tag própria, para não explodir a cardinalidade.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String OTHER_CLIENTS = "other";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RateLimitProperties.Limit> endpointLimits = new HashMap<>();
+    private final Set<String> trackedClients = ConcurrentHashMap.newKeySet();
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // intervalNanos valida a taxa: limite mal configurado falha no start, não na primeira requisição
+        for (RateLimitProperties.Endpoint endpoint : properties.getEndpoints()) {
+            LocalTokenBuckets.intervalNanos(endpoint);
+            endpointLimits.put(endpoint.getMethod().toUpperCase() + " " + endpoint.getPath(), endpoint);
+        }
+        LocalTokenBuckets.intervalNanos(properties.getDefaultLimit());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        String client = resolveClient(request);
+        RateLimitProperties.Limit limit = endpointLimits.getOrDefault(endpoint, properties.getDefaultLimit());
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(client + "|" + endpoint, limit);
+        count(client, endpoint, decision.allowed() ? "allowed" : "rejected");
+        if (!decision.allowed()) {
+            long nanosPerSecond = TimeUnit.SECONDS.toNanos(1);
+            throw new RateLimitExceededException(endpoint,
+                    Math.max(1, (decision.retryAfterNanos() + nanosPerSecond - 1) / nanosPerSecond));
+        }
+        return true;
+    }
+
+    private String resolveClient(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            for (String claim : properties.getClientClaims()) {
+                String value = jwt.getClaimAsString(claim);
+                if (value != null && !value.isBlank()) {
+                    return value;
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void count(String client, String endpoint, String outcome) {
+        String tag = trackedClients.contains(client) || trackedClients.size() < properties.getMaxTrackedClients()
+                && trackedClients.add(client) ? client : OTHER_CLIENTS;
+        Counter.builder("delivery.ratelimit.requests")
+                .tag("client", tag)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
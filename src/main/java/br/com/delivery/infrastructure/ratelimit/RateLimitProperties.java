@@ -0,0 +1,171 @@
+package br.com.delivery.infrastructure.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "delivery.rate-limit")
+public class RateLimitProperties {
+
+    public enum Mode {
+        // Baldes em memória: limite por nó
+        LOCAL,
+        // Baldes no Redis: limite do cluster, com permissões reservadas em lote por nó
+        REDIS
+    }
+
+    private boolean enabled = true;
+
+    private Mode mode = Mode.LOCAL;
+
+    // Claims que identificam o cliente, na ordem; sem nenhuma delas (ou sem token) vale o IP
+    private List<String> clientClaims = List.of("client_id", "azp", "sub");
+
+    // Limite dos endpoints sem configuração própria
+    private Limit defaultLimit = new Limit(100, 50);
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    // Modo REDIS: permissões reservadas por ida ao Redis (limitado a um quarto da capacidade do balde)
+    private int prefetch = 10;
+
+    // Modo REDIS: permissões reservadas e não usadas nesse prazo voltam a não valer
+    private Duration leaseDuration = Duration.ofSeconds(1);
+
+    private String keyPrefix = "delivery:ratelimit:";
+
+    // Clientes com métricas próprias; os demais aparecem como "other"
+    private int maxTrackedClients = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public List<String> getClientClaims() {
+        return clientClaims;
+    }
+
+    public void setClientClaims(List<String> clientClaims) {
+        this.clientClaims = clientClaims;
+    }
+
+    public Limit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(Limit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    public void setLeaseDuration(Duration leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public int getMaxTrackedClients() {
+        return maxTrackedClients;
+    }
+
+    public void setMaxTrackedClients(int maxTrackedClients) {
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+    public static class Limit {
+
+        // Rajada máxima: requisições aceitas de uma vez com o balde cheio
+        private int capacity = 100;
+
+        // Reposição contínua do balde
+        private double permitsPerSecond = 50;
+
+        public Limit() {}
+
+        public Limit(int capacity, double permitsPerSecond) {
+            this.capacity = capacity;
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+    }
+
+    /**
+     * Limite de um endpoint, identificado pelo método e pelo padrão do mapeamento (ex.: GET /v1/orders/{id}).
+     */
+    public static class Endpoint extends Limit {
+
+        private String method;
+
+        private String path;
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+    }
+}
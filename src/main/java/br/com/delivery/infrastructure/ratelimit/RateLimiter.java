@@ -0,0 +1,21 @@
+package br.com.delivery.infrastructure.ratelimit;
+
+/**
+ * Balde de permissões por chave (cliente e endpoint).
+ */
+public interface RateLimiter {
+
+    Decision tryAcquire(String key, RateLimitProperties.Limit limit);
+
+    /**
+     * Resultado de uma tentativa; retryAfterNanos só vale para as rejeitadas.
+     */
+    record Decision(boolean allowed, long retryAfterNanos) {
+
+        static final Decision ALLOWED = new Decision(true, 0);
+
+        static Decision rejected(long retryAfterNanos) {
+            return new Decision(false, Math.max(1, retryAfterNanos));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.delivery.infrastructure.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Baldes compartilhados pelo cluster no Redis. Cada balde é um hash (tokens, ts) atualizado
+ * por um script Lua, que repõe os tokens pelo tempo do próprio Redis e entrega até N de uma vez.
+ *
+ * Para não ir ao Redis a cada requisição, o nó reserva um lote de permissões (prefetch) e as
+ * consome localmente até o fim do lease; as não usadas nesse prazo se perdem, o que só deixa
+ * o limite mais conservador. Depois de uma rejeição, o nó rejeita localmente até o Retry-After.
+ * Com o Redis indisponível vale o balde local ({@link LocalTokenBuckets}), com limite por nó.
+ */
+public class RedisTokenBuckets implements RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisTokenBuckets.class);
+
+    // KEYS[1] = balde; ARGV = capacidade, tokens por ms, permissões pedidas. Devolve {concedidas, retry em ms}
+    static final RedisScript<List> TAKE = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+            local retry = 0
+            if granted == 0 then
+                retry = math.ceil((1 - tokens) / rate)
+            end
+            return {granted, retry}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoTime;
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    private volatile boolean redisDown;
+
+    public RedisTokenBuckets(StringRedisTemplate redisTemplate, RateLimiter fallback, RateLimitProperties properties) {
+        this(redisTemplate, fallback, properties, System::nanoTime);
+    }
+
+    RedisTokenBuckets(StringRedisTemplate redisTemplate, RateLimiter fallback, RateLimitProperties properties,
+                      LongSupplier nanoTime) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long start = nanoTime.getAsLong();
+        Lease lease = leases.computeIfAbsent(key, k -> new Lease(start));
+        if (lease.tryTake(start)) {
+            return Decision.ALLOWED;
+        }
+        // Só uma thread por chave vai ao Redis; as demais usam o lote que ela trouxer
+        synchronized (lease) {
+            long now = nanoTime.getAsLong();
+            if (lease.tryTake(now)) {
+                return Decision.ALLOWED;
+            }
+            if (lease.blockedUntil - now > 0) {
+                return Decision.rejected(lease.blockedUntil - now);
+            }
+
+            List<?> result;
+            try {
+                result = redisTemplate.execute(TAKE, List.of(properties.getKeyPrefix() + key),
+                        String.valueOf(limit.getCapacity()),
+                        String.valueOf(limit.getPermitsPerSecond() / 1000.0),
+                        String.valueOf(batchSize(limit)));
+                if (redisDown) {
+                    redisDown = false;
+                    logger.info("Rate limit: Redis disponível de novo, limites voltam a valer para o cluster");
+                }
+            } catch (RuntimeException e) {
+                if (!redisDown) {
+                    redisDown = true;
+                    logger.warn("Rate limit: Redis indisponível, usando limites locais por nó: {}", e.getMessage());
+                }
+                return fallback.tryAcquire(key, limit);
+            }
+
+            long granted = ((Number) result.get(0)).longValue();
+            if (granted > 0) {
+                lease.refill((int) granted - 1, now + properties.getLeaseDuration().toNanos());
+                return Decision.ALLOWED;
+            }
+            long retryAfter = TimeUnit.MILLISECONDS.toNanos(((Number) result.get(1)).longValue());
+            lease.blockedUntil = now + retryAfter;
+            return Decision.rejected(retryAfter);
+        }
+    }
+
+    /**
+     * Descarta leases vencidos e sem bloqueio em vigor; o próximo acesso à chave cria outro.
+     */
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void evictIdle() {
+        long now = nanoTime.getAsLong();
+        leases.values().removeIf(lease -> lease.expiresAt - now <= 0 && lease.blockedUntil - now <= 0);
+    }
+
+    // Um lote grande demais deixaria um nó com a rajada inteira de um cliente
+    private int batchSize(RateLimitProperties.Limit limit) {
+        return Math.max(1, Math.min(properties.getPrefetch(), limit.getCapacity() / 4));
+    }
+
+    private static class Lease {
+
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile long expiresAt;
+        private volatile long blockedUntil;
+
+        Lease(long now) {
+            this.expiresAt = now;
+            this.blockedUntil = now;
+        }
+
+        boolean tryTake(long now) {
+            if (expiresAt - now <= 0) {
+                return false;
+            }
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void refill(int permits, long expiresAt) {
+            remaining.set(permits);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
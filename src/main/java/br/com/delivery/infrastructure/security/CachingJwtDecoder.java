@@ -0,0 +1,109 @@
+package br.com.delivery.infrastructure.security;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evita repetir a verificação RSA de um token já aceito: o resultado fica em memória,
+ * indexado pelo SHA-256 do token, até o exp. Tokens sem exp não são guardados.
+ * O estado é local ao nó.
+ *
+ * Cada decode abre o span delivery.jwt.verification, com cache=hit quando a assinatura não
+ * precisou ser verificada de novo.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxSize;
+    private final ObservationRegistry observationRegistry;
+    private final Clock clock;
+    private final Map<String, Jwt> verified = new ConcurrentHashMap<>();
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize) {
+        this(delegate, maxSize, ObservationRegistry.NOOP);
+    }
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, ObservationRegistry observationRegistry) {
+        this(delegate, maxSize, observationRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxSize, Clock clock) {
+        this(delegate, maxSize, ObservationRegistry.NOOP, clock);
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxSize, ObservationRegistry observationRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.observationRegistry = observationRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Observation observation = Observation.createNotStarted("delivery.jwt.verification", observationRegistry)
+                .contextualName("jwt verification")
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return decode(token, observation);
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private Jwt decode(String token, Observation observation) {
+        if (maxSize <= 0) {
+            observation.lowCardinalityKeyValue("cache", "off");
+            return delegate.decode(token);
+        }
+
+        String key = hash(token);
+        Instant now = clock.instant();
+
+        Jwt cached = verified.get(key);
+        if (cached != null) {
+            if (now.isBefore(cached.getExpiresAt())) {
+                observation.lowCardinalityKeyValue("cache", "hit");
+                return cached;
+            }
+            verified.remove(key, cached);
+        }
+
+        observation.lowCardinalityKeyValue("cache", "miss");
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && now.isBefore(jwt.getExpiresAt())) {
+            if (verified.size() >= maxSize) {
+                verified.values().removeIf(entry -> !now.isBefore(entry.getExpiresAt()));
+            }
+            // Ainda cheio: o token é válido, só não fica em cache
+            if (verified.size() < maxSize) {
+                verified.put(key, jwt);
+            }
+        }
+        return jwt;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.delivery.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "delivery.security.jwt")
+public class JwtVerificationProperties {
+
+    // Tokens já verificados mantidos em memória até o exp; zero desabilita o cache
+    private int verificationCacheSize = 10_000;
+
+    private Duration jwkRefreshInterval = Duration.ofMinutes(5);
+
+    // Intervalo mínimo entre buscas do JWK set disparadas por um kid desconhecido
+    private Duration jwkMinRefreshInterval = Duration.ofSeconds(30);
+
+    private Duration jwkFetchTimeout = Duration.ofSeconds(2);
+
+    public int getVerificationCacheSize() {
+        return verificationCacheSize;
+    }
+
+    public void setVerificationCacheSize(int verificationCacheSize) {
+        this.verificationCacheSize = verificationCacheSize;
+    }
+
+    public Duration getJwkRefreshInterval() {
+        return jwkRefreshInterval;
+    }
+
+    public void setJwkRefreshInterval(Duration jwkRefreshInterval) {
+        this.jwkRefreshInterval = jwkRefreshInterval;
+    }
+
+    public Duration getJwkMinRefreshInterval() {
+        return jwkMinRefreshInterval;
+    }
+
+    public void setJwkMinRefreshInterval(Duration jwkMinRefreshInterval) {
+        this.jwkMinRefreshInterval = jwkMinRefreshInterval;
+    }
+
+    public Duration getJwkFetchTimeout() {
+        return jwkFetchTimeout;
+    }
+
+    public void setJwkFetchTimeout(Duration jwkFetchTimeout) {
+        this.jwkFetchTimeout = jwkFetchTimeout;
+    }
+}
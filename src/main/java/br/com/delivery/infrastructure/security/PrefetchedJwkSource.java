@@ -0,0 +1,95 @@
+package br.com.delivery.infrastructure.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * JWK set buscado na inicialização e renovado em segundo plano, para que nenhuma requisição
+ * espere pelo issuer. Se a busca falhar, as últimas chaves válidas continuam em uso.
+ * Um kid desconhecido (rotação de chave) dispara uma busca imediata, limitada por
+ * minRefreshInterval para que tokens forjados não virem carga no issuer.
+ */
+public class PrefetchedJwkSource implements JWKSource<SecurityContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrefetchedJwkSource.class);
+
+    private final Callable<JWKSet> loader;
+    private final Duration minRefreshInterval;
+    private final Clock clock;
+
+    private volatile JWKSet current;
+    private volatile long lastAttempt = Long.MIN_VALUE;
+
+    public PrefetchedJwkSource(Callable<JWKSet> loader, Duration minRefreshInterval) {
+        this(loader, minRefreshInterval, Clock.systemUTC());
+    }
+
+    PrefetchedJwkSource(Callable<JWKSet> loader, Duration minRefreshInterval, Clock clock) {
+        this.loader = loader;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        JWKSet keys = current;
+        if (keys != null) {
+            List<JWK> matches = selector.select(keys);
+            if (!matches.isEmpty()) {
+                return matches;
+            }
+        }
+
+        // Chave não encontrada: possível rotação no issuer
+        if (refreshIfDue()) {
+            keys = current;
+        }
+        if (keys == null) {
+            throw new KeySourceException("JWK set indisponível");
+        }
+        return selector.select(keys);
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.security.jwt.jwk-refresh-interval:PT5M}")
+    public void refresh() {
+        synchronized (this) {
+            lastAttempt = clock.millis();
+            try {
+                JWKSet loaded = loader.call();
+                if (current == null) {
+                    logger.info("JWK set carregado com {} chave(s)", loaded.getKeys().size());
+                }
+                current = loaded;
+            } catch (Exception e) {
+                if (current == null) {
+                    logger.warn("Falha ao carregar o JWK set: {}", e.getMessage());
+                } else {
+                    logger.warn("Falha ao renovar o JWK set, mantendo as {} chave(s) atuais: {}",
+                            current.getKeys().size(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean refreshIfDue() {
+        synchronized (this) {
+            if (lastAttempt != Long.MIN_VALUE && clock.millis() - lastAttempt < minRefreshInterval.toMillis()) {
+                return false;
+            }
+            refresh();
+            return true;
+        }
+    }
+}
@@ -1,25 +1,41 @@
 package br.com.delivery.infrastructure.security;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
+@EnableScheduling
+@EnableConfigurationProperties(JwtVerificationProperties.class)
 public class SecurityConfig {
 
+    private static final int JWK_SET_SIZE_LIMIT = 50 * 1024;
+
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
     private String issuerUri;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
         http
             .authorizeHttpRequests(auth -> auth
                 // Endpoints públicos
@@ -34,7 +50,7 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.decoder(jwtDecoder()))
+                .jwt(jwt -> jwt.decoder(jwtDecoder))
             )
             .csrf(csrf -> csrf.disable()); // Desabilitado para APIs REST
 
@@ -42,8 +58,28 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(issuerUri + "/protocol/openid-connect/certs")
-                .build();
+    public PrefetchedJwkSource jwkSource(JwtVerificationProperties properties) throws MalformedURLException {
+        URL jwkSetUrl = new URL(issuerUri + "/protocol/openid-connect/certs");
+        int timeout = (int) properties.getJwkFetchTimeout().toMillis();
+
+        PrefetchedJwkSource jwkSource = new PrefetchedJwkSource(
+                () -> JWKSet.load(jwkSetUrl, timeout, timeout, JWK_SET_SIZE_LIMIT),
+                properties.getJwkMinRefreshInterval());
+        // Busca antecipada: as primeiras requisições não esperam pelo issuer
+        jwkSource.refresh();
+        return jwkSource;
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(PrefetchedJwkSource jwkSource, JwtVerificationProperties properties,
+                                 ObservationRegistry observationRegistry) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims validadas pelo Spring (JwtValidators), como no NimbusJwtDecoder padrão
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefault());
+        return new CachingJwtDecoder(decoder, properties.getVerificationCacheSize(), observationRegistry);
     }
 }
@@ -0,0 +1,166 @@
+package br.com.delivery.infrastructure.warmup;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Aquece os caches com as chaves mais lidas ({@link HotKeyTracker}) antes de a aplicação
+ * aceitar tráfego: o Spring Boot só publica a readiness ACCEPTING_TRAFFIC depois que os
+ * listeners de ApplicationReadyEvent terminam, então este listener síncrono segura o probe.
+ *
+ * As chaves passam pelos próprios casos de uso (@Cacheable): as que já estão no Redis não
+ * vão ao banco. Os carregamentos são feitos um de cada vez, no máximo keys-per-second por
+ * segundo, intercalando os caches por posição no ranking; ao fim de max-duration o que
+ * faltou fica para as requisições. O andamento é publicado em delivery.cache.warmup.*.
+ */
+public class CacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final HotKeyTracker tracker;
+    private final Map<String, Function<String, Optional<?>>> loaders;
+    private final CacheWarmupProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger planned = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer duration;
+
+    public CacheWarmer(HotKeyTracker tracker, Map<String, Function<String, Optional<?>>> loaders,
+                       CacheWarmupProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getKeysPerSecond() < 1) {
+            throw new IllegalArgumentException("delivery.cache.warmup.keys-per-second deve ser positivo");
+        }
+        this.tracker = tracker;
+        this.loaders = loaders;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("delivery.cache.warmup.pending", pending, AtomicInteger::get)
+                .description("Chaves ainda não carregadas pelo aquecimento")
+                .register(meterRegistry);
+        Gauge.builder("delivery.cache.warmup.progress", this, CacheWarmer::progress)
+                .description("Fração das chaves planejadas já processada (0 a 1)")
+                .register(meterRegistry);
+        this.duration = Timer.builder("delivery.cache.warmup.duration")
+                .description("Tempo do aquecimento dos caches no start")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        List<Entry> plan = plan();
+        planned.set(plan.size());
+        pending.set(plan.size());
+        if (plan.isEmpty()) {
+            logger.info("Aquecimento de cache: nenhuma chave quente registrada");
+            return;
+        }
+
+        long deadline = start + properties.getMaxDuration().toNanos();
+        long interval = TimeUnit.SECONDS.toNanos(1) / properties.getKeysPerSecond();
+        long next = System.nanoTime();
+        int index = 0;
+        try {
+            for (; index < plan.size(); index++) {
+                if (next > deadline) {
+                    break;
+                }
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                next += interval;
+                load(plan.get(index));
+                pending.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (int skipped = index; skipped < plan.size(); skipped++) {
+            count(plan.get(skipped).cacheName, "skipped");
+        }
+        pending.set(0);
+        long elapsed = System.nanoTime() - start;
+        duration.record(elapsed, TimeUnit.NANOSECONDS);
+        logger.info("Aquecimento de cache: {} de {} chave(s) processada(s) em {} ms",
+                index, plan.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Intercala os caches pela posição no ranking: se o tempo acabar, ficaram de fora as
+     * chaves menos lidas de todos eles, e não um cache inteiro.
+     */
+    private List<Entry> plan() {
+        Map<String, List<String>> hotKeys = new LinkedHashMap<>();
+        for (String cacheName : properties.getCaches()) {
+            if (!loaders.containsKey(cacheName)) {
+                logger.warn("Aquecimento de cache: sem carregador para o cache {}", cacheName);
+                continue;
+            }
+            try {
+                hotKeys.put(cacheName, tracker.hotKeys(cacheName));
+            } catch (RuntimeException e) {
+                logger.warn("Aquecimento de cache: falha ao ler as chaves do cache {}: {}", cacheName, e.getMessage());
+            }
+        }
+
+        List<Entry> plan = new ArrayList<>();
+        for (int rank = 0; ; rank++) {
+            boolean added = false;
+            for (Map.Entry<String, List<String>> cache : hotKeys.entrySet()) {
+                if (rank < cache.getValue().size()) {
+                    plan.add(new Entry(cache.getKey(), cache.getValue().get(rank)));
+                    added = true;
+                }
+            }
+            if (!added) {
+                return plan;
+            }
+        }
+    }
+
+    private void load(Entry entry) {
+        try {
+            boolean found = loaders.get(entry.cacheName).apply(entry.key).isPresent();
+            count(entry.cacheName, found ? "loaded" : "missing");
+        } catch (RuntimeException e) {
+            // Uma chave com problema não interrompe o aquecimento nem o start
+            count(entry.cacheName, "failed");
+            logger.debug("Aquecimento de cache: falha ao carregar {} do cache {}: {}",
+                    entry.key, entry.cacheName, e.getMessage());
+        }
+    }
+
+    private void count(String cacheName, String outcome) {
+        Counter.builder("delivery.cache.warmup.keys")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private double progress() {
+        int total = planned.get();
+        return total == 0 ? 1.0 : (double) (total - pending.get()) / total;
+    }
+
+    private record Entry(String cacheName, String key) {
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.delivery.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "delivery.cache.warmup")
+public class CacheWarmupProperties {
+
+    private boolean enabled = true;
+
+    // Caches cujas leituras são contadas e aquecidas (precisam de um carregador no CacheWarmer)
+    private List<String> caches = List.of("customer", "order");
+
+    // Chaves distintas contadas por cache entre dois checkpoints; além disso, chaves novas são ignoradas
+    private int trackingCapacity = 10000;
+
+    // Chaves gravadas por cache em cada checkpoint e carregadas no aquecimento
+    private int maxKeys = 1000;
+
+    // Ritmo máximo de carregamentos no aquecimento, para não sobrecarregar o banco
+    private int keysPerSecond = 200;
+
+    // Tempo máximo de aquecimento: depois disso a aplicação fica pronta com o que já carregou
+    private Duration maxDuration = Duration.ofSeconds(30);
+
+    private Duration checkpointInterval = Duration.ofMinutes(1);
+
+    // Listas mais antigas que isso (nós que já saíram) não entram no aquecimento e são apagadas
+    private Duration retention = Duration.ofHours(1);
+
+    // Identifica as linhas deste nó em cache_hot_keys; vazio usa HOSTNAME
+    private String nodeId;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(List<String> caches) {
+        this.caches = caches;
+    }
+
+    public int getTrackingCapacity() {
+        return trackingCapacity;
+    }
+
+    public void setTrackingCapacity(int trackingCapacity) {
+        this.trackingCapacity = trackingCapacity;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public int getKeysPerSecond() {
+        return keysPerSecond;
+    }
+
+    public void setKeysPerSecond(int keysPerSecond) {
+        this.keysPerSecond = keysPerSecond;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public Duration getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(Duration checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+}
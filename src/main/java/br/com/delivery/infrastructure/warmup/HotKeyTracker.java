@@ -0,0 +1,141 @@
+package br.com.delivery.infrastructure.warmup;
+
+import br.com.delivery.infrastructure.persistence.entity.HotKeyCounter;
+import br.com.delivery.infrastructure.persistence.entity.HotKeyListEntity;
+import br.com.delivery.infrastructure.persistence.repository.HotKeyListJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conta as leituras de cada chave dos caches aquecidos e grava periodicamente as mais lidas em
+ * cache_hot_keys. No start, {@link #hotKeys} soma as listas recentes de todos os nós (inclusive
+ * as deste nó antes do restart), que é o que o {@link CacheWarmer} carrega.
+ *
+ * A contagem fica fora do caminho crítico: um LongAdder por chave, sem lock. Cada checkpoint
+ * divide as contagens por dois, então chaves que esfriam saem da lista e abrem espaço para
+ * novas; com o mapa cheio, chaves novas são ignoradas até o próximo checkpoint.
+ */
+public class HotKeyTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotKeyTracker.class);
+    private static final Comparator<HotKeyCounter> HOTTEST_FIRST = Comparator
+            .comparingLong(HotKeyCounter::getCount).reversed()
+            .thenComparing(HotKeyCounter::getKey);
+
+    private final HotKeyListJpaRepository hotKeyLists;
+    private final CacheWarmupProperties properties;
+    private final String nodeId;
+    private final Clock clock;
+    private final Map<String, ConcurrentHashMap<String, LongAdder>> counters = new HashMap<>();
+
+    public HotKeyTracker(HotKeyListJpaRepository hotKeyLists, CacheWarmupProperties properties, String nodeId) {
+        this(hotKeyLists, properties, nodeId, Clock.systemDefaultZone());
+    }
+
+    HotKeyTracker(HotKeyListJpaRepository hotKeyLists, CacheWarmupProperties properties, String nodeId,
+                  Clock clock) {
+        this.hotKeyLists = hotKeyLists;
+        this.properties = properties;
+        this.nodeId = nodeId;
+        this.clock = clock;
+        for (String cacheName : properties.getCaches()) {
+            counters.put(cacheName, new ConcurrentHashMap<>());
+        }
+    }
+
+    public boolean tracks(String cacheName) {
+        return counters.containsKey(cacheName);
+    }
+
+    public void record(String cacheName, Object key) {
+        ConcurrentHashMap<String, LongAdder> cacheCounters = counters.get(cacheName);
+        if (cacheCounters == null || !(key instanceof String id)) {
+            return;
+        }
+        LongAdder counter = cacheCounters.get(id);
+        if (counter == null) {
+            if (cacheCounters.size() >= properties.getTrackingCapacity()) {
+                return;
+            }
+            counter = cacheCounters.computeIfAbsent(id, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Chaves mais lidas do cache somando as listas recentes de todos os nós, da mais lida para a menos.
+     */
+    public List<String> hotKeys(String cacheName) {
+        Map<String, Long> merged = new HashMap<>();
+        for (HotKeyListEntity list : hotKeyLists.findByCacheNameAndUpdatedAtGreaterThanEqual(cacheName, oldestKept())) {
+            for (HotKeyCounter counter : list.getCounters()) {
+                merged.merge(counter.getKey(), counter.getCount(), Long::sum);
+            }
+        }
+        return merged.entrySet().stream()
+                .map(entry -> new HotKeyCounter(entry.getKey(), entry.getValue()))
+                .sorted(HOTTEST_FIRST)
+                .limit(properties.getMaxKeys())
+                .map(HotKeyCounter::getKey)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${delivery.cache.warmup.checkpoint-interval:PT1M}",
+            initialDelayString = "${delivery.cache.warmup.checkpoint-interval:PT1M}")
+    public void checkpoint() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<HotKeyListEntity> lists = new ArrayList<>();
+            for (Map.Entry<String, ConcurrentHashMap<String, LongAdder>> cache : counters.entrySet()) {
+                List<HotKeyCounter> hottest = decay(cache.getValue());
+                // Sem leituras no intervalo: mantém a última lista gravada até ela expirar
+                if (!hottest.isEmpty()) {
+                    lists.add(new HotKeyListEntity(nodeId, cache.getKey(), hottest, now));
+                }
+            }
+            hotKeyLists.saveAll(lists);
+            hotKeyLists.deleteOlderThan(oldestKept());
+        } catch (RuntimeException e) {
+            // As contagens continuam em memória; o próximo checkpoint tenta de novo
+            logger.warn("Falha no checkpoint das chaves mais lidas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Devolve as maxKeys chaves mais lidas e divide todas as contagens por dois, removendo as que zeram.
+     * Leituras concorrentes entre o reset e a soma da metade podem se perder, o que só afeta a estimativa.
+     */
+    private List<HotKeyCounter> decay(ConcurrentHashMap<String, LongAdder> cacheCounters) {
+        List<HotKeyCounter> snapshot = new ArrayList<>(cacheCounters.size());
+        for (Map.Entry<String, LongAdder> entry : cacheCounters.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                snapshot.add(new HotKeyCounter(entry.getKey(), count));
+            }
+            if (count / 2 > 0) {
+                entry.getValue().add(count / 2);
+            } else {
+                cacheCounters.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        snapshot.sort(HOTTEST_FIRST);
+        return snapshot.size() > properties.getMaxKeys()
+                ? new ArrayList<>(snapshot.subList(0, properties.getMaxKeys()))
+                : snapshot;
+    }
+
+    private LocalDateTime oldestKept() {
+        return LocalDateTime.now(clock).minus(properties.getRetention());
+    }
+}
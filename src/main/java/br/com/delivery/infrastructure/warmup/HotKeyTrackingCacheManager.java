@@ -0,0 +1,130 @@
+package br.com.delivery.infrastructure.warmup;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Envolve o CacheManager para contar, no {@link HotKeyTracker}, as leituras dos caches aquecidos.
+ * Conta acertos e faltas: as faltas são justamente as leituras que vão ao banco.
+ */
+public class HotKeyTrackingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Supplier<HotKeyTracker> tracker;
+    private final Map<String, Cache> trackedCaches = new ConcurrentHashMap<>();
+
+    /**
+     * O tracker é resolvido sob demanda para não antecipar a criação do repositório JPA
+     * durante o pós-processamento dos beans.
+     */
+    public HotKeyTrackingCacheManager(CacheManager delegate, Supplier<HotKeyTracker> tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        HotKeyTracker current = tracker.get();
+        if (!current.tracks(name)) {
+            return cache;
+        }
+        return trackedCaches.computeIfAbsent(name, n -> new TrackingCache(cache, current));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private static class TrackingCache implements Cache {
+
+        private final Cache delegate;
+        private final HotKeyTracker tracker;
+
+        TrackingCache(Cache delegate, HotKeyTracker tracker) {
+            this.delegate = delegate;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            tracker.record(getName(), key);
+            return delegate.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            tracker.record(getName(), key);
+            return delegate.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            tracker.record(getName(), key);
+            return delegate.get(key, valueLoader);
+        }
+
+        @Override
+        public CompletableFuture<?> retrieve(Object key) {
+            tracker.record(getName(), key);
+            return delegate.retrieve(key);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            tracker.record(getName(), key);
+            return delegate.retrieve(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            delegate.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return delegate.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            delegate.evict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return delegate.evictIfPresent(key);
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        @Override
+        public boolean invalidate() {
+            return delegate.invalidate();
+        }
+    }
+}
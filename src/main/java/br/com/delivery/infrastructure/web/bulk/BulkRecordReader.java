@@ -0,0 +1,274 @@
+package br.com.delivery.infrastructure.web.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê o corpo de uma importação em massa linha a linha, conforme pedido pelo iterador: só a
+ * linha corrente fica em memória, e uma linha acima de {@link #MAX_LINE_LENGTH} é descartada
+ * sem ser acumulada.
+ *
+ * CSV: cabeçalho com as colunas esperadas (em qualquer ordem, outras são ignoradas), valores
+ * entre aspas com "" para aspas; um registro por linha. NDJSON: um objeto JSON por linha com os
+ * mesmos campos. Linhas em branco são ignoradas; linhas ilegíveis viram registros com erro, e a
+ * importação segue.
+ */
+public class BulkRecordReader<T> implements Iterator<T>, AutoCloseable {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * Monta o registro da importação a partir dos valores das colunas, na ordem declarada.
+     */
+    public interface RecordFactory<T> {
+        T record(int lineNumber, List<String> values);
+
+        T unreadable(int lineNumber, String error);
+    }
+
+    static final int MAX_LINE_LENGTH = 8192;
+
+    private final Reader reader;
+    private final Format format;
+    private final ObjectReader jsonReader;
+    private final List<String> columns;
+    private final RecordFactory<T> factory;
+    private final StringBuilder line = new StringBuilder();
+    private int lineNumber;
+    private int[] columnIndexes;
+    private T next;
+    private boolean finished;
+
+    public BulkRecordReader(Reader reader, Format format, ObjectMapper objectMapper, List<String> columns,
+                            RecordFactory<T> factory) {
+        this.reader = reader;
+        this.format = format;
+        // Decimais do JSON sem passar por double: 29.90 continua 29.90
+        this.jsonReader = objectMapper.reader(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.columns = List.copyOf(columns);
+        this.factory = factory;
+    }
+
+    /**
+     * Leitor sobre o corpo da requisição: NDJSON ou CSV pelo Content-Type, UTF-8 se o charset
+     * não for informado.
+     */
+    public static <T> BulkRecordReader<T> open(HttpServletRequest request, ObjectMapper objectMapper,
+                                               List<String> columns, RecordFactory<T> factory) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Format format = contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON)) ? Format.NDJSON : Format.CSV;
+        Reader body = new BufferedReader(new InputStreamReader(request.getInputStream(), charset));
+        return new BulkRecordReader<>(body, format, objectMapper, columns, factory);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readRecord();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private T readRecord() {
+        while (true) {
+            LineStatus status = readLine();
+            if (status == LineStatus.END) {
+                if (format == Format.CSV && columnIndexes == null) {
+                    throw new IllegalArgumentException("Arquivo CSV sem cabeçalho");
+                }
+                return null;
+            }
+            lineNumber++;
+            if (status == LineStatus.TOO_LONG) {
+                return factory.unreadable(lineNumber, "Linha excede " + MAX_LINE_LENGTH + " caracteres");
+            }
+
+            String text = line.toString();
+            if (lineNumber == 1 && text.startsWith("\uFEFF")) {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columnIndexes == null) {
+                columnIndexes = readHeader(text);
+                continue;
+            }
+            return format == Format.CSV ? readCsv(text) : readJson(text);
+        }
+    }
+
+    private LineStatus readLine() {
+        line.setLength(0);
+        boolean tooLong = false;
+        try {
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '\n') {
+                    return tooLong ? LineStatus.TOO_LONG : LineStatus.READ;
+                }
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o arquivo de importação", e);
+        }
+        if (tooLong) {
+            return LineStatus.TOO_LONG;
+        }
+        return line.length() > 0 ? LineStatus.READ : LineStatus.END;
+    }
+
+    private int[] readHeader(String text) {
+        List<String> header = splitCsv(stripCarriageReturn(text));
+        List<String> names = header == null ? List.of() : header.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int[] indexes = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            indexes[i] = names.indexOf(columns.get(i));
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("Cabeçalho CSV deve ter as colunas " + String.join(", ", columns));
+            }
+        }
+        return indexes;
+    }
+
+    private T readCsv(String text) {
+        List<String> fields = splitCsv(stripCarriageReturn(text));
+        if (fields == null) {
+            return factory.unreadable(lineNumber, "Aspas não fechadas");
+        }
+        int required = Arrays.stream(columnIndexes).max().orElse(0) + 1;
+        if (fields.size() < required) {
+            return factory.unreadable(lineNumber, "Linha com " + fields.size() + " coluna(s); esperadas " + required);
+        }
+        List<String> values = new ArrayList<>(columns.size());
+        for (int index : columnIndexes) {
+            values.add(fields.get(index));
+        }
+        return record(values);
+    }
+
+    private T readJson(String text) {
+        JsonNode node;
+        try {
+            node = jsonReader.readTree(text);
+        } catch (JsonProcessingException e) {
+            return factory.unreadable(lineNumber, "JSON inválido");
+        }
+        if (node == null || !node.isObject()) {
+            return factory.unreadable(lineNumber, "Linha não é um objeto JSON");
+        }
+        List<String> values = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            values.add(text(node, column));
+        }
+        return record(values);
+    }
+
+    private T record(List<String> values) {
+        // O PostgreSQL não aceita o caractere nulo em texto
+        for (String value : values) {
+            if (value != null && value.indexOf('\0') >= 0) {
+                return factory.unreadable(lineNumber, "Caractere nulo na linha");
+            }
+        }
+        return factory.record(lineNumber, values);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.isNumber() ? value.decimalValue().toPlainString() : value.asText();
+    }
+
+    private static String stripCarriageReturn(String text) {
+        return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    // Campos de uma linha CSV; null se uma aspa ficar aberta
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private enum LineStatus {
+        READ,
+        TOO_LONG,
+        END
+    }
+}
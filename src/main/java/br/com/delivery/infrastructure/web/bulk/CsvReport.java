@@ -0,0 +1,64 @@
+package br.com.delivery.infrastructure.web.bulk;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Relatório CSV escrito direto na resposta, uma linha por vez. Cabeçalhos e a linha de títulos
+ * só saem na primeira linha (ou no {@link #finish()}): até lá o controller ainda pode responder 404.
+ */
+public class CsvReport {
+
+    private final HttpServletResponse response;
+    private final String filename;
+    private final String titles;
+    private Writer writer;
+
+    public CsvReport(HttpServletResponse response, String filename, String titles) {
+        this.response = response;
+        this.filename = filename;
+        this.titles = titles;
+    }
+
+    // A primeira coluna é o número da linha, sem aspas; as demais vão entre aspas (vazio é ausente)
+    public void row(int lineNumber, String... values) {
+        try {
+            start();
+            writer.write(Integer.toString(lineNumber));
+            for (String value : values) {
+                writer.write(',');
+                if (value != null) {
+                    writer.write('"');
+                    writer.write(value.replace("\"", "\"\""));
+                    writer.write('"');
+                }
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        start();
+        writer.flush();
+    }
+
+    private void start() throws IOException {
+        if (writer != null) {
+            return;
+        }
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        writer.write(titles);
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.delivery.infrastructure.web.controller;
+
+import br.com.delivery.application.dto.SalesTotalDto;
+import br.com.delivery.application.usecase.GetSalesAnalyticsUseCase;
+import br.com.delivery.domain.readmodel.SalesGrouping;
+import br.com.delivery.infrastructure.workload.Workload;
+import br.com.delivery.infrastructure.workload.WorkloadClass;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/analytics")
+@Tag(name = "Analytics", description = "API de indicadores de vendas")
+public class AnalyticsController {
+
+    private final GetSalesAnalyticsUseCase getSalesAnalyticsUseCase;
+
+    public AnalyticsController(GetSalesAnalyticsUseCase getSalesAnalyticsUseCase) {
+        this.getSalesAnalyticsUseCase = getSalesAnalyticsUseCase;
+    }
+
+    @GetMapping("/sales")
+    @PreAuthorize("hasAuthority('SCOPE_orders:read')")
+    @Workload(WorkloadClass.INTERACTIVE_READ)
+    @Operation(summary = "Vendas consolidadas",
+            description = "Pedidos e receita no período, agrupados por dia, status ou produto. "
+                    + "Lido das tabelas de consolidação diária; dia e produto desconsideram pedidos cancelados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Totais retornados com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = SalesTotalDto.class)),
+                            examples = @ExampleObject(value = """
+                                    [
+                                        {
+                                            "group": "2025-01-27",
+                                            "orderCount": 128,
+                                            "units": null,
+                                            "revenue": 15432.90
+                                        }
+                                    ]
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Período ou agrupamento inválido",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public ResponseEntity<List<SalesTotalDto>> getSales(
+            @Parameter(description = "Data inicial (inclusive)", required = true, example = "2025-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final (inclusive)", required = true, example = "2025-01-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Agrupamento: day, status ou product")
+            @RequestParam(defaultValue = "day") String groupBy) {
+
+        return ResponseEntity.ok(getSalesAnalyticsUseCase.execute(from, to, SalesGrouping.from(groupBy)));
+    }
+}
@@ -3,10 +3,20 @@ package br.com.delivery.infrastructure.web.controller;
 import br.com.delivery.application.dto.CreateCustomerRequest;
 import br.com.delivery.application.dto.CustomerDto;
 import br.com.delivery.application.usecase.CreateCustomerUseCase;
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderHistoryPage;
 import br.com.delivery.application.usecase.GetCustomerUseCase;
+import br.com.delivery.application.usecase.ListCustomerOrdersUseCase;
 import br.com.delivery.application.usecase.ListCustomersUseCase;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.web.dto.CursorPageResponse;
+import br.com.delivery.infrastructure.web.dto.OrderCursor;
 import br.com.delivery.infrastructure.web.dto.PageResponse;
+import br.com.delivery.infrastructure.web.etag.ResourceVersions;
+import br.com.delivery.infrastructure.web.etag.ResponseBodyCache;
 import br.com.delivery.infrastructure.web.exception.ResourceNotFoundException;
+import br.com.delivery.infrastructure.workload.Workload;
+import br.com.delivery.infrastructure.workload.WorkloadClass;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,6 +30,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,17 +42,27 @@ public class CustomerController {
     private final CreateCustomerUseCase createCustomerUseCase;
     private final GetCustomerUseCase getCustomerUseCase;
     private final ListCustomersUseCase listCustomersUseCase;
+    private final ListCustomerOrdersUseCase listCustomerOrdersUseCase;
+    private final ResourceVersions resourceVersions;
+    private final ResponseBodyCache responseBodyCache;
 
     public CustomerController(CreateCustomerUseCase createCustomerUseCase,
                              GetCustomerUseCase getCustomerUseCase,
-                             ListCustomersUseCase listCustomersUseCase) {
+                             ListCustomersUseCase listCustomersUseCase,
+                             ListCustomerOrdersUseCase listCustomerOrdersUseCase,
+                             ResourceVersions resourceVersions,
+                             ResponseBodyCache responseBodyCache) {
         this.createCustomerUseCase = createCustomerUseCase;
         this.getCustomerUseCase = getCustomerUseCase;
         this.listCustomersUseCase = listCustomersUseCase;
+        this.listCustomerOrdersUseCase = listCustomerOrdersUseCase;
+        this.resourceVersions = resourceVersions;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @PostMapping
     @PreAuthorize("hasAuthority('SCOPE_customers:write')")
+    @Workload(WorkloadClass.INTERACTIVE_WRITE)
     @Operation(summary = "Criar cliente", description = "Cria um novo cliente no sistema")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Cliente criado com sucesso",
@@ -67,6 +88,7 @@ public class CustomerController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('SCOPE_customers:read')")
+    @Workload(WorkloadClass.INTERACTIVE_READ)
     @Operation(summary = "Buscar cliente por ID", description = "Retorna um cliente específico pelo ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cliente encontrado",
@@ -80,20 +102,24 @@ public class CustomerController {
                                         "document": "12345678901"
                                     }
                                     """))),
+            @ApiResponse(responseCode = "304", description = "Cliente não modificado desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado",
                     content = @Content(mediaType = "application/problem+json"))
     })
-    public ResponseEntity<CustomerDto> getCustomer(
+    public ResponseEntity<byte[]> getCustomer(
             @Parameter(description = "ID do cliente", required = true)
-            @PathVariable String id) {
+            @PathVariable String id,
+            WebRequest webRequest) {
         
-        return getCustomerUseCase.execute(id)
-                .map(customer -> ResponseEntity.ok(customer))
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com ID: " + id));
+        // A versão vem antes dos dados: If-None-Match válido responde 304 sem consultar o repositório
+        String version = resourceVersions.entity("customer", id);
+        return responseBodyCache.respond("customer:" + id, version, webRequest, () -> getCustomerUseCase.execute(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com ID: " + id)));
     }
 
     @GetMapping
     @PreAuthorize("hasAuthority('SCOPE_customers:read')")
+    @Workload(WorkloadClass.BULK)
     @Operation(summary = "Listar clientes", description = "Retorna uma lista paginada de clientes")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso",
@@ -118,12 +144,20 @@ public class CustomerController {
                                     }
                                     """)))
     })
-    public ResponseEntity<PageResponse<CustomerDto>> listCustomers(
+    public ResponseEntity<byte[]> listCustomers(
             @Parameter(description = "Número da página (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
         
+        // Listas usam a geração da coleção, renovada a cada escrita em clientes
+        String version = resourceVersions.collection("customers");
+        return responseBodyCache.respond("customers:" + page + ":" + size, version, webRequest,
+                () -> listCustomerPage(page, size));
+    }
+
+    private PageResponse<CustomerDto> listCustomerPage(int page, int size) {
         List<CustomerDto> customers = listCustomersUseCase.execute();
         
         int start = page * size;
@@ -140,6 +174,80 @@ public class CustomerController {
                 page >= (customers.size() - 1) / size
         );
         
-        return ResponseEntity.ok(response);
+        return response;
+    }
+
+    @GetMapping("/{id}/orders")
+    @PreAuthorize("hasAuthority('SCOPE_orders:read')")
+    @Workload(WorkloadClass.INTERACTIVE_READ)
+    @Operation(summary = "Listar pedidos do cliente",
+            description = "Retorna o histórico de pedidos do cliente, mais recentes primeiro, paginado por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pedidos do cliente retornados com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "content": [
+                                            {
+                                                "id": "123e4567-e89b-12d3-a456-426614174000",
+                                                "customerId": "456e7890-e89b-12d3-a456-426614174001",
+                                                "items": [
+                                                    {
+                                                        "productId": "789e0123-e89b-12d3-a456-426614174002",
+                                                        "quantity": 2,
+                                                        "unitPrice": 29.99
+                                                    }
+                                                ],
+                                                "status": "CREATED",
+                                                "createdAt": "2025-01-27T10:30:00Z",
+                                                "total": 59.98
+                                            }
+                                        ],
+                                        "size": 20,
+                                        "nextCursor": "MjAyNS0wMS0yN1QxMDozMDp8MTIzZTQ1Njc",
+                                        "hasNext": true
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "304", description = "Pedidos do cliente não modificados desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválido",
+                    content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public ResponseEntity<byte[]> listCustomerOrders(
+            @Parameter(description = "ID do cliente", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Filtro por status do pedido")
+            @RequestParam(required = false) Order.OrderStatus status,
+            @Parameter(description = "Cursor retornado em nextCursor pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página")
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        
+        // Segmento por cliente: só pedidos deste cliente trocam a versão
+        String version = resourceVersions.entity("customer-orders", id);
+        String key = "customer-orders:" + id + ":" + (status != null ? status.name() : "ALL") + ":"
+                + (cursor != null ? cursor : "") + ":" + size;
+        return responseBodyCache.respond(key, version, webRequest, () -> listCustomerOrdersPage(id, status, cursor, size));
+    }
+
+    private CursorPageResponse<OrderDto> listCustomerOrdersPage(String customerId, Order.OrderStatus status,
+                                                                String cursor, int size) {
+        OrderCursor after = cursor != null ? OrderCursor.decode(cursor) : null;
+        OrderHistoryPage history = listCustomerOrdersUseCase.execute(customerId, status,
+                        after != null ? after.getCreatedAt() : null,
+                        after != null ? after.getOrderId() : null,
+                        size)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com ID: " + customerId));
+        
+        List<OrderDto> orders = history.getOrders();
+        String nextCursor = null;
+        if (history.isHasNext()) {
+            OrderDto last = orders.get(orders.size() - 1);
+            nextCursor = OrderCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPageResponse<>(orders, size, nextCursor, history.isHasNext());
     }
 }
@@ -0,0 +1,134 @@
+package br.com.delivery.infrastructure.web.controller;
+
+import br.com.delivery.application.dto.CustomerImportDto;
+import br.com.delivery.application.dto.CustomerImportRecord;
+import br.com.delivery.application.usecase.ExportCustomerImportRejectsUseCase;
+import br.com.delivery.application.usecase.ImportCustomersUseCase;
+import br.com.delivery.infrastructure.web.bulk.BulkRecordReader;
+import br.com.delivery.infrastructure.web.bulk.CsvReport;
+import br.com.delivery.infrastructure.web.exception.ResourceNotFoundException;
+import br.com.delivery.infrastructure.workload.Workload;
+import br.com.delivery.infrastructure.workload.WorkloadClass;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Importação em massa de clientes. Fica fora do CustomerController porque o caminho
+ * {@code /v1/customers:import} não cabe sob o prefixo {@code /v1/customers/}.
+ */
+@RestController
+@RequestMapping("/v1")
+@Tag(name = "Customers", description = "API para gerenciamento de clientes")
+public class CustomerImportController {
+
+    private static final List<String> COLUMNS = List.of("name", "email", "document");
+    private static final BulkRecordReader.RecordFactory<CustomerImportRecord> RECORDS =
+            new BulkRecordReader.RecordFactory<>() {
+                @Override
+                public CustomerImportRecord record(int lineNumber, List<String> values) {
+                    return CustomerImportRecord.of(lineNumber, values.get(0), values.get(1), values.get(2));
+                }
+
+                @Override
+                public CustomerImportRecord unreadable(int lineNumber, String error) {
+                    return CustomerImportRecord.unreadable(lineNumber, error);
+                }
+            };
+
+    private final ImportCustomersUseCase importCustomersUseCase;
+    private final ExportCustomerImportRejectsUseCase exportCustomerImportRejectsUseCase;
+    private final ObjectMapper objectMapper;
+
+    public CustomerImportController(ImportCustomersUseCase importCustomersUseCase,
+                                    ExportCustomerImportRejectsUseCase exportCustomerImportRejectsUseCase,
+                                    ObjectMapper objectMapper) {
+        this.importCustomersUseCase = importCustomersUseCase;
+        this.exportCustomerImportRejectsUseCase = exportCustomerImportRejectsUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(path = "/customers:import", consumes = {"text/csv", BulkRecordReader.NDJSON})
+    @PreAuthorize("hasAuthority('SCOPE_customers:write')")
+    @Workload(WorkloadClass.BULK)
+    @Operation(summary = "Importar clientes em massa",
+            description = "Recebe um arquivo CSV (cabeçalho name,email,document) ou NDJSON (um objeto por linha), "
+                    + "lido em fluxo: o uso de memória não depende do tamanho do arquivo. Linhas inválidas ou com "
+                    + "email/documento repetidos ou já cadastrados são rejeitadas sem interromper a importação e "
+                    + "ficam no relatório indicado em rejectsReport. Se o envio for interrompido, nada é importado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CustomerImportDto.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "importId": "5f0c1a2b-3c4d-4e5f-8a6b-7c8d9e0f1a2b",
+                                        "received": 250000,
+                                        "imported": 249812,
+                                        "rejected": 188,
+                                        "rejectsReport": "/v1/customers/imports/5f0c1a2b-3c4d-4e5f-8a6b-7c8d9e0f1a2b/rejects",
+                                        "createdAt": "2025-01-27T10:30:00"
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Cabeçalho CSV ausente ou sem as colunas obrigatórias",
+                    content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "415", description = "Content-Type diferente de text/csv e application/x-ndjson",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public ResponseEntity<CustomerImportDto> importCustomers(HttpServletRequest request) throws IOException {
+        try (BulkRecordReader<CustomerImportRecord> records = BulkRecordReader.open(request, objectMapper, COLUMNS, RECORDS)) {
+            CustomerImportDto result = importCustomersUseCase.execute(records);
+            if (result.getRejected() > 0) {
+                result.setRejectsReport("/v1/customers/imports/" + result.getImportId() + "/rejects");
+            }
+            return ResponseEntity.ok(result);
+        }
+    }
+
+    @GetMapping(path = "/customers/imports/{id}/rejects", produces = "text/csv")
+    @PreAuthorize("hasAuthority('SCOPE_customers:read')")
+    @Workload(WorkloadClass.BULK)
+    @Operation(summary = "Relatório de rejeitados da importação",
+            description = "CSV com line,name,email,document,reason das linhas rejeitadas, na ordem do arquivo enviado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado",
+                    content = @Content(mediaType = "text/csv",
+                            examples = @ExampleObject(value = """
+                                    line,name,email,document,reason
+                                    42,"Maria Souza","maria@email.com","98765432100","Já existe um cliente cadastrado com este email"
+                                    """))),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public void downloadRejects(
+            @Parameter(description = "ID retornado pela importação", required = true)
+            @PathVariable String id,
+            HttpServletResponse response) throws IOException {
+
+        CsvReport report = new CsvReport(response, "customer-import-rejects.csv", "line,name,email,document,reason");
+        // Cada linha vai para a resposta assim que lida do banco
+        if (!exportCustomerImportRejectsUseCase.execute(id, reject -> report.row(reject.getLineNumber(),
+                reject.getName(), reject.getEmail(), reject.getDocument(), reject.getReason()))) {
+            throw new ResourceNotFoundException("Importação não encontrada com ID: " + id);
+        }
+        report.finish();
+    }
+}
@@ -2,15 +2,21 @@ package br.com.delivery.infrastructure.web.controller;
 
 import br.com.delivery.application.dto.CreateOrderRequest;
 import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderIntakeDto;
 import br.com.delivery.application.dto.UpdateOrderStatusRequest;
 import br.com.delivery.application.usecase.CreateOrderUseCase;
+import br.com.delivery.application.usecase.GetOrderIntakeUseCase;
 import br.com.delivery.application.usecase.GetOrderUseCase;
 import br.com.delivery.application.usecase.ListOrdersUseCase;
+import br.com.delivery.application.usecase.SubmitOrderIntakeUseCase;
 import br.com.delivery.application.usecase.UpdateOrderStatusUseCase;
 import br.com.delivery.domain.entity.Order;
 import br.com.delivery.infrastructure.web.dto.PageResponse;
+import br.com.delivery.infrastructure.web.etag.ResourceVersions;
+import br.com.delivery.infrastructure.web.etag.ResponseBodyCache;
 import br.com.delivery.infrastructure.web.exception.ResourceNotFoundException;
-import java.util.ArrayList;
+import br.com.delivery.infrastructure.workload.Workload;
+import br.com.delivery.infrastructure.workload.WorkloadClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,11 +28,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -40,20 +49,36 @@ public class OrderController {
     private final GetOrderUseCase getOrderUseCase;
     private final ListOrdersUseCase listOrdersUseCase;
     private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
+    private final SubmitOrderIntakeUseCase submitOrderIntakeUseCase;
+    private final GetOrderIntakeUseCase getOrderIntakeUseCase;
+    private final ResourceVersions resourceVersions;
+    private final ResponseBodyCache responseBodyCache;
 
     public OrderController(CreateOrderUseCase createOrderUseCase,
                           GetOrderUseCase getOrderUseCase,
                           ListOrdersUseCase listOrdersUseCase,
-                          UpdateOrderStatusUseCase updateOrderStatusUseCase) {
+                          UpdateOrderStatusUseCase updateOrderStatusUseCase,
+                          SubmitOrderIntakeUseCase submitOrderIntakeUseCase,
+                          GetOrderIntakeUseCase getOrderIntakeUseCase,
+                          ResourceVersions resourceVersions,
+                          ResponseBodyCache responseBodyCache) {
         this.createOrderUseCase = createOrderUseCase;
         this.getOrderUseCase = getOrderUseCase;
         this.listOrdersUseCase = listOrdersUseCase;
         this.updateOrderStatusUseCase = updateOrderStatusUseCase;
+        this.submitOrderIntakeUseCase = submitOrderIntakeUseCase;
+        this.getOrderIntakeUseCase = getOrderIntakeUseCase;
+        this.resourceVersions = resourceVersions;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @PostMapping
     @PreAuthorize("hasAuthority('SCOPE_orders:write')")
-    @Operation(summary = "Criar pedido", description = "Cria um novo pedido no sistema")
+    @Workload(WorkloadClass.INTERACTIVE_WRITE)
+    @Operation(summary = "Criar pedido",
+            description = "Cria um novo pedido no sistema. Com o cabeçalho Prefer: respond-async o pedido "
+                    + "é apenas enfileirado e a resposta é 202 com o ticket; o andamento fica em "
+                    + "GET /v1/orders/intake/{ticket}")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Pedido criado com sucesso",
                     content = @Content(mediaType = "application/json",
@@ -74,16 +99,92 @@ public class OrderController {
                                         "total": 59.98
                                     }
                                     """))),
+            @ApiResponse(responseCode = "202", description = "Pedido enfileirado (Prefer: respond-async)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = OrderIntakeDto.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "ticket": "9b2f7c1e-3d4a-4e5f-8a6b-7c8d9e0f1a2b",
+                                        "status": "PENDING",
+                                        "orderId": null,
+                                        "error": null,
+                                        "createdAt": "2025-01-27T10:30:00",
+                                        "updatedAt": "2025-01-27T10:30:00"
+                                    }
+                                    """))),
             @ApiResponse(responseCode = "400", description = "Dados inválidos ou cliente/produto não encontrado",
+                    content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "503", description = "Fila de entrada cheia (modo assíncrono)",
                     content = @Content(mediaType = "application/problem+json"))
     })
-    public ResponseEntity<OrderDto> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+    public ResponseEntity<?> createOrder(
+            @Parameter(description = "respond-async para enfileirar o pedido e responder 202")
+            @RequestHeader(value = "Prefer", required = false) String prefer,
+            @Valid @RequestBody CreateOrderRequest request) {
+        
+        if (prefersAsync(prefer)) {
+            // Só o formato foi validado; cliente, produtos e preços são verificados pelo worker
+            OrderIntakeDto intake = submitOrderIntakeUseCase.execute(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/v1/orders/intake/" + intake.getTicket()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(intake);
+        }
+        
         OrderDto order = createOrderUseCase.execute(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
 
+    @GetMapping("/intake/{ticket}")
+    @PreAuthorize("hasAuthority('SCOPE_orders:read')")
+    @Workload(WorkloadClass.INTERACTIVE_READ)
+    @Operation(summary = "Andamento de pedido assíncrono",
+            description = "Status de um pedido enviado com Prefer: respond-async; quando COMPLETED traz o ID do pedido")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Andamento retornado com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = OrderIntakeDto.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "ticket": "9b2f7c1e-3d4a-4e5f-8a6b-7c8d9e0f1a2b",
+                                        "status": "COMPLETED",
+                                        "orderId": "123e4567-e89b-12d3-a456-426614174000",
+                                        "error": null,
+                                        "createdAt": "2025-01-27T10:30:00",
+                                        "updatedAt": "2025-01-27T10:30:01"
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "404", description = "Ticket não encontrado",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public ResponseEntity<OrderIntakeDto> getOrderIntake(
+            @Parameter(description = "Ticket retornado pelo POST assíncrono", required = true)
+            @PathVariable String ticket) {
+        
+        OrderIntakeDto intake = getOrderIntakeUseCase.execute(ticket)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket não encontrado: " + ticket));
+        // Ainda em andamento: o cliente não deve reaproveitar a resposta de um cache
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(intake);
+    }
+
+    private static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        // Prefer pode trazer várias preferências separadas por vírgula (RFC 7240)
+        for (String preference : prefer.split(",")) {
+            if (preference.trim().equalsIgnoreCase("respond-async")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('SCOPE_orders:read')")
+    @Workload(WorkloadClass.INTERACTIVE_READ)
     @Operation(summary = "Buscar pedido por ID", description = "Retorna um pedido específico pelo ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pedido encontrado",
@@ -105,20 +206,24 @@ public class OrderController {
                                         "total": 59.98
                                     }
                                     """))),
+            @ApiResponse(responseCode = "304", description = "Pedido não modificado desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Pedido não encontrado",
                     content = @Content(mediaType = "application/problem+json"))
     })
-    public ResponseEntity<OrderDto> getOrder(
+    public ResponseEntity<byte[]> getOrder(
             @Parameter(description = "ID do pedido", required = true)
-            @PathVariable String id) {
+            @PathVariable String id,
+            WebRequest webRequest) {
         
-        return getOrderUseCase.execute(id)
-                .map(order -> ResponseEntity.ok(order))
-                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + id));
+        // A versão vem antes dos dados: If-None-Match válido responde 304 sem consultar o repositório
+        String version = resourceVersions.entity("order", id);
+        return responseBodyCache.respond("order:" + id, version, webRequest, () -> getOrderUseCase.execute(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + id)));
     }
 
     @GetMapping
     @PreAuthorize("hasAuthority('SCOPE_orders:read')")
+    @Workload(WorkloadClass.BULK)
     @Operation(summary = "Listar pedidos", description = "Retorna uma lista paginada de pedidos com filtro opcional por status")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de pedidos retornada com sucesso",
@@ -151,51 +256,22 @@ public class OrderController {
                                     }
                                     """)))
     })
-    public ResponseEntity<PageResponse<OrderDto>> listOrders(
+    public ResponseEntity<byte[]> listOrders(
             @Parameter(description = "Filtro por status do pedido")
             @RequestParam(required = false) Order.OrderStatus status,
             @Parameter(description = "Número da página (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
         
+        // Listas usam a geração da coleção, renovada a cada escrita em pedidos
+        String version = resourceVersions.collection("orders");
         try {
             logger.info("Iniciando listagem de pedidos - status: {}, page: {}, size: {}", status, page, size);
             
-            List<OrderDto> orders = listOrdersUseCase.execute(status);
-            logger.debug("Pedidos encontrados: {} itens", orders.size());
-        
-            // Simular paginação simples (em produção, implementar paginação real)
-            int start = page * size;
-            int end = Math.min(start + size, orders.size());
-            
-            // Validar índices para evitar IndexOutOfBoundsException
-            if (start >= orders.size()) {
-                start = orders.size();
-                end = orders.size();
-            }
-            
-            List<OrderDto> pageContent = start < orders.size() ? 
-                orders.subList(start, end) : 
-                new ArrayList<>();
-            
-            int totalPages = orders.size() == 0 ? 0 : (int) Math.ceil((double) orders.size() / size);
-            boolean isLast = page >= totalPages - 1 || totalPages == 0;
-            
-            logger.debug("Paginação - start: {}, end: {}, totalPages: {}, isLast: {}", start, end, totalPages, isLast);
-            
-            PageResponse<OrderDto> response = new PageResponse<>(
-                    pageContent,
-                    page,
-                    size,
-                    orders.size(),
-                    totalPages,
-                    page == 0,
-                    isLast
-            );
-            
-            logger.info("Listagem de pedidos concluída com sucesso - {} itens retornados", pageContent.size());
-            return ResponseEntity.ok(response);
+            String key = "orders:" + (status != null ? status.name() : "ALL") + ":" + page + ":" + size;
+            return responseBodyCache.respond(key, version, webRequest, () -> listOrdersPage(status, page, size));
         
         } catch (Exception e) {
             logger.error("Erro na listagem de pedidos - status: {}, page: {}, size: {}", status, page, size, e);
@@ -203,8 +279,33 @@ public class OrderController {
         }
     }
 
+    private PageResponse<OrderDto> listOrdersPage(Order.OrderStatus status, int page, int size) {
+        // Paginação feita na projeção order_view, sem carregar todos os pedidos
+        long totalElements = listOrdersUseCase.count(status);
+        List<OrderDto> pageContent = listOrdersUseCase.execute(status, page, size);
+        
+        int totalPages = totalElements == 0 ? 0 : (int) Math.ceil((double) totalElements / size);
+        boolean isLast = page >= totalPages - 1 || totalPages == 0;
+        
+        logger.debug("Paginação - totalElements: {}, totalPages: {}, isLast: {}", totalElements, totalPages, isLast);
+        
+        PageResponse<OrderDto> response = new PageResponse<>(
+                pageContent,
+                page,
+                size,
+                totalElements,
+                totalPages,
+                page == 0,
+                isLast
+        );
+        
+        logger.info("Listagem de pedidos concluída com sucesso - {} itens retornados", pageContent.size());
+        return response;
+    }
+
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasAuthority('SCOPE_orders:write')")
+    @Workload(WorkloadClass.INTERACTIVE_WRITE)
     @Operation(summary = "Atualizar status do pedido", description = "Atualiza o status de um pedido específico")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Status atualizado com sucesso",
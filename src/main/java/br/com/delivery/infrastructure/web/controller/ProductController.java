@@ -2,13 +2,21 @@ package br.com.delivery.infrastructure.web.controller;
 
 import br.com.delivery.application.dto.CreateProductRequest;
 import br.com.delivery.application.dto.ProductDto;
+import br.com.delivery.application.dto.TopProductDto;
 import br.com.delivery.application.usecase.CreateProductUseCase;
 import br.com.delivery.application.usecase.GetProductUseCase;
+import br.com.delivery.application.usecase.GetTopProductsUseCase;
 import br.com.delivery.application.usecase.ListProductsUseCase;
+import br.com.delivery.domain.readmodel.LeaderboardWindow;
 import br.com.delivery.infrastructure.web.dto.PageResponse;
+import br.com.delivery.infrastructure.web.etag.ResourceVersions;
+import br.com.delivery.infrastructure.web.etag.ResponseBodyCache;
 import br.com.delivery.infrastructure.web.exception.ResourceNotFoundException;
+import br.com.delivery.infrastructure.workload.Workload;
+import br.com.delivery.infrastructure.workload.WorkloadClass;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -20,6 +28,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,17 +40,27 @@ public class ProductController {
     private final CreateProductUseCase createProductUseCase;
     private final GetProductUseCase getProductUseCase;
     private final ListProductsUseCase listProductsUseCase;
+    private final GetTopProductsUseCase getTopProductsUseCase;
+    private final ResourceVersions resourceVersions;
+    private final ResponseBodyCache responseBodyCache;
 
     public ProductController(CreateProductUseCase createProductUseCase,
                             GetProductUseCase getProductUseCase,
-                            ListProductsUseCase listProductsUseCase) {
+                            ListProductsUseCase listProductsUseCase,
+                            GetTopProductsUseCase getTopProductsUseCase,
+                            ResourceVersions resourceVersions,
+                            ResponseBodyCache responseBodyCache) {
         this.createProductUseCase = createProductUseCase;
         this.getProductUseCase = getProductUseCase;
         this.listProductsUseCase = listProductsUseCase;
+        this.getTopProductsUseCase = getTopProductsUseCase;
+        this.resourceVersions = resourceVersions;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @PostMapping
     @PreAuthorize("hasAuthority('SCOPE_products:write')")
+    @Workload(WorkloadClass.INTERACTIVE_WRITE)
     @Operation(summary = "Criar produto", description = "Cria um novo produto no sistema")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Produto criado com sucesso",
@@ -64,6 +83,7 @@ public class ProductController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('SCOPE_products:read')")
+    @Workload(WorkloadClass.INTERACTIVE_READ)
     @Operation(summary = "Buscar produto por ID", description = "Retorna um produto específico pelo ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Produto encontrado",
@@ -76,20 +96,24 @@ public class ProductController {
                                         "price": 2999.99
                                     }
                                     """))),
+            @ApiResponse(responseCode = "304", description = "Produto não modificado desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Produto não encontrado",
                     content = @Content(mediaType = "application/problem+json"))
     })
-    public ResponseEntity<ProductDto> getProduct(
+    public ResponseEntity<byte[]> getProduct(
             @Parameter(description = "ID do produto", required = true)
-            @PathVariable String id) {
+            @PathVariable String id,
+            WebRequest webRequest) {
         
-        return getProductUseCase.execute(id)
-                .map(product -> ResponseEntity.ok(product))
-                .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id));
+        // A versão vem antes dos dados: If-None-Match válido responde 304 sem consultar o repositório
+        String version = resourceVersions.entity("product", id);
+        return responseBodyCache.respond("product:" + id, version, webRequest, () -> getProductUseCase.execute(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id)));
     }
 
     @GetMapping
     @PreAuthorize("hasAuthority('SCOPE_products:read')")
+    @Workload(WorkloadClass.BULK)
     @Operation(summary = "Listar produtos", description = "Retorna uma lista paginada de produtos")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de produtos retornada com sucesso",
@@ -113,12 +137,52 @@ public class ProductController {
                                     }
                                     """)))
     })
-    public ResponseEntity<PageResponse<ProductDto>> listProducts(
+    public ResponseEntity<byte[]> listProducts(
             @Parameter(description = "Número da página (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
         
+        // Listas usam a geração da coleção, renovada a cada escrita em produtos
+        String version = resourceVersions.collection("products");
+        return responseBodyCache.respond("products:" + page + ":" + size, version, webRequest,
+                () -> listProductPage(page, size));
+    }
+
+    @GetMapping("/top")
+    @PreAuthorize("hasAuthority('SCOPE_products:read')")
+    @Workload(WorkloadClass.INTERACTIVE_READ)
+    @Operation(summary = "Produtos mais vendidos",
+            description = "Ranking por unidades vendidas na última hora ou no dia, mantido em memória e "
+                    + "consolidado entre as instâncias a cada checkpoint. Contagens são estimativas com "
+                    + "erro máximo informado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking retornado com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TopProductDto.class)),
+                            examples = @ExampleObject(value = """
+                                    [
+                                        {
+                                            "productId": "123e4567-e89b-12d3-a456-426614174000",
+                                            "quantity": 342,
+                                            "error": 0
+                                        }
+                                    ]
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Janela ou limite inválido",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public ResponseEntity<List<TopProductDto>> getTopProducts(
+            @Parameter(description = "Janela: hour (última hora) ou today")
+            @RequestParam(defaultValue = "hour") String window,
+            @Parameter(description = "Quantidade de produtos (1 a 100)")
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        return ResponseEntity.ok(getTopProductsUseCase.execute(LeaderboardWindow.from(window), limit));
+    }
+
+    private PageResponse<ProductDto> listProductPage(int page, int size) {
         List<ProductDto> products = listProductsUseCase.execute();
         
         int start = page * size;
@@ -135,6 +199,6 @@ public class ProductController {
                 page >= (products.size() - 1) / size
         );
         
-        return ResponseEntity.ok(response);
+        return response;
     }
 }
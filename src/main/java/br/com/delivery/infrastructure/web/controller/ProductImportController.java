@@ -0,0 +1,144 @@
+package br.com.delivery.infrastructure.web.controller;
+
+import br.com.delivery.application.dto.ProductImportDto;
+import br.com.delivery.application.dto.ProductImportRecord;
+import br.com.delivery.application.usecase.ExportProductImportRowsUseCase;
+import br.com.delivery.application.usecase.ImportProductsUseCase;
+import br.com.delivery.domain.readmodel.ProductImportOutcome;
+import br.com.delivery.infrastructure.web.bulk.BulkRecordReader;
+import br.com.delivery.infrastructure.web.bulk.CsvReport;
+import br.com.delivery.infrastructure.web.exception.ResourceNotFoundException;
+import br.com.delivery.infrastructure.workload.Workload;
+import br.com.delivery.infrastructure.workload.WorkloadClass;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Carga em massa de produtos (sincronização do catálogo). Fica fora do ProductController
+ * porque o caminho {@code /v1/products:import} não cabe sob o prefixo {@code /v1/products/}.
+ */
+@RestController
+@RequestMapping("/v1")
+@Tag(name = "Products", description = "API para gerenciamento de produtos")
+public class ProductImportController {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "price");
+    private static final BulkRecordReader.RecordFactory<ProductImportRecord> RECORDS =
+            new BulkRecordReader.RecordFactory<>() {
+                @Override
+                public ProductImportRecord record(int lineNumber, List<String> values) {
+                    return ProductImportRecord.of(lineNumber, values.get(0), values.get(1), values.get(2));
+                }
+
+                @Override
+                public ProductImportRecord unreadable(int lineNumber, String error) {
+                    return ProductImportRecord.unreadable(lineNumber, error);
+                }
+            };
+
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ExportProductImportRowsUseCase exportProductImportRowsUseCase;
+    private final ObjectMapper objectMapper;
+
+    public ProductImportController(ImportProductsUseCase importProductsUseCase,
+                                   ExportProductImportRowsUseCase exportProductImportRowsUseCase,
+                                   ObjectMapper objectMapper) {
+        this.importProductsUseCase = importProductsUseCase;
+        this.exportProductImportRowsUseCase = exportProductImportRowsUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(path = "/products:import", consumes = {"text/csv", BulkRecordReader.NDJSON})
+    @PreAuthorize("hasAuthority('SCOPE_products:write')")
+    @Workload(WorkloadClass.BULK)
+    @Operation(summary = "Carga em massa de produtos",
+            description = "Recebe um arquivo CSV (cabeçalho id,name,price) ou NDJSON (um objeto por linha), lido "
+                    + "em fluxo: o uso de memória não depende do tamanho do arquivo. Cada linha cria o produto ou "
+                    + "atualiza o existente com o mesmo id; linhas inválidas são rejeitadas sem interromper a carga "
+                    + "e o resultado de cada linha fica no relatório indicado em rowsReport. Se o envio for "
+                    + "interrompido, nada é gravado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Carga concluída",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProductImportDto.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "importId": "9a8b7c6d-5e4f-4a3b-8c2d-1e0f9a8b7c6d",
+                                        "received": 1000000,
+                                        "created": 1250,
+                                        "updated": 38412,
+                                        "unchanged": 960300,
+                                        "rejected": 38,
+                                        "rowsReport": "/v1/products/imports/9a8b7c6d-5e4f-4a3b-8c2d-1e0f9a8b7c6d/rows",
+                                        "createdAt": "2025-01-27T02:00:00"
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Cabeçalho CSV ausente ou sem as colunas obrigatórias",
+                    content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "415", description = "Content-Type diferente de text/csv e application/x-ndjson",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public ResponseEntity<ProductImportDto> importProducts(HttpServletRequest request) throws IOException {
+        try (BulkRecordReader<ProductImportRecord> records = BulkRecordReader.open(request, objectMapper, COLUMNS, RECORDS)) {
+            ProductImportDto result = importProductsUseCase.execute(records);
+            result.setRowsReport("/v1/products/imports/" + result.getImportId() + "/rows");
+            return ResponseEntity.ok(result);
+        }
+    }
+
+    @GetMapping(path = "/products/imports/{id}/rows", produces = "text/csv")
+    @PreAuthorize("hasAuthority('SCOPE_products:read')")
+    @Workload(WorkloadClass.BULK)
+    @Operation(summary = "Resultado por linha da carga de produtos",
+            description = "CSV com line,id,outcome,reason de cada linha, na ordem do arquivo enviado. outcome é "
+                    + "CREATED, UPDATED, UNCHANGED ou REJECTED; reason só existe nas rejeitadas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório gerado",
+                    content = @Content(mediaType = "text/csv",
+                            examples = @ExampleObject(value = """
+                                    line,id,outcome,reason
+                                    1,"123e4567-e89b-12d3-a456-426614174000","UPDATED",
+                                    2,"sku-0042","REJECTED","Preço com mais de 2 casas decimais"
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "Filtro de resultado inválido",
+                    content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "404", description = "Carga não encontrada",
+                    content = @Content(mediaType = "application/problem+json"))
+    })
+    public void downloadRows(
+            @Parameter(description = "ID retornado pela carga", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Só as linhas com este resultado: created, updated, unchanged ou rejected")
+            @RequestParam(required = false) String outcome,
+            HttpServletResponse response) throws IOException {
+
+        ProductImportOutcome filter = ProductImportOutcome.fromFilter(outcome);
+        CsvReport report = new CsvReport(response, "product-import-rows.csv", "line,id,outcome,reason");
+        // Cada linha vai para a resposta assim que lida do banco
+        if (!exportProductImportRowsUseCase.execute(id, filter, row -> report.row(row.getLineNumber(),
+                row.getProductId(), row.getOutcome().name(), row.getReason()))) {
+            throw new ResourceNotFoundException("Carga não encontrada com ID: " + id);
+        }
+        report.finish();
+    }
+}
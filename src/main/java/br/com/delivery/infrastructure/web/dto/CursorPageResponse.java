@@ -0,0 +1,26 @@
+package br.com.delivery.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Resposta paginada por cursor (keyset)")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    @Schema(description = "Lista de itens da página atual")
+    private List<T> content;
+    
+    @Schema(description = "Tamanho da página", example = "20")
+    private int size;
+    
+    @Schema(description = "Cursor da próxima página; ausente na última", example = "MjAyNS0wMS0yN1QxMDozMDowMHwxMjM")
+    private String nextCursor;
+    
+    @Schema(description = "Indica se existe próxima página", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,49 @@
+package br.com.delivery.infrastructure.web.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco do histórico de pedidos: (createdAt, id) do último pedido entregue,
+ * codificado em Base64 URL-safe para ir como query parameter.
+ */
+public final class OrderCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final String orderId;
+
+    private OrderCursor(LocalDateTime createdAt, String orderId) {
+        this.createdAt = createdAt;
+        this.orderId = orderId;
+    }
+
+    public static String encode(LocalDateTime createdAt, String orderId) {
+        String raw = createdAt + String.valueOf(SEPARATOR) + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Cursor de paginação inválido");
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+}
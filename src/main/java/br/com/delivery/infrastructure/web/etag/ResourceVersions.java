@@ -0,0 +1,50 @@
+package br.com.delivery.infrastructure.web.etag;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Versões usadas como ETag forte nos GETs. Cada recurso (um pedido, a coleção de pedidos etc.)
+ * tem um token aleatório guardado no cache "versions"; as escritas removem o token
+ * (ver @CacheEvict nos use cases) e a próxima leitura gera outro.
+ *
+ * Como o token fica no mesmo cache compartilhado dos DTOs, um If-None-Match pode ser
+ * respondido com 304 sem consultar o repositório e sem serializar a resposta.
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String CACHE_NAME = "versions";
+
+    private final CacheManager cacheManager;
+
+    public ResourceVersions(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public String entity(String type, String id) {
+        return versionOf(type + ":" + id);
+    }
+
+    public String collection(String type) {
+        return versionOf(type);
+    }
+
+    private String versionOf(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            // Sem cache de versões não há como validar: cada resposta recebe uma versão nova
+            return newVersion();
+        }
+        // O token precisa ser obtido antes dos dados: uma escrita concorrente invalida
+        // o token, nunca o contrário
+        return cache.get(key, ResourceVersions::newVersion);
+    }
+
+    private static String newVersion() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.delivery.infrastructure.web.etag;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache dos corpos de resposta já serializados (UTF-8 e, acima de 1 KiB, também em gzip).
+ * O formato segue o Accept entre os conversores Jackson registrados (JSON, CBOR, Smile),
+ * e cada formato tem sua própria entrada.
+ *
+ * A chave inclui a versão do recurso (ver {@link ResourceVersions}); como as escritas trocam
+ * a versão, entradas antigas deixam de ser alcançáveis e expiram pelo TTL do cache "responses".
+ * Num acerto os bytes vão direto para a resposta, sem desserializar o DTO e serializar de novo.
+ *
+ * Cada variante (formato e gzip) tem o próprio ETag forte, derivado da versão, e o
+ * If-None-Match é comparado com o da variante pedida antes de carregar o DTO.
+ */
+@Component
+public class ResponseBodyCache {
+
+    public static final String CACHE_NAME = "responses";
+
+    private static final int GZIP_MIN_BYTES = 1024;
+    private static final String GZIP = "gzip";
+
+    private final CacheManager cacheManager;
+    private final List<Format> formats;
+
+    public ResponseBodyCache(CacheManager cacheManager, List<AbstractJackson2HttpMessageConverter> converters) {
+        this.cacheManager = cacheManager;
+        List<Format> formats = new ArrayList<>();
+        for (AbstractJackson2HttpMessageConverter converter : converters) {
+            MediaType mediaType = converter.getSupportedMediaTypes().get(0);
+            formats.add(new Format(mediaType, converter.getObjectMapper()));
+        }
+        // JSON primeiro: é o formato de quem aceita */* ou não envia Accept
+        formats.sort(Comparator.comparing(format -> !MediaType.APPLICATION_JSON.equals(format.mediaType())));
+        this.formats = List.copyOf(formats);
+    }
+
+    /**
+     * Devolve null quando o If-None-Match confere com o ETag da variante: a resposta já
+     * está marcada como 304, como em {@link WebRequest#checkNotModified(String)}.
+     */
+    public ResponseEntity<byte[]> respond(String key, String version, WebRequest request, Supplier<?> loader) {
+        Format format = negotiate(request);
+        boolean acceptsGzip = acceptsGzip(request);
+        // Quem aceita gzip recebe a variante "-gz" mesmo quando o corpo é pequeno demais para
+        // comprimir: os mesmos bytes sob dois ETags é permitido, o contrário não
+        String eTag = version + "-" + format.mediaType().getSubtype() + (acceptsGzip ? "-gz" : "");
+        if (request.checkNotModified(eTag)) {
+            // O 304 também leva o Vary, para os caches HTTP não trocarem as variantes
+            if (request instanceof NativeWebRequest nativeRequest) {
+                HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+                if (response != null) {
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+            }
+            return null;
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        String entryKey = key + ":" + version + ":" + format.mediaType().getSubtype();
+
+        if (acceptsGzip && cache != null) {
+            byte[] compressed = cache.get(entryKey + ":" + GZIP, byte[].class);
+            if (compressed != null) {
+                return ok(compressed, format, eTag, true);
+            }
+        }
+
+        byte[] body = cache != null ? cache.get(entryKey, byte[].class) : null;
+        if (body == null) {
+            body = serialize(format, loader.get());
+            if (cache != null) {
+                cache.put(entryKey, body);
+            }
+        }
+
+        if (!acceptsGzip || body.length < GZIP_MIN_BYTES) {
+            return ok(body, format, eTag, false);
+        }
+
+        byte[] compressed = gzip(body);
+        if (cache != null) {
+            cache.put(entryKey + ":" + GZIP, compressed);
+        }
+        return ok(compressed, format, eTag, true);
+    }
+
+    private Format negotiate(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return formats.get(0);
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException e) {
+            // Accept inválido ou extenso demais: fica com o formato padrão
+            return formats.get(0);
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (Format format : formats) {
+                if (mediaType.includes(format.mediaType())) {
+                    return format;
+                }
+            }
+        }
+        // Nenhum formato aceito: responde JSON e o Spring MVC decide pelo 406
+        return formats.get(0);
+    }
+
+    private ResponseEntity<byte[]> ok(byte[] body, Format format, String eTag, boolean compressed) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(format.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (compressed) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.body(body);
+    }
+
+    private static byte[] serialize(Format format, Object body) {
+        try {
+            // Mesmo ObjectMapper do conversor HTTP, para que os bytes sejam idênticos à resposta normal
+            return format.objectMapper().writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar corpo da resposta", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+
+    private record Format(MediaType mediaType, ObjectMapper objectMapper) {
+    }
+}
@@ -1,9 +1,17 @@
 package br.com.delivery.infrastructure.web.exception;
 
+import br.com.delivery.infrastructure.persistence.groupcommit.GroupCommitRejectedException;
+import br.com.delivery.infrastructure.persistence.groupcommit.GroupCommitTimeoutException;
+import br.com.delivery.infrastructure.ratelimit.RateLimitExceededException;
 import br.com.delivery.infrastructure.web.dto.ProblemDetail;
+import br.com.delivery.infrastructure.workload.WorkloadConnectionLimitException;
+import br.com.delivery.infrastructure.workload.WorkloadSaturatedException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -92,6 +100,73 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
     }
 
+    @ExceptionHandler(WorkloadSaturatedException.class)
+    public ResponseEntity<ProblemDetail> handleWorkloadSaturatedException(
+            WorkloadSaturatedException ex, 
+            HttpServletRequest request) {
+        
+        return serviceUnavailable(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleRateLimitExceededException(
+            RateLimitExceededException ex, 
+            HttpServletRequest request) {
+        
+        ProblemDetail problem = new ProblemDetail(
+                "https://delivery-api.com/problems/too-many-requests",
+                "Too Many Requests",
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(problem);
+    }
+
+    @ExceptionHandler(GroupCommitRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleGroupCommitRejectedException(
+            GroupCommitRejectedException ex, 
+            HttpServletRequest request) {
+        
+        return serviceUnavailable(ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(GroupCommitTimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleGroupCommitTimeoutException(
+            GroupCommitTimeoutException ex, 
+            HttpServletRequest request) {
+        
+        // A gravação pode ter acontecido: sem Retry-After, o cliente consulta o id antes de reenviar
+        ProblemDetail problem = new ProblemDetail(
+                "https://delivery-api.com/problems/outcome-unknown",
+                "Outcome Unknown",
+                HttpStatus.GATEWAY_TIMEOUT.value(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        Map<String, Object> extensions = new HashMap<>();
+        extensions.put("id", ex.getRecordId());
+        problem.setExtensions(extensions);
+        
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(problem);
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ProblemDetail> handleCannotCreateTransactionException(
+            CannotCreateTransactionException ex, 
+            HttpServletRequest request) {
+        
+        // Fatia de conexões da classe de carga esgotada: o cliente pode tentar novamente
+        if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof WorkloadConnectionLimitException limit) {
+            return serviceUnavailable(limit.getMessage(), request);
+        }
+        
+        return handleGenericException(ex, request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGenericException(
             Exception ex, 
@@ -107,4 +182,18 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problem);
     }
+
+    private ResponseEntity<ProblemDetail> serviceUnavailable(String detail, HttpServletRequest request) {
+        ProblemDetail problem = new ProblemDetail(
+                "https://delivery-api.com/problems/service-unavailable",
+                "Service Unavailable",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                detail,
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem);
+    }
 }
@@ -0,0 +1,18 @@
+package br.com.delivery.infrastructure.workload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Define a classe de carga de um endpoint. Sem a anotação, GET/HEAD são INTERACTIVE_READ
+ * e os demais métodos INTERACTIVE_WRITE.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+    WorkloadClass value();
+}
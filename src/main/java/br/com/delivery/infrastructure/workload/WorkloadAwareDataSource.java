@@ -0,0 +1,113 @@
+package br.com.delivery.infrastructure.workload;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Limita quantas conexões cada classe de carga pode ter abertas ao mesmo tempo e aplica o
+ * timeout de comandos da classe em todo Statement criado. Threads fora de uma requisição
+ * classificada (Flyway, tarefas agendadas) usam o pool sem restrição.
+ */
+public class WorkloadAwareDataSource extends DelegatingDataSource {
+
+    private final Supplier<WorkloadBulkheads> bulkheads;
+
+    public WorkloadAwareDataSource(DataSource targetDataSource, Supplier<WorkloadBulkheads> bulkheads) {
+        super(targetDataSource);
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        WorkloadClass workloadClass = WorkloadContext.current();
+        if (workloadClass == null) {
+            return obtainTargetDataSource().getConnection();
+        }
+
+        WorkloadBulkheads.Bulkhead bulkhead = acquire(workloadClass);
+        try {
+            return wrap(obtainTargetDataSource().getConnection(), bulkhead);
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.releaseConnection();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        WorkloadClass workloadClass = WorkloadContext.current();
+        if (workloadClass == null) {
+            return obtainTargetDataSource().getConnection(username, password);
+        }
+
+        WorkloadBulkheads.Bulkhead bulkhead = acquire(workloadClass);
+        try {
+            return wrap(obtainTargetDataSource().getConnection(username, password), bulkhead);
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.releaseConnection();
+            throw e;
+        }
+    }
+
+    private WorkloadBulkheads.Bulkhead acquire(WorkloadClass workloadClass) throws SQLException {
+        WorkloadBulkheads.Bulkhead bulkhead = bulkheads.get().get(workloadClass);
+        try {
+            if (!bulkhead.tryAcquireConnection()) {
+                throw new WorkloadConnectionLimitException(workloadClass);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido aguardando conexão", e);
+        }
+        return bulkhead;
+    }
+
+    private Connection wrap(Connection target, WorkloadBulkheads.Bulkhead bulkhead) {
+        int timeoutSeconds = (int) Math.max(0, Math.ceil(bulkhead.getStatementTimeout().toMillis() / 1000.0));
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ("equals".equals(name)) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(name)) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("close".equals(name) && released.compareAndSet(false, true)) {
+                        try {
+                            return invoke(target, method, args);
+                        } finally {
+                            bulkhead.releaseConnection();
+                        }
+                    }
+
+                    Object result = invoke(target, method, args);
+                    if (timeoutSeconds > 0 && result instanceof Statement statement
+                            && (name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall"))) {
+                        statement.setQueryTimeout(timeoutSeconds);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
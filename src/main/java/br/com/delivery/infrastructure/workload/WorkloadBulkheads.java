@@ -0,0 +1,117 @@
+package br.com.delivery.infrastructure.workload;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkheads por classe de carga: um semáforo para requisições simultâneas e outro para a
+ * fatia de conexões do pool. A ocupação de cada um é publicada no actuator (delivery.workload.*).
+ */
+public class WorkloadBulkheads {
+
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    public WorkloadBulkheads(WorkloadProperties properties, MeterRegistry meterRegistry) {
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            Bulkhead bulkhead = new Bulkhead(workloadClass, properties.limitsFor(workloadClass), meterRegistry);
+            bulkheads.put(workloadClass, bulkhead);
+        }
+    }
+
+    public Bulkhead get(WorkloadClass workloadClass) {
+        return bulkheads.get(workloadClass);
+    }
+
+    public static class Bulkhead {
+
+        private final WorkloadProperties.Limits limits;
+        private final Semaphore requests;
+        private final Semaphore connections;
+        private final Counter rejectedRequests;
+        private final Counter rejectedConnections;
+
+        Bulkhead(WorkloadClass workloadClass, WorkloadProperties.Limits limits, MeterRegistry meterRegistry) {
+            this.limits = limits;
+            this.requests = new Semaphore(limits.getMaxConcurrentRequests());
+            this.connections = new Semaphore(limits.getMaxConnections());
+
+            String tag = workloadClass.name().toLowerCase();
+            Gauge.builder("delivery.workload.requests.active", this, Bulkhead::activeRequests)
+                    .tag("class", tag)
+                    .description("Requisições em andamento na classe de carga")
+                    .register(meterRegistry);
+            Gauge.builder("delivery.workload.requests.limit", limits, WorkloadProperties.Limits::getMaxConcurrentRequests)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("delivery.workload.connections.active", this, Bulkhead::activeConnections)
+                    .tag("class", tag)
+                    .description("Conexões em uso pela classe de carga")
+                    .register(meterRegistry);
+            Gauge.builder("delivery.workload.connections.limit", limits, WorkloadProperties.Limits::getMaxConnections)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("delivery.workload.saturation", this, Bulkhead::saturation)
+                    .tag("class", tag)
+                    .description("Maior ocupação entre requisições e conexões (0 a 1)")
+                    .register(meterRegistry);
+
+            this.rejectedRequests = Counter.builder("delivery.workload.rejections")
+                    .tag("class", tag)
+                    .tag("resource", "request")
+                    .register(meterRegistry);
+            this.rejectedConnections = Counter.builder("delivery.workload.rejections")
+                    .tag("class", tag)
+                    .tag("resource", "connection")
+                    .register(meterRegistry);
+        }
+
+        public boolean tryAcquireRequest() throws InterruptedException {
+            boolean acquired = requests.tryAcquire(limits.getRequestQueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                rejectedRequests.increment();
+            }
+            return acquired;
+        }
+
+        public void releaseRequest() {
+            requests.release();
+        }
+
+        public boolean tryAcquireConnection() throws InterruptedException {
+            boolean acquired = connections.tryAcquire(limits.getConnectionQueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                rejectedConnections.increment();
+            }
+            return acquired;
+        }
+
+        public void releaseConnection() {
+            connections.release();
+        }
+
+        public Duration getStatementTimeout() {
+            return limits.getStatementTimeout();
+        }
+
+        private double activeRequests() {
+            return limits.getMaxConcurrentRequests() - requests.availablePermits();
+        }
+
+        private double activeConnections() {
+            return limits.getMaxConnections() - connections.availablePermits();
+        }
+
+        private double saturation() {
+            double requestRatio = activeRequests() / Math.max(1, limits.getMaxConcurrentRequests());
+            double connectionRatio = activeConnections() / Math.max(1, limits.getMaxConnections());
+            return Math.max(requestRatio, connectionRatio);
+        }
+    }
+}
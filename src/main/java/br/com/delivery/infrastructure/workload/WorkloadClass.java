@@ -0,0 +1,11 @@
+package br.com.delivery.infrastructure.workload;
+
+/**
+ * Classes de carga atendidas pela API. Cada classe tem seu próprio limite de requisições
+ * simultâneas, sua fatia do pool de conexões e seu timeout de comandos SQL.
+ */
+public enum WorkloadClass {
+    INTERACTIVE_WRITE,
+    INTERACTIVE_READ,
+    BULK
+}
@@ -0,0 +1,10 @@
+package br.com.delivery.infrastructure.workload;
+
+import java.sql.SQLTransientConnectionException;
+
+public class WorkloadConnectionLimitException extends SQLTransientConnectionException {
+
+    public WorkloadConnectionLimitException(WorkloadClass workloadClass) {
+        super("Limite de conexões esgotado para a classe de carga " + workloadClass);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.delivery.infrastructure.workload;
+
+/**
+ * Classe de carga da requisição em andamento na thread atual.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {}
+
+    public static WorkloadClass current() {
+        return CURRENT.get();
+    }
+
+    static void set(WorkloadClass workloadClass) {
+        CURRENT.set(workloadClass);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.delivery.infrastructure.workload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Classifica a requisição pela anotação {@link Workload} do controller e reserva uma vaga
+ * no bulkhead correspondente. Sem vaga dentro do tempo de espera, a requisição é rejeitada com 503.
+ */
+public class WorkloadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = WorkloadInterceptor.class.getName() + ".permit";
+
+    private final WorkloadBulkheads bulkheads;
+
+    public WorkloadInterceptor(WorkloadBulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        WorkloadClass workloadClass = resolve(handlerMethod, request);
+        if (!bulkheads.get(workloadClass).tryAcquireRequest()) {
+            throw new WorkloadSaturatedException(workloadClass);
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, workloadClass);
+        WorkloadContext.set(workloadClass);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object workloadClass = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (workloadClass != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkheads.get((WorkloadClass) workloadClass).releaseRequest();
+        }
+        WorkloadContext.clear();
+    }
+
+    private WorkloadClass resolve(HandlerMethod handlerMethod, HttpServletRequest request) {
+        Workload workload = handlerMethod.getMethodAnnotation(Workload.class);
+        if (workload == null) {
+            workload = handlerMethod.getBeanType().getAnnotation(Workload.class);
+        }
+        if (workload != null) {
+            return workload.value();
+        }
+
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method)
+                ? WorkloadClass.INTERACTIVE_READ
+                : WorkloadClass.INTERACTIVE_WRITE;
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.delivery.infrastructure.workload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "delivery.workload")
+public class WorkloadProperties {
+
+    private boolean enabled = true;
+
+    private Map<WorkloadClass, Limits> classes = new EnumMap<>(WorkloadClass.class);
+
+    public WorkloadProperties() {
+        classes.put(WorkloadClass.INTERACTIVE_WRITE, new Limits(64, 6, Duration.ofSeconds(5)));
+        classes.put(WorkloadClass.INTERACTIVE_READ, new Limits(128, 6, Duration.ofSeconds(3)));
+        classes.put(WorkloadClass.BULK, new Limits(4, 2, Duration.ofSeconds(30)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<WorkloadClass, Limits> getClasses() {
+        return classes;
+    }
+
+    public void setClasses(Map<WorkloadClass, Limits> classes) {
+        this.classes = classes;
+    }
+
+    public Limits limitsFor(WorkloadClass workloadClass) {
+        return classes.getOrDefault(workloadClass, new Limits());
+    }
+
+    /**
+     * Falha na subida se as fatias de conexões somadas não cabem no pool do primário: acima
+     * dele o bulkhead deixaria de isolar as classes e todas disputariam as mesmas conexões.
+     */
+    public void checkPoolSize(int maximumPoolSize) {
+        int reserved = classes.values().stream().mapToInt(Limits::getMaxConnections).sum();
+        if (reserved > maximumPoolSize) {
+            throw new IllegalStateException("As fatias de conexões das classes de carga somam " + reserved
+                    + ", acima do maximum-pool-size do Hikari (" + maximumPoolSize + ")");
+        }
+    }
+
+    public static class Limits {
+
+        private int maxConcurrentRequests = 32;
+
+        // Espera máxima por uma vaga antes de responder 503
+        private Duration requestQueueTimeout = Duration.ofMillis(50);
+
+        private int maxConnections = 4;
+
+        private Duration connectionQueueTimeout = Duration.ofSeconds(2);
+
+        private Duration statementTimeout = Duration.ofSeconds(5);
+
+        public Limits() {}
+
+        public Limits(int maxConcurrentRequests, int maxConnections, Duration statementTimeout) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.maxConnections = maxConnections;
+            this.statementTimeout = statementTimeout;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        public Duration getRequestQueueTimeout() {
+            return requestQueueTimeout;
+        }
+
+        public void setRequestQueueTimeout(Duration requestQueueTimeout) {
+            this.requestQueueTimeout = requestQueueTimeout;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Duration getConnectionQueueTimeout() {
+            return connectionQueueTimeout;
+        }
+
+        public void setConnectionQueueTimeout(Duration connectionQueueTimeout) {
+            this.connectionQueueTimeout = connectionQueueTimeout;
+        }
+
+        public Duration getStatementTimeout() {
+            return statementTimeout;
+        }
+
+        public void setStatementTimeout(Duration statementTimeout) {
+            this.statementTimeout = statementTimeout;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.delivery.infrastructure.workload;
+
+public class WorkloadSaturatedException extends RuntimeException {
+
+    private final WorkloadClass workloadClass;
+
+    public WorkloadSaturatedException(WorkloadClass workloadClass) {
+        super("Capacidade esgotada para a classe de carga " + workloadClass);
+        this.workloadClass = workloadClass;
+    }
+
+    public WorkloadClass getWorkloadClass() {
+        return workloadClass;
+    }
+}
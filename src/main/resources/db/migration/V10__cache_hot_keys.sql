@@ -0,0 +1,13 @@
+-- Chaves mais lidas de cada cache, por nó (aquecimento do cache no start).
+-- Cada nó grava só as próprias listas; um nó novo soma as listas recentes de todos antes de
+-- ficar pronto. As contagens decaem a cada checkpoint e ficam num array JSONB
+CREATE TABLE cache_hot_keys (
+    node_id VARCHAR(64) NOT NULL,
+    cache_name VARCHAR(50) NOT NULL,
+    counters JSONB NOT NULL DEFAULT '[]'::jsonb,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (node_id, cache_name)
+);
+
+-- Leitura das listas recentes e limpeza das de nós que já saíram
+CREATE INDEX idx_cache_hot_keys_updated_at ON cache_hot_keys(updated_at);
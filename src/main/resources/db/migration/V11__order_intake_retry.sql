@@ -0,0 +1,5 @@
+-- Espera entre tentativas de um pedido com falha transitória (nula: pode ser reservado já)
+ALTER TABLE order_intake ADD COLUMN next_attempt_at TIMESTAMP;
+
+-- Limpeza dos tickets encerrados depois do prazo de retenção
+CREATE INDEX idx_order_intake_finished ON order_intake(updated_at) WHERE status IN ('COMPLETED', 'FAILED');
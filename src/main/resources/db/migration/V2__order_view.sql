@@ -0,0 +1,33 @@
+-- Projeção de leitura de pedidos (CQRS): uma linha por pedido, itens em JSONB
+CREATE TABLE order_view (
+    order_id VARCHAR(36) PRIMARY KEY,
+    customer_id VARCHAR(36) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total DECIMAL(10,2) NOT NULL,
+    item_count INTEGER NOT NULL,
+    items JSONB NOT NULL DEFAULT '[]'::jsonb,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    FOREIGN KEY (order_id) REFERENCES orders(id)
+);
+
+-- Listagens paginadas: mais recentes primeiro, com ou sem filtro de status
+CREATE INDEX idx_order_view_created_at ON order_view(created_at DESC, order_id DESC);
+CREATE INDEX idx_order_view_status_created_at ON order_view(status, created_at DESC, order_id DESC);
+
+-- Popular a projeção com os pedidos já existentes
+INSERT INTO order_view (order_id, customer_id, status, total, item_count, items, created_at, updated_at)
+SELECT o.id,
+       o.customer_id,
+       o.status,
+       o.total,
+       COUNT(i.id),
+       COALESCE(
+           jsonb_agg(jsonb_build_object('p', i.product_id, 'q', i.quantity, 'u', i.unit_price) ORDER BY i.id)
+               FILTER (WHERE i.id IS NOT NULL),
+           '[]'::jsonb),
+       o.created_at,
+       o.updated_at
+FROM orders o
+LEFT JOIN order_items i ON i.order_id = o.id
+GROUP BY o.id, o.customer_id, o.status, o.total, o.created_at, o.updated_at;
@@ -0,0 +1,3 @@
+-- Histórico de pedidos por cliente (GET /v1/customers/{id}/orders): paginação por keyset
+-- em (created_at, order_id) decrescentes, lida direto do índice sem ordenação
+CREATE INDEX idx_order_view_customer_created_at ON order_view(customer_id, created_at DESC, order_id DESC);
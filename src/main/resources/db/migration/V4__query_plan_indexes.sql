@@ -0,0 +1,18 @@
+-- Índices apontados pela suíte de planos (QueryPlanRegressionTest)
+
+-- email e document já são UNIQUE: os índices de V1 duplicavam o índice da constraint
+-- e só custavam escrita
+DROP INDEX IF EXISTS idx_customers_email;
+DROP INDEX IF EXISTS idx_customers_document;
+
+-- findByStatus em orders: só os status ativos são seletivos. Para DELIVERED/CANCELED a
+-- tabela inteira é mais barata que o índice, então o índice parcial guarda apenas os
+-- pedidos em andamento e não cresce com o histórico
+DROP INDEX IF EXISTS idx_orders_status;
+CREATE INDEX idx_orders_status_active ON orders(status)
+    WHERE status IN ('CREATED', 'CONFIRMED', 'SHIPPED');
+
+-- findByNameContaining usa LOWER(name) LIKE '%termo%', que nenhum B-tree atende:
+-- índice de trigramas sobre a mesma expressão
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_products_name_trgm ON products USING gin (LOWER(name) gin_trgm_ops);
@@ -0,0 +1,34 @@
+-- Consolidação de vendas (GET /v1/analytics/sales): buckets diários atualizados na mesma
+-- transação das escritas de pedidos, para que o relatório nunca leia orders/order_items
+
+-- Pedidos e receita por dia de criação e status atual
+CREATE TABLE sales_daily_status (
+    sales_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (sales_date, status)
+);
+
+-- Pedidos, unidades e receita por dia de criação e produto, sem pedidos cancelados
+CREATE TABLE sales_daily_product (
+    sales_date DATE NOT NULL,
+    product_id VARCHAR(36) NOT NULL,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    units BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (sales_date, product_id)
+);
+
+-- Popular com os pedidos já existentes
+INSERT INTO sales_daily_status (sales_date, status, order_count, revenue)
+SELECT CAST(o.created_at AS DATE), o.status, COUNT(*), SUM(o.total)
+FROM orders o
+GROUP BY CAST(o.created_at AS DATE), o.status;
+
+INSERT INTO sales_daily_product (sales_date, product_id, order_count, units, revenue)
+SELECT CAST(o.created_at AS DATE), i.product_id, COUNT(DISTINCT o.id), SUM(i.quantity), SUM(i.total_price)
+FROM orders o
+JOIN order_items i ON i.order_id = o.id
+WHERE o.status <> 'CANCELED'
+GROUP BY CAST(o.created_at AS DATE), i.product_id;
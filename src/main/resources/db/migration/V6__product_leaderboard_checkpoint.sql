@@ -0,0 +1,14 @@
+-- Checkpoints do ranking de produtos mais vendidos (GET /v1/products/top).
+-- Cada nó grava os próprios resumos Space-Saving, por fatia de tempo ou por dia, e lê os
+-- dos demais para montar o ranking global; os contadores ficam num array JSONB
+CREATE TABLE product_leaderboard_checkpoint (
+    node_id VARCHAR(64) NOT NULL,
+    kind VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    counters JSONB NOT NULL DEFAULT '[]'::jsonb,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (node_id, kind, bucket_start)
+);
+
+-- Leitura dos checkpoints recentes de todos os nós e limpeza dos antigos
+CREATE INDEX idx_product_leaderboard_checkpoint_bucket_start ON product_leaderboard_checkpoint(bucket_start);
@@ -0,0 +1,16 @@
+-- Fila durável da criação assíncrona de pedidos (POST /v1/orders com Prefer: respond-async).
+-- O pedido é validado e criado depois pelo OrderIntakeWorker; o ticket acompanha o andamento.
+CREATE TABLE order_intake (
+    ticket VARCHAR(36) PRIMARY KEY,
+    customer_id VARCHAR(36) NOT NULL,
+    items JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    order_id VARCHAR(36),
+    error VARCHAR(500),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Próximos da fila: só as linhas ainda em aberto ficam no índice
+CREATE INDEX idx_order_intake_open ON order_intake(created_at) WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,20 @@
+-- Importações em massa de clientes (POST /v1/customers:import). As linhas chegam por COPY em uma
+-- tabela temporária da transação; aqui ficam só o resumo e as linhas rejeitadas, servidas depois
+-- como relatório CSV
+CREATE TABLE customer_import (
+    id VARCHAR(36) PRIMARY KEY,
+    received INTEGER NOT NULL,
+    imported INTEGER NOT NULL,
+    rejected INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE customer_import_reject (
+    import_id VARCHAR(36) NOT NULL REFERENCES customer_import(id) ON DELETE CASCADE,
+    line_number INTEGER NOT NULL,
+    name TEXT,
+    email TEXT,
+    document TEXT,
+    reason VARCHAR(200) NOT NULL,
+    PRIMARY KEY (import_id, line_number)
+);
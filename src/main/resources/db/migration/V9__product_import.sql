@@ -0,0 +1,21 @@
+-- Cargas em massa de produtos (POST /v1/products:import). As linhas chegam por COPY em uma
+-- tabela temporária da transação e são gravadas em products com INSERT ... ON CONFLICT; aqui
+-- ficam o resumo e o resultado de cada linha, servidos depois como relatório CSV
+CREATE TABLE product_import (
+    id VARCHAR(36) PRIMARY KEY,
+    received INTEGER NOT NULL,
+    created INTEGER NOT NULL,
+    updated INTEGER NOT NULL,
+    unchanged INTEGER NOT NULL,
+    rejected INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE product_import_row (
+    import_id VARCHAR(36) NOT NULL REFERENCES product_import(id) ON DELETE CASCADE,
+    line_number INTEGER NOT NULL,
+    product_id TEXT,
+    outcome VARCHAR(10) NOT NULL,
+    reason VARCHAR(200),
+    PRIMARY KEY (import_id, line_number)
+);
@@ -4,6 +4,7 @@ import br.com.delivery.application.dto.CreateCustomerRequest;
 import br.com.delivery.application.dto.CustomerDto;
 import br.com.delivery.application.mapper.CustomerMapper;
 import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.port.CustomerMembershipPort;
 import br.com.delivery.domain.port.CustomerRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,8 +14,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +29,9 @@ class CreateCustomerUseCaseTest {
     @Mock
     private CustomerRepositoryPort customerRepository;
 
+    @Mock
+    private CustomerMembershipPort customerMembership;
+
     @Mock
     private CustomerMapper customerMapper;
 
@@ -110,4 +118,39 @@ class CreateCustomerUseCaseTest {
             "12345678901".equals(customer.getDocument())
         ));
     }
+
+    @Test
+    @DisplayName("Deve pular as consultas de duplicidade quando o filtro não conhece email nem documento")
+    void shouldSkipDuplicateLookupsWhenFilterDoesNotContainKeys() {
+        // Given
+        when(customerMapper.toEntity(anyString(), eq(request))).thenReturn(customer);
+        when(customerRepository.save(customer)).thenReturn(customer);
+        when(customerMapper.toDto(customer)).thenReturn(customerDto);
+
+        // When
+        createCustomerUseCase.execute(request);
+
+        // Then
+        verify(customerRepository, never()).findByEmail(anyString());
+        verify(customerRepository, never()).findByDocument(anyString());
+        verify(customerMembership).add(customer);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o email quando o filtro indica possível duplicado")
+    void shouldCheckEmailWhenFilterMayContainIt() {
+        // Given
+        when(customerMapper.toEntity(anyString(), eq(request))).thenReturn(customer);
+        when(customerMembership.mayContainEmail("joao@email.com")).thenReturn(true);
+        when(customerRepository.findByEmail("joao@email.com")).thenReturn(Optional.of(customer));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> createCustomerUseCase.execute(request)
+        );
+        assertEquals("Já existe um cliente cadastrado com este email", exception.getMessage());
+        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerMembership, never()).add(any(Customer.class));
+    }
 }
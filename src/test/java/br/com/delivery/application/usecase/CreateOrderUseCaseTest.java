@@ -7,9 +7,11 @@ import br.com.delivery.application.mapper.OrderMapper;
 import br.com.delivery.domain.entity.Customer;
 import br.com.delivery.domain.entity.Order;
 import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.port.CustomerMembershipPort;
 import br.com.delivery.domain.port.CustomerRepositoryPort;
 import br.com.delivery.domain.port.OrderRepositoryPort;
-import br.com.delivery.domain.port.ProductRepositoryPort;
+import br.com.delivery.domain.port.ProductCatalogPort;
+import br.com.delivery.domain.port.ProductLeaderboardPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -36,11 +38,17 @@ class CreateOrderUseCaseTest {
     private CustomerRepositoryPort customerRepository;
 
     @Mock
-    private ProductRepositoryPort productRepository;
+    private CustomerMembershipPort customerMembership;
+
+    @Mock
+    private ProductCatalogPort productCatalog;
 
     @Mock
     private OrderRepositoryPort orderRepository;
 
+    @Mock
+    private ProductLeaderboardPort productLeaderboard;
+
     @Mock
     private OrderMapper orderMapper;
 
@@ -78,8 +86,8 @@ class CreateOrderUseCaseTest {
         expectedDto.setTotal(new BigDecimal("59.98"));
 
         when(customerRepository.findById("customer-123")).thenReturn(Optional.of(customer));
-        when(productRepository.findById("product-456")).thenReturn(Optional.of(product));
-        when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+        when(productCatalog.findById("product-456")).thenReturn(Optional.of(product));
+        when(orderRepository.create(any(Order.class))).thenReturn(savedOrder);
         when(orderMapper.toDto(savedOrder)).thenReturn(expectedDto);
 
         // When
@@ -92,8 +100,9 @@ class CreateOrderUseCaseTest {
         assertEquals(new BigDecimal("59.98"), result.getTotal());
 
         verify(customerRepository).findById("customer-123");
-        verify(productRepository).findById("product-456");
-        verify(orderRepository).save(any(Order.class));
+        verify(productCatalog).findById("product-456");
+        verify(orderRepository).create(any(Order.class));
+        verify(productLeaderboard).record(savedOrder.getItems());
         verify(orderMapper).toDto(savedOrder);
     }
 
@@ -111,8 +120,8 @@ class CreateOrderUseCaseTest {
         assertEquals("Cliente não encontrado", exception.getMessage());
 
         verify(customerRepository).findById("customer-123");
-        verify(productRepository, never()).findById(anyString());
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(productCatalog, never()).findById(anyString());
+        verify(orderRepository, never()).create(any(Order.class));
     }
 
     @Test
@@ -120,7 +129,7 @@ class CreateOrderUseCaseTest {
     void shouldThrowExceptionWhenProductNotFound() {
         // Given
         when(customerRepository.findById("customer-123")).thenReturn(Optional.of(customer));
-        when(productRepository.findById("product-456")).thenReturn(Optional.empty());
+        when(productCatalog.findById("product-456")).thenReturn(Optional.empty());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -130,8 +139,8 @@ class CreateOrderUseCaseTest {
         assertEquals("Produto não encontrado: product-456", exception.getMessage());
 
         verify(customerRepository).findById("customer-123");
-        verify(productRepository).findById("product-456");
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(productCatalog).findById("product-456");
+        verify(orderRepository, never()).create(any(Order.class));
     }
 
     @Test
@@ -160,9 +169,9 @@ class CreateOrderUseCaseTest {
         expectedDto.setTotal(new BigDecimal("74.48"));
 
         when(customerRepository.findById("customer-123")).thenReturn(Optional.of(customer));
-        when(productRepository.findById("product-456")).thenReturn(Optional.of(product));
-        when(productRepository.findById("product-789")).thenReturn(Optional.of(product2));
-        when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+        when(productCatalog.findById("product-456")).thenReturn(Optional.of(product));
+        when(productCatalog.findById("product-789")).thenReturn(Optional.of(product2));
+        when(orderRepository.create(any(Order.class))).thenReturn(savedOrder);
         when(orderMapper.toDto(savedOrder)).thenReturn(expectedDto);
 
         // When
@@ -173,9 +182,9 @@ class CreateOrderUseCaseTest {
         assertEquals(new BigDecimal("74.48"), result.getTotal());
 
         verify(customerRepository).findById("customer-123");
-        verify(productRepository).findById("product-456");
-        verify(productRepository).findById("product-789");
-        verify(orderRepository).save(any(Order.class));
+        verify(productCatalog).findById("product-456");
+        verify(productCatalog).findById("product-789");
+        verify(orderRepository).create(any(Order.class));
     }
 
     @Test
@@ -184,8 +193,8 @@ class CreateOrderUseCaseTest {
         // Given
         Product productWithUpdatedPrice = new Product("product-456", "Pizza Margherita", new BigDecimal("35.99"));
         when(customerRepository.findById("customer-123")).thenReturn(Optional.of(customer));
-        when(productRepository.findById("product-456")).thenReturn(Optional.of(productWithUpdatedPrice));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+        when(productCatalog.findById("product-456")).thenReturn(Optional.of(productWithUpdatedPrice));
+        when(orderRepository.create(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             return order; // Retorna o mesmo pedido para verificar o preço
         });
@@ -195,8 +204,41 @@ class CreateOrderUseCaseTest {
         createOrderUseCase.execute(request);
 
         // Then
-        verify(orderRepository).save(argThat(order -> 
+        verify(orderRepository).create(argThat(order -> 
             order.getItems().get(0).getUnitPrice().equals(new BigDecimal("35.99"))
         ));
     }
+
+    @Test
+    @DisplayName("Deve pular a consulta do cliente quando o filtro indica que o id existe")
+    void shouldSkipCustomerLookupWhenFilterMayContainId() {
+        // Given
+        when(customerMembership.mayContainId("customer-123")).thenReturn(true);
+        when(productCatalog.findById("product-456")).thenReturn(Optional.of(product));
+        when(orderRepository.create(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(new OrderDto());
+
+        // When
+        createOrderUseCase.execute(request);
+
+        // Then
+        verify(customerRepository, never()).findById(anyString());
+        verify(orderRepository).create(argThat(order -> "customer-123".equals(order.getCustomerId())));
+    }
+
+    @Test
+    @DisplayName("Deve adicionar ao filtro o cliente encontrado fora dele")
+    void shouldAddCustomerMissingFromFilter() {
+        // Given
+        when(customerRepository.findById("customer-123")).thenReturn(Optional.of(customer));
+        when(productCatalog.findById("product-456")).thenReturn(Optional.of(product));
+        when(orderRepository.create(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(new OrderDto());
+
+        // When
+        createOrderUseCase.execute(request);
+
+        // Then
+        verify(customerMembership).add(customer);
+    }
 }
@@ -0,0 +1,91 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.SalesTotalDto;
+import br.com.delivery.application.mapper.SalesTotalMapper;
+import br.com.delivery.domain.port.SalesRollupRepositoryPort;
+import br.com.delivery.domain.readmodel.SalesGrouping;
+import br.com.delivery.domain.readmodel.SalesTotal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do GetSalesAnalyticsUseCase")
+class GetSalesAnalyticsUseCaseTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+
+    @Mock
+    private SalesRollupRepositoryPort salesRollupRepository;
+
+    @Mock
+    private SalesTotalMapper salesTotalMapper;
+
+    @InjectMocks
+    private GetSalesAnalyticsUseCase getSalesAnalyticsUseCase;
+
+    @Test
+    @DisplayName("Deve retornar os totais consolidados do agrupamento pedido")
+    void shouldReturnTotalsForGrouping() {
+        // Given
+        SalesTotal total = new SalesTotal("product-1", 12, 30L, new BigDecimal("899.70"));
+        SalesTotalDto dto = new SalesTotalDto();
+        dto.setGroup("product-1");
+        when(salesRollupRepository.findTotals(SalesGrouping.PRODUCT, FROM, TO)).thenReturn(List.of(total));
+        when(salesTotalMapper.toDto(total)).thenReturn(dto);
+
+        // When
+        List<SalesTotalDto> result = getSalesAnalyticsUseCase.execute(FROM, TO, SalesGrouping.PRODUCT);
+
+        // Then
+        assertEquals(List.of(dto), result);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por dia quando o agrupamento não é informado")
+    void shouldGroupByDayByDefault() {
+        // Given
+        when(salesRollupRepository.findTotals(SalesGrouping.DAY, FROM, TO)).thenReturn(List.of());
+
+        // When
+        List<SalesTotalDto> result = getSalesAnalyticsUseCase.execute(FROM, TO, null);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(salesRollupRepository).findTotals(SalesGrouping.DAY, FROM, TO);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período invertido")
+    void shouldRejectInvertedRange() {
+        // When / Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> getSalesAnalyticsUseCase.execute(TO, FROM, SalesGrouping.DAY));
+
+        assertEquals("Data final deve ser igual ou posterior à inicial", exception.getMessage());
+        verifyNoInteractions(salesRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período maior que o limite")
+    void shouldRejectRangeAboveLimit() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> getSalesAnalyticsUseCase.execute(FROM, FROM.plusDays(GetSalesAnalyticsUseCase.MAX_RANGE_DAYS),
+                        SalesGrouping.DAY));
+
+        verify(salesRollupRepository, never()).findTotals(any(), any(), any());
+    }
+}
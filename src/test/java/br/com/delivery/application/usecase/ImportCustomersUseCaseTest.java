@@ -0,0 +1,98 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.CustomerImportDto;
+import br.com.delivery.application.dto.CustomerImportRecord;
+import br.com.delivery.application.mapper.CustomerImportMapper;
+import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.port.CustomerImportPort;
+import br.com.delivery.domain.port.CustomerMembershipPort;
+import br.com.delivery.domain.readmodel.CustomerImportSummary;
+import br.com.delivery.domain.valueobject.CustomerImportLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ImportCustomersUseCase")
+class ImportCustomersUseCaseTest {
+
+    @Mock
+    private CustomerImportPort customerImport;
+
+    @Mock
+    private CustomerMembershipPort customerMembership;
+
+    @Mock
+    private CustomerImportMapper customerImportMapper;
+
+    @InjectMocks
+    private ImportCustomersUseCase importCustomersUseCase;
+
+    @Test
+    @DisplayName("Deve validar cada linha com as regras do cliente e entregar ao repositório sem acumular")
+    @SuppressWarnings("unchecked")
+    void shouldValidateLinesWithCustomerRules() {
+        // Given
+        Iterator<CustomerImportRecord> records = List.of(
+                CustomerImportRecord.of(2, " João Silva ", "joao@email.com", "12345678901"),
+                CustomerImportRecord.of(3, "Maria Souza", "maria-sem-arroba", "98765432100"),
+                CustomerImportRecord.unreadable(4, "JSON inválido")
+        ).iterator();
+        List<CustomerImportLine> received = new ArrayList<>();
+        CustomerImportSummary summary = new CustomerImportSummary("import-1", 3, 1, 2, LocalDateTime.now());
+        when(customerImport.load(anyString(), any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Iterator<CustomerImportLine> lines = invocation.getArgument(1);
+            lines.forEachRemaining(received::add);
+            return summary;
+        });
+        CustomerImportDto dto = new CustomerImportDto();
+        when(customerImportMapper.toDto(summary)).thenReturn(dto);
+
+        // When
+        CustomerImportDto result = importCustomersUseCase.execute(records);
+
+        // Then
+        assertSame(dto, result);
+        assertEquals(3, received.size());
+        assertTrue(received.get(0).isAccepted());
+        assertEquals("João Silva", received.get(0).getCustomer().getName());
+        assertFalse(received.get(1).isAccepted());
+        assertEquals("Customer email must be valid", received.get(1).getReason());
+        assertEquals("maria-sem-arroba", received.get(1).getEmail());
+        assertEquals("JSON inválido", received.get(2).getReason());
+        assertEquals(4, received.get(2).getLineNumber());
+    }
+
+    @Test
+    @DisplayName("Deve adicionar os clientes importados ao filtro de clientes")
+    @SuppressWarnings("unchecked")
+    void shouldAddImportedCustomersToMembership() {
+        // Given
+        Customer imported = new Customer("customer-1", "João Silva", "joao@email.com", "12345678901");
+        when(customerImport.load(anyString(), any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<Customer> callback = invocation.getArgument(2);
+            callback.accept(imported);
+            return new CustomerImportSummary("import-1", 1, 1, 0, LocalDateTime.now());
+        });
+
+        // When
+        importCustomersUseCase.execute(List.<CustomerImportRecord>of().iterator());
+
+        // Then
+        verify(customerMembership).add(imported);
+    }
+}
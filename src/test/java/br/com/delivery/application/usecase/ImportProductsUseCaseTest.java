@@ -0,0 +1,110 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.ProductImportDto;
+import br.com.delivery.application.dto.ProductImportRecord;
+import br.com.delivery.application.mapper.ProductImportMapper;
+import br.com.delivery.domain.port.ProductCatalogPort;
+import br.com.delivery.domain.port.ProductImportPort;
+import br.com.delivery.domain.readmodel.ProductImportSummary;
+import br.com.delivery.domain.valueobject.ProductImportLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ImportProductsUseCase")
+class ImportProductsUseCaseTest {
+
+    @Mock
+    private ProductImportPort productImport;
+
+    @Mock
+    private ProductCatalogPort productCatalog;
+
+    @Mock
+    private ProductImportMapper productImportMapper;
+
+    @InjectMocks
+    private ImportProductsUseCase importProductsUseCase;
+
+    @Test
+    @DisplayName("Deve validar cada linha com as regras do produto e os limites das colunas")
+    @SuppressWarnings("unchecked")
+    void shouldValidateLinesWithProductRules() {
+        // Given
+        Iterator<ProductImportRecord> records = List.of(
+                ProductImportRecord.of(2, " sku-1 ", " Café ", "19.90"),
+                ProductImportRecord.of(3, "sku-2", "Chá", "1.999"),
+                ProductImportRecord.of(4, "sku-3", "Açúcar", "dez"),
+                ProductImportRecord.of(5, "x".repeat(37), "Sal", "2.00"),
+                ProductImportRecord.of(6, "sku-5", "Arroz", "123456789.00"),
+                ProductImportRecord.unreadable(7, "JSON inválido")
+        ).iterator();
+        List<ProductImportLine> received = new ArrayList<>();
+        ProductImportSummary summary = new ProductImportSummary("import-1", 6, 1, 0, 0, 5, LocalDateTime.now());
+        when(productImport.load(anyString(), any(Iterator.class))).thenAnswer(invocation -> {
+            Iterator<ProductImportLine> lines = invocation.getArgument(1);
+            lines.forEachRemaining(received::add);
+            return summary;
+        });
+        ProductImportDto dto = new ProductImportDto();
+        when(productImportMapper.toDto(summary)).thenReturn(dto);
+
+        // When
+        ProductImportDto result = importProductsUseCase.execute(records);
+
+        // Then
+        assertSame(dto, result);
+        assertEquals(6, received.size());
+        assertTrue(received.get(0).isAccepted());
+        assertEquals("sku-1", received.get(0).getProductId());
+        assertEquals("Café", received.get(0).getProduct().getName());
+        assertEquals(new BigDecimal("19.90"), received.get(0).getProduct().getPrice());
+        assertEquals("Preço com mais de 2 casas decimais", received.get(1).getReason());
+        assertEquals("Preço inválido: dez", received.get(2).getReason());
+        assertEquals("ID excede 36 caracteres", received.get(3).getReason());
+        assertEquals("Preço excede o máximo de 99999999.99", received.get(4).getReason());
+        assertEquals("JSON inválido", received.get(5).getReason());
+        assertEquals(7, received.get(5).getLineNumber());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o catálogo uma vez por carga e só quando houve alteração")
+    @SuppressWarnings("unchecked")
+    void shouldReloadCatalogOnlyWhenProductsChanged() {
+        // Given
+        when(productImport.load(anyString(), any(Iterator.class)))
+                .thenReturn(new ProductImportSummary("import-1", 10, 0, 0, 10, 0, LocalDateTime.now()))
+                .thenReturn(new ProductImportSummary("import-2", 10, 0, 3, 7, 0, LocalDateTime.now()));
+        when(productImportMapper.toDto(any(ProductImportSummary.class))).thenAnswer(invocation -> {
+            ProductImportSummary summary = invocation.getArgument(0);
+            ProductImportDto dto = new ProductImportDto();
+            dto.setCreated(summary.getCreated());
+            dto.setUpdated(summary.getUpdated());
+            return dto;
+        });
+
+        // When
+        ProductImportDto unchanged = importProductsUseCase.execute(List.<ProductImportRecord>of().iterator());
+        ProductImportDto updated = importProductsUseCase.execute(List.<ProductImportRecord>of().iterator());
+
+        // Then
+        assertEquals(0, unchanged.getUpdated());
+        assertEquals(3, updated.getUpdated());
+        verify(productCatalog, times(1)).reloadAll();
+    }
+}
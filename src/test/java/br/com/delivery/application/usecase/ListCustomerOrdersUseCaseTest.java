@@ -0,0 +1,122 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderHistoryPage;
+import br.com.delivery.application.mapper.OrderViewMapper;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.port.CustomerRepositoryPort;
+import br.com.delivery.domain.port.OrderViewRepositoryPort;
+import br.com.delivery.domain.readmodel.OrderView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ListCustomerOrdersUseCase")
+class ListCustomerOrdersUseCaseTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 27, 10, 30);
+
+    @Mock
+    private CustomerRepositoryPort customerRepository;
+
+    @Mock
+    private OrderViewRepositoryPort orderViewRepository;
+
+    @Mock
+    private OrderViewMapper orderViewMapper;
+
+    @InjectMocks
+    private ListCustomerOrdersUseCase listCustomerOrdersUseCase;
+
+    @Test
+    @DisplayName("Deve buscar um registro a mais para indicar a próxima página")
+    void shouldFetchOneExtraRowToDetectNextPage() {
+        // Given
+        OrderView first = orderView("order-3", CREATED_AT.plusMinutes(2));
+        OrderView second = orderView("order-2", CREATED_AT.plusMinutes(1));
+        OrderView extra = orderView("order-1", CREATED_AT);
+        when(customerRepository.existsById("customer-1")).thenReturn(true);
+        when(orderViewRepository.findCustomerPage("customer-1", null, null, null, 3))
+                .thenReturn(List.of(first, second, extra));
+        when(orderViewMapper.toDto(any(OrderView.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        // When
+        Optional<OrderHistoryPage> result = listCustomerOrdersUseCase.execute("customer-1", null, null, null, 2);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isHasNext());
+        assertEquals(List.of("order-3", "order-2"),
+                result.get().getOrders().stream().map(OrderDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor com filtro de status")
+    void shouldContinueFromCursorWithStatusFilter() {
+        // Given
+        when(customerRepository.existsById("customer-1")).thenReturn(true);
+        when(orderViewRepository.findCustomerPage("customer-1", Order.OrderStatus.DELIVERED, CREATED_AT, "order-9", 21))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        Optional<OrderHistoryPage> result = listCustomerOrdersUseCase.execute(
+                "customer-1", Order.OrderStatus.DELIVERED, CREATED_AT, "order-9", 20);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertFalse(result.get().isHasNext());
+        assertTrue(result.get().getOrders().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o cliente não existe")
+    void shouldReturnEmptyWhenCustomerDoesNotExist() {
+        // Given
+        when(customerRepository.existsById("missing")).thenReturn(false);
+
+        // When
+        Optional<OrderHistoryPage> result = listCustomerOrdersUseCase.execute("missing", null, null, null, 20);
+
+        // Then
+        assertFalse(result.isPresent());
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página fora dos limites e cursor incompleto")
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> listCustomerOrdersUseCase.execute("customer-1", null, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> listCustomerOrdersUseCase.execute("customer-1", null, null, null,
+                        ListCustomerOrdersUseCase.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> listCustomerOrdersUseCase.execute("customer-1", null, CREATED_AT, null, 20));
+    }
+
+    private static OrderView orderView(String id, LocalDateTime createdAt) {
+        return new OrderView(id, "customer-1", Order.OrderStatus.CREATED, new BigDecimal("10.00"),
+                0, Collections.emptyList(), createdAt);
+    }
+
+    private static OrderDto toDto(OrderView view) {
+        OrderDto dto = new OrderDto();
+        dto.setId(view.getId());
+        dto.setCreatedAt(view.getCreatedAt());
+        return dto;
+    }
+}
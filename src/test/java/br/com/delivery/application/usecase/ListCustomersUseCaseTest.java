@@ -0,0 +1,112 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.diagnostics.DiagnosticTrace;
+import br.com.delivery.application.dto.CustomerDto;
+import br.com.delivery.application.mapper.CustomerMapper;
+import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.domain.port.CustomerRepositoryPort;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ListCustomersUseCase")
+class ListCustomersUseCaseTest {
+
+    @Mock
+    private CustomerRepositoryPort customerRepository;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    @InjectMocks
+    private ListCustomersUseCase listCustomersUseCase;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ListCustomersUseCase.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        // Pior caso: DEBUG ligado
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        appender.start();
+        logger.addAppender(appender);
+        when(customerMapper.toDto(any(Customer.class))).thenAnswer(invocation -> {
+            Customer customer = invocation.getArgument(0);
+            CustomerDto dto = new CustomerDto();
+            dto.setId(customer.getId());
+            dto.setName(customer.getName());
+            return dto;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+        DiagnosticTrace.end();
+    }
+
+    @Test
+    @DisplayName("Deve emitir o mesmo número limitado de logs para 10 ou 1000 clientes")
+    void shouldEmitBoundedLogEventsRegardlessOfListSize() {
+        // Given
+        when(customerRepository.findAll()).thenReturn(customers(10), customers(1000));
+
+        // When
+        listCustomersUseCase.execute();
+        int smallListEvents = appender.list.size();
+        appender.list.clear();
+        List<CustomerDto> result = listCustomersUseCase.execute();
+
+        // Then
+        assertEquals(1000, result.size());
+        assertTrue(smallListEvents <= 1, "eventos de log para 10 clientes: " + smallListEvents);
+        assertEquals(smallListEvents, appender.list.size());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o detalhe por cliente no trace de diagnóstico, limitado à capacidade")
+    void shouldRecordPerCustomerDetailInDiagnosticTrace() {
+        // Given
+        when(customerRepository.findAll()).thenReturn(customers(300));
+        DiagnosticTrace trace = DiagnosticTrace.begin("trace-1", 200, 300);
+
+        // When
+        listCustomersUseCase.execute();
+
+        // Then
+        assertEquals(200, trace.getEvents().size());
+        assertEquals(100, trace.getDropped());
+        assertTrue(trace.getEvents().get(0).contains("id=customer-0"));
+        // O trace não passa pelo log
+        assertTrue(appender.list.size() <= 1);
+    }
+
+    private static List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(new Customer("customer-" + i, "Cliente " + i, "cliente" + i + "@email.com", "1234567890" + i));
+        }
+        return customers;
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.delivery.application.usecase;
+
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.mapper.OrderViewMapper;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.port.OrderViewRepositoryPort;
+import br.com.delivery.domain.readmodel.OrderView;
+import br.com.delivery.domain.valueobject.OrderItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ListOrdersUseCase")
+class ListOrdersUseCaseTest {
+
+    @Mock
+    private OrderViewRepositoryPort orderViewRepository;
+
+    @Mock
+    private OrderViewMapper orderViewMapper;
+
+    @InjectMocks
+    private ListOrdersUseCase listOrdersUseCase;
+
+    private OrderView orderView;
+    private OrderDto orderDto;
+
+    @BeforeEach
+    void setUp() {
+        orderView = new OrderView("order-123", "customer-456", Order.OrderStatus.CONFIRMED,
+            new BigDecimal("59.98"), 1,
+            Arrays.asList(new OrderItem("product-1", 2, new BigDecimal("29.99"))),
+            LocalDateTime.now());
+
+        orderDto = new OrderDto();
+        orderDto.setId("order-123");
+        orderDto.setStatus(Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("Deve listar pedidos a partir da projeção de leitura")
+    void shouldListOrdersFromReadModel() {
+        // Given
+        when(orderViewRepository.findAll(Order.OrderStatus.CONFIRMED)).thenReturn(Arrays.asList(orderView));
+        when(orderViewMapper.toDto(orderView)).thenReturn(orderDto);
+
+        // When
+        List<OrderDto> result = listOrdersUseCase.execute(Order.OrderStatus.CONFIRMED);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("order-123", result.get(0).getId());
+        verify(orderViewRepository).findAll(Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("Deve buscar apenas a página solicitada")
+    void shouldFetchOnlyRequestedPage() {
+        // Given
+        when(orderViewRepository.findPage(null, 1, 10)).thenReturn(Arrays.asList(orderView));
+        when(orderViewMapper.toDto(orderView)).thenReturn(orderDto);
+
+        // When
+        List<OrderDto> result = listOrdersUseCase.execute(null, 1, 10);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(orderViewRepository).findPage(null, 1, 10);
+        verify(orderViewRepository, never()).findAll(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página inválido")
+    void shouldRejectInvalidPageSize() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> listOrdersUseCase.execute(null, 0, 0));
+
+        verify(orderViewRepository, never()).findPage(any(), anyInt(), anyInt());
+    }
+}
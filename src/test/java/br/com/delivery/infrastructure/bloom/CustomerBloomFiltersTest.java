@@ -0,0 +1,98 @@
+package br.com.delivery.infrastructure.bloom;
+
+import br.com.delivery.domain.entity.Customer;
+import br.com.delivery.infrastructure.persistence.repository.CustomerJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do CustomerBloomFilters")
+class CustomerBloomFiltersTest {
+
+    @Mock
+    private CustomerJpaRepository customerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CustomerBloomFilters filters;
+
+    @BeforeEach
+    void setUp() {
+        CustomerBloomFilterProperties properties = new CustomerBloomFilterProperties();
+        properties.setExpectedInsertions(1_000);
+        filters = new CustomerBloomFilters(customerRepository, transactionManager, properties);
+    }
+
+    @Test
+    @DisplayName("Deve responder talvez para tudo antes da primeira carga")
+    void shouldAnswerMaybeBeforeLoad() {
+        assertFalse(filters.isLoaded());
+        assertTrue(filters.mayContainId("customer-1"));
+        assertTrue(filters.mayContainEmail("joao@email.com"));
+        assertTrue(filters.mayContainDocument("12345678901"));
+    }
+
+    @Test
+    @DisplayName("Deve carregar as chaves dos clientes do banco")
+    void shouldLoadCustomerKeys() {
+        // Given
+        when(customerRepository.count()).thenReturn(1L);
+        when(customerRepository.streamKeys()).thenReturn(Stream.<Object[]>of(
+                new Object[]{"customer-1", "joao@email.com", "12345678901"}));
+
+        // When
+        filters.rebuild();
+
+        // Then
+        assertTrue(filters.isLoaded());
+        assertTrue(filters.mayContainId("customer-1"));
+        assertTrue(filters.mayContainEmail("joao@email.com"));
+        assertTrue(filters.mayContainDocument("12345678901"));
+        assertFalse(filters.mayContainEmail("maria@email.com"));
+    }
+
+    @Test
+    @DisplayName("Deve incluir cliente novo sem reconstruir")
+    void shouldAddNewCustomer() {
+        // Given
+        when(customerRepository.streamKeys()).thenReturn(Stream.empty());
+        filters.rebuild();
+
+        // When
+        filters.add(new Customer("customer-2", "Maria Souza", "maria@email.com", "98765432100"));
+
+        // Then
+        assertTrue(filters.mayContainId("customer-2"));
+        assertTrue(filters.mayContainEmail("maria@email.com"));
+        assertTrue(filters.mayContainDocument("98765432100"));
+        verify(customerRepository, times(1)).streamKeys();
+    }
+
+    @Test
+    @DisplayName("Deve manter os filtros anteriores quando a reconstrução falha")
+    void shouldKeepPreviousFiltersWhenRebuildFails() {
+        // Given
+        when(customerRepository.streamKeys())
+                .thenReturn(Stream.<Object[]>of(new Object[]{"customer-1", "joao@email.com", "12345678901"}))
+                .thenThrow(new IllegalStateException("banco indisponível"));
+        filters.rebuild();
+
+        // When
+        filters.rebuild();
+
+        // Then
+        assertTrue(filters.mayContainId("customer-1"));
+        assertFalse(filters.mayContainId("customer-9"));
+    }
+}
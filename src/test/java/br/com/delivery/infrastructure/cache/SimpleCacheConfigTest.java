@@ -0,0 +1,34 @@
+package br.com.delivery.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do SimpleCacheConfig")
+class SimpleCacheConfigTest {
+
+    @Test
+    @DisplayName("Deve remover a versão só depois do commit da transação que a invalidou")
+    void shouldEvictVersionOnlyAfterCommit() {
+        // Given
+        Cache versions = new SimpleCacheConfig().cacheManager().getCache("versions");
+        versions.put("orders", "versao-1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            versions.evict("orders");
+
+            // Then
+            assertEquals("versao-1", versions.get("orders", String.class));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(versions.get("orders"));
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.delivery.infrastructure.catalog;
+
+import br.com.delivery.domain.entity.Product;
+import br.com.delivery.domain.port.ProductRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do InMemoryProductCatalog")
+class InMemoryProductCatalogTest {
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProductCatalogPublisher publisher;
+
+    private InMemoryProductCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new InMemoryProductCatalog(productRepository, transactionManager, publisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve servir os produtos carregados sem consultar o repositório")
+    void shouldServeLoadedProductsFromMemory() {
+        // Given
+        when(productRepository.findAll()).thenReturn(List.of(product("product-1", "10.00"), product("product-2", "20.00")));
+        catalog.refresh();
+        clearInvocations(productRepository);
+
+        // When
+        Optional<Product> found = catalog.findById("product-2");
+        List<Product> all = catalog.findAll();
+
+        // Then
+        assertEquals(new BigDecimal("20.00"), found.orElseThrow().getPrice());
+        assertEquals(List.of("product-1", "product-2"), all.stream().map(Product::getId).toList());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o repositório antes da primeira carga e para ids fora do catálogo")
+    void shouldFallBackToRepositoryOnMiss() {
+        // Given
+        Product recent = product("product-9", "9.90");
+        when(productRepository.findById("product-9")).thenReturn(Optional.of(recent));
+
+        // When
+        Optional<Product> beforeLoad = catalog.findById("product-9");
+        when(productRepository.findAll()).thenReturn(List.of());
+        catalog.refresh();
+        Optional<Product> afterLoad = catalog.findById("product-9");
+
+        // Then
+        assertEquals(Optional.of(recent), beforeLoad);
+        assertEquals(Optional.of(recent), afterLoad);
+        verify(productRepository, times(2)).findById("product-9");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar e notificar o produto novo só depois do commit")
+    void shouldApplyNewProductAfterCommit() {
+        // Given
+        when(productRepository.findAll()).thenReturn(List.of(product("product-1", "10.00")));
+        catalog.refresh();
+        List<Product> before = catalog.findAll();
+        Product created = product("product-2", "15.00");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        catalog.put(created);
+        int sizeBeforeCommit = catalog.size();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(1, sizeBeforeCommit);
+        assertEquals(Optional.of(created), catalog.findById("product-2"));
+        assertEquals(2, catalog.findAll().size());
+        // A versão anterior continua intacta para quem já a leu
+        assertEquals(1, before.size());
+        verify(publisher).publish(List.of(created));
+        verify(productRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve substituir produto existente mantendo a posição na listagem")
+    void shouldReplaceExistingProductInPlace() {
+        // Given
+        when(productRepository.findAll()).thenReturn(List.of(product("product-1", "10.00"), product("product-2", "20.00")));
+        catalog.refresh();
+
+        // When
+        catalog.apply(List.of(product("product-1", "12.50")));
+
+        // Then
+        assertEquals(new BigDecimal("12.50"), catalog.findById("product-1").orElseThrow().getPrice());
+        assertEquals(List.of("product-1", "product-2"), catalog.findAll().stream().map(Product::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve manter a versão anterior quando a recarga falha")
+    void shouldKeepPreviousSnapshotWhenReloadFails() {
+        // Given
+        when(productRepository.findAll())
+                .thenReturn(List.of(product("product-1", "10.00")))
+                .thenThrow(new IllegalStateException("banco indisponível"));
+        catalog.refresh();
+
+        // When
+        catalog.refresh();
+
+        // Then
+        assertEquals(1, catalog.size());
+        assertTrue(catalog.findById("product-1").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve reler o banco e pedir a releitura aos outros nós após uma carga em massa")
+    void shouldReloadAndNotifyAfterBulkLoad() {
+        // Given
+        when(productRepository.findAll())
+                .thenReturn(List.of(product("product-1", "10.00")))
+                .thenReturn(List.of(product("product-1", "11.00"), product("product-2", "20.00")));
+        catalog.refresh();
+
+        // When
+        catalog.reloadAll();
+
+        // Then
+        assertEquals(2, catalog.size());
+        assertEquals(new BigDecimal("11.00"), catalog.findById("product-1").orElseThrow().getPrice());
+        verify(publisher).publishReload();
+        verify(publisher, never()).publish(anyList());
+    }
+
+    private static Product product(String id, String price) {
+        return new Product(id, "Produto " + id, new BigDecimal(price));
+    }
+}
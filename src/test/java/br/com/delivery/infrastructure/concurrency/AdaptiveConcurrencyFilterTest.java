@@ -0,0 +1,76 @@
+package br.com.delivery.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do AdaptiveConcurrencyFilter")
+class AdaptiveConcurrencyFilterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private AdaptiveConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(10);
+        properties.setCritical(List.of("POST /v1/orders", "PATCH /v1/orders/*/status"));
+        properties.setSheddable(List.of("GET /v1/orders", "GET /v1/products/imports/*/rows"));
+        limiter = new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+        filter = new AdaptiveConcurrencyFilter(limiter, properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("Deve classificar as rotas pela configuração")
+    void shouldClassifyRoutes() {
+        assertEquals(RequestPriority.CRITICAL, filter.classify(request("POST", "/v1/orders")));
+        assertEquals(RequestPriority.CRITICAL, filter.classify(request("PATCH", "/v1/orders/order-1/status")));
+        assertEquals(RequestPriority.SHEDDABLE, filter.classify(request("GET", "/v1/orders")));
+        assertEquals(RequestPriority.SHEDDABLE, filter.classify(request("GET", "/v1/products/imports/import-1/rows")));
+        assertEquals(RequestPriority.NORMAL, filter.classify(request("GET", "/v1/orders/order-1")));
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After à listagem e ainda aceitar a criação de pedido")
+    void shouldShedListingButAcceptOrderCreation() throws Exception {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(RequestPriority.NORMAL);
+        }
+        MockHttpServletResponse listing = new MockHttpServletResponse();
+        MockHttpServletResponse creation = new MockHttpServletResponse();
+        MockFilterChain listingChain = new MockFilterChain();
+        MockFilterChain creationChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("GET", "/v1/orders"), listing, listingChain);
+        filter.doFilter(request("POST", "/v1/orders"), creation, creationChain);
+
+        // Then
+        assertEquals(503, listing.getStatus());
+        assertEquals("1", listing.getHeader("Retry-After"));
+        assertTrue(listing.getContentAsString().contains("sheddable"));
+        assertNull(listingChain.getRequest());
+        assertEquals(200, creation.getStatus());
+        assertNotNull(creationChain.getRequest());
+        // A vaga da criação foi devolvida ao fim da requisição
+        assertEquals(5, limiter.getInflight());
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.delivery.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do AdaptiveConcurrencyLimiter")
+class AdaptiveConcurrencyLimiterTest {
+
+    private AtomicLong now;
+    private MeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        AdaptiveConcurrencyProperties properties = new AdaptiveConcurrencyProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(100);
+        properties.setWindow(Duration.ofMillis(100));
+        now = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar primeiro as requisições descartáveis e proteger as críticas")
+    void shouldShedByPriority() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.NORMAL));
+        }
+
+        // When
+        boolean sheddable = limiter.tryAcquire(RequestPriority.SHEDDABLE);
+        int normal = acquireAll(RequestPriority.NORMAL);
+        int critical = acquireAll(RequestPriority.CRITICAL);
+
+        // Then
+        // Limite 20: descartáveis até 10 em andamento, normais até 18, críticas até 20
+        assertFalse(sheddable);
+        assertEquals(8, normal);
+        assertEquals(2, critical);
+        assertEquals(1, meterRegistry.get("delivery.concurrency.shed").tag("priority", "sheddable").counter().count());
+        assertEquals(20, meterRegistry.get("delivery.concurrency.inflight").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência sobe e recuperá-lo quando volta ao normal")
+    void shouldAdaptLimitToLatency() {
+        // Given
+        runWindows(10, 15, 10);
+        int beforeSlowdown = limiter.getLimit();
+
+        // When
+        runWindows(10, 15, 200);
+        int duringSlowdown = limiter.getLimit();
+        runWindows(40, 15, 10);
+        int afterRecovery = limiter.getLimit();
+
+        // Then
+        assertTrue(beforeSlowdown > 20, "limite deveria crescer com latência estável: " + beforeSlowdown);
+        assertTrue(duringSlowdown < beforeSlowdown * 3 / 4, "limite deveria cair com o banco lento: " + duringSlowdown);
+        assertTrue(afterRecovery > duringSlowdown, "limite deveria voltar a subir: " + afterRecovery);
+        assertEquals(limiter.getLimit(), meterRegistry.get("delivery.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite com carga bem abaixo dele")
+    void shouldNotGrowWhenApplicationLimited() {
+        // When
+        runWindows(10, 2, 10);
+
+        // Then
+        assertEquals(20, limiter.getLimit());
+    }
+
+    private int acquireAll(RequestPriority priority) {
+        int acquired = 0;
+        while (limiter.tryAcquire(priority)) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    /**
+     * Em cada janela, concurrency requisições simultâneas com a latência dada, repetidas até o fim da janela.
+     */
+    private void runWindows(int windows, int concurrency, long latencyMillis) {
+        long latency = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        for (int w = 0; w < windows; w++) {
+            for (int round = 0; round < 2; round++) {
+                int acquired = 0;
+                for (int i = 0; i < concurrency; i++) {
+                    if (limiter.tryAcquire(RequestPriority.CRITICAL)) {
+                        acquired++;
+                    }
+                }
+                now.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+                for (int i = 0; i < acquired; i++) {
+                    limiter.release(latency, true);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.delivery.infrastructure.config;
+
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderItemDto;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.web.dto.PageResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Testes do JacksonConfig")
+class JacksonConfigTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON do mapper baseado em reflection")
+    void shouldProduceSameJsonAsReflectionMapper() throws Exception {
+        // Given
+        ObjectMapper reflectionMapper = new ObjectMapper();
+        reflectionMapper.registerModule(new JavaTimeModule());
+        PageResponse<OrderDto> page = new PageResponse<>(List.of(order()), 0, 20, 1, 1, true, true);
+
+        // When
+        String json = objectMapper.writeValueAsString(page);
+
+        // Then
+        assertEquals(reflectionMapper.writeValueAsString(page), json);
+    }
+
+    @Test
+    @DisplayName("Deve desserializar o que serializa")
+    void shouldRoundTripPageOfOrders() throws Exception {
+        // Given
+        PageResponse<OrderDto> page = new PageResponse<>(List.of(order()), 0, 20, 1, 1, true, true);
+
+        // When
+        PageResponse<OrderDto> result = objectMapper.readValue(
+                objectMapper.writeValueAsBytes(page), new TypeReference<PageResponse<OrderDto>>() {});
+
+        // Then
+        OrderDto order = result.getContent().get(0);
+        assertEquals("order-123", order.getId());
+        assertEquals(new BigDecimal("59.98"), order.getTotal());
+        assertEquals(LocalDateTime.of(2025, 1, 27, 10, 30), order.getCreatedAt());
+        assertEquals(2, order.getItems().get(0).getQuantity());
+    }
+
+    private static OrderDto order() {
+        OrderItemDto item = new OrderItemDto();
+        item.setProductId("product-123");
+        item.setQuantity(2);
+        item.setUnitPrice(new BigDecimal("29.99"));
+
+        OrderDto order = new OrderDto();
+        order.setId("order-123");
+        order.setCustomerId("customer-123");
+        order.setItems(List.of(item));
+        order.setStatus(Order.OrderStatus.CREATED);
+        order.setCreatedAt(LocalDateTime.of(2025, 1, 27, 10, 30));
+        order.setTotal(new BigDecimal("59.98"));
+        return order;
+    }
+}
@@ -0,0 +1,201 @@
+package br.com.delivery.infrastructure.diagnostics;
+
+import br.com.delivery.application.diagnostics.DiagnosticTrace;
+import br.com.delivery.infrastructure.web.etag.ResponseBodyCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.DoubleSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do DiagnosticTraceFilter")
+class DiagnosticTraceFilterTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DiagnosticsProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DiagnosticsProperties();
+        properties.setDumpDirectory(dumpDirectory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve passar a requisição direto, sem trace nem buffer, quando não há header nem amostragem")
+    void shouldPassThroughWithoutTrace() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Object> seenResponse = new AtomicReference<>();
+        AtomicReference<DiagnosticTrace> seenTrace = new AtomicReference<>();
+        FilterChain chain = (req, res) -> {
+            seenResponse.set(res);
+            seenTrace.set(DiagnosticTrace.current());
+        };
+
+        // When
+        filter(() -> 0.0).doFilter(new MockHttpServletRequest("GET", "/v1/customers"), response, chain);
+
+        // Then
+        assertSame(response, seenResponse.get());
+        assertNull(seenTrace.get());
+        assertNull(response.getHeader(DiagnosticTraceFilter.TRACE_ID_HEADER));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o corpo original e o trace no envelope quando o header vem de quem tem a autoridade")
+    void shouldReturnTraceInResponseForPrivilegedHeader() throws Exception {
+        // Given
+        authenticate("SCOPE_diagnostics:trace");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/customers");
+        request.addHeader("X-Debug-Trace", "response");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter(() -> 1.0).doFilter(request, response, jsonChain());
+
+        // Then
+        JsonNode envelope = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals(200, envelope.get("status").asInt());
+        assertEquals("customer-1", envelope.get("body").get(0).get("id").asText());
+        assertEquals(response.getHeader(DiagnosticTraceFilter.TRACE_ID_HEADER), envelope.get("trace").get("id").asText());
+        assertTrue(envelope.get("trace").get("events").get(0).asText().endsWith("Cliente customer-1 mapeado"));
+        assertNull(DiagnosticTrace.current());
+    }
+
+    @Test
+    @DisplayName("Deve envolver JSON sem compressão, sem ETag nem Content-Encoding, quando o corpo estaria em gzip no cache")
+    void shouldWrapIdentityJsonWhenCachedBodyIsGzipped() throws Exception {
+        // Given
+        ResponseBodyCache responseBodyCache = new ResponseBodyCache(new ConcurrentMapCacheManager(),
+                List.of(new MappingJackson2HttpMessageConverter(objectMapper)));
+        List<Map<String, String>> customers = IntStream.range(0, 50)
+                .mapToObj(i -> Map.of("id", "customer-" + i, "name", "Cliente " + i))
+                .toList();
+        FilterChain cachedChain = (req, res) -> {
+            ResponseEntity<byte[]> entity = responseBodyCache.respond("customers:0:50", "v1",
+                    new ServletWebRequest((HttpServletRequest) req), () -> customers);
+            HttpServletResponse servletResponse = (HttpServletResponse) res;
+            entity.getHeaders().forEach((name, values) -> values.forEach(value -> servletResponse.addHeader(name, value)));
+            servletResponse.getOutputStream().write(entity.getBody());
+        };
+        // Aquece o cache com a variante gzip
+        MockHttpServletRequest warmUp = new MockHttpServletRequest("GET", "/v1/customers");
+        warmUp.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse warmUpResponse = new MockHttpServletResponse();
+        cachedChain.doFilter(warmUp, warmUpResponse);
+        assertEquals("gzip", warmUpResponse.getHeader("Content-Encoding"));
+
+        authenticate("SCOPE_diagnostics:trace");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/customers");
+        request.addHeader("X-Debug-Trace", "response");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("Accept", "application/cbor");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter(() -> 1.0).doFilter(request, response, cachedChain);
+
+        // Then
+        JsonNode envelope = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals(50, envelope.get("body").size());
+        assertEquals("customer-49", envelope.get("body").get(49).get("id").asText());
+        assertNull(response.getHeader("ETag"));
+        assertNull(response.getHeader("Content-Encoding"));
+        assertNull(response.getHeader("Vary"));
+        assertEquals("no-store", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o header de quem não tem a autoridade")
+    void shouldIgnoreHeaderWithoutAuthority() throws Exception {
+        // Given
+        authenticate("SCOPE_customers:read");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/customers");
+        request.addHeader("X-Debug-Trace", "response");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter(() -> 1.0).doFilter(request, response, jsonChain());
+
+        // Then
+        assertEquals("[{\"id\":\"customer-1\"}]", response.getContentAsString());
+        assertNull(response.getHeader(DiagnosticTraceFilter.TRACE_ID_HEADER));
+    }
+
+    @Test
+    @DisplayName("Deve gravar em arquivo o trace das requisições amostradas, com os eventos excedentes contados")
+    void shouldDumpSampledTraceToFile() throws Exception {
+        // Given
+        properties.setSampleRate(0.01);
+        properties.setMaxEvents(2);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < 5; i++) {
+                DiagnosticTrace.current().record("Pedido order-{} convertido", i);
+            }
+        };
+
+        // When
+        filter(() -> 0.005).doFilter(new MockHttpServletRequest("GET", "/v1/orders"), response, chain);
+
+        // Then
+        String traceId = response.getHeader(DiagnosticTraceFilter.TRACE_ID_HEADER);
+        List<String> lines = Files.readAllLines(dumpDirectory.resolve(traceId + ".log"), StandardCharsets.UTF_8);
+        assertTrue(lines.get(0).startsWith("GET /v1/orders -> 200"));
+        assertTrue(lines.get(2).endsWith("Pedido order-1 convertido"));
+        assertEquals("(3 eventos descartados: buffer cheio)", lines.get(3));
+        assertEquals(4, lines.size());
+    }
+
+    private DiagnosticTraceFilter filter(DoubleSupplier random) {
+        return new DiagnosticTraceFilter(properties, objectMapper, new SimpleMeterRegistry(), random);
+    }
+
+    private static FilterChain jsonChain() {
+        return (req, res) -> {
+            DiagnosticTrace trace = DiagnosticTrace.current();
+            if (trace != null) {
+                trace.record("Cliente {} mapeado", "customer-1");
+            }
+            res.setContentType("application/json");
+            res.getOutputStream().write("[{\"id\":\"customer-1\"}]".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static void authenticate(String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null, authority));
+    }
+}
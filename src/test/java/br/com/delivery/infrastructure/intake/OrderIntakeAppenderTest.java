@@ -0,0 +1,213 @@
+package br.com.delivery.infrastructure.intake;
+
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeLine;
+import br.com.delivery.infrastructure.persistence.groupcommit.GroupCommitRejectedException;
+import br.com.delivery.infrastructure.persistence.groupcommit.GroupCommitTimeoutException;
+import br.com.delivery.infrastructure.persistence.repository.OrderIntakeJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do OrderIntakeAppender")
+class OrderIntakeAppenderTest {
+
+    @Mock
+    private OrderIntakeJpaRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderIntakeProperties properties;
+    private OrderIntakeAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderIntakeProperties();
+        properties.setAppendTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        appender.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar e confirmar um pedido isolado")
+    void shouldAppendSingleEntity() {
+        // Given
+        appender = new OrderIntakeAppender(repository, transactionManager, properties);
+        OrderIntakeEntity entity = entity("ticket-1");
+
+        // When
+        appender.submit(entity);
+
+        // Then
+        verify(repository).saveAll(List.of(entity));
+    }
+
+    @Test
+    @DisplayName("Deve juntar no mesmo lote os pedidos que chegam durante uma gravação")
+    void shouldGroupConcurrentAppendsIntoOneBatch() throws Exception {
+        // Given
+        CountDownLatch firstFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            if (batchSizes.size() == 1) {
+                firstFlushStarted.countDown();
+                releaseFirstFlush.await(5, TimeUnit.SECONDS);
+            }
+            return batch;
+        });
+        appender = new OrderIntakeAppender(repository, transactionManager, properties);
+        ExecutorService callers = Executors.newFixedThreadPool(11);
+
+        // When
+        try {
+            Future<?> first = callers.submit(() -> appender.submit(entity("ticket-0")));
+            assertTrue(firstFlushStarted.await(5, TimeUnit.SECONDS));
+            List<Future<?>> others = new ArrayList<>();
+            for (int i = 1; i <= 10; i++) {
+                String ticket = "ticket-" + i;
+                others.add(callers.submit(() -> appender.submit(entity(ticket))));
+            }
+            // Espera as dez requisições entrarem na fila antes de liberar a primeira gravação
+            Thread.sleep(200);
+            releaseFirstFlush.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            for (Future<?> other : others) {
+                other.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // Then
+        assertEquals(List.of(1, 10), batchSizes);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha definitiva do lote sem marcá-la como repetível")
+    void shouldFailCallersWhenBatchFails() {
+        // Given
+        when(repository.saveAll(anyList())).thenThrow(new IllegalStateException("ticket duplicado"));
+        appender = new OrderIntakeAppender(repository, transactionManager, properties);
+
+        // When / Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> appender.submit(entity("ticket-1")));
+        assertEquals("ticket duplicado", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como repetível a falha transitória do lote")
+    void shouldRejectAsRetryableWhenBatchFailsTransiently() {
+        // Given
+        when(repository.saveAll(anyList())).thenThrow(new CannotCreateTransactionException("banco indisponível"));
+        appender = new OrderIntakeAppender(repository, transactionManager, properties);
+
+        // When / Then
+        GroupCommitRejectedException exception = assertThrows(GroupCommitRejectedException.class,
+                () -> appender.submit(entity("ticket-1")));
+        assertEquals("banco indisponível", exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve informar resultado desconhecido, com o ticket, quando a espera acaba durante a gravação")
+    void shouldReportUnknownOutcomeWhenTimeoutHitsDuringFlush() {
+        // Given
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            releaseFlush.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        properties.setAppendTimeout(Duration.ofMillis(200));
+        appender = new OrderIntakeAppender(repository, transactionManager, properties);
+
+        // When
+        try {
+            GroupCommitTimeoutException exception = assertThrows(GroupCommitTimeoutException.class,
+                    () -> appender.submit(entity("ticket-1")));
+
+            // Then
+            assertEquals("ticket-1", exception.getRecordId());
+        } finally {
+            releaseFlush.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve cancelar, como repetível, o pedido que a gravadora ainda não pegou quando a espera acaba")
+    void shouldCancelQueuedEntityWhenTimeoutHitsBeforeFlush() throws Exception {
+        // Given
+        CountDownLatch firstFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OrderIntakeEntity> batch = invocation.getArgument(0);
+            batch.forEach(entity -> written.add(entity.getTicket()));
+            firstFlushStarted.countDown();
+            releaseFirstFlush.await(5, TimeUnit.SECONDS);
+            return batch;
+        });
+        properties.setAppendTimeout(Duration.ofMillis(200));
+        appender = new OrderIntakeAppender(repository, transactionManager, properties);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+
+        // When
+        try {
+            callers.submit(() -> appender.submit(entity("ticket-0")));
+            assertTrue(firstFlushStarted.await(5, TimeUnit.SECONDS));
+            assertThrows(GroupCommitRejectedException.class, () -> appender.submit(entity("ticket-1")));
+        } finally {
+            releaseFirstFlush.countDown();
+            callers.shutdownNow();
+        }
+        appender.close();
+
+        // Then
+        assertEquals(List.of("ticket-0"), written);
+    }
+
+    @Test
+    @DisplayName("Deve recusar pedidos depois de encerrado")
+    void shouldRejectAfterClose() throws InterruptedException {
+        // Given
+        appender = new OrderIntakeAppender(repository, transactionManager, properties);
+        appender.close();
+
+        // When / Then
+        assertThrows(GroupCommitRejectedException.class, () -> appender.submit(entity("ticket-1")));
+        verifyNoInteractions(repository);
+    }
+
+    private static OrderIntakeEntity entity(String ticket) {
+        return new OrderIntakeEntity(ticket, "customer-1", List.of(new OrderIntakeLine("product-1", 2)),
+                LocalDateTime.of(2025, 1, 27, 10, 30));
+    }
+}
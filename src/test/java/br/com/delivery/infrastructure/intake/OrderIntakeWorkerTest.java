@@ -0,0 +1,190 @@
+package br.com.delivery.infrastructure.intake;
+
+import br.com.delivery.application.dto.CreateOrderRequest;
+import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.usecase.CreateOrderUseCase;
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderIntakeLine;
+import br.com.delivery.infrastructure.persistence.repository.OrderIntakeJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do OrderIntakeWorker")
+class OrderIntakeWorkerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 27, 10, 30);
+
+    @Mock
+    private OrderIntakeJpaRepository repository;
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderIntakeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        worker = new OrderIntakeWorker(repository, createOrderUseCase, transactionManager,
+                new OrderIntakeProperties(), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.close();
+    }
+
+    @Test
+    @DisplayName("Deve criar o pedido e concluir o ticket")
+    void shouldCreateOrderAndCompleteTicket() {
+        // Given
+        OrderIntakeEntity entity = entity();
+        OrderDto order = new OrderDto();
+        order.setId("order-123");
+        when(repository.lockNext(NOW, NOW.minusMinutes(5), 50)).thenReturn(List.of(entity));
+        when(createOrderUseCase.execute(any(CreateOrderRequest.class))).thenReturn(order);
+        when(repository.updateOutcome("ticket-1", 1, OrderIntakeTicket.Status.COMPLETED, "order-123", null, null, NOW))
+                .thenReturn(1);
+
+        // When
+        worker.poll();
+
+        // Then
+        assertEquals(OrderIntakeTicket.Status.PROCESSING, entity.getStatus());
+        assertEquals(1, entity.getAttempts());
+        ArgumentCaptor<CreateOrderRequest> request = ArgumentCaptor.forClass(CreateOrderRequest.class);
+        verify(createOrderUseCase).execute(request.capture());
+        assertEquals("customer-1", request.getValue().getCustomerId());
+        assertEquals("product-1", request.getValue().getItems().get(0).getProductId());
+        assertEquals(2, request.getValue().getItems().get(0).getQuantity());
+        verify(repository).updateOutcome("ticket-1", 1, OrderIntakeTicket.Status.COMPLETED, "order-123", null, null, NOW);
+    }
+
+    @Test
+    @DisplayName("Deve desfazer o pedido quando outro worker retomou a reserva")
+    void shouldRollBackOrderWhenClaimWasLost() {
+        // Given
+        SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+        OrderDto order = new OrderDto();
+        order.setId("order-123");
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus(), transaction);
+        when(repository.lockNext(any(), any(), anyInt())).thenReturn(List.of(entity()));
+        when(createOrderUseCase.execute(any(CreateOrderRequest.class))).thenReturn(order);
+        when(repository.updateOutcome(any(), anyInt(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When
+        worker.poll();
+
+        // Then
+        assertTrue(transaction.isRollbackOnly());
+        verify(repository, times(1)).updateOutcome(any(), anyInt(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como FAILED pedido rejeitado pela validação")
+    void shouldFailTicketWhenOrderIsInvalid() {
+        // Given
+        when(repository.lockNext(any(), any(), anyInt())).thenReturn(List.of(entity()));
+        when(createOrderUseCase.execute(any(CreateOrderRequest.class)))
+                .thenThrow(new IllegalArgumentException("Produto não encontrado: product-1"));
+
+        // When
+        worker.poll();
+
+        // Then
+        verify(repository).updateOutcome("ticket-1", 1, OrderIntakeTicket.Status.FAILED, null,
+                "Produto não encontrado: product-1", null, NOW);
+    }
+
+    @Test
+    @DisplayName("Deve devolver para a fila pedido com falha transitória, com espera")
+    void shouldRequeueTicketWithBackoffOnTransientFailure() {
+        // Given
+        when(repository.lockNext(any(), any(), anyInt())).thenReturn(List.of(entity()));
+        when(createOrderUseCase.execute(any(CreateOrderRequest.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        worker.poll();
+
+        // Then
+        verify(repository).updateOutcome(eq("ticket-1"), eq(1), eq(OrderIntakeTicket.Status.PENDING), isNull(), isNull(),
+                eq(NOW.plusSeconds(1)), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("Deve dobrar a espera a cada nova falha transitória")
+    void shouldDoubleBackoffOnEachTransientFailure() {
+        // Given
+        OrderIntakeEntity entity = entity();
+        entity.claim(NOW.minusMinutes(10));
+        when(repository.lockNext(any(), any(), anyInt())).thenReturn(List.of(entity));
+        when(createOrderUseCase.execute(any(CreateOrderRequest.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        worker.poll();
+
+        // Then
+        verify(repository).updateOutcome(eq("ticket-1"), eq(2), eq(OrderIntakeTicket.Status.PENDING), isNull(), isNull(),
+                eq(NOW.plusSeconds(2)), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("Deve apagar em blocos os tickets encerrados além da retenção")
+    void shouldPurgeFinishedTicketsInBatches() {
+        // Given
+        when(repository.deleteFinishedBefore(NOW.minusDays(7), 1000)).thenReturn(1000, 10);
+
+        // When
+        worker.purge();
+
+        // Then
+        verify(repository, times(2)).deleteFinishedBefore(NOW.minusDays(7), 1000);
+    }
+
+    @Test
+    @DisplayName("Não deve fazer nada com a fila vazia")
+    void shouldDoNothingWhenQueueIsEmpty() {
+        // Given
+        when(repository.lockNext(any(), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        worker.poll();
+
+        // Then
+        verifyNoInteractions(createOrderUseCase);
+        verify(repository, never()).updateOutcome(any(), anyInt(), any(), any(), any(), any(), any());
+    }
+
+    private static OrderIntakeEntity entity() {
+        return new OrderIntakeEntity("ticket-1", "customer-1", List.of(new OrderIntakeLine("product-1", 2)),
+                NOW.minusSeconds(1));
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.delivery.infrastructure.leaderboard;
+
+import br.com.delivery.domain.readmodel.LeaderboardWindow;
+import br.com.delivery.domain.readmodel.ProductRanking;
+import br.com.delivery.domain.valueobject.OrderItem;
+import br.com.delivery.infrastructure.persistence.entity.LeaderboardCheckpointEntity;
+import br.com.delivery.infrastructure.persistence.entity.LeaderboardCounter;
+import br.com.delivery.infrastructure.persistence.repository.LeaderboardCheckpointJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ProductLeaderboard")
+class ProductLeaderboardTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 27, 10, 2);
+
+    @Mock
+    private LeaderboardCheckpointJpaRepository checkpoints;
+
+    private MutableClock clock;
+    private ProductLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        leaderboard = new ProductLeaderboard(checkpoints, new LeaderboardProperties(), "node-a", clock);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar produtos pela quantidade vendida")
+    void shouldRankProductsByQuantity() {
+        // Given
+        leaderboard.record(List.of(item("pizza", 2), item("suco", 1)));
+        leaderboard.record(List.of(item("pizza", 1), item("sushi", 5)));
+
+        // When
+        List<ProductRanking> top = leaderboard.top(LeaderboardWindow.LAST_HOUR, 2);
+
+        // Then
+        assertEquals(2, top.size());
+        assertEquals("sushi", top.get(0).getProductId());
+        assertEquals(5, top.get(0).getQuantity());
+        assertEquals("pizza", top.get(1).getProductId());
+        assertEquals(3, top.get(1).getQuantity());
+    }
+
+    @Test
+    @DisplayName("Deve descartar vendas fora da última hora e manter no dia")
+    void shouldExpireSlicesOutsideLastHour() {
+        // Given
+        leaderboard.record(List.of(item("pizza", 4)));
+        clock.advance(Duration.ofMinutes(70));
+        leaderboard.record(List.of(item("sushi", 1)));
+
+        // When
+        List<ProductRanking> lastHour = leaderboard.top(LeaderboardWindow.LAST_HOUR, 10);
+        List<ProductRanking> today = leaderboard.top(LeaderboardWindow.TODAY, 10);
+
+        // Then
+        assertEquals(List.of("sushi"), lastHour.stream().map(ProductRanking::getProductId).toList());
+        assertEquals(List.of("pizza", "sushi"), today.stream().map(ProductRanking::getProductId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve reiniciar o ranking do dia na virada da data")
+    void shouldResetDayOnDateChange() {
+        // Given
+        leaderboard.record(List.of(item("pizza", 4)));
+        clock.advance(Duration.ofDays(1));
+
+        // When
+        List<ProductRanking> today = leaderboard.top(LeaderboardWindow.TODAY, 10);
+
+        // Then
+        assertTrue(today.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve gravar checkpoint e somar os checkpoints dos outros nós")
+    @SuppressWarnings("unchecked")
+    void shouldCheckpointAndMergePeers() {
+        // Given
+        leaderboard.record(List.of(item("pizza", 2)));
+        LocalDateTime slice = LocalDateTime.of(2025, 1, 27, 10, 0);
+        when(checkpoints.findByNodeIdAndBucketStartGreaterThanEqual(eq("node-a"), any())).thenReturn(List.of());
+        when(checkpoints.findByNodeIdNotAndBucketStartGreaterThanEqual(eq("node-a"), any())).thenReturn(List.of(
+                new LeaderboardCheckpointEntity("node-b", LeaderboardCheckpointEntity.Kind.SLICE, slice,
+                        List.of(new LeaderboardCounter("pizza", 3, 0), new LeaderboardCounter("sushi", 4, 0)), slice)));
+
+        // When
+        leaderboard.checkpoint();
+        List<ProductRanking> top = leaderboard.top(LeaderboardWindow.LAST_HOUR, 10);
+
+        // Then
+        ArgumentCaptor<List<LeaderboardCheckpointEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(checkpoints).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals(slice, saved.getValue().get(0).getBucketStart());
+        assertEquals(LeaderboardCheckpointEntity.Kind.DAY, saved.getValue().get(1).getKind());
+        verify(checkpoints).deleteOlderThan(LocalDateTime.of(2025, 1, 27, 0, 0));
+
+        assertEquals("pizza", top.get(0).getProductId());
+        assertEquals(5, top.get(0).getQuantity());
+        assertEquals("sushi", top.get(1).getProductId());
+    }
+
+    @Test
+    @DisplayName("Deve recuperar os próprios checkpoints no primeiro ciclo")
+    void shouldRestoreOwnCheckpointsOnFirstRun() {
+        // Given
+        LocalDateTime slice = LocalDateTime.of(2025, 1, 27, 9, 30);
+        when(checkpoints.findByNodeIdAndBucketStartGreaterThanEqual(eq("node-a"), any())).thenReturn(List.of(
+                new LeaderboardCheckpointEntity("node-a", LeaderboardCheckpointEntity.Kind.SLICE, slice,
+                        List.of(new LeaderboardCounter("pizza", 7, 0)), slice)));
+        when(checkpoints.findByNodeIdNotAndBucketStartGreaterThanEqual(eq("node-a"), any())).thenReturn(List.of());
+
+        // When
+        leaderboard.checkpoint();
+        leaderboard.checkpoint();
+
+        // Then
+        List<ProductRanking> top = leaderboard.top(LeaderboardWindow.LAST_HOUR, 10);
+        assertEquals(1, top.size());
+        assertEquals(7, top.get(0).getQuantity());
+        verify(checkpoints, times(1)).findByNodeIdAndBucketStartGreaterThanEqual(eq("node-a"), any());
+    }
+
+    @Test
+    @DisplayName("Deve manter o ranking local quando o checkpoint falha")
+    void shouldKeepLocalRankingWhenCheckpointFails() {
+        // Given
+        leaderboard.record(List.of(item("pizza", 2)));
+        when(checkpoints.findByNodeIdAndBucketStartGreaterThanEqual(eq("node-a"), any()))
+                .thenThrow(new IllegalStateException("banco indisponível"));
+
+        // When
+        leaderboard.checkpoint();
+
+        // Then
+        assertEquals(2, leaderboard.top(LeaderboardWindow.LAST_HOUR, 10).get(0).getQuantity());
+        verify(checkpoints, never()).saveAll(any());
+    }
+
+    private static OrderItem item(String productId, int quantity) {
+        return new OrderItem(productId, quantity, new BigDecimal("10.00"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.delivery.infrastructure.leaderboard;
+
+import br.com.delivery.domain.readmodel.ProductRanking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do SpaceSavingSketch")
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("Deve contar exatamente enquanto houver espaço")
+    void shouldCountExactlyWithinCapacity() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+
+        // When
+        sketch.add("a", 5);
+        sketch.add("b", 2);
+        sketch.add("a", 1);
+
+        // Then
+        List<ProductRanking> top = sketch.top(10);
+        assertEquals(2, top.size());
+        assertRanking(top.get(0), "a", 6, 0);
+        assertRanking(top.get(1), "b", 2, 0);
+    }
+
+    @Test
+    @DisplayName("Deve substituir o menor contador e registrar a contagem herdada como erro")
+    void shouldReplaceMinimumCounterWhenFull() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.add("a", 10);
+        sketch.add("b", 3);
+
+        // When
+        sketch.add("c", 1);
+
+        // Then
+        List<ProductRanking> top = sketch.top(10);
+        assertEquals(2, top.size());
+        assertRanking(top.get(0), "a", 10, 0);
+        assertRanking(top.get(1), "c", 4, 3);
+    }
+
+    @Test
+    @DisplayName("Deve manter os produtos frequentes com fluxo maior que a capacidade")
+    void shouldKeepHeavyHittersInLongStream() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("pizza", 3);
+            sketch.add("produto-" + i, 1);
+            if (i % 2 == 0) {
+                sketch.add("sushi", 2);
+            }
+        }
+
+        // Then
+        List<ProductRanking> top = sketch.top(2);
+        assertEquals("pizza", top.get(0).getProductId());
+        assertEquals("sushi", top.get(1).getProductId());
+        for (ProductRanking ranking : top) {
+            long real = ranking.getProductId().equals("pizza") ? 3000 : 1000;
+            assertTrue(ranking.getQuantity() >= real);
+            assertTrue(ranking.getQuantity() - ranking.getError() <= real);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve somar resumos de nós diferentes")
+    void shouldMergeSketches() {
+        // Given
+        SpaceSavingSketch local = new SpaceSavingSketch(10);
+        local.add("a", 4);
+        local.add("b", 1);
+        SpaceSavingSketch peer = new SpaceSavingSketch(10);
+        peer.add("a", 2);
+        peer.add("c", 7);
+
+        // When
+        local.merge(peer);
+
+        // Then
+        List<ProductRanking> top = local.top(10);
+        assertRanking(top.get(0), "c", 7, 0);
+        assertRanking(top.get(1), "a", 6, 0);
+        assertRanking(top.get(2), "b", 1, 0);
+    }
+
+    @Test
+    @DisplayName("Deve considerar o menor contador do resumo cheio para produto ausente nele")
+    void shouldAddFloorOfFullSketchWhenMerging() {
+        // Given
+        SpaceSavingSketch local = new SpaceSavingSketch(2);
+        local.add("a", 10);
+        local.add("b", 4);
+        SpaceSavingSketch peer = new SpaceSavingSketch(2);
+        peer.add("c", 8);
+
+        // When
+        local.merge(peer);
+
+        // Then
+        List<ProductRanking> top = local.top(10);
+        assertEquals(2, top.size());
+        assertRanking(top.get(0), "c", 12, 4);
+        assertRanking(top.get(1), "a", 10, 0);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o resumo a partir do checkpoint")
+    void shouldRebuildFromCounters() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        sketch.add("a", 5);
+        sketch.add("b", 9);
+
+        // When
+        SpaceSavingSketch restored = SpaceSavingSketch.of(3, sketch.counters());
+
+        // Then
+        List<ProductRanking> top = restored.top(10);
+        assertRanking(top.get(0), "b", 9, 0);
+        assertRanking(top.get(1), "a", 5, 0);
+    }
+
+    private static void assertRanking(ProductRanking ranking, String productId, long quantity, long error) {
+        assertEquals(productId, ranking.getProductId());
+        assertEquals(quantity, ranking.getQuantity());
+        assertEquals(error, ranking.getError());
+    }
+}
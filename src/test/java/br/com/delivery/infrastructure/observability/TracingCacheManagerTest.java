@@ -0,0 +1,70 @@
+package br.com.delivery.infrastructure.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do TracingCacheManager")
+class TracingCacheManagerTest {
+
+    private final List<Observation.Context> stopped = new ArrayList<>();
+    private TracingCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+        });
+        cacheManager = new TracingCacheManager(new ConcurrentMapCacheManager("customer"), registry);
+    }
+
+    @Test
+    @DisplayName("Deve abrir um span por operação com o cache, a operação e o resultado da leitura")
+    void shouldObserveEachCacheOperation() {
+        // Given
+        Cache cache = cacheManager.getCache("customer");
+
+        // When
+        cache.get("customer-1");
+        cache.put("customer-1", "Cliente 1");
+        Cache.ValueWrapper hit = cache.get("customer-1");
+        cache.evict("customer-1");
+
+        // Then
+        assertEquals("Cliente 1", hit.get());
+        assertEquals(List.of("get", "put", "get", "evict"), tag("operation"));
+        assertEquals(List.of("customer", "customer", "customer", "customer"), tag("cache"));
+        assertEquals("miss", stopped.get(0).getLowCardinalityKeyValue("result").getValue());
+        assertEquals("hit", stopped.get(2).getLowCardinalityKeyValue("result").getValue());
+        assertTrue(stopped.stream().allMatch(context -> "delivery.cache".equals(context.getName())));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o mesmo cache instrumentado a cada chamada")
+    void shouldReuseWrappedCache() {
+        assertSame(cacheManager.getCache("customer"), cacheManager.getCache("customer"));
+    }
+
+    private List<String> tag(String key) {
+        return stopped.stream().map(context -> context.getLowCardinalityKeyValue(key).getValue()).toList();
+    }
+}
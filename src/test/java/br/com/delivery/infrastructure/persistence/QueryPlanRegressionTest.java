@@ -0,0 +1,311 @@
+package br.com.delivery.infrastructure.persistence;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewEntity;
+import br.com.delivery.infrastructure.persistence.repository.CustomerJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.OrderJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.OrderViewJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.ProductJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.SalesDailyProductJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.SalesDailyStatusJpaRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa as consultas dos repositórios JPA contra um PostgreSQL com massa sintética
+ * (db/query-plans/afterMigrate.sql) e verifica os planos reais que o Hibernate gerou.
+ *
+ * O auto_explain registra EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) de cada comando no log
+ * do servidor; cada verificação lê do log os planos emitidos pela chamada e falha se algum
+ * nó virar Seq Scan ou se os buffers lidos passarem do orçamento.
+ *
+ * Precisa de Docker; roda com ./gradlew queryPlanTest.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("query-plan")
+@DisplayName("Regressão de planos de consulta (PostgreSQL)")
+class QueryPlanRegressionTest {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("orderId"));
+    private static final long LOG_TIMEOUT_MILLIS = 10_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres",
+                    "-c", "fsync=off",
+                    "-c", "shared_preload_libraries=auto_explain",
+                    "-c", "auto_explain.log_min_duration=0",
+                    "-c", "auto_explain.log_analyze=on",
+                    "-c", "auto_explain.log_buffers=on",
+                    "-c", "auto_explain.log_timing=off",
+                    "-c", "auto_explain.log_format=json");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration,classpath:db/query-plans");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private CustomerJpaRepository customerRepository;
+
+    @Autowired
+    private ProductJpaRepository productRepository;
+
+    @Autowired
+    private OrderJpaRepository orderRepository;
+
+    @Autowired
+    private OrderViewJpaRepository orderViewRepository;
+
+    @Autowired
+    private SalesDailyStatusJpaRepository salesDailyStatusRepository;
+
+    @Autowired
+    private SalesDailyProductJpaRepository salesDailyProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Clientes: busca por id, email e documento usam índice")
+    void customerLookupsShouldUseIndexes() {
+        // Given
+        String id = sample("SELECT id FROM customers ORDER BY id LIMIT 1");
+        String email = sample("SELECT email FROM customers WHERE id = '" + id + "'");
+        String document = sample("SELECT document FROM customers WHERE id = '" + id + "'");
+
+        // When / Then
+        assertPlan("CustomerJpaRepository.findById", () -> customerRepository.findById(id), 8);
+        assertPlan("CustomerJpaRepository.existsById", () -> customerRepository.existsById(id), 8);
+        assertPlan("CustomerJpaRepository.findByEmail", () -> customerRepository.findByEmail(email), 8);
+        assertPlan("CustomerJpaRepository.findByDocument", () -> customerRepository.findByDocument(document), 8);
+    }
+
+    @Test
+    @DisplayName("Produtos: busca por id e por trecho do nome usam índice")
+    void productLookupsShouldUseIndexes() {
+        // Given
+        String id = sample("SELECT id FROM products ORDER BY id LIMIT 1");
+
+        // When / Then
+        assertPlan("ProductJpaRepository.findById", () -> productRepository.findById(id), 8);
+        assertPlan("ProductJpaRepository.existsById", () -> productRepository.existsById(id), 8);
+        assertPlan("ProductJpaRepository.findByNameContaining",
+                () -> productRepository.findByNameContaining("produto 12345"), 128);
+    }
+
+    @Test
+    @DisplayName("Pedidos: busca por id, cliente e status ativo usam índice")
+    void orderLookupsShouldUseIndexes() {
+        // Given
+        String id = sample("SELECT id FROM orders ORDER BY id LIMIT 1");
+        String customerId = busiestCustomer();
+
+        // When / Then
+        assertPlan("OrderJpaRepository.findById", () -> orderRepository.findById(id), 16);
+        assertPlan("OrderJpaRepository.existsById", () -> orderRepository.existsById(id), 16);
+        assertPlan("OrderJpaRepository.findByCustomerId", () -> orderRepository.findByCustomerId(customerId), 128);
+        // ~330 pedidos CREATED com seus itens: índice parcial + nested loop em order_items
+        assertPlan("OrderJpaRepository.findByStatus(CREATED)",
+                () -> orderRepository.findByStatus(Order.OrderStatus.CREATED), 2_000);
+    }
+
+    @Test
+    @DisplayName("Projeção de pedidos: páginas e contagem por status usam índice")
+    void orderViewPagesShouldUseIndexes() {
+        // Given
+        PageRequest firstPage = PageRequest.of(0, 20, NEWEST_FIRST);
+
+        // When / Then
+        assertPlan("OrderViewJpaRepository.findAllBy",
+                () -> orderViewRepository.findAllBy(firstPage), 32);
+        assertPlan("OrderViewJpaRepository.findByStatus(CREATED, page)",
+                () -> orderViewRepository.findByStatus(Order.OrderStatus.CREATED, firstPage), 32);
+        assertPlan("OrderViewJpaRepository.findByStatus(DELIVERED, page)",
+                () -> orderViewRepository.findByStatus(Order.OrderStatus.DELIVERED, firstPage), 32);
+        assertPlan("OrderViewJpaRepository.findByStatus(CREATED, sort)",
+                () -> orderViewRepository.findByStatus(Order.OrderStatus.CREATED, NEWEST_FIRST), 128);
+        assertPlan("OrderViewJpaRepository.countByStatus(CREATED)",
+                () -> orderViewRepository.countByStatus(Order.OrderStatus.CREATED), 64);
+    }
+
+    @Test
+    @DisplayName("Histórico do cliente: primeira página e páginas seguintes por keyset usam índice")
+    void customerHistoryPagesShouldUseIndexes() {
+        // Given
+        String customerId = busiestCustomer();
+        PageRequest limit = PageRequest.ofSize(3);
+        OrderViewEntity newest = orderViewRepository.findCustomerFirstPage(customerId, limit).get(0);
+
+        // When / Then
+        assertPlan("OrderViewJpaRepository.findCustomerFirstPage",
+                () -> orderViewRepository.findCustomerFirstPage(customerId, limit), 32);
+        assertPlan("OrderViewJpaRepository.findCustomerFirstPage(status)",
+                () -> orderViewRepository.findCustomerFirstPage(customerId, Order.OrderStatus.DELIVERED, limit), 32);
+        assertPlan("OrderViewJpaRepository.findCustomerPageAfter",
+                () -> orderViewRepository.findCustomerPageAfter(
+                        customerId, newest.getCreatedAt(), newest.getOrderId(), limit), 32);
+        assertPlan("OrderViewJpaRepository.findCustomerPageAfter(status)",
+                () -> orderViewRepository.findCustomerPageAfter(
+                        customerId, Order.OrderStatus.DELIVERED, newest.getCreatedAt(), newest.getOrderId(), limit), 32);
+    }
+
+    @Test
+    @DisplayName("Vendas consolidadas: uma semana de totais lê só as tabelas de consolidação")
+    void salesRollupsShouldNotTouchOrders() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 3, 7);
+
+        // When: sales_daily_status tem uma linha por dia e status, e pode ser varrida inteira
+        List<JsonNode> byDay = assertPlan("SalesDailyStatusJpaRepository.sumByDay",
+                () -> salesDailyStatusRepository.sumByDay(from, to, Order.OrderStatus.CANCELED), 16,
+                "sales_daily_status");
+        List<JsonNode> byStatus = assertPlan("SalesDailyStatusJpaRepository.sumByStatus",
+                () -> salesDailyStatusRepository.sumByStatus(from, to), 16, "sales_daily_status");
+        List<JsonNode> byProduct = assertPlan("SalesDailyProductJpaRepository.sumByProduct",
+                () -> salesDailyProductRepository.sumByProduct(from, to), 256);
+
+        // Then
+        assertNoRelations("sumByDay", byDay, "orders", "order_items");
+        assertNoRelations("sumByStatus", byStatus, "orders", "order_items");
+        assertNoRelations("sumByProduct", byProduct, "orders", "order_items");
+    }
+
+    // Fora da suíte por serem varreduras completas por definição: OrderJpaRepository.findAllWithItems,
+    // findAll() de cada repositório, OrderViewJpaRepository.count() e findByStatus(status, sort)
+    // para status históricos (DELIVERED/CANCELED).
+
+    /**
+     * Falha em Seq Scan (exceto nas tabelas pequenas informadas, em que a varredura é o plano
+     * certo) ou quando a soma de shared hit+read dos planos da chamada passa de bufferBudget.
+     */
+    private List<JsonNode> assertPlan(String query, Runnable call, long bufferBudget, String... smallTables) {
+        List<JsonNode> plans = capturePlans(call);
+        assertFalse(plans.isEmpty(), query + ": nenhum plano capturado");
+
+        long buffers = 0;
+        for (JsonNode plan : plans) {
+            JsonNode root = plan.path("Plan");
+            List<String> seqScans = new ArrayList<>();
+            collectSeqScans(root, seqScans);
+            seqScans.removeAll(List.of(smallTables));
+            assertTrue(seqScans.isEmpty(), query + ": Seq Scan em " + seqScans + "\n" + plan.toPrettyString());
+            buffers += root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+        }
+        assertTrue(buffers <= bufferBudget,
+                query + ": " + buffers + " buffers, orçamento de " + bufferBudget + "\n" + plans);
+        return plans;
+    }
+
+    private static void assertNoRelations(String query, List<JsonNode> plans, String... relations) {
+        for (JsonNode plan : plans) {
+            List<String> touched = new ArrayList<>();
+            collectRelations(plan.path("Plan"), touched);
+            touched.retainAll(List.of(relations));
+            assertTrue(touched.isEmpty(), query + ": leu " + touched + "\n" + plan.toPrettyString());
+        }
+    }
+
+    private static void collectRelations(JsonNode node, List<String> relations) {
+        if (node.has("Relation Name")) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectRelations(child, relations);
+        }
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, seqScans);
+        }
+    }
+
+    private List<JsonNode> capturePlans(Runnable call) {
+        int from = POSTGRES.getLogs().length();
+        call.run();
+
+        // O plano do marcador delimita o fim dos planos emitidos pela chamada
+        String marker = "query-plan-marker-" + UUID.randomUUID();
+        jdbcTemplate.queryForObject("SELECT '" + marker + "'", String.class);
+        String logs = awaitLogsContaining(marker);
+        int end = logs.lastIndexOf("plan:", logs.indexOf(marker));
+
+        List<JsonNode> plans = new ArrayList<>();
+        char[] chars = logs.toCharArray();
+        for (int header = logs.indexOf("plan:", from); header >= 0 && header < end;
+             header = logs.indexOf("plan:", header + 1)) {
+            int start = logs.indexOf('{', header);
+            try (JsonParser parser = objectMapper.getFactory().createParser(chars, start, chars.length - start)) {
+                plans.add(objectMapper.readTree(parser));
+            } catch (IOException e) {
+                throw new IllegalStateException("Plano ilegível no log do PostgreSQL", e);
+            }
+        }
+        return plans;
+    }
+
+    private String awaitLogsContaining(String marker) {
+        long deadline = System.currentTimeMillis() + LOG_TIMEOUT_MILLIS;
+        while (true) {
+            String logs = POSTGRES.getLogs();
+            if (logs.contains(marker)) {
+                return logs;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                fail("Plano do marcador não apareceu no log do PostgreSQL");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private String busiestCustomer() {
+        return sample("SELECT customer_id FROM order_view GROUP BY customer_id ORDER BY COUNT(*) DESC, customer_id LIMIT 1");
+    }
+
+    private String sample(String sql) {
+        return jdbcTemplate.queryForObject(sql, String.class);
+    }
+}
@@ -3,18 +3,40 @@ package br.com.delivery.infrastructure.persistence.adapter;
 import br.com.delivery.domain.entity.Order;
 import br.com.delivery.domain.valueobject.OrderItem;
 import br.com.delivery.infrastructure.persistence.entity.OrderEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderItemEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderViewEntity;
+import br.com.delivery.infrastructure.persistence.groupcommit.OrderGroupCommitProperties;
+import br.com.delivery.infrastructure.persistence.groupcommit.OrderGroupCommitWriter;
 import br.com.delivery.infrastructure.persistence.repository.OrderJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.OrderViewJpaRepository;
+import br.com.delivery.infrastructure.persistence.routing.ReadYourWritesTracker;
+import br.com.delivery.infrastructure.persistence.routing.ReplicaDataSources;
+import br.com.delivery.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,7 +50,21 @@ class OrderRepositoryAdapterTest {
     @Mock
     private OrderJpaRepository jpaRepository;
 
-    @InjectMocks
+    @Mock
+    private OrderViewJpaRepository viewRepository;
+
+    @Mock
+    private SalesRollupRepositoryAdapter salesRollup;
+
+    @Mock
+    private ObjectProvider<OrderGroupCommitWriter> groupCommitWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
     private OrderRepositoryAdapter orderRepositoryAdapter;
 
     private Order order;
@@ -36,6 +72,9 @@ class OrderRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
+        orderRepositoryAdapter = new OrderRepositoryAdapter(jpaRepository, viewRepository, salesRollup,
+                groupCommitWriter, readYourWritesTracker, transactionManager);
+
         List<OrderItem> items = Arrays.asList(
             new OrderItem("product-1", 2, new BigDecimal("29.99")),
             new OrderItem("product-2", 1, new BigDecimal("15.50"))
@@ -62,6 +101,134 @@ class OrderRepositoryAdapterTest {
         assertEquals(Order.OrderStatus.CREATED, savedOrder.getStatus());
 
         verify(jpaRepository).save(any(OrderEntity.class));
+        verify(viewRepository).save(any(OrderViewEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve somar pedido novo à consolidação de vendas")
+    void shouldRecordNewOrderInSalesRollup() {
+        // Given
+        OrderEntity saved = entityWithItem(Order.OrderStatus.CREATED);
+        when(viewRepository.findForUpdate("order-123")).thenReturn(Optional.empty());
+        when(jpaRepository.save(any(OrderEntity.class))).thenReturn(saved);
+
+        // When
+        orderRepositoryAdapter.save(order);
+
+        // Then
+        verify(salesRollup).recordCreated(saved);
+        verify(salesRollup, never()).recordStatusChange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve mover pedido existente entre status na consolidação de vendas")
+    void shouldRecordStatusChangeInSalesRollup() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 27, 10, 30);
+        OrderViewEntity previous = new OrderViewEntity("order-123", "customer-456", Order.OrderStatus.CREATED,
+                new BigDecimal("75.48"), List.of(), createdAt, createdAt);
+        OrderEntity saved = entityWithItem(Order.OrderStatus.CONFIRMED);
+        when(viewRepository.findForUpdate("order-123")).thenReturn(Optional.of(previous));
+        when(jpaRepository.save(any(OrderEntity.class))).thenReturn(saved);
+        order.advanceTo(Order.OrderStatus.CONFIRMED);
+
+        // When
+        orderRepositoryAdapter.save(order);
+
+        // Then
+        verify(salesRollup).recordStatusChange(saved, createdAt, Order.OrderStatus.CREATED);
+        verify(salesRollup, never()).recordCreated(any());
+    }
+
+    @Test
+    @DisplayName("Deve entregar pedido novo ao group commit fora de uma transação")
+    void shouldCreateOrderThroughGroupCommit() {
+        // Given
+        OrderGroupCommitWriter writer = mock(OrderGroupCommitWriter.class);
+        when(groupCommitWriter.getIfAvailable()).thenReturn(writer);
+
+        // When
+        Order created = orderRepositoryAdapter.create(order);
+
+        // Then
+        assertEquals("order-123", created.getId());
+        assertEquals(2, created.getItems().size());
+        ArgumentCaptor<OrderEntity> submitted = ArgumentCaptor.forClass(OrderEntity.class);
+        verify(writer).submit(submitted.capture());
+        assertEquals("customer-456", submitted.getValue().getCustomerId());
+        assertEquals(2, submitted.getValue().getItems().size());
+        verifyNoInteractions(jpaRepository, viewRepository, salesRollup);
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário logo após criar um pedido pelo group commit")
+    void shouldReadFromPrimaryAfterCreatingThroughGroupCommit() throws InterruptedException {
+        // Given
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(30));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                database("ryw_primary", "primary"),
+                new ReplicaDataSources(Map.of("replica-0", database("ryw_replica", "replica")),
+                        Duration.ofSeconds(1), Duration.ZERO),
+                tracker));
+        OrderGroupCommitProperties properties = new OrderGroupCommitProperties();
+        properties.setTimeout(Duration.ofSeconds(5));
+        // O commit do lote acontece na thread gravadora, onde não há cliente associado
+        OrderGroupCommitWriter writer = new OrderGroupCommitWriter(mock(JdbcTemplate.class), salesRollup,
+                new ObjectMapper(), new DataSourceTransactionManager(dataSource), properties);
+        when(groupCommitWriter.getIfAvailable()).thenReturn(writer);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("readYourWritesTracker", tracker));
+        OrderRepositoryAdapter adapter = new OrderRepositoryAdapter(jpaRepository, viewRepository, salesRollup,
+                groupCommitWriter, beanFactory.getBeanProvider(ReadYourWritesTracker.class), transactionManager);
+
+        try {
+            tracker.bind("sub:writer");
+
+            // When
+            adapter.create(order);
+
+            // Then
+            TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            readOnly.setReadOnly(true);
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class)));
+        } finally {
+            tracker.unbind();
+            writer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve traduzir violação da chave estrangeira do cliente em cliente não encontrado")
+    void shouldTranslateCustomerForeignKeyViolation() {
+        // Given
+        OrderGroupCommitWriter writer = mock(OrderGroupCommitWriter.class);
+        when(groupCommitWriter.getIfAvailable()).thenReturn(writer);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "insert or update on table \"orders\" violates foreign key constraint \"orders_customer_id_fkey\"");
+        doThrow(violation).when(writer).submit(any(OrderEntity.class));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderRepositoryAdapter.create(order));
+        assertEquals("Cliente não encontrado", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve gravar pedido novo na transação corrente com o group commit desligado")
+    void shouldCreateOrderInlineWhenGroupCommitIsDisabled() {
+        // Given
+        OrderEntity saved = entityWithItem(Order.OrderStatus.CREATED);
+        when(groupCommitWriter.getIfAvailable()).thenReturn(null);
+        when(jpaRepository.saveAndFlush(any(OrderEntity.class))).thenReturn(saved);
+
+        // When
+        Order created = orderRepositoryAdapter.create(order);
+
+        // Then
+        assertEquals("order-123", created.getId());
+        verify(viewRepository).save(any(OrderViewEntity.class));
+        verify(salesRollup).recordCreated(saved);
+        verify(viewRepository, never()).findForUpdate(any());
     }
 
     @Test
@@ -194,4 +361,19 @@ class OrderRepositoryAdapterTest {
         assertEquals("customer-456", domainOrder.getCustomerId());
         assertEquals(Order.OrderStatus.CREATED, domainOrder.getStatus());
     }
+
+    private static OrderEntity entityWithItem(Order.OrderStatus status) {
+        OrderEntity entity = new OrderEntity("order-123", "customer-456", status, new BigDecimal("59.98"));
+        entity.addItem(new OrderItemEntity(entity, "product-1", 2, new BigDecimal("29.99")));
+        return entity;
+    }
+
+    private static DataSource database(String name, String node) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", node);
+        return dataSource;
+    }
 }
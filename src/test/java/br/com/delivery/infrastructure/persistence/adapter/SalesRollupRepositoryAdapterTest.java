@@ -0,0 +1,138 @@
+package br.com.delivery.infrastructure.persistence.adapter;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.persistence.entity.OrderEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderItemEntity;
+import br.com.delivery.infrastructure.persistence.repository.SalesDailyProductJpaRepository;
+import br.com.delivery.infrastructure.persistence.repository.SalesDailyStatusJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do SalesRollupRepositoryAdapter")
+class SalesRollupRepositoryAdapterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 27, 10, 30);
+    private static final LocalDate DAY = CREATED_AT.toLocalDate();
+
+    @Mock
+    private SalesDailyStatusJpaRepository statusRepository;
+
+    @Mock
+    private SalesDailyProductJpaRepository productRepository;
+
+    @InjectMocks
+    private SalesRollupRepositoryAdapter salesRollup;
+
+    @Test
+    @DisplayName("Deve incrementar buckets existentes com um único UPDATE")
+    void shouldIncrementExistingBuckets() {
+        // Given
+        OrderEntity order = order(Order.OrderStatus.CREATED);
+        when(statusRepository.increment(any(), any(), anyLong(), any())).thenReturn(1);
+        when(productRepository.increment(any(), any(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // When
+        salesRollup.recordCreated(order);
+
+        // Then
+        verify(statusRepository).increment(DAY, Order.OrderStatus.CREATED, 1, new BigDecimal("75.48"));
+        verify(statusRepository, never()).createIfAbsent(any(), any());
+        // product-1 aparece em dois itens e conta como um pedido
+        verify(productRepository).increment(DAY, "product-1", 1, 3, new BigDecimal("59.98"));
+        verify(productRepository).increment(DAY, "product-2", 1, 1, new BigDecimal("15.50"));
+        verify(productRepository, never()).createIfAbsent(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve criar o bucket quando ainda não existe e incrementar de novo")
+    void shouldCreateMissingBucketThenIncrement() {
+        // Given
+        OrderEntity order = order(Order.OrderStatus.CREATED);
+        when(statusRepository.increment(any(), any(), anyLong(), any())).thenReturn(0, 1);
+        when(productRepository.increment(any(), any(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // When
+        salesRollup.recordCreated(order);
+
+        // Then
+        verify(statusRepository).createIfAbsent(DAY, "CREATED");
+        verify(statusRepository, times(2)).increment(DAY, Order.OrderStatus.CREATED, 1, new BigDecimal("75.48"));
+    }
+
+    @Test
+    @DisplayName("Deve mover o pedido entre status no dia em que foi criado")
+    void shouldMoveOrderBetweenStatusBuckets() {
+        // Given
+        OrderEntity order = order(Order.OrderStatus.CONFIRMED);
+        when(statusRepository.increment(any(), any(), anyLong(), any())).thenReturn(1);
+
+        // When
+        salesRollup.recordStatusChange(order, CREATED_AT, Order.OrderStatus.CREATED);
+
+        // Then
+        verify(statusRepository).increment(DAY, Order.OrderStatus.CREATED, -1, new BigDecimal("-75.48"));
+        verify(statusRepository).increment(DAY, Order.OrderStatus.CONFIRMED, 1, new BigDecimal("75.48"));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retirar pedido cancelado dos buckets por produto")
+    void shouldSubtractCanceledOrderFromProductBuckets() {
+        // Given
+        OrderEntity order = order(Order.OrderStatus.CANCELED);
+        when(statusRepository.increment(any(), any(), anyLong(), any())).thenReturn(1);
+        when(productRepository.increment(any(), any(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // When
+        salesRollup.recordStatusChange(order, CREATED_AT, Order.OrderStatus.CONFIRMED);
+
+        // Then
+        verify(statusRepository).increment(DAY, Order.OrderStatus.CANCELED, 1, new BigDecimal("75.48"));
+        verify(productRepository).increment(DAY, "product-1", -1, -3, new BigDecimal("-59.98"));
+        verify(productRepository).increment(DAY, "product-2", -1, -1, new BigDecimal("-15.50"));
+    }
+
+    @Test
+    @DisplayName("Deve agregar um lote de pedidos em um UPDATE por bucket")
+    void shouldAggregateBatchIntoOneUpdatePerBucket() {
+        // Given
+        OrderEntity canceled = order(Order.OrderStatus.CANCELED);
+        when(statusRepository.increment(any(), any(), anyLong(), any())).thenReturn(1);
+        when(productRepository.increment(any(), any(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        // When
+        salesRollup.recordAllCreated(List.of(order(Order.OrderStatus.CREATED), order(Order.OrderStatus.CREATED),
+                canceled));
+
+        // Then
+        verify(statusRepository).increment(DAY, Order.OrderStatus.CREATED, 2, new BigDecimal("150.96"));
+        verify(statusRepository).increment(DAY, Order.OrderStatus.CANCELED, 1, new BigDecimal("75.48"));
+        // Pedidos cancelados não entram nos buckets por produto
+        verify(productRepository).increment(DAY, "product-1", 2, 6, new BigDecimal("119.96"));
+        verify(productRepository).increment(DAY, "product-2", 2, 2, new BigDecimal("31.00"));
+        verifyNoMoreInteractions(statusRepository, productRepository);
+    }
+
+    private static OrderEntity order(Order.OrderStatus status) {
+        OrderEntity entity = new OrderEntity("order-123", "customer-456", status, new BigDecimal("75.48"));
+        entity.setCreatedAt(CREATED_AT);
+        entity.addItem(new OrderItemEntity(entity, "product-1", 2, new BigDecimal("19.99")));
+        entity.addItem(new OrderItemEntity(entity, "product-1", 1, new BigDecimal("20.00")));
+        entity.addItem(new OrderItemEntity(entity, "product-2", 1, new BigDecimal("15.50")));
+        return entity;
+    }
+}
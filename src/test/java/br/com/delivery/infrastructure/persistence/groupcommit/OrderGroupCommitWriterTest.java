@@ -0,0 +1,118 @@
+package br.com.delivery.infrastructure.persistence.groupcommit;
+
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.persistence.adapter.SalesRollupRepositoryAdapter;
+import br.com.delivery.infrastructure.persistence.entity.OrderEntity;
+import br.com.delivery.infrastructure.persistence.entity.OrderItemEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do OrderGroupCommitWriter")
+class OrderGroupCommitWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SalesRollupRepositoryAdapter salesRollup;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderGroupCommitWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        OrderGroupCommitProperties properties = new OrderGroupCommitProperties();
+        properties.setTimeout(Duration.ofSeconds(5));
+        writer = new OrderGroupCommitWriter(jdbcTemplate, salesRollup, new ObjectMapper(), transactionManager,
+                properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar pedido, itens e projeção em lote e somar às consolidações")
+    @SuppressWarnings("unchecked")
+    void shouldInsertOrderItemsAndView() {
+        // Given
+        OrderEntity order = order("order-1");
+
+        // When
+        writer.submit(order);
+
+        // Then
+        ArgumentCaptor<List<Object[]>> orders = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> items = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> views = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(OrderGroupCommitWriter.INSERT_ORDER), orders.capture());
+        verify(jdbcTemplate).batchUpdate(eq(OrderGroupCommitWriter.INSERT_ITEM), items.capture());
+        verify(jdbcTemplate).batchUpdate(eq(OrderGroupCommitWriter.INSERT_VIEW), views.capture());
+        verify(salesRollup).recordAllCreated(List.of(order));
+
+        assertEquals(1, orders.getValue().size());
+        assertEquals("CREATED", orders.getValue().get(0)[2]);
+        assertEquals(2, items.getValue().size());
+        assertEquals("product-2", items.getValue().get(1)[1]);
+        assertEquals(new BigDecimal("15.50"), items.getValue().get(1)[4]);
+        assertEquals(2, views.getValue().get(0)[4]);
+        assertEquals("[{\"p\":\"product-1\",\"q\":2,\"u\":29.99},{\"p\":\"product-2\",\"q\":1,\"u\":15.50}]",
+                views.getValue().get(0)[5]);
+    }
+
+    @Test
+    @DisplayName("Deve propagar ao chamador a falha definitiva do commit sem marcá-la como repetível")
+    void shouldFailCallerWhenCommitFails() {
+        // Given
+        OrderEntity order = new OrderEntity("order-2", "customer-inexistente", Order.OrderStatus.CREATED,
+                BigDecimal.TEN);
+        doThrow(new DataIntegrityViolationException("fk_orders_customer")).when(salesRollup).recordAllCreated(anyList());
+
+        // When / Then
+        assertThrows(DataIntegrityViolationException.class, () -> writer.submit(order));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como repetível a falha transitória do commit")
+    void shouldRejectAsRetryableWhenCommitFailsTransiently() {
+        // Given
+        OrderEntity order = order("order-3");
+        doThrow(new CannotAcquireLockException("lock timeout")).when(salesRollup).recordAllCreated(anyList());
+
+        // When / Then
+        GroupCommitRejectedException exception = assertThrows(GroupCommitRejectedException.class,
+                () -> writer.submit(order));
+        assertInstanceOf(CannotAcquireLockException.class, exception.getCause());
+    }
+
+    private static OrderEntity order(String id) {
+        OrderEntity order = new OrderEntity(id, "customer-1", Order.OrderStatus.CREATED, new BigDecimal("75.48"));
+        order.addItem(new OrderItemEntity(order, "product-1", 2, new BigDecimal("29.99")));
+        order.addItem(new OrderItemEntity(order, "product-2", 1, new BigDecimal("15.50")));
+        return order;
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.delivery.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.unbind();
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura para a réplica")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // Given
+        DataSource dataSource = routing(Map.of("replica-0", database("replica_ok", "replica")));
+
+        // When & Then
+        assertEquals("replica", currentNode(dataSource, true));
+        assertEquals("primary", currentNode(dataSource, false));
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário logo após uma escrita do mesmo cliente")
+    void shouldReadFromPrimaryWithinReadYourWritesWindow() {
+        // Given
+        DataSource dataSource = routing(Map.of("replica-0", database("replica_ryw", "replica")));
+
+        // When
+        tracker.bind("sub:writer");
+        currentNode(dataSource, false);
+
+        // Then
+        assertEquals("primary", currentNode(dataSource, true));
+
+        tracker.bind("sub:other-client");
+        assertEquals("replica", currentNode(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário quando a réplica está indisponível")
+    void shouldFallBackToPrimaryWhenReplicaIsDown() {
+        // Given
+        DriverManagerDataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable");
+        ReplicaDataSources replicas = new ReplicaDataSources(Map.of("replica-0", unreachable), Duration.ofSeconds(1), Duration.ZERO);
+        DataSource dataSource = routing(replicas);
+
+        // When & Then
+        assertEquals("primary", currentNode(dataSource, true));
+        assertTrue(replicas.healthyKeys().isEmpty());
+    }
+
+    private DataSource routing(Map<String, DataSource> replicaMap) {
+        return routing(new ReplicaDataSources(replicaMap, Duration.ofSeconds(1), Duration.ZERO));
+    }
+
+    private DataSource routing(ReplicaDataSources replicas) {
+        DataSource primary = database("primary", "primary");
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas, tracker));
+    }
+
+    private String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        return transaction.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private DataSource database(String name, String node) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", node);
+        return dataSource;
+    }
+}
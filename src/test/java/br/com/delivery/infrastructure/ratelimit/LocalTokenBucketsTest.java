@@ -0,0 +1,82 @@
+package br.com.delivery.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do LocalTokenBuckets")
+class LocalTokenBucketsTest {
+
+    private static final RateLimitProperties.Limit LIMIT = new RateLimitProperties.Limit(3, 10);
+
+    private AtomicLong now;
+    private LocalTokenBuckets buckets;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        buckets = new LocalTokenBuckets(now::get);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a rajada da capacidade e rejeitar informando quando há nova permissão")
+    void shouldAllowBurstThenReject() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertTrue(buckets.tryAcquire("client-a|GET /v1/orders", LIMIT).allowed());
+        }
+
+        // When
+        RateLimiter.Decision rejected = buckets.tryAcquire("client-a|GET /v1/orders", LIMIT);
+
+        // Then
+        assertFalse(rejected.allowed());
+        // 10 permissões por segundo: a próxima em 100 ms
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), rejected.retryAfterNanos());
+        assertTrue(buckets.tryAcquire("client-b|GET /v1/orders", LIMIT).allowed());
+    }
+
+    @Test
+    @DisplayName("Deve repor as permissões com o tempo sem passar da capacidade")
+    void shouldRefillOverTime() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            buckets.tryAcquire("client-a|GET /v1/orders", LIMIT);
+        }
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        boolean afterOneInterval = buckets.tryAcquire("client-a|GET /v1/orders", LIMIT).allowed();
+        boolean secondAfterOneInterval = buckets.tryAcquire("client-a|GET /v1/orders", LIMIT).allowed();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        int burstAfterIdle = 0;
+        while (buckets.tryAcquire("client-a|GET /v1/orders", LIMIT).allowed()) {
+            burstAfterIdle++;
+        }
+
+        // Then
+        assertTrue(afterOneInterval);
+        assertFalse(secondAfterOneInterval);
+        assertEquals(3, burstAfterIdle);
+    }
+
+    @Test
+    @DisplayName("Deve descartar só os baldes que já voltaram a ficar cheios")
+    void shouldEvictOnlyFullBuckets() {
+        // Given
+        buckets.tryAcquire("client-a|GET /v1/orders", LIMIT);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        buckets.tryAcquire("client-b|GET /v1/orders", LIMIT);
+
+        // When
+        buckets.evictIdle();
+
+        // Then
+        assertEquals(1, buckets.size());
+    }
+}
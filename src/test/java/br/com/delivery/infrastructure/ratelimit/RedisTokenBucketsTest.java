@@ -0,0 +1,101 @@
+package br.com.delivery.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do RedisTokenBuckets")
+class RedisTokenBucketsTest {
+
+    private static final RateLimitProperties.Limit LIMIT = new RateLimitProperties.Limit(100, 50);
+    private static final String KEY = "client-a|GET /v1/orders";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RateLimiter fallback;
+
+    private AtomicLong now;
+    private RedisTokenBuckets buckets;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        buckets = new RedisTokenBuckets(redisTemplate, fallback, new RateLimitProperties(), now::get);
+    }
+
+    @Test
+    @DisplayName("Deve reservar um lote no Redis e consumi-lo localmente")
+    void shouldConsumePrefetchedPermitsLocally() {
+        // Given
+        when(redisTemplate.execute(eq(RedisTokenBuckets.TAKE), eq(List.of("delivery:ratelimit:" + KEY)),
+                eq("100"), eq("0.05"), eq("10"))).thenReturn(List.of(10L, 0L));
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            allowed += buckets.tryAcquire(KEY, LIMIT).allowed() ? 1 : 0;
+        }
+
+        // Then
+        assertEquals(10, allowed);
+        verify(redisTemplate, times(1)).execute(eq(RedisTokenBuckets.TAKE), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar localmente até o Retry-After informado pelo Redis")
+    void shouldRejectLocallyUntilRetryAfter() {
+        // Given
+        when(redisTemplate.execute(eq(RedisTokenBuckets.TAKE), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 200L))
+                .thenReturn(List.of(1L, 0L));
+
+        // When
+        RateLimiter.Decision first = buckets.tryAcquire(KEY, LIMIT);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+        RateLimiter.Decision beforeRetry = buckets.tryAcquire(KEY, LIMIT);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        RateLimiter.Decision afterRetry = buckets.tryAcquire(KEY, LIMIT);
+
+        // Then
+        assertFalse(first.allowed());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), first.retryAfterNanos());
+        assertFalse(beforeRetry.allowed());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), beforeRetry.retryAfterNanos());
+        assertTrue(afterRetry.allowed());
+        verify(redisTemplate, times(2)).execute(eq(RedisTokenBuckets.TAKE), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Deve usar o balde local quando o Redis não responde")
+    void shouldFallBackToLocalBucketsWhenRedisFails() {
+        // Given
+        when(redisTemplate.execute(eq(RedisTokenBuckets.TAKE), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Redis fora"));
+        when(fallback.tryAcquire(KEY, LIMIT)).thenReturn(RateLimiter.Decision.ALLOWED);
+
+        // When
+        RateLimiter.Decision decision = buckets.tryAcquire(KEY, LIMIT);
+
+        // Then
+        assertTrue(decision.allowed());
+        verify(fallback).tryAcquire(KEY, LIMIT);
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.delivery.infrastructure.security;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do CachingJwtDecoder")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-27T10:30:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Test
+    @DisplayName("Deve verificar o token uma única vez enquanto não expirar")
+    void shouldVerifyTokenOnlyOnceUntilExpiry() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clockAt(NOW));
+        Jwt jwt = jwt("token-1", NOW.plusSeconds(60));
+        when(delegate.decode("token-1")).thenReturn(jwt);
+
+        // When
+        Jwt first = decoder.decode("token-1");
+        Jwt second = decoder.decode("token-1");
+
+        // Then
+        assertSame(jwt, first);
+        assertSame(jwt, second);
+        verify(delegate, times(1)).decode("token-1");
+    }
+
+    @Test
+    @DisplayName("Deve verificar novamente depois do exp")
+    void shouldVerifyAgainAfterExpiry() {
+        // Given
+        MutableClock clock = new MutableClock(NOW);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clock);
+        when(delegate.decode("token-1")).thenReturn(jwt("token-1", NOW.plusSeconds(60)));
+        decoder.decode("token-1");
+
+        // When
+        clock.instant = NOW.plusSeconds(61);
+        decoder.decode("token-1");
+
+        // Then
+        verify(delegate, times(2)).decode("token-1");
+    }
+
+    @Test
+    @DisplayName("Não deve guardar tokens rejeitados")
+    void shouldNotCacheRejectedTokens() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clockAt(NOW));
+        when(delegate.decode("forged")).thenThrow(new BadJwtException("assinatura inválida"));
+
+        // When & Then
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+        verify(delegate, times(2)).decode("forged");
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo do cache")
+    void shouldRespectMaxSize() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 1, clockAt(NOW));
+        when(delegate.decode("token-1")).thenReturn(jwt("token-1", NOW.plusSeconds(60)));
+        when(delegate.decode("token-2")).thenReturn(jwt("token-2", NOW.plusSeconds(60)));
+
+        // When
+        decoder.decode("token-1");
+        decoder.decode("token-2");
+        decoder.decode("token-1");
+        decoder.decode("token-2");
+
+        // Then
+        verify(delegate, times(1)).decode("token-1");
+        verify(delegate, times(2)).decode("token-2");
+    }
+
+    @Test
+    @DisplayName("Deve abrir um span por verificação indicando se a assinatura veio do cache")
+    void shouldObserveEachDecodeWithCacheOutcome() {
+        // Given
+        List<Observation.Context> stopped = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+        });
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, registry, clockAt(NOW));
+        when(delegate.decode("token-1")).thenReturn(jwt("token-1", NOW.plusSeconds(60)));
+        when(delegate.decode("forged")).thenThrow(new BadJwtException("assinatura inválida"));
+
+        // When
+        decoder.decode("token-1");
+        decoder.decode("token-1");
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+
+        // Then
+        assertEquals(3, stopped.size());
+        assertEquals("delivery.jwt.verification", stopped.get(0).getName());
+        assertEquals(List.of("miss", "hit", "miss"),
+                stopped.stream().map(context -> context.getLowCardinalityKeyValue("cache").getValue()).toList());
+        assertNull(stopped.get(1).getError());
+        assertInstanceOf(BadJwtException.class, stopped.get(2).getError());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("user-1")
+                .issuedAt(NOW.minusSeconds(10))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static Clock clockAt(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.delivery.infrastructure.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do PrefetchedJwkSource")
+class PrefetchedJwkSourceTest {
+
+    private RSAKey key1;
+    private RSAKey key2;
+    private AtomicReference<JWKSet> issuer;
+    private AtomicInteger fetches;
+    private PrefetchedJwkSource jwkSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        key1 = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        key2 = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        issuer = new AtomicReference<>(new JWKSet(key1.toPublicJWK()));
+        fetches = new AtomicInteger();
+        jwkSource = new PrefetchedJwkSource(() -> {
+            fetches.incrementAndGet();
+            JWKSet keys = issuer.get();
+            if (keys == null) {
+                throw new IOException("issuer fora do ar");
+            }
+            return keys;
+        }, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Deve servir as chaves buscadas na inicialização sem nova busca")
+    void shouldServePrefetchedKeys() throws Exception {
+        // Given
+        jwkSource.refresh();
+
+        // When
+        int found = jwkSource.get(selectorFor("key-1"), null).size();
+        jwkSource.get(selectorFor("key-1"), null);
+
+        // Then
+        assertEquals(1, found);
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Deve manter as últimas chaves válidas quando o issuer está fora do ar")
+    void shouldKeepLastGoodKeysWhenIssuerIsDown() throws Exception {
+        // Given
+        jwkSource.refresh();
+        issuer.set(null);
+
+        // When
+        jwkSource.refresh();
+
+        // Then
+        assertEquals(1, jwkSource.get(selectorFor("key-1"), null).size());
+    }
+
+    @Test
+    @DisplayName("Deve buscar novamente quando o kid é desconhecido")
+    void shouldRefreshOnUnknownKeyId() throws Exception {
+        // Given
+        jwkSource.refresh();
+        issuer.set(new JWKSet(key2.toPublicJWK()));
+
+        // When
+        int found = jwkSource.get(selectorFor("key-2"), null).size();
+
+        // Then
+        assertEquals(1, found);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Deve limitar as buscas disparadas por kid desconhecido")
+    void shouldRateLimitRefreshOnUnknownKeyId() throws Exception {
+        // Given
+        PrefetchedJwkSource limited = new PrefetchedJwkSource(() -> {
+            fetches.incrementAndGet();
+            return issuer.get();
+        }, Duration.ofMinutes(1));
+        limited.refresh();
+
+        // When
+        limited.get(selectorFor("unknown"), null);
+        limited.get(selectorFor("unknown"), null);
+
+        // Then
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando nenhuma chave pôde ser carregada")
+    void shouldFailWhenNoKeysWereEverLoaded() {
+        // Given
+        issuer.set(null);
+        jwkSource.refresh();
+
+        // When & Then
+        assertThrows(KeySourceException.class, () -> jwkSource.get(selectorFor("key-1"), null));
+    }
+
+    private static JWKSelector selectorFor(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+}
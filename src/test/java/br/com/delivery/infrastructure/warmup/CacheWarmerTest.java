@@ -0,0 +1,104 @@
+package br.com.delivery.infrastructure.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do CacheWarmer")
+class CacheWarmerTest {
+
+    @Mock
+    private HotKeyTracker tracker;
+
+    private CacheWarmupProperties properties;
+    private MeterRegistry meterRegistry;
+    private List<String> loaded;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheWarmupProperties();
+        properties.setKeysPerSecond(1000);
+        meterRegistry = new SimpleMeterRegistry();
+        loaded = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Deve carregar as chaves quentes intercalando os caches e publicar o andamento")
+    void shouldLoadHotKeysAndReportProgress() {
+        // Given
+        when(tracker.hotKeys("customer")).thenReturn(List.of("c-1", "c-2", "c-3"));
+        when(tracker.hotKeys("order")).thenReturn(List.of("o-1"));
+        CacheWarmer warmer = new CacheWarmer(tracker, Map.of(
+                "customer", loader("customer", key -> key.equals("c-3") ? Optional.empty() : Optional.of(key)),
+                "order", loader("order", key -> {
+                    throw new IllegalStateException("banco indisponível");
+                })), properties, meterRegistry);
+
+        // When
+        warmer.warmUp();
+
+        // Then
+        assertEquals(List.of("customer:c-1", "order:o-1", "customer:c-2", "customer:c-3"), loaded);
+        assertEquals(2, count("customer", "loaded"));
+        assertEquals(1, count("customer", "missing"));
+        assertEquals(1, count("order", "failed"));
+        assertEquals(0, meterRegistry.get("delivery.cache.warmup.pending").gauge().value());
+        assertEquals(1.0, meterRegistry.get("delivery.cache.warmup.progress").gauge().value());
+        assertEquals(1, meterRegistry.get("delivery.cache.warmup.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o ritmo máximo e parar no tempo limite")
+    void shouldThrottleAndStopAtDeadline() {
+        // Given
+        properties.setKeysPerSecond(20);
+        properties.setMaxDuration(Duration.ofMillis(120));
+        when(tracker.hotKeys("customer")).thenReturn(List.of("c-1", "c-2", "c-3", "c-4", "c-5", "c-6", "c-7", "c-8"));
+        when(tracker.hotKeys("order")).thenReturn(List.of());
+        CacheWarmer warmer = new CacheWarmer(tracker, Map.of(
+                "customer", loader("customer", Optional::of),
+                "order", loader("order", Optional::of)), properties, meterRegistry);
+
+        // When
+        long start = System.nanoTime();
+        warmer.warmUp();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        // Uma chave a cada 50 ms: cabem as de 0, 50 e 100 ms antes dos 120 ms
+        assertEquals(List.of("customer:c-1", "customer:c-2", "customer:c-3"), loaded);
+        assertTrue(elapsedMillis >= 100, "carregamentos deveriam ser espaçados: " + elapsedMillis + " ms");
+        assertEquals(5, count("customer", "skipped"));
+    }
+
+    private Function<String, Optional<?>> loader(String cacheName, Function<String, Optional<?>> load) {
+        return key -> {
+            loaded.add(cacheName + ":" + key);
+            return load.apply(key);
+        };
+    }
+
+    private double count(String cacheName, String outcome) {
+        return meterRegistry.get("delivery.cache.warmup.keys")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.delivery.infrastructure.warmup;
+
+import br.com.delivery.infrastructure.persistence.entity.HotKeyCounter;
+import br.com.delivery.infrastructure.persistence.entity.HotKeyListEntity;
+import br.com.delivery.infrastructure.persistence.repository.HotKeyListJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do HotKeyTracker")
+class HotKeyTrackerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 27, 10, 0);
+
+    @Mock
+    private HotKeyListJpaRepository hotKeyLists;
+
+    private CacheWarmupProperties properties;
+    private HotKeyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheWarmupProperties();
+        properties.setMaxKeys(2);
+        properties.setTrackingCapacity(3);
+        tracker = new HotKeyTracker(hotKeyLists, properties, "node-a",
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Deve gravar as chaves mais lidas de cada cache e dividir as contagens a cada checkpoint")
+    @SuppressWarnings("unchecked")
+    void shouldCheckpointHottestKeysAndDecay() {
+        // Given
+        read("customer", "c-1", 5);
+        read("customer", "c-2", 3);
+        read("customer", "c-3", 1);
+        read("order", "o-1", 2);
+        read("products", "p-1", 9);
+
+        // When
+        tracker.checkpoint();
+        tracker.checkpoint();
+
+        // Then
+        ArgumentCaptor<List<HotKeyListEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(hotKeyLists, times(2)).saveAll(saved.capture());
+        assertEquals(List.of("c-1:5", "c-2:3"), counters(saved.getAllValues().get(0), "customer"));
+        assertEquals(List.of("o-1:2"), counters(saved.getAllValues().get(0), "order"));
+        // Metade da contagem anterior; c-3 (1 leitura) zerou e saiu
+        assertEquals(List.of("c-1:2", "c-2:1"), counters(saved.getAllValues().get(1), "customer"));
+        assertEquals(List.of("o-1:1"), counters(saved.getAllValues().get(1), "order"));
+        assertTrue(saved.getAllValues().get(0).stream().allMatch(list -> list.getNodeId().equals("node-a")));
+        verify(hotKeyLists, times(2)).deleteOlderThan(NOW.minusHours(1));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar chaves novas com o mapa cheio e chaves que não são texto")
+    @SuppressWarnings("unchecked")
+    void shouldIgnoreNewKeysBeyondCapacity() {
+        // Given
+        properties.setMaxKeys(10);
+        read("customer", "c-1", 1);
+        read("customer", "c-2", 1);
+        read("customer", "c-3", 1);
+        read("customer", "c-4", 10);
+        tracker.record("customer", 42L);
+
+        // When
+        tracker.checkpoint();
+
+        // Then
+        ArgumentCaptor<List<HotKeyListEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(hotKeyLists).saveAll(saved.capture());
+        assertEquals(List.of("c-1:1", "c-2:1", "c-3:1"), counters(saved.getValue(), "customer"));
+    }
+
+    @Test
+    @DisplayName("Deve somar as listas recentes de todos os nós para o aquecimento")
+    void shouldMergeHotKeysFromAllNodes() {
+        // Given
+        when(hotKeyLists.findByCacheNameAndUpdatedAtGreaterThanEqual(eq("customer"), any())).thenReturn(List.of(
+                new HotKeyListEntity("node-a", "customer",
+                        List.of(new HotKeyCounter("c-1", 10), new HotKeyCounter("c-2", 4)), NOW),
+                new HotKeyListEntity("node-b", "customer",
+                        List.of(new HotKeyCounter("c-2", 8), new HotKeyCounter("c-3", 1)), NOW)));
+
+        // When
+        List<String> hotKeys = tracker.hotKeys("customer");
+
+        // Then
+        assertEquals(List.of("c-2", "c-1"), hotKeys);
+        verify(hotKeyLists).findByCacheNameAndUpdatedAtGreaterThanEqual("customer", NOW.minusHours(1));
+    }
+
+    private void read(String cacheName, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(cacheName, key);
+        }
+    }
+
+    private static List<String> counters(List<HotKeyListEntity> lists, String cacheName) {
+        return lists.stream()
+                .filter(list -> list.getCacheName().equals(cacheName))
+                .flatMap(list -> list.getCounters().stream())
+                .map(counter -> counter.getKey() + ":" + counter.getCount())
+                .toList();
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.delivery.infrastructure.web.bulk;
+
+import br.com.delivery.application.dto.CustomerImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do BulkRecordReader")
+class BulkRecordReaderTest {
+
+    private static final List<String> CUSTOMER_COLUMNS = List.of("name", "email", "document");
+    private static final BulkRecordReader.RecordFactory<CustomerImportRecord> CUSTOMERS =
+            new BulkRecordReader.RecordFactory<>() {
+                @Override
+                public CustomerImportRecord record(int lineNumber, List<String> values) {
+                    return CustomerImportRecord.of(lineNumber, values.get(0), values.get(1), values.get(2));
+                }
+
+                @Override
+                public CustomerImportRecord unreadable(int lineNumber, String error) {
+                    return CustomerImportRecord.unreadable(lineNumber, error);
+                }
+            };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve ler CSV pelas colunas do cabeçalho, com aspas e CRLF")
+    void shouldReadCsvByHeaderColumns() {
+        // Given
+        String csv = "document,name,email\r\n"
+                + "12345678901,\"Silva, João\",joao@email.com\r\n"
+                + "\r\n"
+                + "98765432100,\"Maria \"\"Mari\"\" Souza\",maria@email.com\r\n";
+
+        // When
+        List<CustomerImportRecord> records = read(new StringReader(csv), BulkRecordReader.Format.CSV);
+
+        // Then
+        assertEquals(2, records.size());
+        assertEquals(2, records.get(0).getLineNumber());
+        assertEquals("Silva, João", records.get(0).getName());
+        assertEquals("joao@email.com", records.get(0).getEmail());
+        assertEquals("12345678901", records.get(0).getDocument());
+        assertEquals(4, records.get(1).getLineNumber());
+        assertEquals("Maria \"Mari\" Souza", records.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("Deve transformar linhas ilegíveis em registros com erro sem interromper a leitura")
+    void shouldReportUnreadableLines() {
+        // Given
+        String ndjson = "{\"name\":\"João Silva\",\"email\":\"joao@email.com\",\"document\":\"12345678901\"}\n"
+                + "{\"name\": \n"
+                + "[1, 2]\n"
+                + "{\"name\":\"x" + "a".repeat(BulkRecordReader.MAX_LINE_LENGTH) + "\"}\n"
+                + "{\"name\":\"Maria Souza\",\"email\":\"maria@email.com\",\"document\":\"98765432100\"}";
+
+        // When
+        List<CustomerImportRecord> records = read(new StringReader(ndjson), BulkRecordReader.Format.NDJSON);
+
+        // Then
+        assertEquals(5, records.size());
+        assertNull(records.get(0).getError());
+        assertEquals("JSON inválido", records.get(1).getError());
+        assertEquals("Linha não é um objeto JSON", records.get(2).getError());
+        assertEquals("Linha excede 8192 caracteres", records.get(3).getError());
+        assertEquals("Maria Souza", records.get(4).getName());
+        assertEquals(5, records.get(4).getLineNumber());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CSV sem as colunas obrigatórias no cabeçalho")
+    void shouldRejectCsvWithoutRequiredColumns() {
+        // Given
+        BulkRecordReader<CustomerImportRecord> reader = new BulkRecordReader<>(
+                new StringReader("name,email\nJoão,joao@email.com\n"), BulkRecordReader.Format.CSV, objectMapper,
+                CUSTOMER_COLUMNS, CUSTOMERS);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, reader::hasNext);
+        assertEquals("Cabeçalho CSV deve ter as colunas name, email, document", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve ler o arquivo sob demanda, sem consumir além da linha pedida")
+    void shouldReadLazily() {
+        // Given
+        CountingReader source = new CountingReader("name,email,document\nJoão,joao@email.com,12345678901\n"
+                + "Maria,maria@email.com,98765432100\n");
+        BulkRecordReader<CustomerImportRecord> reader = new BulkRecordReader<>(source, BulkRecordReader.Format.CSV,
+                objectMapper, CUSTOMER_COLUMNS, CUSTOMERS);
+
+        // When
+        CustomerImportRecord first = reader.next();
+
+        // Then
+        assertEquals("João", first.getName());
+        assertTrue(source.consumed < source.length, "leu " + source.consumed + " de " + source.length);
+    }
+
+    @Test
+    @DisplayName("Deve ler números do NDJSON como texto sem perder casas decimais")
+    void shouldReadJsonNumbersAsPlainText() {
+        // Given
+        String ndjson = "{\"id\":\"sku-1\",\"name\":\"Café\",\"price\":19.90}\n"
+                + "{\"id\":\"sku-2\",\"name\":\"Chá\",\"price\":1E+2}";
+        BulkRecordReader<List<String>> reader = new BulkRecordReader<>(new StringReader(ndjson),
+                BulkRecordReader.Format.NDJSON, objectMapper, List.of("id", "name", "price"),
+                new BulkRecordReader.RecordFactory<>() {
+                    @Override
+                    public List<String> record(int lineNumber, List<String> values) {
+                        return values;
+                    }
+
+                    @Override
+                    public List<String> unreadable(int lineNumber, String error) {
+                        return List.of(error);
+                    }
+                });
+
+        // When
+        List<List<String>> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+
+        // Then
+        assertEquals(List.of("sku-1", "Café", "19.90"), records.get(0));
+        assertEquals(List.of("sku-2", "Chá", "100"), records.get(1));
+    }
+
+    private List<CustomerImportRecord> read(Reader source, BulkRecordReader.Format format) {
+        List<CustomerImportRecord> records = new ArrayList<>();
+        new BulkRecordReader<>(source, format, objectMapper, CUSTOMER_COLUMNS, CUSTOMERS).forEachRemaining(records::add);
+        return records;
+    }
+
+    private static class CountingReader extends StringReader {
+        private final int length;
+        private int consumed;
+
+        CountingReader(String text) {
+            super(text);
+            this.length = text.length();
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c != -1) {
+                consumed++;
+            }
+            return c;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package br.com.delivery.infrastructure.web.controller;
 import br.com.delivery.application.dto.OrderDto;
 import br.com.delivery.application.usecase.ListOrdersUseCase;
 import br.com.delivery.domain.entity.Order;
+import br.com.delivery.infrastructure.web.etag.ResourceVersions;
+import br.com.delivery.infrastructure.web.etag.ResponseBodyCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -19,11 +23,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderController.class)
+@Import(ResponseBodyCache.class)
 class OrderControllerPaginationTest {
 
     @Autowired
@@ -32,6 +39,12 @@ class OrderControllerPaginationTest {
     @MockBean
     private ListOrdersUseCase listOrdersUseCase;
 
+    @MockBean
+    private ResourceVersions resourceVersions;
+
+    @MockBean
+    private CacheManager cacheManager;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -62,6 +75,8 @@ class OrderControllerPaginationTest {
         order3.setCreatedAt(LocalDateTime.now());
 
         orders = Arrays.asList(order1, order2, order3);
+
+        when(resourceVersions.collection(anyString())).thenReturn("v1");
     }
 
     @Test
@@ -69,7 +84,8 @@ class OrderControllerPaginationTest {
     @WithMockUser(authorities = "SCOPE_orders:read")
     void shouldListOrdersWithPaginationFirstPage() throws Exception {
         // Given
-        when(listOrdersUseCase.execute(any())).thenReturn(orders);
+        when(listOrdersUseCase.count(any())).thenReturn(3L);
+        when(listOrdersUseCase.execute(any(), eq(0), eq(2))).thenReturn(orders.subList(0, 2));
 
         // When & Then
         mockMvc.perform(get("/v1/orders")
@@ -91,7 +107,8 @@ class OrderControllerPaginationTest {
     @WithMockUser(authorities = "SCOPE_orders:read")
     void shouldListOrdersWithPaginationLastPage() throws Exception {
         // Given
-        when(listOrdersUseCase.execute(any())).thenReturn(orders);
+        when(listOrdersUseCase.count(any())).thenReturn(3L);
+        when(listOrdersUseCase.execute(any(), eq(1), eq(2))).thenReturn(orders.subList(2, 3));
 
         // When & Then
         mockMvc.perform(get("/v1/orders")
@@ -113,7 +130,8 @@ class OrderControllerPaginationTest {
     @WithMockUser(authorities = "SCOPE_orders:read")
     void shouldListOrdersWithPaginationEmptyPage() throws Exception {
         // Given
-        when(listOrdersUseCase.execute(any())).thenReturn(orders);
+        when(listOrdersUseCase.count(any())).thenReturn(3L);
+        when(listOrdersUseCase.execute(any(), eq(2), eq(2))).thenReturn(Arrays.asList());
 
         // When & Then
         mockMvc.perform(get("/v1/orders")
@@ -138,7 +156,8 @@ class OrderControllerPaginationTest {
         List<OrderDto> confirmedOrders = orders.stream()
                 .filter(order -> order.getStatus() == Order.OrderStatus.CONFIRMED)
                 .toList();
-        when(listOrdersUseCase.execute(Order.OrderStatus.CONFIRMED)).thenReturn(confirmedOrders);
+        when(listOrdersUseCase.count(Order.OrderStatus.CONFIRMED)).thenReturn(2L);
+        when(listOrdersUseCase.execute(Order.OrderStatus.CONFIRMED, 0, 10)).thenReturn(confirmedOrders);
 
         // When & Then
         mockMvc.perform(get("/v1/orders")
@@ -161,7 +180,8 @@ class OrderControllerPaginationTest {
     @WithMockUser(authorities = "SCOPE_orders:read")
     void shouldListOrdersWithEmptyList() throws Exception {
         // Given
-        when(listOrdersUseCase.execute(any())).thenReturn(Arrays.asList());
+        when(listOrdersUseCase.count(any())).thenReturn(0L);
+        when(listOrdersUseCase.execute(any(), eq(0), eq(10))).thenReturn(Arrays.asList());
 
         // When & Then
         mockMvc.perform(get("/v1/orders")
@@ -3,11 +3,17 @@ package br.com.delivery.infrastructure.web.controller;
 import br.com.delivery.application.dto.CreateOrderRequest;
 import br.com.delivery.application.dto.CreateOrderItemRequest;
 import br.com.delivery.application.dto.OrderDto;
+import br.com.delivery.application.dto.OrderIntakeDto;
 import br.com.delivery.application.usecase.CreateOrderUseCase;
+import br.com.delivery.application.usecase.GetOrderIntakeUseCase;
 import br.com.delivery.application.usecase.GetOrderUseCase;
 import br.com.delivery.application.usecase.ListOrdersUseCase;
+import br.com.delivery.application.usecase.SubmitOrderIntakeUseCase;
 import br.com.delivery.application.usecase.UpdateOrderStatusUseCase;
 import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.readmodel.OrderIntakeTicket;
+import br.com.delivery.infrastructure.web.etag.ResourceVersions;
+import br.com.delivery.infrastructure.web.etag.ResponseBodyCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +21,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -25,13 +33,18 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderController.class)
+@Import(ResponseBodyCache.class)
 @DisplayName("Testes do OrderController")
 class OrderControllerTest {
 
@@ -53,6 +66,18 @@ class OrderControllerTest {
     @MockBean
     private UpdateOrderStatusUseCase updateOrderStatusUseCase;
 
+    @MockBean
+    private SubmitOrderIntakeUseCase submitOrderIntakeUseCase;
+
+    @MockBean
+    private GetOrderIntakeUseCase getOrderIntakeUseCase;
+
+    @MockBean
+    private ResourceVersions resourceVersions;
+
+    @MockBean
+    private CacheManager cacheManager;
+
     private CreateOrderRequest createOrderRequest;
     private OrderDto orderDto;
 
@@ -72,6 +97,9 @@ class OrderControllerTest {
         orderDto.setStatus(Order.OrderStatus.CREATED);
         orderDto.setCreatedAt(LocalDateTime.now());
         orderDto.setTotal(new BigDecimal("59.98"));
+
+        when(resourceVersions.entity(anyString(), anyString())).thenReturn("v1");
+        when(resourceVersions.collection(anyString())).thenReturn("v1");
     }
 
     @Test
@@ -93,6 +121,62 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.total").value(59.98));
     }
 
+    @Test
+    @DisplayName("Deve enfileirar pedido e responder 202 com Prefer: respond-async")
+    @WithMockUser(authorities = "SCOPE_orders:write")
+    void shouldAcceptOrderAsynchronously() throws Exception {
+        // Given
+        OrderIntakeDto intake = new OrderIntakeDto();
+        intake.setTicket("ticket-1");
+        intake.setStatus(OrderIntakeTicket.Status.PENDING);
+        when(submitOrderIntakeUseCase.execute(any(CreateOrderRequest.class))).thenReturn(intake);
+
+        // When & Then
+        mockMvc.perform(post("/v1/orders")
+                .with(csrf())
+                .header("Prefer", "respond-async, wait=5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createOrderRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/v1/orders/intake/ticket-1"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.ticket").value("ticket-1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(createOrderUseCase, never()).execute(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o andamento do pedido assíncrono")
+    @WithMockUser(authorities = "SCOPE_orders:read")
+    void shouldGetOrderIntake() throws Exception {
+        // Given
+        OrderIntakeDto intake = new OrderIntakeDto();
+        intake.setTicket("ticket-1");
+        intake.setStatus(OrderIntakeTicket.Status.COMPLETED);
+        intake.setOrderId("order-123");
+        when(getOrderIntakeUseCase.execute("ticket-1")).thenReturn(java.util.Optional.of(intake));
+
+        // When & Then
+        mockMvc.perform(get("/v1/orders/intake/ticket-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.orderId").value("order-123"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para ticket inexistente")
+    @WithMockUser(authorities = "SCOPE_orders:read")
+    void shouldReturn404WhenTicketNotFound() throws Exception {
+        // Given
+        when(getOrderIntakeUseCase.execute("ticket-x")).thenReturn(java.util.Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/v1/orders/intake/ticket-x"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Deve retornar erro 400 quando dados são inválidos")
     @WithMockUser(authorities = "SCOPE_orders:write")
@@ -121,7 +205,34 @@ class OrderControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value("order-123"))
                 .andExpect(jsonPath("$.customerId").value("customer-123"))
-                .andExpect(jsonPath("$.status").value("CREATED"));
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(header().string("ETag", "\"v1-json\""));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 sem consultar o pedido quando o ETag confere")
+    @WithMockUser(authorities = "SCOPE_orders:read")
+    void shouldReturn304WhenOrderETagMatches() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/v1/orders/order-123").header("If-None-Match", "\"v1-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1-json\""))
+                .andExpect(header().stringValues("Vary", "Accept", "Accept-Encoding"))
+                .andExpect(content().string(""));
+
+        verify(getOrderUseCase, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 na listagem sem consultar os pedidos quando o ETag confere")
+    @WithMockUser(authorities = "SCOPE_orders:read")
+    void shouldReturn304WhenOrderListETagMatches() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/v1/orders").header("If-None-Match", "\"v1-json\""))
+                .andExpect(status().isNotModified());
+
+        verify(listOrdersUseCase, never()).count(any());
+        verify(listOrdersUseCase, never()).execute(any(), anyInt(), anyInt());
     }
 
     @Test
@@ -130,7 +241,8 @@ class OrderControllerTest {
     void shouldListOrdersSuccessfully() throws Exception {
         // Given
         List<OrderDto> orders = Arrays.asList(orderDto);
-        when(listOrdersUseCase.execute(any())).thenReturn(orders);
+        when(listOrdersUseCase.count(any())).thenReturn(1L);
+        when(listOrdersUseCase.execute(any(), eq(0), eq(20))).thenReturn(orders);
 
         // When & Then
         mockMvc.perform(get("/v1/orders"))
@@ -147,7 +259,8 @@ class OrderControllerTest {
     void shouldListOrdersWithStatusFilter() throws Exception {
         // Given
         List<OrderDto> orders = Arrays.asList(orderDto);
-        when(listOrdersUseCase.execute(Order.OrderStatus.CREATED)).thenReturn(orders);
+        when(listOrdersUseCase.count(Order.OrderStatus.CREATED)).thenReturn(1L);
+        when(listOrdersUseCase.execute(Order.OrderStatus.CREATED, 0, 20)).thenReturn(orders);
 
         // When & Then
         mockMvc.perform(get("/v1/orders")
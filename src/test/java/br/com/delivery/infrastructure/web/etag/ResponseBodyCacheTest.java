@@ -0,0 +1,197 @@
+package br.com.delivery.infrastructure.web.etag;
+
+import br.com.delivery.application.dto.ProductDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do ResponseBodyCache")
+class ResponseBodyCacheTest {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborMapper;
+    private ResponseBodyCache responseBodyCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        cborMapper = new CBORMapper();
+        responseBodyCache = new ResponseBodyCache(
+                new ConcurrentMapCacheManager(ResponseBodyCache.CACHE_NAME),
+                List.of(new MappingJackson2CborHttpMessageConverter(cborMapper),
+                        new MappingJackson2HttpMessageConverter(objectMapper)));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve servir os bytes do cache sem carregar o DTO novamente")
+    void shouldServeCachedBytesWithoutReloading() throws Exception {
+        // Given
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/products/p-1"));
+
+        // When
+        ResponseEntity<byte[]> first = responseBodyCache.respond("product:p-1", "v1", request, this::loadProduct);
+        ResponseEntity<byte[]> second = responseBodyCache.respond("product:p-1", "v1", request, this::loadProduct);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertArrayEquals(objectMapper.writeValueAsBytes(product()), second.getBody());
+        assertArrayEquals(first.getBody(), second.getBody());
+        assertEquals("\"v1-json\"", second.getHeaders().getETag());
+        assertEquals(MediaType.APPLICATION_JSON, second.getHeaders().getContentType());
+        assertNull(second.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("Deve responder em CBOR quando o cliente prefere CBOR")
+    void shouldServeCborWhenPreferred() throws Exception {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/v1/products/p-1");
+        servletRequest.addHeader(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.5");
+        ServletWebRequest cborRequest = new ServletWebRequest(servletRequest);
+        ServletWebRequest jsonRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/products/p-1"));
+
+        // When
+        ResponseEntity<byte[]> cbor = responseBodyCache.respond("product:p-1", "v1", cborRequest, this::loadProduct);
+        ResponseEntity<byte[]> json = responseBodyCache.respond("product:p-1", "v1", jsonRequest, this::loadProduct);
+
+        // Then
+        assertEquals(MediaType.parseMediaType("application/cbor"), cbor.getHeaders().getContentType());
+        ProductDto decoded = cborMapper.readValue(cbor.getBody(), ProductDto.class);
+        assertEquals("Notebook Dell", decoded.getName());
+        assertEquals(new BigDecimal("2999.99"), decoded.getPrice());
+        assertEquals(MediaType.APPLICATION_JSON, json.getHeaders().getContentType());
+        assertArrayEquals(objectMapper.writeValueAsBytes(product()), json.getBody());
+    }
+
+    @Test
+    @DisplayName("Deve derivar um ETag por variante e responder 304 só para a variante que confere")
+    void shouldUseOneETagPerVariant() {
+        // Given
+        MockHttpServletRequest gzipServletRequest = new MockHttpServletRequest("GET", "/v1/products/p-1");
+        gzipServletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletRequest cborServletRequest = new MockHttpServletRequest("GET", "/v1/products/p-1");
+        cborServletRequest.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/v1/products/p-1");
+        conditional.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1-json\"");
+        MockHttpServletResponse conditionalResponse = new MockHttpServletResponse();
+        MockHttpServletRequest matching = new MockHttpServletRequest("GET", "/v1/products/p-1");
+        matching.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        matching.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1-json-gz\"");
+        MockHttpServletResponse matchingResponse = new MockHttpServletResponse();
+
+        // When
+        ResponseEntity<byte[]> gzip = responseBodyCache.respond("product:p-1", "v1",
+                new ServletWebRequest(gzipServletRequest), this::loadProduct);
+        ResponseEntity<byte[]> cbor = responseBodyCache.respond("product:p-1", "v1",
+                new ServletWebRequest(cborServletRequest), this::loadProduct);
+        // ETag da variante sem gzip não vale para quem aceita gzip
+        ResponseEntity<byte[]> mismatched = responseBodyCache.respond("product:p-1", "v1",
+                new ServletWebRequest(conditional, conditionalResponse), this::loadProduct);
+        ResponseEntity<byte[]> notModified = responseBodyCache.respond("product:p-1", "v1",
+                new ServletWebRequest(matching, matchingResponse), this::loadProduct);
+
+        // Then
+        assertEquals("\"v1-json-gz\"", gzip.getHeaders().getETag());
+        assertEquals("\"v1-cbor\"", cbor.getHeaders().getETag());
+        assertEquals(200, mismatched.getStatusCode().value());
+        assertNull(notModified);
+        assertEquals(304, matchingResponse.getStatus());
+        assertEquals("\"v1-json-gz\"", matchingResponse.getHeader(HttpHeaders.ETAG));
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING),
+                matchingResponse.getHeaders(HttpHeaders.VARY));
+    }
+
+    @Test
+    @DisplayName("Deve carregar novamente quando a versão muda")
+    void shouldReloadWhenVersionChanges() {
+        // Given
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/products/p-1"));
+
+        // When
+        responseBodyCache.respond("product:p-1", "v1", request, this::loadProduct);
+        ResponseEntity<byte[]> response = responseBodyCache.respond("product:p-1", "v2", request, this::loadProduct);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals("\"v2-json\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Deve comprimir corpos grandes quando o cliente aceita gzip")
+    void shouldGzipLargeBodiesWhenAccepted() throws Exception {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/v1/products");
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        ServletWebRequest request = new ServletWebRequest(servletRequest);
+        Object largeBody = Collections.nCopies(100, product());
+
+        // When
+        ResponseEntity<byte[]> first = responseBodyCache.respond("products:0:100", "v1", request, () -> {
+            loads.incrementAndGet();
+            return largeBody;
+        });
+        ResponseEntity<byte[]> second = responseBodyCache.respond("products:0:100", "v1", request, () -> {
+            loads.incrementAndGet();
+            return largeBody;
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals("gzip", second.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(first.getBody(), second.getBody());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(second.getBody()))) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(largeBody), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve comprimir corpos pequenos")
+    void shouldNotGzipSmallBodies() {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/v1/products/p-1");
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        ServletWebRequest request = new ServletWebRequest(servletRequest);
+
+        // When
+        ResponseEntity<byte[]> response = responseBodyCache.respond("product:p-1", "v1", request, this::loadProduct);
+
+        // Then
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private ProductDto loadProduct() {
+        loads.incrementAndGet();
+        return product();
+    }
+
+    private static ProductDto product() {
+        ProductDto product = new ProductDto();
+        product.setId("p-1");
+        product.setName("Notebook Dell");
+        product.setPrice(new BigDecimal("2999.99"));
+        return product;
+    }
+}
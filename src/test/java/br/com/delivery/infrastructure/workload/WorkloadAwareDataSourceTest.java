@@ -0,0 +1,83 @@
+package br.com.delivery.infrastructure.workload;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do WorkloadAwareDataSource")
+class WorkloadAwareDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WorkloadAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        WorkloadProperties properties = new WorkloadProperties();
+        WorkloadProperties.Limits bulk = new WorkloadProperties.Limits(1, 1, Duration.ofSeconds(7));
+        bulk.setConnectionQueueTimeout(Duration.ZERO);
+        properties.getClasses().put(WorkloadClass.BULK, bulk);
+
+        meterRegistry = new SimpleMeterRegistry();
+        WorkloadBulkheads bulkheads = new WorkloadBulkheads(properties, meterRegistry);
+        dataSource = new WorkloadAwareDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:workload;DB_CLOSE_DELAY=-1", "sa", ""),
+                () -> bulkheads);
+    }
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o timeout de comandos da classe de carga")
+    void shouldApplyStatementTimeoutOfWorkloadClass() throws Exception {
+        // Given
+        WorkloadContext.set(WorkloadClass.BULK);
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            // Then
+            assertEquals(7, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar conexões acima da fatia da classe de carga")
+    void shouldRejectConnectionsAboveWorkloadShare() throws Exception {
+        // Given
+        WorkloadContext.set(WorkloadClass.BULK);
+
+        try (Connection ignored = dataSource.getConnection()) {
+            // When & Then
+            assertThrows(WorkloadConnectionLimitException.class, () -> dataSource.getConnection());
+            assertEquals(1.0, meterRegistry.get("delivery.workload.saturation").tag("class", "bulk").gauge().value());
+        }
+
+        // A conexão devolvida libera a vaga
+        try (Connection connection = dataSource.getConnection()) {
+            assertNotNull(connection);
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve limitar conexões fora de uma requisição classificada")
+    void shouldNotLimitConnectionsWithoutWorkloadContext() throws Exception {
+        try (Connection first = dataSource.getConnection();
+             Connection second = dataSource.getConnection()) {
+            assertNotNull(first);
+            assertNotNull(second);
+        }
+    }
+}
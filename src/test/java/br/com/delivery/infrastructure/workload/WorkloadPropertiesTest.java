@@ -0,0 +1,34 @@
+package br.com.delivery.infrastructure.workload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do WorkloadProperties")
+class WorkloadPropertiesTest {
+
+    @Test
+    @DisplayName("Deve aceitar fatias de conexões que cabem no pool")
+    void shouldAcceptSharesWithinPool() {
+        // Given
+        WorkloadProperties properties = new WorkloadProperties();
+
+        // When / Then
+        assertDoesNotThrow(() -> properties.checkPoolSize(20));
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando as fatias de conexões passam do tamanho do pool")
+    void shouldFailWhenSharesExceedPool() {
+        // Given
+        WorkloadProperties properties = new WorkloadProperties();
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> properties.checkPoolSize(10));
+
+        // Then
+        assertTrue(exception.getMessage().contains("14"));
+    }
+}
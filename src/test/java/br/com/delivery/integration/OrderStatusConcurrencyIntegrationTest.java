@@ -0,0 +1,147 @@
+package br.com.delivery.integration;
+
+import br.com.delivery.application.dto.CreateCustomerRequest;
+import br.com.delivery.application.dto.CreateOrderItemRequest;
+import br.com.delivery.application.dto.CreateOrderRequest;
+import br.com.delivery.application.dto.CreateProductRequest;
+import br.com.delivery.application.usecase.CreateCustomerUseCase;
+import br.com.delivery.application.usecase.CreateOrderUseCase;
+import br.com.delivery.application.usecase.CreateProductUseCase;
+import br.com.delivery.domain.entity.Order;
+import br.com.delivery.domain.port.OrderRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sem @Transactional: as duas transições precisam de transações próprias, que disputam a
+ * linha da projeção como em produção.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Transições Concorrentes de Status")
+class OrderStatusConcurrencyIntegrationTest {
+
+    @Autowired
+    private CreateCustomerUseCase createCustomerUseCase;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private OrderRepositoryPort orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private String orderId;
+
+    @BeforeEach
+    void setUp() {
+        CreateCustomerRequest customerRequest = new CreateCustomerRequest();
+        customerRequest.setName("Maria Souza");
+        customerRequest.setEmail("maria.concorrencia@email.com");
+        customerRequest.setDocument("98765432100");
+        String customerId = createCustomerUseCase.execute(customerRequest).getId();
+
+        CreateProductRequest productRequest = new CreateProductRequest();
+        productRequest.setName("Pizza Calabresa");
+        productRequest.setPrice(new BigDecimal("32.90"));
+        String productId = createProductUseCase.execute(productRequest).getId();
+
+        CreateOrderItemRequest itemRequest = new CreateOrderItemRequest();
+        itemRequest.setProductId(productId);
+        itemRequest.setQuantity(1);
+        CreateOrderRequest orderRequest = new CreateOrderRequest();
+        orderRequest.setCustomerId(customerId);
+        orderRequest.setItems(List.of(itemRequest));
+        orderId = createOrderUseCase.execute(orderRequest).getId();
+
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        order.advanceTo(Order.OrderStatus.CONFIRMED);
+        orderRepository.save(order);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve mover o pedido entre buckets uma transição depois da outra")
+    void shouldApplyConcurrentTransitionsOneAfterTheOther() throws Exception {
+        // Given
+        long confirmedBefore = orderCount(Order.OrderStatus.CONFIRMED);
+        long shippedBefore = orderCount(Order.OrderStatus.SHIPPED);
+        long canceledBefore = orderCount(Order.OrderStatus.CANCELED);
+        CountDownLatch firstSaved = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            order.advanceTo(Order.OrderStatus.SHIPPED);
+            orderRepository.save(order);
+            firstSaved.countDown();
+            await(releaseFirst);
+        }));
+        assertTrue(firstSaved.await(5, TimeUnit.SECONDS));
+
+        // A segunda transição lê o pedido ainda CONFIRMED e precisa esperar a primeira
+        Future<?> second = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            order.advanceTo(Order.OrderStatus.CANCELED);
+            orderRepository.save(order);
+        }));
+        assertThrows(TimeoutException.class, () -> second.get(300, TimeUnit.MILLISECONDS));
+        releaseFirst.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(confirmedBefore - 1, orderCount(Order.OrderStatus.CONFIRMED));
+        assertEquals(shippedBefore, orderCount(Order.OrderStatus.SHIPPED));
+        assertEquals(canceledBefore + 1, orderCount(Order.OrderStatus.CANCELED));
+    }
+
+    private long orderCount(Order.OrderStatus status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(order_count), 0) FROM sales_daily_status WHERE status = ?",
+                Long.class, status.name());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
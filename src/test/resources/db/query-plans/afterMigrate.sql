@@ -0,0 +1,80 @@
+-- Massa sintética da QueryPlanRegressionTest, carregada pelo Flyway depois das migrations.
+-- Volumes e distribuição próximos de produção: histórico grande de pedidos entregues e
+-- uma fração pequena (os mais recentes) ainda em andamento.
+
+INSERT INTO customers (id, name, email, document, created_at)
+SELECT md5('customer-' || n)::uuid::text,
+       'Cliente ' || n,
+       'cliente' || n || '@example.com',
+       lpad(n::text, 11, '0'),
+       TIMESTAMP '2023-01-01' + n * INTERVAL '10 minutes'
+FROM generate_series(1, 50000) AS n;
+
+INSERT INTO products (id, name, price, created_at)
+SELECT md5('product-' || n)::uuid::text,
+       'Produto ' || n || ' ' || (ARRAY['Pizza', 'Hambúrguer', 'Sushi', 'Açaí', 'Salada',
+                                         'Refrigerante', 'Suco', 'Sobremesa', 'Combo', 'Lanche'])[n % 10 + 1],
+       5 + (n % 200),
+       TIMESTAMP '2023-01-01' + n * INTERVAL '1 minute'
+FROM generate_series(1, 20000) AS n;
+
+-- 200 mil pedidos em ordem cronológica; os 1.000 mais recentes estão em andamento
+INSERT INTO orders (id, customer_id, status, total, created_at)
+SELECT md5('order-' || n)::uuid::text,
+       md5('customer-' || ((n * 7919) % 50000 + 1))::uuid::text,
+       CASE
+           WHEN n > 199000 THEN (ARRAY['CREATED', 'CONFIRMED', 'SHIPPED'])[n % 3 + 1]
+           WHEN n % 20 = 0 THEN 'CANCELED'
+           ELSE 'DELIVERED'
+       END,
+       0,
+       TIMESTAMP '2024-01-01' + n * INTERVAL '2 minutes'
+FROM generate_series(1, 200000) AS n;
+
+-- 1 a 4 itens por pedido (média 2,5)
+INSERT INTO order_items (order_id, product_id, quantity, unit_price, total_price, created_at)
+SELECT md5('order-' || n)::uuid::text,
+       md5('product-' || ((n * 31 + i * 7) % 20000 + 1))::uuid::text,
+       i,
+       10.00,
+       10.00 * i,
+       TIMESTAMP '2024-01-01' + n * INTERVAL '2 minutes'
+FROM generate_series(1, 200000) AS n
+CROSS JOIN LATERAL generate_series(1, n % 4 + 1) AS i;
+
+UPDATE orders o
+SET total = t.total
+FROM (SELECT order_id, SUM(total_price) AS total FROM order_items GROUP BY order_id) t
+WHERE t.order_id = o.id;
+
+-- Mesma projeção que V2 popula a partir dos pedidos existentes
+INSERT INTO order_view (order_id, customer_id, status, total, item_count, items, created_at, updated_at)
+SELECT o.id,
+       o.customer_id,
+       o.status,
+       o.total,
+       COUNT(i.id),
+       COALESCE(
+           jsonb_agg(jsonb_build_object('p', i.product_id, 'q', i.quantity, 'u', i.unit_price) ORDER BY i.id)
+               FILTER (WHERE i.id IS NOT NULL),
+           '[]'::jsonb),
+       o.created_at,
+       o.updated_at
+FROM orders o
+LEFT JOIN order_items i ON i.order_id = o.id
+GROUP BY o.id, o.customer_id, o.status, o.total, o.created_at, o.updated_at;
+
+-- Mesma consolidação de vendas que V5 popula a partir dos pedidos existentes
+INSERT INTO sales_daily_status (sales_date, status, order_count, revenue)
+SELECT CAST(o.created_at AS DATE), o.status, COUNT(*), SUM(o.total)
+FROM orders o
+GROUP BY CAST(o.created_at AS DATE), o.status;
+
+INSERT INTO sales_daily_product (sales_date, product_id, order_count, units, revenue)
+SELECT CAST(o.created_at AS DATE), i.product_id, COUNT(DISTINCT o.id), SUM(i.quantity), SUM(i.total_price)
+FROM orders o
+JOIN order_items i ON i.order_id = o.id
+WHERE o.status <> 'CANCELED'
+GROUP BY CAST(o.created_at AS DATE), i.product_id;
+
+ANALYZE;